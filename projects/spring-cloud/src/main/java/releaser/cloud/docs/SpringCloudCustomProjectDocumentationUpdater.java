@@ -159,8 +159,13 @@ class SpringCloudCustomProjectDocumentationUpdater implements CustomProjectDocum
 	}
 
 	private File pushChanges(File docsRepo) {
-		this.gitHandler.pushCurrentBranch(docsRepo);
-		log.info("Committed and pushed changes to the documentation project");
+		this.gitHandler.pushCurrentBranchOfSharedRepo(docsRepo);
+		if (this.releaserProperties.getGit().isBatchPushes()) {
+			log.info("Committed the changes to the documentation project, they will be pushed at the end of the run");
+		}
+		else {
+			log.info("Pushed the changes to the documentation project");
+		}
 		return docsRepo;
 	}
 
@@ -47,6 +47,7 @@ import releaser.internal.tasks.composite.MetaReleaseCompositeTask;
 import releaser.internal.tasks.composite.ReleaseCompositeTask;
 import releaser.internal.tasks.release.BuildProjectReleaseTask;
 import releaser.internal.tech.ExecutionResult;
+import releaser.internal.tech.ReleaserExecutor;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.WebApplicationType;
@@ -480,8 +481,9 @@ public class SpringMetaReleaseAcceptanceTests extends AbstractSpringCloudMetaAcc
 		}
 
 		@Bean
-		SaganUpdater testSaganUpdater(SaganClient saganClient, ReleaserProperties properties) {
-			return BDDMockito.spy(new SaganUpdater(saganClient, properties));
+		SaganUpdater testSaganUpdater(SaganClient saganClient, ReleaserProperties properties,
+				ReleaserExecutor releaserExecutor) {
+			return BDDMockito.spy(new SaganUpdater(saganClient, properties, releaserExecutor));
 		}
 
 		@Bean
@@ -151,7 +151,7 @@ public class SpringSingleProjectAcceptanceTests extends AbstractSpringCloudAccep
 					// second time to update SNAPSHOT
 					BDDMockito.then(saganClient).should(times(2)).addRelease(BDDMockito.eq("spring-cloud-consul"),
 							BDDMockito.any());
-					BDDMockito.then(saganClient).should(times(2)).getProject("spring-cloud-consul");
+					BDDMockito.then(saganClient).should().getProject("spring-cloud-consul");
 					BDDMockito.then(saganClient).should().deleteRelease("spring-cloud-consul", "4.0.2-SNAPSHOT");
 					then(gitHubHandler.issueCreatedInSpringGuides).isFalse();
 					then(gitHubHandler.issueCreatedInStartSpringIo).isFalse();
@@ -329,7 +329,7 @@ public class SpringSingleProjectAcceptanceTests extends AbstractSpringCloudAccep
 					then(releaseNotesTemplate()).doesNotExist();
 					BDDMockito.then(saganClient).should().addRelease(BDDMockito.eq("spring-cloud-consul"),
 							BDDMockito.any());
-					BDDMockito.then(saganClient).should(times(2)).getProject("spring-cloud-consul");
+					BDDMockito.then(saganClient).should().getProject("spring-cloud-consul");
 					BDDMockito.then(saganClient).should().deleteRelease("spring-cloud-consul", "1.2.0.M8");
 					BDDMockito.then(saganClient).should().deleteRelease("spring-cloud-consul", "1.2.0.SNAPSHOT");
 					// we update guides only for SR / RELEASE
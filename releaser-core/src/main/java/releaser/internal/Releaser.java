@@ -17,8 +17,10 @@
 package releaser.internal;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -243,11 +245,9 @@ public class Releaser {
 			return ExecutionResult.skipped();
 		}
 		try {
-			this.projectGitHubHandler.closeMilestone(releaseVersion);
-			log.info("\nSuccessfully closed milestone");
-			log.info("\nWill try to create release notes for milestone");
-			this.projectGitHubHandler.createReleaseNotesForMilestone(releaseVersion);
-			log.info("\nSuccessfully created release notes for milestone");
+			log.info("\nWill close the milestone and create its release notes");
+			this.projectGitHubHandler.closeMilestoneAndCreateReleaseNotes(releaseVersion);
+			log.info("\nSuccessfully closed milestone and created release notes for it");
 			return ExecutionResult.success();
 		}
 		catch (Exception ex) {
@@ -397,6 +397,21 @@ public class Releaser {
 		}
 	}
 
+	/**
+	 * Creates the email, blog, tweet and release notes templates in parallel. They're all
+	 * rendered from the same view of the release, that is built once.
+	 * @param releaseVersion version of the release
+	 * @param projects released projects
+	 * @return merged results of creating all the templates
+	 */
+	public ExecutionResult createTemplates(ProjectVersion releaseVersion, Projects projects) {
+		List<Supplier<ExecutionResult>> templates = Arrays.asList(() -> createEmail(releaseVersion, projects),
+				() -> createBlog(releaseVersion, projects), () -> createTweet(releaseVersion, projects),
+				() -> createReleaseNotes(releaseVersion, projects));
+		return templates.parallelStream().map(Supplier::get).reduce(ExecutionResult::merge)
+				.orElseGet(ExecutionResult::success);
+	}
+
 	public ExecutionResult updateSagan(File project, ProjectVersion releaseVersion, Projects projects) {
 		String currentBranch = this.projectGitHandler.currentBranch(project);
 		ProjectVersion originalVersion = new ProjectVersion(project);
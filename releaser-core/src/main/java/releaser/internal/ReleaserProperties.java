@@ -84,6 +84,10 @@ public class ReleaserProperties implements Serializable {
 
 	private Bundles bundles = new Bundles();
 
+	private Http http = new Http();
+
+	private CommandOutput commandOutput = new CommandOutput();
+
 	/**
 	 * Project name to its version - overrides all versions retrieved from a release train
 	 * repository like Spring Cloud Release.
@@ -228,13 +232,30 @@ public class ReleaserProperties implements Serializable {
 		this.bundles = bundles;
 	}
 
+	public Http getHttp() {
+		return http;
+	}
+
+	public void setHttp(Http http) {
+		this.http = http;
+	}
+
+	public CommandOutput getCommandOutput() {
+		return commandOutput;
+	}
+
+	public void setCommandOutput(CommandOutput commandOutput) {
+		this.commandOutput = commandOutput;
+	}
+
 	@Override
 	public String toString() {
 		return "ReleaserProperties{" + "workingDir='" + this.workingDir + '\'' + ", git=" + this.git + ", pom="
 				+ this.pom + ", maven=" + this.maven + ", gradle=" + this.gradle + ", sagan=" + this.sagan
 				+ ", fixedVersions=" + this.fixedVersions + ", metaRelease=" + this.metaRelease + ", template="
 				+ this.template + ", versions=" + this.versions + ", commercial=" + this.commercial + ", bundles="
-				+ this.bundles + ", antora=" + this.antora + '}';
+				+ this.bundles + ", antora=" + this.antora + ", http=" + this.http + ", commandOutput="
+				+ this.commandOutput + '}';
 	}
 
 	public ReleaserProperties copy() {
@@ -363,6 +384,25 @@ public class ReleaserProperties implements Serializable {
 		 */
 		private int releaseGroupThreadCount = 4;
 
+		/**
+		 * Absolute path to a directory where the completed tasks of each project are
+		 * recorded. If set, a re-run of a meta-release skips the tasks that have already
+		 * completed for the same version while the project is in the state they left it
+		 * in (commit, uncommitted changes and build artifacts) and resumes from the first
+		 * task that hasn't. If not set, all the tasks are always run.
+		 */
+		private String checkpointsDirectory;
+
+		/**
+		 * Absolute path to a properties file where the projects resolved by a dry run
+		 * (the checked out branch and commit, and the versions from the BOM) are stored.
+		 * The next run still clones (or resets and fetches) every project, but reuses its
+		 * versions from the BOM if it resolves it with the same inputs and the clone is
+		 * at the same commit as its remote branch. If not set, every run resolves all the
+		 * projects again.
+		 */
+		private String resolutionContextFile;
+
 		public boolean isEnabled() {
 			return this.enabled;
 		}
@@ -427,13 +467,30 @@ public class ReleaserProperties implements Serializable {
 			this.releaseGroupThreadCount = releaseGroupThreadCount;
 		}
 
+		public String getCheckpointsDirectory() {
+			return this.checkpointsDirectory;
+		}
+
+		public void setCheckpointsDirectory(String checkpointsDirectory) {
+			this.checkpointsDirectory = checkpointsDirectory;
+		}
+
+		public String getResolutionContextFile() {
+			return this.resolutionContextFile;
+		}
+
+		public void setResolutionContextFile(String resolutionContextFile) {
+			this.resolutionContextFile = resolutionContextFile;
+		}
+
 		@Override
 		public String toString() {
 			return "MetaRelease{" + "enabled=" + enabled + ", releaseTrainProjectName='" + releaseTrainProjectName
 					+ '\'' + ", releaseTrainDependencyNames=" + releaseTrainDependencyNames + ", gitOrgUrl='"
 					+ gitOrgUrl + '\'' + ", projectsToSkip=" + projectsToSkip + ", releaseGroups=" + releaseGroups
 					+ ", releaseGroupTimeoutInMinutes=" + releaseGroupTimeoutInMinutes + ", releaseGroupThreadCount="
-					+ releaseGroupThreadCount + '}';
+					+ releaseGroupThreadCount + ", checkpointsDirectory='" + checkpointsDirectory + '\''
+					+ ", resolutionContextFile='" + resolutionContextFile + '\'' + '}';
 		}
 
 	}
@@ -447,6 +504,90 @@ public class ReleaserProperties implements Serializable {
 		 */
 		private boolean defaultEnabled = true;
 
+		/**
+		 * Absolute path to a directory where the timeline of the run (an HTML Gantt chart
+		 * and a JSON trace in the Chrome trace event format) gets written together with
+		 * the build report. If not set, no timeline will be written.
+		 */
+		private String timelineDirectory;
+
+		/**
+		 * Number of threads running the projects of a release group in parallel. Their
+		 * tasks build the projects, so if set to {@code 0} the number is computed from
+		 * the number of cores and the physical memory.
+		 */
+		private int cpuBoundThreads = 0;
+
+		/**
+		 * Number of threads running the post release tasks in parallel. Those mostly wait
+		 * for remote services, so if set to {@code 0} twice the number of cores (at least
+		 * 4) will be used.
+		 */
+		private int ioBoundThreads = 0;
+
+		/**
+		 * Memory in megabytes a single build is expected to need. Used to compute the
+		 * number of threads for the projects and reserved from
+		 * {@code buildMemoryBudgetInMb} while the build runs.
+		 */
+		private long memoryPerBuildInMb = 2048L;
+
+		/**
+		 * A build won't be started if the system load average per core is above this
+		 * value. Set to {@code 0} to disable the check.
+		 */
+		private double maxSystemLoadPerCore = 1.5;
+
+		/**
+		 * A build won't be started if there is less free physical memory, in megabytes,
+		 * than this value. Set to {@code 0} to disable the check.
+		 */
+		private long minFreeMemoryInMb = 1024L;
+
+		/**
+		 * How often to check again whether a build that has been held back can be
+		 * started.
+		 */
+		private long buildAdmissionCheckIntervalInMillis = 5000L;
+
+		/**
+		 * Memory in megabytes that all the builds running at the same time can take.
+		 * Every build reserves {@code memoryPerBuildInMb} of it and waits if there's not
+		 * enough left. If set to {@code 0}, 75% of the physical memory will be used.
+		 */
+		private long buildMemoryBudgetInMb = 0L;
+
+		/**
+		 * Max heap in megabytes set in {@code MAVEN_OPTS} and {@code GRADLE_OPTS} of a
+		 * build (unless they already set it). If set to {@code 0}, the heap isn't set and
+		 * each build uses the heap its project configures.
+		 */
+		private long buildHeapInMb = 0L;
+
+		/**
+		 * How often the resident memory of a running build gets sampled. Set to {@code 0}
+		 * to disable sampling.
+		 */
+		private long rssSamplingIntervalInMillis = 1000L;
+
+		/**
+		 * If set to {@code true}, before any project gets built the branch of every
+		 * project of a meta-release is picked concurrently, without cloning it, with the
+		 * same rules the release uses. All the problems found are reported at once and
+		 * the release doesn't start. Off by default, because it only checks the fixed
+		 * versions, the remote repositories and the GitHub token. The versions and the
+		 * BOMs are checked by the release itself.
+		 */
+		private boolean preflightEnabled = false;
+
+		/**
+		 * If set to {@code true}, as soon as the projects of a meta-release are known
+		 * they are cloned and their branches checked out in the background, with
+		 * {@code ioBoundThreads} at a time. The first task of a project then finds its
+		 * clone ready instead of cloning it while the other projects wait.
+		 */
+		private boolean prefetchProjects = true;
+
 		public boolean isDefaultEnabled() {
 			return this.defaultEnabled;
 		}
@@ -455,6 +596,102 @@ public class ReleaserProperties implements Serializable {
 			this.defaultEnabled = defaultEnabled;
 		}
 
+		public String getTimelineDirectory() {
+			return this.timelineDirectory;
+		}
+
+		public void setTimelineDirectory(String timelineDirectory) {
+			this.timelineDirectory = timelineDirectory;
+		}
+
+		public int getCpuBoundThreads() {
+			return this.cpuBoundThreads;
+		}
+
+		public void setCpuBoundThreads(int cpuBoundThreads) {
+			this.cpuBoundThreads = cpuBoundThreads;
+		}
+
+		public int getIoBoundThreads() {
+			return this.ioBoundThreads;
+		}
+
+		public void setIoBoundThreads(int ioBoundThreads) {
+			this.ioBoundThreads = ioBoundThreads;
+		}
+
+		public long getMemoryPerBuildInMb() {
+			return this.memoryPerBuildInMb;
+		}
+
+		public void setMemoryPerBuildInMb(long memoryPerBuildInMb) {
+			this.memoryPerBuildInMb = memoryPerBuildInMb;
+		}
+
+		public double getMaxSystemLoadPerCore() {
+			return this.maxSystemLoadPerCore;
+		}
+
+		public void setMaxSystemLoadPerCore(double maxSystemLoadPerCore) {
+			this.maxSystemLoadPerCore = maxSystemLoadPerCore;
+		}
+
+		public long getMinFreeMemoryInMb() {
+			return this.minFreeMemoryInMb;
+		}
+
+		public void setMinFreeMemoryInMb(long minFreeMemoryInMb) {
+			this.minFreeMemoryInMb = minFreeMemoryInMb;
+		}
+
+		public long getBuildAdmissionCheckIntervalInMillis() {
+			return this.buildAdmissionCheckIntervalInMillis;
+		}
+
+		public void setBuildAdmissionCheckIntervalInMillis(long buildAdmissionCheckIntervalInMillis) {
+			this.buildAdmissionCheckIntervalInMillis = buildAdmissionCheckIntervalInMillis;
+		}
+
+		public long getBuildMemoryBudgetInMb() {
+			return this.buildMemoryBudgetInMb;
+		}
+
+		public void setBuildMemoryBudgetInMb(long buildMemoryBudgetInMb) {
+			this.buildMemoryBudgetInMb = buildMemoryBudgetInMb;
+		}
+
+		public long getBuildHeapInMb() {
+			return this.buildHeapInMb;
+		}
+
+		public void setBuildHeapInMb(long buildHeapInMb) {
+			this.buildHeapInMb = buildHeapInMb;
+		}
+
+		public long getRssSamplingIntervalInMillis() {
+			return this.rssSamplingIntervalInMillis;
+		}
+
+		public void setRssSamplingIntervalInMillis(long rssSamplingIntervalInMillis) {
+			this.rssSamplingIntervalInMillis = rssSamplingIntervalInMillis;
+		}
+
+		public boolean isPreflightEnabled() {
+			return this.preflightEnabled;
+		}
+
+		public void setPreflightEnabled(boolean preflightEnabled) {
+			this.preflightEnabled = preflightEnabled;
+		}
+
+		public boolean isPrefetchProjects() {
+			return this.prefetchProjects;
+		}
+
+		public void setPrefetchProjects(boolean prefetchProjects) {
+			this.prefetchProjects = prefetchProjects;
+		}
+
 	}
 
 	public static class Antora implements Serializable {
@@ -474,6 +711,18 @@ public class ReleaserProperties implements Serializable {
 		 */
 		private String springDocsActionsTag;
 
+		/**
+		 * Directory where the Spring Docs Actions repo checked out at
+		 * {@code springDocsActionsTag} is kept between runs. If not set, the repo is
+		 * cloned once per run.
+		 */
+		private String springDocsActionsCacheDirectory;
+
+		/**
+		 * Number of projects whose Antora docs are published at the same time.
+		 */
+		private int publishWorkers = 1;
+
 		private String springDocsSshUsername;
 
 		private String springDocsSshKeyPath;
@@ -482,6 +731,36 @@ public class ReleaserProperties implements Serializable {
 
 		private String gcpBucketName;
 
+		/**
+		 * Host of the GCS API, e.g. of a local fake-gcs-server emulator. If not set, the
+		 * Google Cloud Storage default host is used.
+		 */
+		private String gcpStorageHost;
+
+		/**
+		 * If {@code true}, files with the same CRC32C checksum as the blob already in the
+		 * bucket are not uploaded again.
+		 */
+		private boolean gcpIncrementalUpload = true;
+
+		/**
+		 * Number of files uploaded in parallel to GCS. If not set, defaults to the GCS
+		 * transfer manager default (twice the number of cores).
+		 */
+		private int gcpUploadMaxWorkers;
+
+		/**
+		 * Size of the buffer in KB each upload worker sends the file in. If not set,
+		 * defaults to the GCS transfer manager default.
+		 */
+		private int gcpUploadBufferSizeInKb;
+
+		/**
+		 * If {@code true}, large files are uploaded to GCS in parallel chunks that are
+		 * composed into a single blob.
+		 */
+		private boolean gcpParallelCompositeUpload;
+
 		public String getGcpBucketName() {
 			return gcpBucketName;
 		}
@@ -490,6 +769,46 @@ public class ReleaserProperties implements Serializable {
 			this.gcpBucketName = gcpBucketName;
 		}
 
+		public String getGcpStorageHost() {
+			return gcpStorageHost;
+		}
+
+		public void setGcpStorageHost(String gcpStorageHost) {
+			this.gcpStorageHost = gcpStorageHost;
+		}
+
+		public boolean isGcpIncrementalUpload() {
+			return gcpIncrementalUpload;
+		}
+
+		public void setGcpIncrementalUpload(boolean gcpIncrementalUpload) {
+			this.gcpIncrementalUpload = gcpIncrementalUpload;
+		}
+
+		public int getGcpUploadMaxWorkers() {
+			return gcpUploadMaxWorkers;
+		}
+
+		public void setGcpUploadMaxWorkers(int gcpUploadMaxWorkers) {
+			this.gcpUploadMaxWorkers = gcpUploadMaxWorkers;
+		}
+
+		public int getGcpUploadBufferSizeInKb() {
+			return gcpUploadBufferSizeInKb;
+		}
+
+		public void setGcpUploadBufferSizeInKb(int gcpUploadBufferSizeInKb) {
+			this.gcpUploadBufferSizeInKb = gcpUploadBufferSizeInKb;
+		}
+
+		public boolean isGcpParallelCompositeUpload() {
+			return gcpParallelCompositeUpload;
+		}
+
+		public void setGcpParallelCompositeUpload(boolean gcpParallelCompositeUpload) {
+			this.gcpParallelCompositeUpload = gcpParallelCompositeUpload;
+		}
+
 		public String getSpringDocsActionsUrl() {
 			return springDocsActionsUrl;
 		}
@@ -506,6 +825,22 @@ public class ReleaserProperties implements Serializable {
 			this.springDocsActionsTag = springDocsActionsTag;
 		}
 
+		public String getSpringDocsActionsCacheDirectory() {
+			return springDocsActionsCacheDirectory;
+		}
+
+		public void setSpringDocsActionsCacheDirectory(String springDocsActionsCacheDirectory) {
+			this.springDocsActionsCacheDirectory = springDocsActionsCacheDirectory;
+		}
+
+		public int getPublishWorkers() {
+			return publishWorkers;
+		}
+
+		public void setPublishWorkers(int publishWorkers) {
+			this.publishWorkers = publishWorkers;
+		}
+
 		public String getSyncAntoraDocsCommand() {
 			return syncAntoraDocsCommand;
 		}
@@ -542,8 +877,13 @@ public class ReleaserProperties implements Serializable {
 		public String toString() {
 			return "Antora{" + "springDocsActionsUrl='" + springDocsActionsUrl + '\'' + ", syncAntoraDocsCommand='"
 					+ syncAntoraDocsCommand + '\'' + ", springDocsActionsTag='" + springDocsActionsTag + '\''
-					+ ", springDocsSshUsername='" + springDocsSshUsername + '\'' + ", springDocsSshKey='"
-					+ springDocsSshKeyPath + '\'' + ", springDocsSshHostKey='" + springDocsSshHostKey + '\'' + '}';
+					+ ", springDocsActionsCacheDirectory='" + springDocsActionsCacheDirectory + '\''
+					+ ", publishWorkers=" + publishWorkers + ", springDocsSshUsername='" + springDocsSshUsername + '\''
+					+ ", springDocsSshKey='" + springDocsSshKeyPath + '\'' + ", springDocsSshHostKey='"
+					+ springDocsSshHostKey + '\'' + ", gcpBucketName='" + gcpBucketName + '\'' + ", gcpStorageHost='"
+					+ gcpStorageHost + '\'' + ", gcpIncrementalUpload=" + gcpIncrementalUpload
+					+ ", gcpUploadMaxWorkers=" + gcpUploadMaxWorkers + ", gcpUploadBufferSizeInKb="
+					+ gcpUploadBufferSizeInKb + ", gcpParallelCompositeUpload=" + gcpParallelCompositeUpload + '}';
 		}
 
 	}
@@ -657,12 +997,65 @@ public class ReleaserProperties implements Serializable {
 		 */
 		private String githubChangelogGeneratorUrl = "https://github.com/spring-io/github-changelog-generator/releases/download/v0.0.8/github-changelog-generator.jar";
 
+		/**
+		 * Expected SHA-256 checksum of the Github Changelog Generator fat jar. If not
+		 * set, the downloaded jar is verified against the checksum calculated when it was
+		 * first downloaded.
+		 */
+		private String githubChangelogGeneratorSha256;
+
+		/**
+		 * If set to {@code true}, will run the Github Changelog Generator in the
+		 * releaser's JVM. If set to {@code false}, or when the in-process run fails, will
+		 * run it in a separate process with {@code java -jar}.
+		 */
+		private boolean githubChangelogGeneratorInProcess = true;
+
 		/**
 		 * In order not to iterate endlessly over milestones we introduce a threshold of
 		 * milestones that we will go through to find the matching milestone.
 		 */
 		private Integer numberOfCheckedMilestones = 50;
 
+		/**
+		 * Max number of concurrent calls to the GitHub API.
+		 */
+		private int githubConcurrency = 4;
+
+		/**
+		 * Max number of attempts for a GitHub API call that failed with a server error or
+		 * a connection problem.
+		 */
+		private int githubMaxAttempts = 3;
+
+		/**
+		 * Initial backoff in millis between retries of failed GitHub API calls. Doubled
+		 * with each attempt.
+		 */
+		private long githubBackoffMillis = 1000;
+
+		/**
+		 * When the number of remaining GitHub API requests (as returned in the
+		 * {@code X-RateLimit-Remaining} header) drops to this value, new calls will wait
+		 * until the rate limit gets reset.
+		 */
+		private int githubRateLimitThreshold = 10;
+
+		/**
+		 * Number of milestones fetched from GitHub in a single page.
+		 */
+		private int milestonePageSize = 50;
+
+		/**
+		 * Time after which the fetched milestones of a repository are fetched again.
+		 */
+		private long milestoneIndexTtlInMinutes = 30;
+
+		/**
+		 * Max number of repositories for which fetched milestones are kept in memory.
+		 */
+		private int milestoneIndexMaxRepositories = 100;
+
 		/**
 		 * If {@code false}, will not update the documentation repository.
 		 */
@@ -737,6 +1130,20 @@ public class ReleaserProperties implements Serializable {
 		 */
 		private Map<String, List<String>> allTestSampleUrls = new HashMap<>();
 
+		/**
+		 * If set to {@code true}, the changes to the shared repositories (documentation,
+		 * release train wiki) are committed as they are made but pushed once, at the end
+		 * of the run. A cloned shared repository with changes that haven't been pushed
+		 * yet is never deleted, and the run fails if it can't be reset or fetched.
+		 */
+		private boolean batchPushes = false;
+
+		/**
+		 * How many times a rejected push is retried after rebasing the local commits on
+		 * top of the remote branch.
+		 */
+		private int pushRebaseRetries = 3;
+
 		public String getReleaseTrainBomUrl() {
 			return this.releaseTrainBomUrl;
 		}
@@ -977,6 +1384,78 @@ public class ReleaserProperties implements Serializable {
 			this.githubChangelogGeneratorUrl = githubChangelogGeneratorUrl;
 		}
 
+		public int getGithubConcurrency() {
+			return this.githubConcurrency;
+		}
+
+		public void setGithubConcurrency(int githubConcurrency) {
+			this.githubConcurrency = githubConcurrency;
+		}
+
+		public int getGithubMaxAttempts() {
+			return this.githubMaxAttempts;
+		}
+
+		public void setGithubMaxAttempts(int githubMaxAttempts) {
+			this.githubMaxAttempts = githubMaxAttempts;
+		}
+
+		public long getGithubBackoffMillis() {
+			return this.githubBackoffMillis;
+		}
+
+		public void setGithubBackoffMillis(long githubBackoffMillis) {
+			this.githubBackoffMillis = githubBackoffMillis;
+		}
+
+		public int getGithubRateLimitThreshold() {
+			return this.githubRateLimitThreshold;
+		}
+
+		public void setGithubRateLimitThreshold(int githubRateLimitThreshold) {
+			this.githubRateLimitThreshold = githubRateLimitThreshold;
+		}
+
+		public int getMilestonePageSize() {
+			return this.milestonePageSize;
+		}
+
+		public void setMilestonePageSize(int milestonePageSize) {
+			this.milestonePageSize = milestonePageSize;
+		}
+
+		public long getMilestoneIndexTtlInMinutes() {
+			return this.milestoneIndexTtlInMinutes;
+		}
+
+		public void setMilestoneIndexTtlInMinutes(long milestoneIndexTtlInMinutes) {
+			this.milestoneIndexTtlInMinutes = milestoneIndexTtlInMinutes;
+		}
+
+		public int getMilestoneIndexMaxRepositories() {
+			return this.milestoneIndexMaxRepositories;
+		}
+
+		public void setMilestoneIndexMaxRepositories(int milestoneIndexMaxRepositories) {
+			this.milestoneIndexMaxRepositories = milestoneIndexMaxRepositories;
+		}
+
+		public String getGithubChangelogGeneratorSha256() {
+			return this.githubChangelogGeneratorSha256;
+		}
+
+		public void setGithubChangelogGeneratorSha256(String githubChangelogGeneratorSha256) {
+			this.githubChangelogGeneratorSha256 = githubChangelogGeneratorSha256;
+		}
+
+		public boolean isGithubChangelogGeneratorInProcess() {
+			return this.githubChangelogGeneratorInProcess;
+		}
+
+		public void setGithubChangelogGeneratorInProcess(boolean githubChangelogGeneratorInProcess) {
+			this.githubChangelogGeneratorInProcess = githubChangelogGeneratorInProcess;
+		}
+
 		public String getOrgName() {
 			return this.orgName;
 		}
@@ -997,6 +1476,22 @@ public class ReleaserProperties implements Serializable {
 			return signCommits;
 		}
 
+		public boolean isBatchPushes() {
+			return batchPushes;
+		}
+
+		public void setBatchPushes(boolean batchPushes) {
+			this.batchPushes = batchPushes;
+		}
+
+		public int getPushRebaseRetries() {
+			return pushRebaseRetries;
+		}
+
+		public void setPushRebaseRetries(int pushRebaseRetries) {
+			this.pushRebaseRetries = pushRebaseRetries;
+		}
+
 		public void setSignCommits(boolean signCommits) {
 			this.signCommits = signCommits;
 		}
@@ -1021,7 +1516,8 @@ public class ReleaserProperties implements Serializable {
 					+ this.fetchVersionsFromGit + ", numberOfCheckedMilestones=" + this.numberOfCheckedMilestones
 					+ ", updateSpringGuides=" + this.updateSpringGuides + ", updateSpringProject="
 					+ this.updateSpringProject + ", sampleUrlsSize=" + this.allTestSampleUrls.size() + ", signCommits="
-					+ this.signCommits + '}';
+					+ this.signCommits + ", batchPushes=" + this.batchPushes + ", pushRebaseRetries="
+					+ this.pushRebaseRetries + '}';
 		}
 
 		private static String temporaryDirectory() {
@@ -1145,6 +1641,24 @@ public class ReleaserProperties implements Serializable {
 		 **/
 		private String deployCommand = "./mvnw deploy -DskipTests -B -Pfast,deploy {{systemProps}}";
 
+		/**
+		 * If {@code true}, the artifacts built by the build command are deployed without
+		 * compiling, testing and packaging the project again, as long as the project and
+		 * its artifacts haven't changed since the build. Otherwise the deploy command is
+		 * executed.
+		 */
+		private boolean reuseBuildOutputs = false;
+
+		/**
+		 * Command to be executed to deploy the artifacts built by the build command, when
+		 * the build outputs are reused. If present "{{version}}" will be replaced by the
+		 * provided version. "{{nextVersion}}" with the bumped snapshot version and
+		 * "{{oldVersion}}" with the version before version updating. Skips the tests with
+		 * {@code -DskipTests} rather than {@code -Dmaven.test.skip}, which would also
+		 * skip packaging the test jars and resolving the test jars of the reactor.
+		 **/
+		private String deployFromBuildOutputsCommand = "./mvnw deploy -B -Pfast,deploy -Dmaven.main.skip=true -DskipTests {{systemProps}}";
+
 		/**
 		 * Command to be executed to build and deploy guides project only. If present
 		 * "{{version}}" will be replaced by the provided version. "{{nextVersion}}" with
@@ -1210,6 +1724,22 @@ public class ReleaserProperties implements Serializable {
 			this.deployCommand = deployCommand;
 		}
 
+		public boolean isReuseBuildOutputs() {
+			return this.reuseBuildOutputs;
+		}
+
+		public void setReuseBuildOutputs(boolean reuseBuildOutputs) {
+			this.reuseBuildOutputs = reuseBuildOutputs;
+		}
+
+		public String getDeployFromBuildOutputsCommand() {
+			return this.deployFromBuildOutputsCommand;
+		}
+
+		public void setDeployFromBuildOutputsCommand(String deployFromBuildOutputsCommand) {
+			this.deployFromBuildOutputsCommand = deployFromBuildOutputsCommand;
+		}
+
 		@Override
 		public String getDeployGuidesCommand() {
 			return this.deployGuidesCommand;
@@ -1261,9 +1791,10 @@ public class ReleaserProperties implements Serializable {
 		@Override
 		public String toString() {
 			return "Maven{" + "buildCommand='" + this.buildCommand + '\'' + ", deployCommand='" + this.deployCommand
-					+ '\'' + ", publishDocsCommand=" + this.publishDocsCommand + "generateReleaseTrainDocsCommand='"
-					+ this.generateReleaseTrainDocsCommand + '\'' + ", runAntoraCommand= " + runAntoraCommand
-					+ ", waitTimeInMinutes=" + this.waitTimeInMinutes + '}';
+					+ '\'' + ", reuseBuildOutputs=" + this.reuseBuildOutputs + ", deployFromBuildOutputsCommand='"
+					+ this.deployFromBuildOutputsCommand + '\'' + ", publishDocsCommand=" + this.publishDocsCommand
+					+ "generateReleaseTrainDocsCommand='" + this.generateReleaseTrainDocsCommand + '\''
+					+ ", runAntoraCommand= " + runAntoraCommand + ", waitTimeInMinutes=" + this.waitTimeInMinutes + '}';
 		}
 
 	}
@@ -1615,6 +2146,11 @@ public class ReleaserProperties implements Serializable {
 		 */
 		private String bootSectionFileName = "sagan-boot.adoc";
 
+		/**
+		 * Max number of concurrent calls to the Sagan API.
+		 */
+		private int concurrency = 4;
+
 		public String getBaseUrl() {
 			return this.baseUrl;
 		}
@@ -1655,6 +2191,14 @@ public class ReleaserProperties implements Serializable {
 			this.bootSectionFileName = bootSectionFileName;
 		}
 
+		public int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
 		@Override
 		public String toString() {
 			return "Sagan{" + "baseUrl='" + this.baseUrl + '\'' + '}';
@@ -1710,6 +2254,15 @@ public class ReleaserProperties implements Serializable {
 		 */
 		private String bomName;
 
+		/**
+		 * For how long the fetched file with all the versions is used without asking the
+		 * server if it has changed. After that time the file is revalidated with its ETag
+		 * and Last-Modified headers. The file is stored under
+		 * {@code releaser.git.cache-directory}, so setting that property to a fixed
+		 * directory reuses the file between runs.
+		 */
+		private long allVersionsFileCacheTtlInMinutes = 60L;
+
 		public String getAllVersionsFileUrl() {
 			return this.allVersionsFileUrl;
 		}
@@ -1726,10 +2279,18 @@ public class ReleaserProperties implements Serializable {
 			this.bomName = bomName;
 		}
 
+		public long getAllVersionsFileCacheTtlInMinutes() {
+			return this.allVersionsFileCacheTtlInMinutes;
+		}
+
+		public void setAllVersionsFileCacheTtlInMinutes(long allVersionsFileCacheTtlInMinutes) {
+			this.allVersionsFileCacheTtlInMinutes = allVersionsFileCacheTtlInMinutes;
+		}
+
 		@Override
 		public String toString() {
 			return "Versions{" + "allVersionsFileUrl='" + this.allVersionsFileUrl + '\'' + ", bomName='" + this.bomName
-					+ '\'' + '}';
+					+ '\'' + ", allVersionsFileCacheTtlInMinutes=" + this.allVersionsFileCacheTtlInMinutes + '}';
 		}
 
 	}
@@ -1752,6 +2313,24 @@ public class ReleaserProperties implements Serializable {
 
 		private Map<String, List<String>> repos;
 
+		/**
+		 * Initial interval between two checks of the status of release bundles that are
+		 * being created or distributed. Doubles after each check.
+		 */
+		private long statusPollIntervalInMillis = 1000L;
+
+		/**
+		 * Max interval between two checks of the status of release bundles.
+		 */
+		private long maxStatusPollIntervalInMillis = 30000L;
+
+		/**
+		 * Max time to wait for release bundles to be created or distributed. Creating the
+		 * release train bundle waits for the project bundles it's made of and then for
+		 * itself within this time.
+		 */
+		private long statusTimeoutInSeconds = 3600L;
+
 		public boolean isCreateProjectReleaseBundle() {
 			return createProjectReleaseBundle;
 		}
@@ -1816,6 +2395,30 @@ public class ReleaserProperties implements Serializable {
 			this.repoAccessToken = repoAccessToken;
 		}
 
+		public long getStatusPollIntervalInMillis() {
+			return statusPollIntervalInMillis;
+		}
+
+		public void setStatusPollIntervalInMillis(long statusPollIntervalInMillis) {
+			this.statusPollIntervalInMillis = statusPollIntervalInMillis;
+		}
+
+		public long getMaxStatusPollIntervalInMillis() {
+			return maxStatusPollIntervalInMillis;
+		}
+
+		public void setMaxStatusPollIntervalInMillis(long maxStatusPollIntervalInMillis) {
+			this.maxStatusPollIntervalInMillis = maxStatusPollIntervalInMillis;
+		}
+
+		public long getStatusTimeoutInSeconds() {
+			return statusTimeoutInSeconds;
+		}
+
+		public void setStatusTimeoutInSeconds(long statusTimeoutInSeconds) {
+			this.statusTimeoutInSeconds = statusTimeoutInSeconds;
+		}
+
 		@Override
 		public String toString() {
 			return "Bundles{" + "createProjectReleaseBundle=" + createProjectReleaseBundle
@@ -1823,7 +2426,161 @@ public class ReleaserProperties implements Serializable {
 					+ ", distributeReleaseTrainSourceBundle=" + distributeReleaseTrainSourceBundle
 					+ ", distributeProjectReleaseBundle=" + distributeProjectReleaseBundle + ", repoUrl='" + repoUrl
 					+ '\'' + ", repoUsername='" + repoUsername + '\'' + ", repoAccessToken='" + repoAccessToken + '\''
-					+ ", repos=" + repos + '}';
+					+ ", repos=" + repos + ", statusPollIntervalInMillis=" + statusPollIntervalInMillis
+					+ ", maxStatusPollIntervalInMillis=" + maxStatusPollIntervalInMillis + ", statusTimeoutInSeconds="
+					+ statusTimeoutInSeconds + '}';
+		}
+
+	}
+
+	public static class Http implements Serializable {
+
+		/**
+		 * Timeout for establishing a connection to a remote service (Sagan, Artifactory,
+		 * raw GitHub files).
+		 */
+		private long connectTimeoutInSeconds = 10L;
+
+		/**
+		 * Timeout for receiving the response of a single request.
+		 */
+		private long requestTimeoutInSeconds = 60L;
+
+		/**
+		 * Max number of requests sent to a single host at the same time. Also caps the
+		 * number of pooled HTTP/1.1 connections to that host.
+		 */
+		private int maxConcurrentRequestsPerHost = 8;
+
+		/**
+		 * If set to {@code false} will use HTTP/1.1 only. Otherwise HTTP/2 is negotiated
+		 * for HTTPS connections.
+		 */
+		private boolean http2 = true;
+
+		public long getConnectTimeoutInSeconds() {
+			return connectTimeoutInSeconds;
+		}
+
+		public void setConnectTimeoutInSeconds(long connectTimeoutInSeconds) {
+			this.connectTimeoutInSeconds = connectTimeoutInSeconds;
+		}
+
+		public long getRequestTimeoutInSeconds() {
+			return requestTimeoutInSeconds;
+		}
+
+		public void setRequestTimeoutInSeconds(long requestTimeoutInSeconds) {
+			this.requestTimeoutInSeconds = requestTimeoutInSeconds;
+		}
+
+		public int getMaxConcurrentRequestsPerHost() {
+			return maxConcurrentRequestsPerHost;
+		}
+
+		public void setMaxConcurrentRequestsPerHost(int maxConcurrentRequestsPerHost) {
+			this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+		}
+
+		public boolean isHttp2() {
+			return http2;
+		}
+
+		public void setHttp2(boolean http2) {
+			this.http2 = http2;
+		}
+
+		@Override
+		public String toString() {
+			return "Http{" + "connectTimeoutInSeconds=" + connectTimeoutInSeconds + ", requestTimeoutInSeconds="
+					+ requestTimeoutInSeconds + ", maxConcurrentRequestsPerHost=" + maxConcurrentRequestsPerHost
+					+ ", http2=" + http2 + '}';
+		}
+
+	}
+
+	public static class CommandOutput implements Serializable {
+
+		/**
+		 * Directory where the whole output of the commands (e.g. builds) is written, one
+		 * file per project. Each run starts the files anew and keeps the ones of the
+		 * previous run with a {@code .1} suffix. If not set, a directory in the temp dir
+		 * will be used.
+		 */
+		private String directory;
+
+		/**
+		 * What part of the output of the commands to log via the
+		 * {@code releaser.commands} logger. The whole output is always written to the
+		 * files.
+		 */
+		private Console console = Console.FULL;
+
+		/**
+		 * Max number of lines waiting to be logged. Lines that don't fit are only written
+		 * to the file, so a slow console never slows down a command.
+		 */
+		private int queueCapacity = 10000;
+
+		/**
+		 * Max number of lines logged in one go.
+		 */
+		private int batchSize = 512;
+
+		public String getDirectory() {
+			return directory;
+		}
+
+		public void setDirectory(String directory) {
+			this.directory = directory;
+		}
+
+		public Console getConsole() {
+			return console;
+		}
+
+		public void setConsole(Console console) {
+			this.console = console;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		public void setBatchSize(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		public String toString() {
+			return "CommandOutput{" + "directory='" + directory + '\'' + ", console=" + console + ", queueCapacity="
+					+ queueCapacity + ", batchSize=" + batchSize + '}';
+		}
+
+		/**
+		 * What to log via the {@code releaser.commands} logger.
+		 */
+		public enum Console {
+
+			/**
+			 * Every line of the output.
+			 */
+			FULL,
+
+			/**
+			 * Only the progress markers (e.g. modules being built, build results) and the
+			 * error output.
+			 */
+			SUMMARY
+
 		}
 
 	}
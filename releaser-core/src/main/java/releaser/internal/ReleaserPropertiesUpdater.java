@@ -19,16 +19,17 @@ package releaser.internal;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import releaser.internal.tech.ReleaserCache;
 
 import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
 import org.springframework.boot.context.properties.bind.Binder;
@@ -43,7 +44,8 @@ public class ReleaserPropertiesUpdater implements Closeable {
 
 	private static final Logger log = LoggerFactory.getLogger(ReleaserPropertiesUpdater.class);
 
-	private static final Map<File, ReleaserProperties> CACHE = new ConcurrentHashMap<>();
+	private static final ReleaserCache<File, ReleaserProperties> CACHE = new ReleaserCache<>(
+			"properties.project-properties", 1024, Duration.ofDays(1));
 
 	public ReleaserProperties updateProperties(ReleaserProperties properties, File clonedProjectFromOrg) {
 		return CACHE.computeIfAbsent(clonedProjectFromOrg, file -> {
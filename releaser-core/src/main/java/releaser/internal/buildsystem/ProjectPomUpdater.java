@@ -24,12 +24,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -40,6 +39,7 @@ import releaser.internal.git.ProjectGitHandler;
 import releaser.internal.project.Project;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
+import releaser.internal.tech.ReleaserCache;
 
 /**
  * @author Marcin Grzejszczak
@@ -56,7 +56,8 @@ public class ProjectPomUpdater implements Closeable {
 
 	private static final boolean UPDATE_FIXED_VERSIONS = true;
 
-	private static final Map<String, VersionsFromBom> CACHE = new ConcurrentHashMap<>();
+	private static final ReleaserCache<String, VersionsFromBom> CACHE = new ReleaserCache<>(
+			"buildsystem.versions-from-bom", 64, Duration.ofDays(1));
 
 	private final ProjectGitHandler gitRepo;
 
@@ -100,6 +101,19 @@ public class ProjectPomUpdater implements Closeable {
 		return versionsFromBom.toProjectVersions();
 	}
 
+	/**
+	 * Checks if the release train BOM repository has the tag, without cloning the
+	 * repository if it hasn't been cloned yet.
+	 * @param tag tag to look for
+	 * @return {@code true} if the tag is present
+	 */
+	public boolean releaseTrainBomHasTag(String tag) {
+		if (CACHE.containsKey(tag)) {
+			return true;
+		}
+		return this.gitRepo.hasTag(this.properties.getGit().getReleaseTrainBomUrl(), tag);
+	}
+
 	private VersionsFromBom cachedVersionFromBom(String branch) {
 		return CACHE.computeIfAbsent(branch, s -> {
 			File clonedBom = this.gitRepo.cloneReleaseTrainProject();
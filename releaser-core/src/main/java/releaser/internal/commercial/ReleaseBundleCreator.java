@@ -17,26 +17,37 @@
 package releaser.internal.commercial;
 
 import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.jfrog.artifactory.client.Artifactory;
-import org.jfrog.artifactory.client.ArtifactoryClientBuilder;
-import org.jfrog.artifactory.client.ArtifactoryRequest;
-import org.jfrog.artifactory.client.ArtifactoryResponse;
 import org.jfrog.artifactory.client.aql.AqlItem;
 import org.jfrog.artifactory.client.aql.AqlQueryBuilder;
-import org.jfrog.artifactory.client.impl.ArtifactoryRequestImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import releaser.internal.ReleaserProperties;
+import releaser.internal.commercial.ReleaseBundleStatusPoller.Deadline;
+import releaser.internal.commercial.ReleaseBundleStatusPoller.Status;
+import releaser.internal.commercial.ReleaseBundleStatusPoller.StatusCheck;
 import releaser.internal.project.ProjectVersion;
+import releaser.internal.tech.ReleaserHttpClient;
+
+import org.springframework.util.StringUtils;
 
 /**
+ * Creates and distributes release bundles via the Artifactory lifecycle API. Both
+ * operations run asynchronously on the Artifactory side, and we poll their status until
+ * they're done. In a meta-release the project bundles are only submitted; the release
+ * train bundle waits for all of them at once before it gets created.
+ *
  * @author Ryan Baxter
  */
 public class ReleaseBundleCreator {
@@ -45,17 +56,32 @@ public class ReleaseBundleCreator {
 
 	public static final String RELEASE_TRAIN_BUNDLE_NAME = "TNZ-spring-cloud-commercial-release";
 
-	private final Artifactory artifactory;
+	private final ReleaserProperties properties;
+
+	private final ReleaserHttpClient httpClient;
+
+	private final ReleaseBundleStatusPoller poller;
+
+	private final String repoUrl;
+
+	private final String accessToken;
 
 	private final ObjectMapper objectMapper;
 
-	public ReleaseBundleCreator(ReleaserProperties properties) {
+	public ReleaseBundleCreator(ReleaserProperties properties, ReleaserHttpClient httpClient) {
+		this(properties, httpClient, new ReleaseBundleStatusPoller(properties));
+	}
+
+	ReleaseBundleCreator(ReleaserProperties properties, ReleaserHttpClient httpClient,
+			ReleaseBundleStatusPoller poller) {
 		log.info("Creating Artifactory client with URL [{}]", properties.getBundles().getRepoUrl());
 		log.info("Creating Artifactory client with username [{}]", properties.getBundles().getRepoUsername());
 		log.info("Creating Artifactory client with access token [{}]", properties.getBundles().getRepoAccessToken());
-		this.artifactory = ArtifactoryClientBuilder.create().setUrl(properties.getBundles().getRepoUrl())
-				.setUsername(properties.getBundles().getRepoUsername())
-				.setAccessToken(properties.getBundles().getRepoAccessToken()).build();
+		this.properties = properties;
+		this.httpClient = httpClient;
+		this.poller = poller;
+		this.repoUrl = StringUtils.trimTrailingCharacter(properties.getBundles().getRepoUrl(), '/');
+		this.accessToken = properties.getBundles().getRepoAccessToken();
 		this.objectMapper = new ObjectMapper();
 	}
 
@@ -88,26 +114,84 @@ public class ReleaseBundleCreator {
 	}
 
 	public boolean createReleaseBundle(String json) throws IOException {
+		return createReleaseBundle(json, this.poller.deadline());
+	}
+
+	private boolean createReleaseBundle(String json, Deadline deadline) throws IOException {
 		log.info("Creating release bundle with JSON [{}]", json);
+		JsonNode bundle = objectMapper.readTree(json);
+		String releaseBundleName = bundle.path("release_bundle_name").asText();
+		String version = bundle.path("release_bundle_version").asText();
+		HttpRequest aqlRequest = artifactoryRequest("lifecycle/api/v2/release_bundle?async=true&project=spring", json)
+				.header("X-JFrog-Signing-Key-Name", "packagesKey").build();
+		if (makeArtifactoryRequest(aqlRequest) == null) {
+			return false;
+		}
+		if (isWaitedForByReleaseTrainBundle(releaseBundleName)) {
+			log.info("Release bundle [{}/{}] submitted, will wait for it before creating the release train bundle",
+					releaseBundleName, version);
+			return true;
+		}
+		return awaitReleaseBundles(Collections.singletonMap(releaseBundleName, version), deadline);
+	}
+
+	private boolean isWaitedForByReleaseTrainBundle(String releaseBundleName) {
+		return this.properties.getMetaRelease().isEnabled()
+				&& this.properties.getBundles().isCreateReleaseTrainReleaseBundle()
+				&& !RELEASE_TRAIN_BUNDLE_NAME.equals(releaseBundleName);
+	}
 
-		ArtifactoryRequest aqlRequest = new ArtifactoryRequestImpl().method(ArtifactoryRequest.Method.POST)
-				.apiUrl("lifecycle/api/v2/release_bundle").addQueryParam("project", "spring")
-				.addQueryParam("async", "false").addHeader("X-JFrog-Signing-Key-Name", "packagesKey")
-				.requestType(ArtifactoryRequest.ContentType.JSON).responseType(ArtifactoryRequest.ContentType.JSON)
-				.requestBody(json);
-		return makeArtifactoryRequest(aqlRequest);
+	private boolean awaitReleaseBundles(Map<String, String> versionsByName, Deadline deadline) {
+		Map<String, StatusCheck> checks = new LinkedHashMap<>();
+		versionsByName.forEach((name, version) -> checks.put("create " + name + "/" + version,
+				() -> releaseBundleStatus(name, version)));
+		return this.poller.awaitAll(checks, deadline);
+	}
+
+	private Status releaseBundleStatus(String releaseBundleName, String version) throws IOException {
+		ReleaserHttpClient.Response response = this.httpClient.send(artifactoryGet(
+				"lifecycle/api/v2/release_bundle/statuses/" + releaseBundleName + "/" + version + "?project=spring"));
+		if (response.status() == 404) {
+			log.warn("Release bundle [{}/{}] doesn't exist", releaseBundleName, version);
+			return Status.FAILED;
+		}
+		if (!response.isSuccessful()) {
+			throw new IOException("Status check of release bundle [" + releaseBundleName + "/" + version
+					+ "] failed with status [" + response.status() + "]");
+		}
+		return status(objectMapper.readTree(response.body()).path("status").asText());
+	}
+
+	private static Status status(String status) {
+		if ("COMPLETED".equalsIgnoreCase(status)) {
+			return Status.COMPLETED;
+		}
+		if ("FAILED".equalsIgnoreCase(status)) {
+			return Status.FAILED;
+		}
+		return Status.IN_PROGRESS;
 	}
 
 	public boolean createReleaseTrainSourceBundle(List<ProjectVersion> projectsReleased, String version)
 			throws IOException {
 		log.info("Creating release train source bundle for projects {}", projectsReleased);
+		// waiting for the project bundles and for the release train bundle share one
+		// deadline
+		Deadline deadline = this.poller.deadline();
+		Map<String, String> sourceBundles = new LinkedHashMap<>();
+		projectsReleased
+				.forEach(project -> sourceBundles.put(createReleaseBundleName(project.projectName), project.version));
+		if (!awaitReleaseBundles(sourceBundles, deadline)) {
+			log.warn("Not all the release bundles of projects {} got created", projectsReleased);
+			return false;
+		}
 		Map<String, Object> json = new HashMap<>();
 		json.put("release_bundle_name", RELEASE_TRAIN_BUNDLE_NAME);
 		json.put("release_bundle_version", version);
 		json.put("skip_docker_manifest_resolution", false);
 		json.put("source_type", "release_bundles");
 		json.put("source", createReleaseBundlesJson(projectsReleased));
-		return createReleaseBundle(objectMapper.writeValueAsString(json));
+		return createReleaseBundle(objectMapper.writeValueAsString(json), deadline);
 	}
 
 	private Map<String, Object> createReleaseBundlesJson(List<ProjectVersion> projectsReleased) {
@@ -139,22 +223,73 @@ public class ReleaseBundleCreator {
 	public boolean distributeReleaseBundle(String releaseBundleName, String version, String json) throws IOException {
 		log.info("Distributing release bundle with name [{}] and version[{}] and JSON data [{}]", releaseBundleName,
 				version, json);
-		ArtifactoryRequest request = new ArtifactoryRequestImpl().method(ArtifactoryRequest.Method.POST)
-				.apiUrl("lifecycle/api/v2/distribution/distribute/" + releaseBundleName + "/" + version)
-				.addQueryParam("project", "spring").requestType(ArtifactoryRequest.ContentType.JSON)
-				.responseType(ArtifactoryRequest.ContentType.JSON).requestBody(json);
-		return makeArtifactoryRequest(request);
+		HttpRequest request = artifactoryRequest(
+				"lifecycle/api/v2/distribution/distribute/" + releaseBundleName + "/" + version + "?project=spring",
+				json).build();
+		JsonNode distribution = makeArtifactoryRequest(request);
+		if (distribution == null) {
+			return false;
+		}
+		String trackingId = distribution.path("id").asText();
+		return this.poller.awaitAll(Collections.singletonMap("distribute " + releaseBundleName + "/" + version,
+				() -> distributionStatus(releaseBundleName, version, trackingId)));
 	}
 
-	private boolean makeArtifactoryRequest(ArtifactoryRequest request) throws IOException {
-		ArtifactoryResponse response = artifactory.restCall(request);
-		if (!response.isSuccessResponse()) {
-			log.warn("Artifactory request {} failed {}", request, response.getRawBody());
+	private Status distributionStatus(String releaseBundleName, String version, String trackingId) throws IOException {
+		ReleaserHttpClient.Response response = this.httpClient.send(artifactoryGet(
+				"lifecycle/api/v2/distribution/trackers/" + releaseBundleName + "/" + version + "?project=spring"));
+		if (!response.isSuccessful()) {
+			throw new IOException("Distribution status check of release bundle [" + releaseBundleName + "/" + version
+					+ "] failed with status [" + response.status() + "]");
+		}
+		List<Status> statuses = new ArrayList<>();
+		for (JsonNode tracker : objectMapper.readTree(response.body())) {
+			if (!StringUtils.hasText(trackingId)
+					|| trackingId.equals(tracker.path("distribution_tracking_id").asText())) {
+				statuses.add(status(tracker.path("status").asText()));
+			}
+		}
+		if (statuses.contains(Status.FAILED)) {
+			return Status.FAILED;
+		}
+		return !statuses.isEmpty() && statuses.stream().allMatch(Status.COMPLETED::equals) ? Status.COMPLETED
+				: Status.IN_PROGRESS;
+	}
+
+	private HttpRequest.Builder artifactoryRequest(String apiUrl, String json) {
+		return authorized(HttpRequest.newBuilder(URI.create(this.repoUrl + "/" + apiUrl))
+				.POST(HttpRequest.BodyPublishers.ofString(json)).header("Content-Type", "application/json")
+				.header("Accept", "application/json"));
+	}
+
+	private HttpRequest artifactoryGet(String apiUrl) {
+		return authorized(HttpRequest.newBuilder(URI.create(this.repoUrl + "/" + apiUrl)).GET().header("Accept",
+				"application/json")).build();
+	}
+
+	private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+		if (StringUtils.hasText(this.accessToken)) {
+			builder.header("Authorization", "Bearer " + this.accessToken);
+		}
+		return builder;
+	}
+
+	/**
+	 * @return body of the response or {@code null} if the request failed
+	 */
+	private JsonNode makeArtifactoryRequest(HttpRequest request) throws IOException {
+		ReleaserHttpClient.Response response = this.httpClient.send(request);
+		if (!response.isSuccessful()) {
+			log.warn("Artifactory request {} failed {}", request, response.bodyAsString());
+			return null;
+		}
+		log.info("Artifactory request succeeded {}", response.bodyAsString());
+		try {
+			return objectMapper.readTree(response.body());
 		}
-		else {
-			log.info("Artifactory request succeeded {}", response.getRawBody());
+		catch (JsonProcessingException ex) {
+			return objectMapper.nullNode();
 		}
-		return response.isSuccessResponse();
 	}
 
 	private Map<String, Object> createDistributionJson() {
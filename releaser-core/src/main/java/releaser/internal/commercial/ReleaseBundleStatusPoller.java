@@ -0,0 +1,175 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.commercial;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+
+/**
+ * Waits for asynchronous Artifactory operations (release bundle creation and
+ * distribution) to finish. All the operations passed in a single call are checked in
+ * every round, so waiting for a few bundles takes as long as the slowest one. The
+ * interval between the rounds starts small and doubles up to a max value. The wait is
+ * bounded by a {@link Deadline}, which a caller can share between a few waits that are
+ * parts of one operation.
+ *
+ * @author Marcin Grzejszczak
+ */
+final class ReleaseBundleStatusPoller {
+
+	private static final Logger log = LoggerFactory.getLogger(ReleaseBundleStatusPoller.class);
+
+	private final Duration initialInterval;
+
+	private final Duration maxInterval;
+
+	private final Duration timeout;
+
+	private final LongSupplier nanoTime;
+
+	private final Sleeper sleeper;
+
+	ReleaseBundleStatusPoller(ReleaserProperties properties) {
+		this(Duration.ofMillis(properties.getBundles().getStatusPollIntervalInMillis()),
+				Duration.ofMillis(properties.getBundles().getMaxStatusPollIntervalInMillis()),
+				Duration.ofSeconds(properties.getBundles().getStatusTimeoutInSeconds()), System::nanoTime,
+				duration -> Thread.sleep(duration.toMillis(), (int) (duration.toNanos() % 1_000_000)));
+	}
+
+	ReleaseBundleStatusPoller(Duration initialInterval, Duration maxInterval, Duration timeout, LongSupplier nanoTime,
+			Sleeper sleeper) {
+		this.initialInterval = initialInterval;
+		this.maxInterval = maxInterval;
+		this.timeout = timeout;
+		this.nanoTime = nanoTime;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * @return deadline of an operation that starts now
+	 */
+	Deadline deadline() {
+		return new Deadline(this.nanoTime.getAsLong() + this.timeout.toNanos());
+	}
+
+	/**
+	 * @param checks status checks of the operations to wait for, by operation name
+	 * @return {@code true} if all the operations completed before a deadline starting now
+	 */
+	boolean awaitAll(Map<String, StatusCheck> checks) {
+		return awaitAll(checks, deadline());
+	}
+
+	/**
+	 * @param checks status checks of the operations to wait for, by operation name
+	 * @param deadline deadline of the whole operation the wait is part of
+	 * @return {@code true} if all the operations completed before the deadline
+	 */
+	boolean awaitAll(Map<String, StatusCheck> checks, Deadline deadline) {
+		Map<String, StatusCheck> pending = new LinkedHashMap<>(checks);
+		Duration interval = this.initialInterval;
+		while (true) {
+			for (Iterator<Map.Entry<String, StatusCheck>> iterator = pending.entrySet().iterator(); iterator
+					.hasNext();) {
+				Map.Entry<String, StatusCheck> entry = iterator.next();
+				Status status = check(entry.getKey(), entry.getValue());
+				if (status == Status.FAILED) {
+					log.error("Artifactory operation [{}] has failed", entry.getKey());
+					return false;
+				}
+				if (status == Status.COMPLETED) {
+					log.info("Artifactory operation [{}] has completed", entry.getKey());
+					iterator.remove();
+				}
+			}
+			if (pending.isEmpty()) {
+				return true;
+			}
+			long remaining = deadline.expiresAtNanos - this.nanoTime.getAsLong();
+			if (remaining <= 0) {
+				log.error("Artifactory operations {} haven't completed within [{}]", pending.keySet(), this.timeout);
+				return false;
+			}
+			Duration sleep = interval.toNanos() < remaining ? interval : Duration.ofNanos(remaining);
+			log.info("Artifactory operations {} are still in progress, will check again in [{}] ms", pending.keySet(),
+					sleep.toMillis());
+			try {
+				this.sleeper.sleep(sleep);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				log.error("Interrupted while waiting for Artifactory operations {}", pending.keySet());
+				return false;
+			}
+			interval = interval.multipliedBy(2).compareTo(this.maxInterval) > 0 ? this.maxInterval
+					: interval.multipliedBy(2);
+		}
+	}
+
+	private Status check(String name, StatusCheck check) {
+		try {
+			return check.status();
+		}
+		catch (IOException ex) {
+			// a single failed status check shouldn't fail the whole operation
+			log.warn("Failed to check the status of Artifactory operation [{}], will retry", name, ex);
+			return Status.IN_PROGRESS;
+		}
+	}
+
+	enum Status {
+
+		IN_PROGRESS, COMPLETED, FAILED
+
+	}
+
+	@FunctionalInterface
+	interface StatusCheck {
+
+		Status status() throws IOException;
+
+	}
+
+	@FunctionalInterface
+	interface Sleeper {
+
+		void sleep(Duration duration) throws InterruptedException;
+
+	}
+
+	/**
+	 * Point in time by which an operation has to complete.
+	 */
+	static final class Deadline {
+
+		private final long expiresAtNanos;
+
+		private Deadline(long expiresAtNanos) {
+			this.expiresAtNanos = expiresAtNanos;
+		}
+
+	}
+
+}
@@ -18,16 +18,27 @@ package releaser.internal.docs;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.zip.CRC32C;
 
+import com.google.cloud.NoCredentials;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageOptions;
 import com.google.cloud.storage.transfermanager.ParallelUploadConfig;
 import com.google.cloud.storage.transfermanager.TransferManager;
+import com.google.cloud.storage.transfermanager.TransferManagerConfig;
 import com.google.cloud.storage.transfermanager.TransferStatus;
 import com.google.cloud.storage.transfermanager.UploadResult;
 import org.slf4j.Logger;
@@ -43,6 +54,9 @@ import org.springframework.util.StringUtils;
  * This code assumes that the environment variable GOOGLE_APPLICATION_CREDENTIALS is set
  * to the path to a json file containing a GCP service account.
  *
+ * Only the files that changed since the last publish are uploaded. The CRC32C checksums
+ * of the blobs already in the bucket are compared with the ones of the files of the site.
+ *
  * @author Ryan Baxter
  */
 public class CommercialAntoraDocsPublisher implements AntoraDocsPublisher {
@@ -53,39 +67,76 @@ public class CommercialAntoraDocsPublisher implements AntoraDocsPublisher {
 
 	private final TransferManager transferManager;
 
+	private final Storage storage;
+
+	public CommercialAntoraDocsPublisher(ReleaserProperties properties) {
+		this(transferManagerConfig(properties.getAntora()));
+	}
+
+	private CommercialAntoraDocsPublisher(TransferManagerConfig config) {
+		this(config.getService(), config.getStorageOptions().getService());
+	}
+
 	public CommercialAntoraDocsPublisher(TransferManager transferManager) {
+		this(transferManager, null);
+	}
+
+	/**
+	 * @param transferManager transfer manager uploading the files
+	 * @param storage storage used to list the blobs already in the bucket, if
+	 * {@code null} all the files are uploaded
+	 */
+	public CommercialAntoraDocsPublisher(TransferManager transferManager, Storage storage) {
 		this.transferManager = transferManager;
+		this.storage = storage;
+	}
+
+	static TransferManagerConfig transferManagerConfig(ReleaserProperties.Antora antora) {
+		TransferManagerConfig.Builder builder = TransferManagerConfig.newBuilder()
+				.setAllowParallelCompositeUpload(antora.isGcpParallelCompositeUpload());
+		if (antora.getGcpUploadMaxWorkers() > 0) {
+			builder.setMaxWorkers(antora.getGcpUploadMaxWorkers());
+		}
+		if (antora.getGcpUploadBufferSizeInKb() > 0) {
+			builder.setPerWorkerBufferSize(antora.getGcpUploadBufferSizeInKb() * 1024);
+		}
+		if (StringUtils.hasText(antora.getGcpStorageHost())) {
+			// e.g. a fake-gcs-server emulator that doesn't check the credentials
+			builder.setStorageOptions(StorageOptions.newBuilder().setHost(antora.getGcpStorageHost())
+					.setProjectId("releaser").setCredentials(NoCredentials.getInstance()).build());
+		}
+		return builder.build();
 	}
 
 	@Override
 	public void publish(File project, ReleaserProperties properties) throws IOException {
 		checkAndLog();
 		String antoraSite = project.getAbsolutePath() + "/target/antora/site";
+		String bucketName = properties.getAntora().getGcpBucketName();
+		String blobPrefix = blobPrefix(new ProjectVersion(project));
 		// This UploadBlobInfoFactory is used to alter the paths where the files will be
 		// uploaded in the bucket
-		ParallelUploadConfig.UploadBlobInfoFactory uploadBlobInfoFactory = (String bucketName, String fileName) -> {
-			ProjectVersion version = new ProjectVersion(project);
-			// The spring-cloud-release docs will be under the project
-			// spring-cloud-starter-build but we want
-			// them uploaded under spring-cloud-release
-			String projectName = "spring-cloud-starter-build".equals(version.projectName) ? "spring-cloud-release"
-					: version.projectName;
-			String blobLocation = projectName + "/reference" + fileName.substring(antoraSite.length());
+		ParallelUploadConfig.UploadBlobInfoFactory uploadBlobInfoFactory = (String bucket, String fileName) -> {
+			String blobLocation = blobPrefix + fileName.substring(antoraSite.length());
 			Optional<MediaType> mediaTypeOptional = MediaTypeFactory.getMediaType(blobLocation);
-			BlobInfo.Builder blobInfoBuilder = BlobInfo.newBuilder(bucketName, blobLocation);
+			BlobInfo.Builder blobInfoBuilder = BlobInfo.newBuilder(bucket, blobLocation);
 			mediaTypeOptional.ifPresent(mediaType -> blobInfoBuilder.setContentType(mediaType.toString()));
 			return blobInfoBuilder.build();
 		};
 		ParallelUploadConfig parallelUploadConfig = ParallelUploadConfig.newBuilder()
-				.setUploadBlobInfoFactory(uploadBlobInfoFactory)
-				.setBucketName(properties.getAntora().getGcpBucketName()).build();
+				.setUploadBlobInfoFactory(uploadBlobInfoFactory).setBucketName(bucketName).build();
 		// Create a list to store the file paths
 		List<Path> filePaths = new ArrayList<>();
 		// Get all files in the directory
 		try (Stream<Path> pathStream = Files.walk(Path.of(antoraSite))) {
 			pathStream.filter(Files::isRegularFile).forEach(filePaths::add);
 		}
-		List<UploadResult> results = transferManager.uploadFiles(filePaths, parallelUploadConfig).getUploadResults();
+		List<Path> changedFiles = changedFiles(properties.getAntora(), bucketName, blobPrefix, antoraSite, filePaths);
+		if (changedFiles.isEmpty()) {
+			log.info("None of the [{}] files of the docs changed since the last publish", filePaths.size());
+			return;
+		}
+		List<UploadResult> results = transferManager.uploadFiles(changedFiles, parallelUploadConfig).getUploadResults();
 		boolean failedToTransfer = false;
 		for (UploadResult result : results) {
 			TransferStatus status = result.getStatus();
@@ -100,6 +151,58 @@ public class CommercialAntoraDocsPublisher implements AntoraDocsPublisher {
 		}
 	}
 
+	private String blobPrefix(ProjectVersion version) {
+		// The spring-cloud-release docs will be under the project
+		// spring-cloud-starter-build but we want
+		// them uploaded under spring-cloud-release
+		String projectName = "spring-cloud-starter-build".equals(version.projectName) ? "spring-cloud-release"
+				: version.projectName;
+		return projectName + "/reference";
+	}
+
+	private List<Path> changedFiles(ReleaserProperties.Antora antora, String bucketName, String blobPrefix,
+			String antoraSite, List<Path> filePaths) throws IOException {
+		if (this.storage == null || !antora.isGcpIncrementalUpload()) {
+			return filePaths;
+		}
+		Map<String, String> published = publishedChecksums(bucketName, blobPrefix);
+		List<Path> changedFiles = new ArrayList<>();
+		for (Path file : filePaths) {
+			String blobLocation = blobPrefix + file.toString().substring(antoraSite.length());
+			if (!crc32c(file).equals(published.get(blobLocation))) {
+				changedFiles.add(file);
+			}
+		}
+		log.info("[{}] out of [{}] files of the docs changed since the last publish", changedFiles.size(),
+				filePaths.size());
+		return changedFiles;
+	}
+
+	private Map<String, String> publishedChecksums(String bucketName, String blobPrefix) {
+		Map<String, String> checksums = new HashMap<>();
+		for (Blob blob : this.storage.list(bucketName, Storage.BlobListOption.prefix(blobPrefix + "/"),
+				Storage.BlobListOption.fields(Storage.BlobField.NAME, Storage.BlobField.CRC32C)).iterateAll()) {
+			checksums.put(blob.getName(), blob.getCrc32c());
+		}
+		return checksums;
+	}
+
+	/**
+	 * @return CRC32C checksum of the file, base64 encoded in big-endian byte order like
+	 * the one of the GCS blobs
+	 */
+	static String crc32c(Path file) throws IOException {
+		CRC32C crc32c = new CRC32C();
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream stream = Files.newInputStream(file)) {
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				crc32c.update(buffer, 0, read);
+			}
+		}
+		return Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt((int) crc32c.getValue()).array());
+	}
+
 	private void checkAndLog() {
 		if (!StringUtils.hasText(System.getenv(GOOGLE_APPLICATION_CREDENTIALS_VAR_NAME))) {
 			log.warn("GOOGLE_APPLICATION_CREDENTIALS environment variable is not set, "
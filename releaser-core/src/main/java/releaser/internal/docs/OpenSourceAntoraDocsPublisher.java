@@ -17,12 +17,23 @@
 package releaser.internal.docs;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import releaser.internal.ReleaserProperties;
 import releaser.internal.git.ProjectGitHandler;
 import releaser.internal.project.ProjectCommandExecutor;
+import releaser.internal.tech.ReleaserExecutor;
 
 /**
+ * Publishes the Antora docs with the Spring Docs Actions. The actions are checked out
+ * once and shared by all the projects. The docs are published by a bounded pool of
+ * workers ({@code releaser.antora.publish-workers}), so the projects of a release train
+ * queue up instead of all syncing the docs at the same time.
+ *
  * @author Ryan Baxter
  */
 public class OpenSourceAntoraDocsPublisher implements AntoraDocsPublisher {
@@ -31,17 +42,41 @@ public class OpenSourceAntoraDocsPublisher implements AntoraDocsPublisher {
 
 	private final ProjectGitHandler projectGitHandler;
 
+	private final ExecutorService workers;
+
 	public OpenSourceAntoraDocsPublisher(ProjectCommandExecutor projectCommandExecutor,
 			ProjectGitHandler projectGitHandler) {
+		this(projectCommandExecutor, projectGitHandler, 1);
+	}
+
+	public OpenSourceAntoraDocsPublisher(ProjectCommandExecutor projectCommandExecutor,
+			ProjectGitHandler projectGitHandler, int workers) {
 		this.projectCommandExecutor = projectCommandExecutor;
 		this.projectGitHandler = projectGitHandler;
+		this.workers = Executors.newFixedThreadPool(Math.max(1, workers),
+				ReleaserExecutor.daemonThreads("antora-docs-publisher-"));
 	}
 
 	@Override
-	public void publish(File project, ReleaserProperties properties) {
-		File springDocsActionsProject = this.projectGitHandler.cloneAndCheckoutSpringDocsActions();
-		this.projectCommandExecutor.publishAntoraDocs(springDocsActionsProject, project, properties);
-
+	public void publish(File project, ReleaserProperties properties) throws IOException {
+		Future<?> publication = this.workers.submit(() -> {
+			File springDocsActionsProject = this.projectGitHandler.cloneAndCheckoutSpringDocsActions();
+			this.projectCommandExecutor.publishAntoraDocs(springDocsActionsProject, project, properties);
+		});
+		try {
+			publication.get();
+		}
+		catch (InterruptedException ex) {
+			publication.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while publishing the docs of [" + project + "]", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
 	}
 
 }
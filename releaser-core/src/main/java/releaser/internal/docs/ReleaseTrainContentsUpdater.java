@@ -16,12 +16,23 @@
 
 package releaser.internal.docs;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,31 +102,48 @@ class ReleaseTrainContentsUpdater {
 			String releaseTrainName, File releaseTrainDocFile, String releaseVersionFromCurrentFile) {
 		File releaseNotes = this.templateGenerator.releaseNotes(projects);
 		try {
-			List<String> lines = Files.readAllLines(releaseTrainDocFile.toPath());
-			int lineIndex;
-			for (lineIndex = 0; lineIndex < lines.size(); lineIndex++) {
-				if (lines.get(lineIndex).contains(releaseVersionFromCurrentFile)) {
-					break;
-				}
-			}
-			return insertNewWikiContentBeforeTheLatestRelease(releaseTrainWiki, releaseTrain, releaseTrainName,
-					releaseTrainDocFile, releaseNotes, lines, lineIndex);
+			long offset = this.parser.offsetOfFirstLineContaining(releaseTrainDocFile, releaseVersionFromCurrentFile);
+			byte[] newEntry = ("\n\n" + new String(Files.readAllBytes(releaseNotes.toPath())) + "\n")
+					.getBytes(StandardCharsets.UTF_8);
+			insert(releaseTrainDocFile.toPath(), offset, newEntry);
+			log.info("Successfully stored new wiki contents for release train [{}]", releaseTrainName);
+			this.handler.commitAndPushChanges(releaseTrainWiki, releaseTrain);
+			return releaseTrainWiki;
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException(ex);
 		}
 	}
 
-	private File insertNewWikiContentBeforeTheLatestRelease(File releaseTrainWiki, ProjectVersion releaseTrain,
-			String releaseTrainName, File releaseTrainDocFile, File releaseNotes, List<String> lines, int lineIndex)
-			throws IOException {
-		String newContent = new StringJoiner("\n").add(String.join("\n", lines.subList(0, lineIndex))).add("\n")
-				.add(new String(Files.readAllBytes(releaseNotes.toPath())))
-				.add(String.join("\n", lines.subList(lineIndex, lines.size()))).toString();
-		Files.write(releaseTrainDocFile.toPath(), newContent.getBytes());
-		log.info("Successfully stored new wiki contents for release train [{}]", releaseTrainName);
-		this.handler.commitAndPushChanges(releaseTrainWiki, releaseTrain);
-		return releaseTrainWiki;
+	/**
+	 * Inserts the content at the given offset of the file. The existing parts of the file
+	 * are copied by the channels, without reading the whole page into memory, to a
+	 * temporary file that then replaces the page.
+	 */
+	static void insert(Path file, long offset, byte[] content) throws IOException {
+		Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+					FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				transfer(source, 0, offset, target);
+				ByteBuffer buffer = ByteBuffer.wrap(content);
+				while (buffer.hasRemaining()) {
+					target.write(buffer);
+				}
+				transfer(source, offset, source.size() - offset, target);
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static void transfer(FileChannel source, long position, long count, FileChannel target) throws IOException {
+		long transferred = 0;
+		while (transferred < count) {
+			transferred += source.transferTo(position + transferred, count - transferred, target);
+		}
 	}
 
 	private String releaseTrainDocFileName(String releaseTrainName, String wikiPagePrefix) {
@@ -165,43 +193,76 @@ class ReleaseTrainContentsGitHandler {
 	void commitAndPushChanges(File repo, ProjectVersion releaseTrain) {
 		log.debug("Committing and pushing changes");
 		this.handler.commit(repo, String.format(PROJECT_PAGE_UPDATED_COMMIT_MSG, releaseTrain.version));
-		this.handler.pushCurrentBranch(repo);
+		this.handler.pushCurrentBranchOfSharedRepo(repo);
 	}
 
 }
 
+/**
+ * Reads the release train pages as streams. Only the part of a page up to the searched
+ * marker is read, since the pages grow with every release and the interesting part is at
+ * the top.
+ */
 class ReleaseTrainContentsParser {
 
 	private static final Logger log = LoggerFactory.getLogger(ReleaseTrainContentsParser.class);
 
+	private static final String BEGIN_COMPONENTS = "<!-- BEGIN COMPONENTS -->";
+
+	private static final String END_COMPONENTS = "<!-- END COMPONENTS -->";
+
 	ReleaseTrainContents parseProjectPage(File rawHtml) {
-		try {
-			String contents = new String(Files.readAllBytes(rawHtml.toPath()));
-			String[] split = contents.split("<!-- (BEGIN|END) COMPONENTS -->");
-			if (split.length != 3) {
-				log.warn("The page is missing the components table markers. "
-						+ "Please add [<!-- BEGIN COMPONENTS -->] and [<!-- END COMPONENTS -->] to the file.");
-				return null;
+		try (BufferedReader reader = Files.newBufferedReader(rawHtml.toPath())) {
+			if (!skipTo(reader, BEGIN_COMPONENTS)) {
+				return missingMarkers();
 			}
-			String table = split[1];
-			String[] components = table.trim().split("\n");
-			String[] titleRow = components[0].trim().split("\\|");
-			Title title = new Title(titleRow);
+			Title title = null;
+			boolean separatorSkipped = false;
 			List<Row> rows = new LinkedList<>();
-			for (int i = 2; i < components.length; i++) {
-				String[] splitRow = components[i].split("\\|");
-				rows.add(new Row(splitRow));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.contains(END_COMPONENTS)) {
+					return new ReleaseTrainContents(title, rows);
+				}
+				if (!StringUtils.hasText(line)) {
+					continue;
+				}
+				if (title == null) {
+					title = new Title(line.trim().split("\\|"));
+				}
+				else if (!separatorSkipped) {
+					separatorSkipped = true;
+				}
+				else {
+					rows.add(new Row(line.split("\\|")));
+				}
 			}
-			return new ReleaseTrainContents(title, rows);
+			return missingMarkers();
 		}
 		catch (IOException e) {
 			throw new IllegalStateException(e);
 		}
 	}
 
+	private boolean skipTo(BufferedReader reader, String marker) throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.contains(marker)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private ReleaseTrainContents missingMarkers() {
+		log.warn("The page is missing the components table markers. "
+				+ "Please add [<!-- BEGIN COMPONENTS -->] and [<!-- END COMPONENTS -->] to the file.");
+		return null;
+	}
+
 	String latestReleaseTrainFromWiki(File rawMd) {
-		try {
-			return Files.readAllLines(rawMd.toPath()).stream()
+		try (Stream<String> lines = Files.lines(rawMd.toPath())) {
+			return lines
 					// We want to find only headers like # Finchley.RELEASE and not any
 					// custom headers
 					.filter(s -> s.trim().startsWith("#") && s.contains(".")).map(s -> s.substring(1).trim())
@@ -212,4 +273,35 @@ class ReleaseTrainContentsParser {
 		}
 	}
 
+	/**
+	 * @param rawMd page to search
+	 * @param text text to look for
+	 * @return offset of the first line that contains the text or the size of the page
+	 * when there's no such line
+	 */
+	long offsetOfFirstLineContaining(File rawMd, String text) {
+		try (InputStream stream = new BufferedInputStream(Files.newInputStream(rawMd.toPath()))) {
+			ByteArrayOutputStream line = new ByteArrayOutputStream();
+			long lineStart = 0;
+			long position = 0;
+			int read;
+			while ((read = stream.read()) != -1) {
+				position++;
+				if (read != '\n') {
+					line.write(read);
+					continue;
+				}
+				if (line.toString(StandardCharsets.UTF_8).contains(text)) {
+					return lineStart;
+				}
+				line.reset();
+				lineStart = position;
+			}
+			return line.size() > 0 && line.toString(StandardCharsets.UTF_8).contains(text) ? lineStart : position;
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 }
@@ -19,6 +19,7 @@ package releaser.internal.git;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
@@ -26,6 +27,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.jcraft.jsch.IdentityRepository;
@@ -44,7 +47,11 @@ import org.eclipse.jgit.api.CreateBranchCommand;
 import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ListBranchCommand;
+import org.eclipse.jgit.api.LsRemoteCommand;
+import org.eclipse.jgit.api.PullCommand;
+import org.eclipse.jgit.api.PullResult;
 import org.eclipse.jgit.api.PushCommand;
+import org.eclipse.jgit.api.RebaseCommand;
 import org.eclipse.jgit.api.ResetCommand;
 import org.eclipse.jgit.api.TransportConfigCallback;
 import org.eclipse.jgit.api.errors.EmptyCommitException;
@@ -61,7 +68,9 @@ import org.eclipse.jgit.storage.file.FileBasedConfig;
 import org.eclipse.jgit.transport.CredentialItem;
 import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.FetchResult;
+import org.eclipse.jgit.transport.PushResult;
 import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.RemoteRefUpdate;
 import org.eclipse.jgit.transport.SshTransport;
 import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
@@ -92,8 +101,22 @@ class GitRepo {
 
 	private boolean signCommits = false;
 
+	private boolean deleteBaseDirOnFailure = true;
+
 	GitRepo(File basedir, ReleaserProperties properties) {
+		this(basedir, properties, true);
+	}
+
+	/**
+	 * @param basedir - directory of the repository
+	 * @param properties - releaser properties
+	 * @param deleteBaseDirOnFailure - whether the directory gets deleted when fetching,
+	 * resetting or checking out fails. Must be {@code false} for a repository with
+	 * commits that haven't been pushed yet
+	 */
+	GitRepo(File basedir, ReleaserProperties properties, boolean deleteBaseDirOnFailure) {
 		this.basedir = basedir;
+		this.deleteBaseDirOnFailure = deleteBaseDirOnFailure;
 		this.gitFactory = new GitRepo.JGitFactory(properties);
 		this.signCommits = properties.getGit().isSignCommits();
 		if (this.signCommits) {
@@ -337,6 +360,42 @@ class GitRepo {
 		}
 	}
 
+	/**
+	 * Checks if the remote repository has the tag, using the refs it advertises instead
+	 * of cloning it.
+	 * @param projectUri - URI of the project
+	 * @param tagName - name of the tag without the refs/tags/ prefix
+	 * @return {@code true} if the tag is present
+	 */
+	boolean hasRemoteTag(URIish projectUri, String tagName) {
+		try {
+			boolean present = this.gitFactory.lsRemote().setRemote(projectUri.toString() + ".git").setTags(true)
+					.callAsMap().containsKey(Constants.R_TAGS + tagName);
+			log.info("Tag [{}] is present in [{}]: [{}]", tagName, projectUri, present);
+			return present;
+		}
+		catch (GitAPIException e) {
+			throw new IllegalStateException("Exception occurred while listing the remote refs of " + projectUri, e);
+		}
+	}
+
+	/**
+	 * Lists the branches of the remote repository, using the refs it advertises instead
+	 * of cloning it.
+	 * @param projectUri - URI of the project
+	 * @return names of the branches, matching the names {@link #hasBranch(String)}
+	 * expects
+	 */
+	Set<String> remoteBranches(URIish projectUri) {
+		try {
+			return this.gitFactory.lsRemote().setRemote(projectUri.toString() + ".git").setHeads(true).callAsMap()
+					.keySet().stream().map(this::nameOfBranch).collect(Collectors.toCollection(TreeSet::new));
+		}
+		catch (GitAPIException e) {
+			throw new IllegalStateException("Exception occurred while listing the remote refs of " + projectUri, e);
+		}
+	}
+
 	private String nameOfBranch(String branch) {
 		// TODO careful: this doesn't take into account branches that follow a pattern
 		// like `experiments/foo`
@@ -393,6 +452,72 @@ class GitRepo {
 		}
 	}
 
+	/**
+	 * Pushes the commits of current branch. If the push is rejected because the remote
+	 * branch has moved in the meantime, the local commits are rebased on top of it and
+	 * the push is retried. Other rejections are logged, like they are for
+	 * {@link #pushCurrentBranch()}.
+	 * @param retries - how many times to rebase and retry a rejected push
+	 */
+	void pushCurrentBranchRebasingIfRejected(int retries) {
+		try (Git git = this.gitFactory.open(file(this.basedir))) {
+			for (int attempt = 0;; attempt++) {
+				List<RemoteRefUpdate> rejected = rejected(this.gitFactory.push(git).call());
+				if (rejected.isEmpty()) {
+					return;
+				}
+				if (!rejected.stream().allMatch(this::remoteBranchMoved)) {
+					log.warn("Push of [{}] was rejected {}", this.basedir, describe(rejected));
+					return;
+				}
+				if (attempt >= retries) {
+					throw new IllegalStateException("Push of [" + this.basedir + "] was still rejected after ["
+							+ retries + "] rebases " + describe(rejected));
+				}
+				log.info("Push of [{}] was rejected since the remote branch has moved, will rebase and retry",
+						this.basedir);
+				PullResult pull = this.gitFactory.pull(git).setRebase(true).call();
+				if (!pull.isSuccessful()) {
+					git.rebase().setOperation(RebaseCommand.Operation.ABORT).call();
+					throw new IllegalStateException("Failed to rebase [" + this.basedir
+							+ "] on top of the remote branch, the rebase result was ["
+							+ (pull.getRebaseResult() != null ? pull.getRebaseResult().getStatus() : null) + "]");
+				}
+			}
+		}
+		catch (IllegalStateException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private List<RemoteRefUpdate> rejected(Iterable<PushResult> results) {
+		List<RemoteRefUpdate> rejected = new ArrayList<>();
+		for (PushResult result : results) {
+			for (RemoteRefUpdate update : result.getRemoteUpdates()) {
+				if (update.getStatus() != RemoteRefUpdate.Status.OK
+						&& update.getStatus() != RemoteRefUpdate.Status.UP_TO_DATE) {
+					rejected.add(update);
+				}
+			}
+		}
+		return rejected;
+	}
+
+	private boolean remoteBranchMoved(RemoteRefUpdate update) {
+		return update.getStatus() == RemoteRefUpdate.Status.REJECTED_NONFASTFORWARD
+				|| update.getStatus() == RemoteRefUpdate.Status.REJECTED_REMOTE_CHANGED;
+	}
+
+	private String describe(List<RemoteRefUpdate> rejected) {
+		return rejected.stream()
+				.map(update -> update.getRemoteName() + " " + update.getStatus()
+						+ (update.getMessage() != null ? " (" + update.getMessage() + ")" : ""))
+				.collect(Collectors.toList()).toString();
+	}
+
 	/**
 	 * Pushes the commits to {@code origin} remote tag.
 	 * @param tagName - remote tag to which the code should be pushed
@@ -473,6 +598,22 @@ class GitRepo {
 		}
 	}
 
+	/**
+	 * @param branch - name of the local branch
+	 * @return commit the remote branch of the given branch was at when last fetched,
+	 * {@code null} if there's no such remote branch
+	 */
+	String remoteBranchCommit(String branch) {
+		try (Git git = this.gitFactory.open(file(this.basedir))) {
+			ObjectId commit = git.getRepository()
+					.resolve(Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME + "/" + branch);
+			return commit != null ? commit.getName() : null;
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	private File file(File project) throws FileNotFoundException {
 		return ResourceUtils.getFile(project.toURI()).getAbsoluteFile();
 	}
@@ -573,6 +714,10 @@ class GitRepo {
 	}
 
 	private void deleteBaseDirIfExists() {
+		if (!this.deleteBaseDirOnFailure) {
+			log.warn("Will not delete [{}], it has changes that haven't been pushed yet", this.basedir);
+			return;
+		}
 		if (this.basedir.exists()) {
 			try {
 				FileUtils.delete(this.basedir, FileUtils.RECURSIVE);
@@ -657,10 +802,19 @@ class GitRepo {
 					.setTransportConfigCallback(this.callback);
 		}
 
+		LsRemoteCommand lsRemote() {
+			return Git.lsRemoteRepository().setCredentialsProvider(this.provider)
+					.setTransportConfigCallback(this.callback);
+		}
+
 		PushCommand push(Git git) {
 			return git.push().setCredentialsProvider(this.provider).setTransportConfigCallback(this.callback);
 		}
 
+		PullCommand pull(Git git) {
+			return git.pull().setCredentialsProvider(this.provider).setTransportConfigCallback(this.callback);
+		}
+
 		Git open(File file) {
 			try {
 				return Git.open(file);
@@ -18,11 +18,19 @@ package releaser.internal.git;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -33,8 +41,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
+import releaser.internal.tech.ExecutionResult;
+import releaser.internal.tech.ReleaserCache;
 import releaser.internal.tech.TemporaryFileStorage;
 
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -44,7 +56,17 @@ import org.springframework.util.StringUtils;
  */
 public class ProjectGitHandler implements Closeable {
 
-	private static final Map<URIish, File> CACHE = new ConcurrentHashMap<>();
+	private static final ReleaserCache<URIish, File> CACHE = new ReleaserCache<>("git.cloned-projects", 1024,
+			Duration.ofDays(7));
+
+	private static final ReleaserCache<String, File> SPRING_DOCS_ACTIONS = new ReleaserCache<>(
+			"git.spring-docs-actions", 16, Duration.ofDays(7));
+
+	private static final String CHECKED_OUT_MARKER = ".releaser-checked-out";
+
+	// not a ReleaserCache on purpose - evicting an entry would lose commits that haven't
+	// been pushed yet, the set is emptied by pushPendingChanges() and close()
+	private static final Set<File> PENDING_PUSHES = Collections.synchronizedSet(new LinkedHashSet<>());
 
 	private static final Logger log = LoggerFactory.getLogger(ProjectGitHandler.class);
 
@@ -146,14 +168,56 @@ public class ProjectGitHandler implements Closeable {
 		checkout(project, "docs-build");
 	}
 
+	/**
+	 * Clones and checks out the Spring Docs Actions repo once per run. If the repo is
+	 * checked out at a tag and
+	 * {@code releaser.antora.spring-docs-actions-cache-directory} is set, the checkout is
+	 * reused by the next runs too.
+	 * @return location of the checked out repo
+	 */
 	public File cloneAndCheckoutSpringDocsActions() {
-		File project = cloneProject(this.properties.getAntora().getSpringDocsActionsUrl());
+		String url = this.properties.getAntora().getSpringDocsActionsUrl();
 		String tag = this.properties.getAntora().getSpringDocsActionsTag();
-		if (StringUtils.hasText(tag)) {
+		return SPRING_DOCS_ACTIONS.computeIfAbsent(url + "@" + (tag != null ? tag : ""),
+				key -> checkoutSpringDocsActions(url, tag));
+	}
+
+	private File checkoutSpringDocsActions(String url, String tag) {
+		String cacheDirectory = this.properties.getAntora().getSpringDocsActionsCacheDirectory();
+		if (!StringUtils.hasText(tag) || !StringUtils.hasText(cacheDirectory)) {
+			File project = cloneProject(url);
+			if (StringUtils.hasText(tag)) {
+				log.info("Checking out tag [{}] for project [{}]", tag, project.getAbsolutePath());
+				checkoutTag(project, tag);
+			}
+			return project;
+		}
+		// a tag doesn't move, so its checkout can be shared by all the runs
+		try {
+			URIish urIish = new URIish(url);
+			File checkoutDir = new File(cacheDirectory, urIish.getHumanishName() + "-" + cacheKey(url, tag));
+			File marker = new File(checkoutDir, CHECKED_OUT_MARKER);
+			File project = new File(checkoutDir, urIish.getHumanishName());
+			if (marker.exists() && project.isDirectory()) {
+				log.info("Reusing project [{}] checked out at tag [{}]", project.getAbsolutePath(), tag);
+				return project;
+			}
+			// a previous checkout might have been interrupted
+			FileSystemUtils.deleteRecursively(checkoutDir);
+			Files.createDirectories(checkoutDir.toPath());
+			project = gitRepo(checkoutDir).cloneProject(urIish);
 			log.info("Checking out tag [{}] for project [{}]", tag, project.getAbsolutePath());
-			checkoutTag(project, this.properties.getAntora().getSpringDocsActionsTag());
+			checkoutTag(project, tag);
+			Files.writeString(marker.toPath(), url + "@" + tag);
+			return project;
 		}
-		return project;
+		catch (URISyntaxException | IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String cacheKey(String url, String tag) {
+		return DigestUtils.md5DigestAsHex((url + "@" + tag).getBytes(StandardCharsets.UTF_8)).substring(0, 12);
 	}
 
 	private File cloneAndCheckOut(String springProjectUrl, String springProjectUrlBranch) {
@@ -177,22 +241,75 @@ public class ProjectGitHandler implements Closeable {
 		if (log.isDebugEnabled()) {
 			log.debug("Successfully cloned the project to [{}]", clonedProject);
 		}
+		return checkOutBranch(clonedProject, branchOfProjectFromOrg(projectName, gitRepo(clonedProject)::hasBranch));
+	}
+
+	/**
+	 * For meta-release. Reuses the clone of a project made by an earlier run instead of
+	 * cloning the project again. The clone is reused only if, after fetching the latest
+	 * changes, its remote branch still points at the given commit. The changes made by
+	 * the earlier run are then reset.
+	 * @param projectName - name of the project
+	 * @param clonedProject - clone of the project made by an earlier run
+	 * @param commit - commit the remote branch has to point at
+	 * @return {@code true} if {@link #cloneProjectFromOrg(String)} will return the clone
+	 */
+	public boolean reuseClonedProjectFromOrg(String projectName, File clonedProject, String commit) {
+		try {
+			URIish urIish = new URIish(createRepoUrlFromProject(projectName));
+			File cached = CACHE.get(urIish);
+			if (cached != null && !cached.equals(clonedProject)) {
+				return false;
+			}
+			GitRepo gitRepo = gitRepo(clonedProject);
+			gitRepo.fetch();
+			if (!commit.equals(gitRepo.remoteBranchCommit(gitRepo.currentBranch()))) {
+				return false;
+			}
+			gitRepo.reset();
+			CACHE.put(urIish, clonedProject);
+			return true;
+		}
+		catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Picks the branch that {@link #cloneProjectFromOrg(String)} checks out, without
+	 * cloning the project. The branches are taken from the clone made in this run, if
+	 * there is one, or from the refs the remote repository advertises.
+	 * @param projectName - name of the project
+	 * @return branch to check out or {@code null} if the default branch stays checked out
+	 */
+	public String branchOfProjectFromOrg(String projectName) {
+		try {
+			URIish urIish = new URIish(createRepoUrlFromProject(projectName));
+			File clonedProject = CACHE.get(urIish);
+			if (clonedProject != null && clonedProject.exists()) {
+				return branchOfProjectFromOrg(projectName, gitRepo(clonedProject)::hasBranch);
+			}
+			Set<String> branches = gitRepo(new File(".")).remoteBranches(urIish);
+			return branchOfProjectFromOrg(projectName, branches::contains);
+		}
+		catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String branchOfProjectFromOrg(String projectName, Predicate<String> hasBranch) {
 		String releaseTrainBranch = this.properties.getGit().getReleaseTrainBranch();
 		if (!StringUtils.isEmpty(releaseTrainBranch)) {
 			if (log.isDebugEnabled()) {
 				log.debug("Checking out configured release train branch {}", releaseTrainBranch);
 			}
-			if (gitRepo(clonedProject).hasBranch(releaseTrainBranch)) {
-				log.info("Branch [{}] exists. Will check it out", releaseTrainBranch);
-				checkout(clonedProject, releaseTrainBranch);
-			}
-			return clonedProject;
+			return hasBranch.test(releaseTrainBranch) ? releaseTrainBranch : null;
 		}
 		String version = this.properties.getFixedVersions().get(projectName);
 		if (StringUtils.isEmpty(version)) {
 			throw new IllegalStateException("You haven't provided a version for project [" + projectName + "]");
 		}
-		return findAndCheckOutBranchForVersion(clonedProject, new String[] { version });
+		return branchForVersions(hasBranch, new String[] { version });
 	}
 
 	/**
@@ -227,16 +344,25 @@ public class ProjectGitHandler implements Closeable {
 		if (log.isDebugEnabled()) {
 			log.debug("Checking versions {} for project [{}]", versions, clonedProject);
 		}
-		String branchToCheckout = Arrays.stream(versions).map(this::branchFromVersion)
-				.map(version -> gitRepo(clonedProject).hasBranch(version) ? version : "").filter(StringUtils::hasText)
-				.findFirst().orElse("main");
-		if ("main".equals(branchToCheckout)) {
+		return checkOutBranch(clonedProject, branchForVersions(gitRepo(clonedProject)::hasBranch, versions));
+	}
+
+	private String branchForVersions(Predicate<String> hasBranch, String[] versions) {
+		String branch = Arrays.stream(versions).map(this::branchFromVersion).filter(StringUtils::hasText)
+				.filter(hasBranch).findFirst().orElse(null);
+		if (branch == null) {
 			log.info("None of the versions {} matches a branch. Assuming that should work with main branch",
 					(Object) versions);
+		}
+		return branch;
+	}
+
+	private File checkOutBranch(File clonedProject, String branch) {
+		if (branch == null) {
 			return clonedProject;
 		}
-		log.info("Branch [{}] exists. Will check it out", branchToCheckout);
-		checkout(clonedProject, branchToCheckout);
+		log.info("Branch [{}] exists. Will check it out", branch);
+		checkout(clonedProject, branch);
 		return clonedProject;
 	}
 
@@ -266,6 +392,28 @@ public class ProjectGitHandler implements Closeable {
 		return orgUrl.startsWith("http") || orgUrl.startsWith("git") ? "" : "/";
 	}
 
+	/**
+	 * Checks if the repository has the tag without cloning it. The already cloned copy is
+	 * checked first, then the remote is asked for its tags.
+	 * @param url url of the repository
+	 * @param tagName name of the tag
+	 * @return {@code true} if the tag is present
+	 */
+	public boolean hasTag(String url, String tagName) {
+		try {
+			URIish urIish = new URIish(url);
+			File clonedProject = CACHE.get(urIish);
+			if (clonedProject != null && clonedProject.exists()
+					&& gitRepo(clonedProject).findTagIdByName(tagName, false).isPresent()) {
+				return true;
+			}
+			return gitRepo(new File(".")).hasRemoteTag(urIish, tagName);
+		}
+		catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	File cloneProject(String url) {
 		try {
 			URIish urIish = new URIish(url);
@@ -281,6 +429,10 @@ public class ProjectGitHandler implements Closeable {
 					gitRepo(clonedProject).fetch();
 				}
 				catch (Exception ex) {
+					if (hasPendingPushes(clonedProject)) {
+						throw new IllegalStateException("Couldn't reset / fetch the repository [" + clonedProject
+								+ "] with changes that haven't been pushed yet", ex);
+					}
 					log.warn("Couldn't reset / fetch the repository, will continue", ex);
 				}
 				return clonedProject;
@@ -355,17 +507,80 @@ public class ProjectGitHandler implements Closeable {
 		gitRepo(project).pushCurrentBranch();
 	}
 
+	/**
+	 * Pushes the current branch of a repository shared by the projects of a release
+	 * train, e.g. the documentation repository or the release train wiki. With
+	 * {@code releaser.git.batch-pushes} set, the push is deferred to
+	 * {@link #pushPendingChanges()} so that all the commits made to the repository during
+	 * the run go out in a single push.
+	 * @param project - cloned shared repository with committed changes
+	 */
+	public void pushCurrentBranchOfSharedRepo(File project) {
+		if (this.properties.getGit().isBatchPushes()) {
+			if (PENDING_PUSHES.add(project.getAbsoluteFile())) {
+				log.info("Changes to [{}] will be pushed at the end of the run", project);
+			}
+			return;
+		}
+		gitRepo(project).pushCurrentBranchRebasingIfRejected(this.properties.getGit().getPushRebaseRetries());
+	}
+
+	/**
+	 * Pushes the shared repositories whose pushes were deferred. A repository whose push
+	 * fails stays pending, so that it doesn't get deleted.
+	 * @return result of the pushes
+	 */
+	public ExecutionResult pushPendingChanges() {
+		List<File> projects;
+		synchronized (PENDING_PUSHES) {
+			projects = new ArrayList<>(PENDING_PUSHES);
+		}
+		List<Exception> exceptions = new ArrayList<>();
+		for (File project : projects) {
+			try {
+				log.info("Pushing the changes of the run to [{}]", project);
+				gitRepo(project).pushCurrentBranchRebasingIfRejected(this.properties.getGit().getPushRebaseRetries());
+				PENDING_PUSHES.remove(project);
+			}
+			catch (Exception ex) {
+				log.error("Failed to push the changes to [" + project + "]", ex);
+				exceptions.add(ex);
+			}
+		}
+		return exceptions.isEmpty() ? ExecutionResult.success() : ExecutionResult.failure(exceptions);
+	}
+
 	public String currentBranch(File project) {
 		return gitRepo(project).currentBranch();
 	}
 
+	/**
+	 * @param project - cloned project
+	 * @return commit the remote branch of the current branch was at when last fetched,
+	 * {@code null} if it can't be resolved
+	 */
+	public String remoteBranchCommit(File project) {
+		GitRepo gitRepo = gitRepo(project);
+		return gitRepo.remoteBranchCommit(gitRepo.currentBranch());
+	}
+
 	GitRepo gitRepo(File workingDir) {
-		return new GitRepo(workingDir, this.properties);
+		return new GitRepo(workingDir, this.properties, !hasPendingPushes(workingDir));
+	}
+
+	private boolean hasPendingPushes(File project) {
+		return PENDING_PUSHES.contains(project.getAbsoluteFile());
 	}
 
 	@Override
 	public void close() {
+		if (!PENDING_PUSHES.isEmpty()) {
+			log.error("The changes to {} have never been pushed, they're left in the cloned repositories",
+					PENDING_PUSHES);
+		}
 		CACHE.clear();
+		SPRING_DOCS_ACTIONS.clear();
+		PENDING_PUSHES.clear();
 	}
 
 	/**
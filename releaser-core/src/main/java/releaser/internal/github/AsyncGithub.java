@@ -0,0 +1,206 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.HttpException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.ReleaserExecutor;
+
+/**
+ * Asynchronous facade over {@link GitHub}. Calls are executed on a bounded pool of
+ * threads, concurrent calls for the same resource share a single request, failing calls
+ * are retried with an exponential backoff and new calls are held back when the
+ * {@code X-RateLimit-*} headers of the last response say that we're running out of
+ * requests.
+ *
+ * @author Marcin Grzejszczak
+ */
+class AsyncGithub {
+
+	private static final Logger log = LoggerFactory.getLogger(AsyncGithub.class);
+
+	// not a ReleaserCache on purpose - it only holds the calls that are still running and
+	// each call removes itself once done, so it can't grow past the queued calls
+	private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+	private final GitHub github;
+
+	private final ThreadPoolExecutor executor;
+
+	private final int maxAttempts;
+
+	private final long backoffMillis;
+
+	private final int rateLimitThreshold;
+
+	AsyncGithub(GitHub github, ReleaserProperties properties) {
+		this(github, properties.getGit().getGithubConcurrency(), properties.getGit().getGithubMaxAttempts(),
+				properties.getGit().getGithubBackoffMillis(), properties.getGit().getGithubRateLimitThreshold());
+	}
+
+	AsyncGithub(GitHub github, int concurrency, int maxAttempts, long backoffMillis, int rateLimitThreshold) {
+		this.github = github;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffMillis = backoffMillis;
+		this.rateLimitThreshold = rateLimitThreshold;
+		this.executor = new ThreadPoolExecutor(concurrency, concurrency, 30L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), ReleaserExecutor.daemonThreads("releaser-github-"));
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	GitHub github() {
+		return this.github;
+	}
+
+	CompletableFuture<GHRepository> repository(String fullName) {
+		return call("repository/" + fullName, () -> this.github.getRepository(fullName));
+	}
+
+	/**
+	 * Schedules the call on the GitHub pool. If a call with the same key is already in
+	 * progress, its result will be shared instead of issuing a new request. A failed call
+	 * is retried as a whole, so a call that writes has to check first whether an earlier
+	 * attempt has already written, e.g. look up the release it creates.
+	 * @param key identifier of the requested resource
+	 * @param call call to GitHub
+	 * @param <T> type of the result
+	 * @return future with the result of the call
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> call(String key, GithubCall<T> call) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		CompletableFuture<T> inFlight = (CompletableFuture<T>) this.inFlight.putIfAbsent(key, future);
+		if (inFlight != null) {
+			log.debug("Call for [{}] is already in progress, will reuse its result", key);
+			return inFlight;
+		}
+		this.executor.execute(() -> {
+			try {
+				future.complete(callWithRetries(key, call));
+			}
+			catch (Throwable ex) {
+				future.completeExceptionally(ex);
+			}
+			finally {
+				this.inFlight.remove(key, future);
+			}
+		});
+		return future;
+	}
+
+	private <T> T callWithRetries(String key, GithubCall<T> call) throws IOException, InterruptedException {
+		int attempt = 1;
+		while (true) {
+			waitForRateLimitReset();
+			try {
+				return call.call();
+			}
+			catch (IOException ex) {
+				if (attempt >= this.maxAttempts || !isRetryable(ex)) {
+					throw ex;
+				}
+				long backoff = this.backoffMillis * (1L << (attempt - 1));
+				log.warn("Call to GitHub for [{}] failed with [{}]. Will retry in [{}] ms (attempt {}/{})", key,
+						ex.getMessage(), backoff, attempt, this.maxAttempts);
+				Thread.sleep(backoff);
+				attempt++;
+			}
+		}
+	}
+
+	private void waitForRateLimitReset() throws InterruptedException {
+		GHRateLimit rateLimit = this.github.lastRateLimit();
+		if (rateLimit == null) {
+			return;
+		}
+		long delay = rateLimitDelayMillis(rateLimit.getCore(), System.currentTimeMillis());
+		if (delay > 0) {
+			log.warn("Only [{}] GitHub requests remaining, will wait [{}] ms until the rate limit gets reset",
+					rateLimit.getCore().getRemaining(), delay);
+			Thread.sleep(delay);
+		}
+	}
+
+	long rateLimitDelayMillis(GHRateLimit.Record record, long now) {
+		if (record.getRemaining() > this.rateLimitThreshold) {
+			return 0L;
+		}
+		return Math.max(0L, record.getResetEpochSeconds() * 1000L - now);
+	}
+
+	boolean isRetryable(IOException ex) {
+		if (ex instanceof FileNotFoundException) {
+			return false;
+		}
+		if (ex instanceof HttpException) {
+			int code = ((HttpException) ex).getResponseCode();
+			return code <= 0 || code == 429 || code >= 500;
+		}
+		return true;
+	}
+
+	/**
+	 * Waits for the result of the call, rethrowing any failure as an unchecked exception.
+	 * @param future future to wait for
+	 * @param <T> type of the result
+	 * @return result of the call
+	 */
+	static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof IOException) {
+				throw new UncheckedIOException((IOException) cause);
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * A single blocking call to GitHub.
+	 *
+	 * @param <T> type of the result
+	 */
+	@FunctionalInterface
+	interface GithubCall<T> {
+
+		T call() throws IOException;
+
+	}
+
+}
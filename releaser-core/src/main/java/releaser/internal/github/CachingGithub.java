@@ -18,12 +18,17 @@ package releaser.internal.github;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import okhttp3.Cache;
 import okhttp3.OkHttpClient;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
 import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
+import releaser.internal.ReleaserProperties;
 
 final class CachingGithub {
 
@@ -31,13 +36,24 @@ final class CachingGithub {
 		throw new IllegalStateException("Can't instantiate this");
 	}
 
-	static GitHub INSTANCE;
+	// not a ReleaserCache on purpose - holds a single client per token and settings for
+	// the whole run, so that all the callers share its connections and its rate limit
+	private static final Map<List<Object>, GitHub> INSTANCES = new ConcurrentHashMap<>();
+
+	// not a ReleaserCache on purpose - see above
+	private static final Map<List<Object>, AsyncGithub> ASYNC_INSTANCES = new ConcurrentHashMap<>();
 
 	static GitHub getInstance(String oauthToken, String cacheDirectory) {
-		if (INSTANCE == null) {
-			INSTANCE = github(oauthToken, cacheDirectory);
-		}
-		return INSTANCE;
+		return INSTANCES.computeIfAbsent(Arrays.asList(oauthToken, cacheDirectory),
+				key -> github(oauthToken, cacheDirectory));
+	}
+
+	static AsyncGithub getAsyncInstance(ReleaserProperties properties) {
+		ReleaserProperties.Git git = properties.getGit();
+		List<Object> key = Arrays.asList(git.getOauthToken(), git.getCacheDirectory(), git.getGithubConcurrency(),
+				git.getGithubMaxAttempts(), git.getGithubBackoffMillis(), git.getGithubRateLimitThreshold());
+		return ASYNC_INSTANCES.computeIfAbsent(key,
+				k -> new AsyncGithub(getInstance(git.getOauthToken(), git.getCacheDirectory()), properties));
 	}
 
 	private static GitHub github(String oauthToken, String cacheDirectory) {
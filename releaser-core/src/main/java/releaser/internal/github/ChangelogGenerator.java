@@ -0,0 +1,484 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.tech.ReleaserCache;
+import releaser.internal.tech.ReleaserProcessExecutor;
+
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Generates release notes with the GitHub Changelog Generator.
+ *
+ * The generator's jar is downloaded once into the cache directory and its SHA-256
+ * checksum is verified against {@code releaser.git.github-changelog-generator-sha256}
+ * (or, if that's not set, against the checksum stored next to the jar when it was
+ * downloaded). By default the generator is run in the releaser's JVM, one project at a
+ * time, in an isolated class loader. The class loader and the generator's entry point are
+ * resolved once per jar and kept for the life of the process, so that the generator's
+ * classes are loaded only once; they're closed on shutdown. The application contexts the
+ * generator starts are closed after every run. The classes and libraries of a Spring Boot
+ * fat jar are extracted once, next to the jar. If
+ * {@code releaser.git.github-changelog-generator-in-process} is set to {@code false}, or
+ * the in-process run fails, the generator is run via {@code java -jar} instead.
+ *
+ * @author Marcin Grzejszczak
+ */
+class ChangelogGenerator {
+
+	private static final Logger log = LoggerFactory.getLogger(ChangelogGenerator.class);
+
+	private static final Object LOCK = new Object();
+
+	private static final ReleaserCache<String, Path> JARS = new ReleaserCache<>("github.changelog-generator-jars", 16,
+			Duration.ofDays(1));
+
+	private static final String SPRING_APPLICATION = "org.springframework.boot.SpringApplication";
+
+	private static final String BOOT_INF = "BOOT-INF/";
+
+	// not a ReleaserCache on purpose - the class loaders have to stay open for the life
+	// of the process and get closed on shutdown, there's one per downloaded jar
+	private static final Map<Path, Generator> GENERATORS = new HashMap<>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(ChangelogGenerator::closeGenerators));
+	}
+
+	private final ReleaserProperties properties;
+
+	ChangelogGenerator(ReleaserProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Downloads the generator unless a verified copy is already present in the cache
+	 * directory.
+	 * @return path to the generator's jar
+	 */
+	Path download() {
+		String url = this.properties.getGit().getGithubChangelogGeneratorUrl();
+		synchronized (LOCK) {
+			Path jar = JARS.get(url);
+			if (jar != null) {
+				return jar;
+			}
+			try {
+				Path directory = Files.createDirectories(
+						Paths.get(this.properties.getGit().getCacheDirectory(), "github-changelog-generator"));
+				Path path = directory.resolve(sha256(url.getBytes(StandardCharsets.UTF_8)) + ".jar");
+				Path checksumFile = directory.resolve(path.getFileName() + ".sha256");
+				if (Files.exists(path) && Files.exists(checksumFile)
+						&& expectedChecksum(checksumFile).equalsIgnoreCase(sha256(path))) {
+					log.info("Will reuse the github changelog generator downloaded to {}", path);
+				}
+				else {
+					log.info("Will download the github changelog generator from {} to {}", url, path);
+					Path downloaded = Files.createTempFile(directory, "github-changelog-generator", ".jar");
+					try (InputStream stream = new URL(url).openStream()) {
+						Files.copy(stream, downloaded, StandardCopyOption.REPLACE_EXISTING);
+					}
+					String checksum = sha256(downloaded);
+					String expected = this.properties.getGit().getGithubChangelogGeneratorSha256();
+					if (StringUtils.hasText(expected) && !expected.equalsIgnoreCase(checksum)) {
+						Files.deleteIfExists(downloaded);
+						throw new IllegalStateException("The SHA-256 checksum [" + checksum
+								+ "] of the github changelog generator downloaded from [" + url
+								+ "] doesn't match the expected one [" + expected + "]");
+					}
+					Files.move(downloaded, path, StandardCopyOption.REPLACE_EXISTING);
+					Files.writeString(checksumFile, checksum);
+					log.info("File downloaded");
+				}
+				JARS.put(url, path);
+				return path;
+			}
+			catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * @param version version of the project to generate the changelog for
+	 * @return generated changelog
+	 * @throws IOException when the generated changelog can't be read
+	 */
+	String generate(ProjectVersion version) throws IOException {
+		Path path = download();
+		Path output = path.getParent().resolve(version.projectName + ".md").toAbsolutePath();
+		if (this.properties.getGit().isGithubChangelogGeneratorInProcess()) {
+			try {
+				generateInProcess(path, version, output);
+				return Files.readString(output);
+			}
+			catch (Exception e) {
+				log.warn("Failed to run the github changelog generator in process, will run it in a separate process",
+						e);
+			}
+		}
+		generateInSeparateProcess(path, version, output);
+		return Files.readString(output);
+	}
+
+	private void generateInProcess(Path path, ProjectVersion version, Path output) throws Exception {
+		List<String> args = Arrays.asList("--changelog.repository=" + repository(version),
+				"--github.username=" + this.properties.getGit().getUsername(),
+				"--github.password=" + this.properties.getGit().getOauthToken(),
+				// the context is closed once the generator is done
+				"--spring.main.register-shutdown-hook=false", "--spring.main.banner-mode=off", version.version,
+				output.toString());
+		synchronized (LOCK) {
+			Generator generator = generator(path);
+			Thread thread = Thread.currentThread();
+			ClassLoader previous = thread.getContextClassLoader();
+			try {
+				thread.setContextClassLoader(generator.classLoader);
+				log.info("Running the github changelog generator in process for [{}]", repository(version));
+				run(generator, args.toArray(new String[0]));
+			}
+			finally {
+				thread.setContextClassLoader(previous);
+			}
+		}
+	}
+
+	/**
+	 * @param path path to the generator's jar
+	 * @return the generator loaded from the jar, loading it on first use
+	 */
+	Generator generator(Path path) throws Exception {
+		synchronized (LOCK) {
+			Generator generator = GENERATORS.get(path);
+			if (generator == null) {
+				generator = load(path);
+				GENERATORS.put(path, generator);
+			}
+			return generator;
+		}
+	}
+
+	private Generator load(Path path) throws Exception {
+		Application application = application(path);
+		// isolated from the releaser's classpath
+		URLClassLoader classLoader = new URLClassLoader(application.classpath, ClassLoader.getPlatformClassLoader());
+		try {
+			Method main = Class.forName(application.mainClass, true, classLoader).getMethod("main", String[].class);
+			Class<?> springApplication = loadClass(classLoader, SPRING_APPLICATION);
+			if (springApplication == null) {
+				return new Generator(classLoader, main, null, null, null);
+			}
+			Class<?> hookType = loadClass(classLoader, SPRING_APPLICATION + "Hook");
+			if (hookType == null) {
+				throw new IllegalStateException(
+						"The github changelog generator is built with a Spring Boot version that doesn't support application hooks");
+			}
+			return new Generator(classLoader, main, springApplication.getMethod("withHook", hookType, Runnable.class),
+					hookType, classLoader.loadClass(SPRING_APPLICATION + "RunListener"));
+		}
+		catch (Exception | LinkageError ex) {
+			classLoader.close();
+			throw ex;
+		}
+	}
+
+	private static void closeGenerators() {
+		synchronized (LOCK) {
+			for (Generator generator : GENERATORS.values()) {
+				try {
+					generator.classLoader.close();
+				}
+				catch (IOException ex) {
+					log.warn("Failed to close the class loader of the github changelog generator", ex);
+				}
+			}
+			GENERATORS.clear();
+		}
+	}
+
+	/**
+	 * Runs the main method of the generator. If it's a Spring Boot application, every
+	 * application context it starts is captured with a {@code SpringApplicationHook} and
+	 * closed once the main method returns. A Spring Boot application that doesn't support
+	 * hooks is not run, since its context couldn't be closed.
+	 */
+	private void run(Generator generator, String[] args) throws Exception {
+		Method main = generator.main;
+		if (generator.withHook == null) {
+			invoke(main, (Object) args);
+			return;
+		}
+		Set<Closeable> contexts = Collections.newSetFromMap(new IdentityHashMap<>());
+		Object listener = proxy(generator.classLoader, generator.listenerType, (method, methodArgs) -> {
+			for (Object arg : methodArgs) {
+				if (arg instanceof Closeable) {
+					contexts.add((Closeable) arg);
+				}
+			}
+			return null;
+		});
+		Object hook = proxy(generator.classLoader, generator.hookType, (method, methodArgs) -> listener);
+		try {
+			invoke(generator.withHook, hook, (Runnable) () -> {
+				try {
+					invoke(main, (Object) args);
+				}
+				catch (Exception ex) {
+					throw new GeneratorFailedException(ex);
+				}
+			});
+		}
+		catch (GeneratorFailedException ex) {
+			throw (Exception) ex.getCause();
+		}
+		finally {
+			for (Closeable context : contexts) {
+				try {
+					context.close();
+				}
+				catch (IOException | RuntimeException ex) {
+					log.warn("Failed to close the application context of the github changelog generator", ex);
+				}
+			}
+		}
+	}
+
+	private static Object invoke(Method method, Object... args) throws Exception {
+		try {
+			return method.invoke(null, args);
+		}
+		catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof GeneratorFailedException) {
+				throw (GeneratorFailedException) cause;
+			}
+			throw (cause instanceof Exception) ? (Exception) cause : e;
+		}
+	}
+
+	private static Object proxy(ClassLoader classLoader, Class<?> type, BiFunction<Method, Object[], Object> handler) {
+		return Proxy.newProxyInstance(classLoader, new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "releaser-" + type.getSimpleName();
+				default:
+					return handler.apply(method, args != null ? args : new Object[0]);
+			}
+		});
+	}
+
+	private static Class<?> loadClass(ClassLoader classLoader, String name) {
+		try {
+			return Class.forName(name, false, classLoader);
+		}
+		catch (ClassNotFoundException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * A Spring Boot fat jar can't be put on a class path as is. Its classes and libraries
+	 * are extracted next to it once, into a directory named after its checksum.
+	 */
+	private Application application(Path path) throws IOException {
+		String mainClass;
+		String startClass;
+		try (JarFile jarFile = new JarFile(path.toFile())) {
+			mainClass = jarFile.getManifest().getMainAttributes().getValue("Main-Class");
+			startClass = jarFile.getManifest().getMainAttributes().getValue("Start-Class");
+		}
+		if (startClass == null) {
+			return new Application(new URL[] { path.toUri().toURL() }, mainClass);
+		}
+		Path exploded = explode(path);
+		List<URL> classpath = new ArrayList<>();
+		classpath.add(exploded.resolve(BOOT_INF + "classes/").toUri().toURL());
+		Path lib = exploded.resolve(BOOT_INF + "lib");
+		if (Files.isDirectory(lib)) {
+			try (Stream<Path> libs = Files.list(lib)) {
+				for (Path jar : libs.sorted().collect(Collectors.toList())) {
+					classpath.add(jar.toUri().toURL());
+				}
+			}
+		}
+		return new Application(classpath.toArray(new URL[0]), startClass);
+	}
+
+	private Path explode(Path path) throws IOException {
+		Path exploded = path.resolveSibling(sha256(path));
+		Path marker = exploded.resolve(".exploded");
+		if (Files.exists(marker)) {
+			return exploded;
+		}
+		FileSystemUtils.deleteRecursively(exploded);
+		log.info("Extracting the github changelog generator to {}", exploded);
+		try (JarFile jarFile = new JarFile(path.toFile())) {
+			for (JarEntry entry : Collections.list(jarFile.entries())) {
+				if (!entry.getName().startsWith(BOOT_INF)) {
+					continue;
+				}
+				Path target = exploded.resolve(entry.getName()).normalize();
+				if (!target.startsWith(exploded)) {
+					throw new IllegalStateException("Entry [" + entry.getName() + "] is outside of the jar");
+				}
+				if (entry.isDirectory()) {
+					Files.createDirectories(target);
+					continue;
+				}
+				Files.createDirectories(target.getParent());
+				try (InputStream stream = jarFile.getInputStream(entry)) {
+					Files.copy(stream, target, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+		Files.createFile(marker);
+		return exploded;
+	}
+
+	private void generateInSeparateProcess(Path path, ProjectVersion version, Path output) {
+		ReleaserProcessExecutor processExecutor = new ReleaserProcessExecutor(
+				path.getParent().toAbsolutePath().toString()).withCommandOutput(this.properties.getCommandOutput());
+		// java -jar -Dchangelog.repository=spring-cloud/spring-cloud-sleuth
+		// github-changelog-generator.jar 3.1.8 ./sleuth.md
+		processExecutor.runCommand(new String[] { "java", "-jar", "-Dchangelog.repository=" + repository(version),
+				"-Dgithub.username=" + this.properties.getGit().getUsername(),
+				"-Dgithub.password=" + this.properties.getGit().getOauthToken(), path.getFileName().toString(),
+				version.version, output.toString() }, 2L);
+	}
+
+	private String repository(ProjectVersion version) {
+		return this.properties.getGit().getOrgName() + "/" + version.projectName;
+	}
+
+	private String expectedChecksum(Path checksumFile) throws IOException {
+		String expected = this.properties.getGit().getGithubChangelogGeneratorSha256();
+		return StringUtils.hasText(expected) ? expected : Files.readString(checksumFile).trim();
+	}
+
+	static String sha256(Path path) throws IOException {
+		MessageDigest digest = sha256Digest();
+		try (InputStream stream = new DigestInputStream(Files.newInputStream(path), digest)) {
+			stream.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static String sha256(byte[] bytes) {
+		return HexFormat.of().formatHex(sha256Digest().digest(bytes));
+	}
+
+	private static MessageDigest sha256Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class Application {
+
+		private final URL[] classpath;
+
+		private final String mainClass;
+
+		private Application(URL[] classpath, String mainClass) {
+			this.classpath = classpath;
+			this.mainClass = mainClass;
+		}
+
+	}
+
+	/**
+	 * Class loader of a generator's jar together with its resolved entry point. The
+	 * Spring Boot hook types are {@code null} when the generator isn't a Spring Boot
+	 * application.
+	 */
+	static final class Generator {
+
+		final URLClassLoader classLoader;
+
+		private final Method main;
+
+		private final Method withHook;
+
+		private final Class<?> hookType;
+
+		private final Class<?> listenerType;
+
+		private Generator(URLClassLoader classLoader, Method main, Method withHook, Class<?> hookType,
+				Class<?> listenerType) {
+			this.classLoader = classLoader;
+			this.main = main;
+			this.withHook = withHook;
+			this.hookType = hookType;
+			this.listenerType = listenerType;
+		}
+
+	}
+
+	private static final class GeneratorFailedException extends RuntimeException {
+
+		private GeneratorFailedException(Exception cause) {
+			super(cause);
+		}
+
+	}
+
+}
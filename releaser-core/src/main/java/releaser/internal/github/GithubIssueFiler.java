@@ -17,6 +17,7 @@
 package releaser.internal.github;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -41,16 +42,19 @@ public class GithubIssueFiler {
 
 	private static final Logger log = LoggerFactory.getLogger(GithubIssueFiler.class);
 
-	private final GitHub github;
+	private final AsyncGithub github;
 
 	private final ReleaserProperties properties;
 
 	public GithubIssueFiler(ReleaserProperties properties) {
-		this(CachingGithub.getInstance(properties.getGit().getOauthToken(), properties.getGit().getCacheDirectory()),
-				properties);
+		this(CachingGithub.getAsyncInstance(properties), properties);
 	}
 
 	public GithubIssueFiler(GitHub github, ReleaserProperties properties) {
+		this(new AsyncGithub(github, properties), properties);
+	}
+
+	GithubIssueFiler(AsyncGithub github, ReleaserProperties properties) {
 		this.github = github;
 		this.properties = properties;
 	}
@@ -69,20 +73,28 @@ public class GithubIssueFiler {
 	}
 
 	private void fileAGithubIssue(String user, String repo, String issueTitle, String issueText) {
+		String repositoryName = user + "/" + repo;
 		try {
-			GHRepository ghRepo = github.getRepository(user + "/" + repo);
-			// check if the issue is not already there
-			boolean issueAlreadyFiled = issueAlreadyFiled(ghRepo, issueTitle);
-			if (issueAlreadyFiled) {
-				log.info("Issue already filed, will not do that again");
-				return;
-			}
-			GHIssue ghIssue = ghRepo.createIssue(issueTitle).body(issueText).create();
-			int number = ghIssue.getNumber();
-			log.info("Successfully created an issue with " + "title [{}] for the [{}/{}] GitHub repository" + number,
-					issueTitle, user, repo);
+			// the issue call is chained to the repository lookup, so there's a single
+			// wait
+			// for both of them; concurrent requests to file the same issue will share a
+			// single call
+			AsyncGithub.await(this.github.repository(repositoryName)
+					.thenCompose(ghRepo -> this.github.call("issue/" + repositoryName + "/" + issueTitle, () -> {
+						// check if the issue is not already there
+						boolean issueAlreadyFiled = issueAlreadyFiled(ghRepo, issueTitle);
+						if (issueAlreadyFiled) {
+							log.info("Issue already filed, will not do that again");
+							return false;
+						}
+						GHIssue ghIssue = ghRepo.createIssue(issueTitle).body(issueText).create();
+						int number = ghIssue.getNumber();
+						log.info("Successfully created an issue with " + "title [{}] for the [{}/{}] GitHub repository"
+								+ number, issueTitle, user, repo);
+						return true;
+					})));
 		}
-		catch (IOException e) {
+		catch (UncheckedIOException e) {
 			log.error("Exception occurred while trying to create the issue in guides", e);
 		}
 	}
@@ -16,27 +16,21 @@
 
 package releaser.internal.github;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHMilestone;
+import org.kohsuke.github.GHRelease;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
-import releaser.internal.tech.ReleaserProcessExecutor;
 
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -46,25 +40,29 @@ import org.springframework.util.StringUtils;
  */
 class GithubMilestones {
 
-	static final Map<ProjectVersion, String> MILESTONE_URL_CACHE = new ConcurrentHashMap<>();
-	static final Map<ProjectVersion, GHMilestone> MILESTONE_CACHE = new ConcurrentHashMap<>();
-
-	static final AtomicReference<Path> DOWNLOADED_GITHUB_CHANGELOG = new AtomicReference<>();
-
 	private static final Logger log = LoggerFactory.getLogger(GithubMilestones.class);
 
-	private final GitHub github;
+	private final AsyncGithub github;
 
 	private final ReleaserProperties properties;
 
+	final MilestoneIndex milestoneIndex;
+
+	private final ChangelogGenerator changelogGenerator;
+
 	GithubMilestones(ReleaserProperties properties) {
-		this(CachingGithub.getInstance(properties.getGit().getOauthToken(), properties.getGit().getCacheDirectory()),
-				properties);
+		this(CachingGithub.getAsyncInstance(properties), properties);
 	}
 
 	GithubMilestones(GitHub github, ReleaserProperties properties) {
+		this(new AsyncGithub(github, properties), properties);
+	}
+
+	GithubMilestones(AsyncGithub github, ReleaserProperties properties) {
 		this.github = github;
 		this.properties = properties;
+		this.milestoneIndex = new MilestoneIndex(github, properties);
+		this.changelogGenerator = new ChangelogGenerator(properties);
 	}
 
 	void closeMilestone(ProjectVersion version) {
@@ -73,18 +71,13 @@ class GithubMilestones {
 						+ "either via the command line [--releaser.git.oauth-token=...] "
 						+ "or put it as an env variable in [~/.bashrc] or "
 						+ "[~/.zshrc] e.g. [export RELEASER_GIT_OAUTH_TOKEN=...]");
-		GHMilestone foundMilestone = MILESTONE_CACHE.get(version);
 		String tagVersion = version.version;
-		if (foundMilestone == null) {
-			foundMilestone = matchingMilestone(tagVersion, openMilestones(version));
-			if (foundMilestone != null) {
-				MILESTONE_CACHE.put(version, foundMilestone);
-			}
-		}
+		GHMilestone foundMilestone = findMilestone(version, GHIssueState.OPEN);
 		if (foundMilestone != null) {
 			try {
 				log.info("Found a matching milestone - closing it");
 				foundMilestone.close();
+				this.milestoneIndex.closed(repositoryName(version), foundMilestone);
 				log.info("Closed the [{}] milestone", tagVersion);
 			}
 			catch (IOException e) {
@@ -97,6 +90,8 @@ class GithubMilestones {
 	}
 
 	void createReleaseNotesForMilestone(ProjectVersion version) {
+		// the repository gets looked up while the changelog is being generated
+		CompletableFuture<GHRepository> repository = this.github.repository(repositoryName(version));
 		String contents = null;
 		if (version.isReleaseTrain()) {
 			String listOfReleases = this.properties.getFixedVersions().entrySet().stream()
@@ -110,63 +105,46 @@ class GithubMilestones {
 		}
 		else {
 			try {
-				boolean notPreviouslyDownloaded = DOWNLOADED_GITHUB_CHANGELOG.compareAndSet(null,
-						Files.createTempFile("releaser-changelog-generator", ".jar"));
-				if (notPreviouslyDownloaded) {
-					downloadChangeLog();
-				}
+				downloadChangeLog();
 				contents = readChangelogFromGeneratorOutput(version);
 			}
 			catch (IOException e) {
 				throw new RuntimeException(e);
 			}
 		}
-		createGithubMilestoneReleaseNotes(version, contents);
+		createGithubMilestoneReleaseNotes(version, contents, repository);
 	}
 
 	void downloadChangeLog() {
-		try (ReadableByteChannel readableByteChannel = Channels
-				.newChannel(new URL(this.properties.getGit().getGithubChangelogGeneratorUrl()).openStream())) {
-			downloadFatJarIfNotPresent(readableByteChannel);
-		}
-		catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		this.changelogGenerator.download();
 	}
 
 	String readChangelogFromGeneratorOutput(ProjectVersion version) throws IOException {
-		Path path = DOWNLOADED_GITHUB_CHANGELOG.get();
-		Path workDir = path.getParent();
-		ReleaserProcessExecutor processExecutor = new ReleaserProcessExecutor(workDir.toAbsolutePath().toString());
-		// java -jar -Dchangelog.repository=spring-cloud/spring-cloud-sleuth
-		// github-changelog-generator.jar 3.1.8 ./sleuth.md
-		processExecutor.runCommand(new String[] { "java", "-jar",
-				"-Dchangelog.repository=" + this.properties.getGit().getOrgName() + "/" + version.projectName,
-				"-Dgithub.username=" + this.properties.getGit().getUsername(),
-				"-Dgithub.password=" + this.properties.getGit().getOauthToken(), path.getFileName().toString(),
-				version.version, version.projectName + ".md" }, 2L);
-		return Files.readString(workDir.resolve(version.projectName + ".md"));
+		return this.changelogGenerator.generate(version);
 	}
 
 	void createGithubMilestoneReleaseNotes(ProjectVersion version, String contents) {
-		try {
-			String tag = "v" + version.version;
-			log.info("Creating a new release {} for project {}", tag, version.projectName);
-			getRepository(version).createRelease(tag).name(version.version).body(contents).create();
+		createGithubMilestoneReleaseNotes(version, contents, this.github.repository(repositoryName(version)));
+	}
+
+	private void createGithubMilestoneReleaseNotes(ProjectVersion version, String contents,
+			CompletableFuture<GHRepository> repository) {
+		String tag = "v" + version.version;
+		log.info("Creating a new release {} for project {}", tag, version.projectName);
+		// creating a release is not idempotent and the call may be retried after an
+		// attempt that has created the release but timed out
+		GHRelease release = AsyncGithub.await(repository
+				.thenCompose(repo -> this.github.call("release/" + repositoryName(version) + "/" + tag, () -> {
+					GHRelease existing = repo.getReleaseByTagName(tag);
+					if (existing != null) {
+						log.warn("Release {} already exists, will not create it again", tag);
+						return null;
+					}
+					return repo.createRelease(tag).name(version.version).body(contents).create();
+				})));
+		if (release != null) {
 			log.info("Created a new release");
 		}
-		catch (IOException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
-	private void downloadFatJarIfNotPresent(ReadableByteChannel readableByteChannel) throws IOException {
-		Path path = DOWNLOADED_GITHUB_CHANGELOG.get();
-		log.info("Will download the github changelog generator from {} to {}",
-				this.properties.getGit().getGithubChangelogGeneratorUrl(), path);
-		FileOutputStream fileOutputStream = new FileOutputStream(path.toFile());
-		fileOutputStream.getChannel().transferFrom(readableByteChannel, 0, Long.MAX_VALUE);
-		log.info("File downloaded");
 	}
 
 	GHMilestone matchingMilestone(String tagVersion, Iterable<GHMilestone> milestones) {
@@ -197,14 +175,9 @@ class GithubMilestones {
 	}
 
 	String milestoneUrl(ProjectVersion version) {
-		String cachedUrl = MILESTONE_URL_CACHE.get(version);
-		if (StringUtils.hasText(cachedUrl)) {
-			return cachedUrl;
-		}
 		Assert.hasText(this.properties.getGit().getOauthToken(),
 				"You have to pass Github OAuth token for milestone closing to be operational");
-		String tagVersion = version.version;
-		GHMilestone foundMilestone = matchingMilestone(tagVersion, closedMilestones(version));
+		GHMilestone foundMilestone = findMilestone(version, GHIssueState.CLOSED);
 		String foundUrl = "";
 		if (foundMilestone != null) {
 			try {
@@ -220,10 +193,23 @@ class GithubMilestones {
 				log.error("Exception occurred while trying to find milestone", e);
 			}
 		}
-		MILESTONE_URL_CACHE.put(version, foundUrl);
 		return foundUrl;
 	}
 
+	private GHMilestone findMilestone(ProjectVersion version, GHIssueState state) {
+		String repository = repositoryName(version);
+		String tagVersion = version.version;
+		GHMilestone indexed = this.milestoneIndex.indexed(repository, state, tagVersion);
+		if (indexed == null && StringUtils.hasText(numericVersion(tagVersion))) {
+			indexed = this.milestoneIndex.indexed(repository, state, numericVersion(tagVersion));
+		}
+		if (indexed != null) {
+			log.info("Found an already fetched matching milestone [{}]", indexed.getNumber());
+			return indexed;
+		}
+		return matchingMilestone(tagVersion, this.milestoneIndex.milestones(repository, state));
+	}
+
 	private String numericVersion(String version) {
 		return version.contains("RELEASE") ? version.substring(0, version.lastIndexOf(".")) : "";
 	}
@@ -232,27 +218,8 @@ class GithubMilestones {
 		return milestone.getUrl();
 	}
 
-	private Iterable<GHMilestone> openMilestones(ProjectVersion version) {
-		try {
-			return getRepository(version).listMilestones(GHIssueState.OPEN).toList();
-		}
-		catch (IOException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
-	private GHRepository getRepository(ProjectVersion version) throws IOException {
-		return this.github.getRepository(org() + "/" + version.projectName);
-	}
-
-	private Iterable<GHMilestone> closedMilestones(ProjectVersion version) {
-		try {
-			return this.github.getRepository(org() + "/" + version.projectName).listMilestones(GHIssueState.CLOSED)
-					.toList();
-		}
-		catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+	private String repositoryName(ProjectVersion version) {
+		return org() + "/" + version.projectName;
 	}
 
 	String org() {
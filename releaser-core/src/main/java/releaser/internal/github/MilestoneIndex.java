@@ -0,0 +1,222 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHMilestone;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.PagedIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.ReleaserCache;
+
+/**
+ * Index of milestones, from repository name through milestone title to the milestone.
+ * Milestones are fetched lazily, one page at a time, only for as long as the caller keeps
+ * iterating. The next lookup for the same repository first goes through the already
+ * fetched milestones and then continues paging from where the previous lookup stopped.
+ *
+ * The index keeps at most {@code releaser.git.milestone-index-max-repositories}
+ * repositories (least recently used ones get evicted) and drops entries older than
+ * {@code releaser.git.milestone-index-ttl-in-minutes}. The entries are kept in a
+ * {@link ReleaserCache}, so they're part of its report. Dropped entries are fetched again
+ * through the HTTP cache of the GitHub client, which revalidates them with conditional
+ * ({@code If-None-Match}) requests. Closing a milestone drops the open milestones of its
+ * repository and adds the milestone to the already fetched closed ones.
+ *
+ * @author Marcin Grzejszczak
+ */
+class MilestoneIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(MilestoneIndex.class);
+
+	private final AsyncGithub github;
+
+	private final int pageSize;
+
+	private final ReleaserCache<String, Entry> entries;
+
+	MilestoneIndex(AsyncGithub github, ReleaserProperties properties) {
+		this(github, properties.getGit().getMilestonePageSize(),
+				Duration.ofMinutes(properties.getGit().getMilestoneIndexTtlInMinutes()),
+				properties.getGit().getMilestoneIndexMaxRepositories(), Clock.systemUTC());
+	}
+
+	MilestoneIndex(AsyncGithub github, int pageSize, Duration ttl, int maxRepositories, Clock clock) {
+		this.github = github;
+		this.pageSize = pageSize;
+		this.entries = new ReleaserCache<>("github.milestones", maxRepositories, ttl, clock);
+	}
+
+	/**
+	 * @param repository full name of the repository (e.g.
+	 * {@code spring-cloud/spring-cloud-build})
+	 * @param state state of the milestones
+	 * @return lazily paged milestones of the repository
+	 */
+	Iterable<GHMilestone> milestones(String repository, GHIssueState state) {
+		Entry entry = entry(repository, state);
+		return () -> new LazyIterator(entry);
+	}
+
+	/**
+	 * @param repository full name of the repository
+	 * @param state state of the milestones
+	 * @param title title of the milestone
+	 * @return already fetched milestone with the given title or {@code null} if it hasn't
+	 * been fetched yet
+	 */
+	GHMilestone indexed(String repository, GHIssueState state, String title) {
+		Entry entry = entry(repository, state);
+		synchronized (entry) {
+			return entry.byTitle.get(title);
+		}
+	}
+
+	void index(String repository, GHIssueState state, GHMilestone milestone) {
+		Entry entry = entry(repository, state);
+		synchronized (entry) {
+			entry.add(milestone);
+		}
+	}
+
+	/**
+	 * Updates the index after the milestone got closed, so that it's found among the
+	 * closed milestones even if all of them have already been fetched.
+	 * @param repository full name of the repository
+	 * @param milestone closed milestone
+	 */
+	void closed(String repository, GHMilestone milestone) {
+		this.entries.remove(key(repository, GHIssueState.OPEN));
+		Entry closed = this.entries.get(key(repository, GHIssueState.CLOSED));
+		if (closed != null) {
+			synchronized (closed) {
+				if (!closed.byTitle.containsKey(milestone.getTitle())) {
+					closed.add(milestone);
+				}
+			}
+		}
+	}
+
+	private static String key(String repository, GHIssueState state) {
+		return repository + "/" + state;
+	}
+
+	private Entry entry(String repository, GHIssueState state) {
+		return this.entries.computeIfAbsent(key(repository, state), key -> new Entry(repository, state));
+	}
+
+	private final class Entry {
+
+		private final String repository;
+
+		private final GHIssueState state;
+
+		private final List<GHMilestone> fetched = new ArrayList<>();
+
+		private final Map<String, GHMilestone> byTitle = new LinkedHashMap<>();
+
+		private PagedIterator<GHMilestone> pages;
+
+		private boolean exhausted;
+
+		private int fetchedPages;
+
+		private Entry(String repository, GHIssueState state) {
+			this.repository = repository;
+			this.state = state;
+		}
+
+		private void add(GHMilestone milestone) {
+			this.fetched.add(milestone);
+			this.byTitle.putIfAbsent(milestone.getTitle(), milestone);
+		}
+
+		/**
+		 * Must be called while holding the lock on this entry.
+		 * @return {@code true} if a new page was fetched
+		 */
+		private boolean fetchNextPage() {
+			if (this.exhausted) {
+				return false;
+			}
+			if (this.pages == null) {
+				GHRepository ghRepository = AsyncGithub.await(github.repository(this.repository));
+				this.pages = ghRepository.listMilestones(this.state).withPageSize(pageSize).iterator();
+			}
+			int page = ++this.fetchedPages;
+			List<GHMilestone> milestones = AsyncGithub
+					.await(github.call("milestones/" + this.repository + "/" + this.state + "/page/" + page,
+							() -> this.pages.hasNext() ? this.pages.nextPage() : Collections.emptyList()));
+			log.debug("Fetched page [{}] with [{}] [{}] milestones of [{}]", page, milestones.size(), this.state,
+					this.repository);
+			if (milestones.isEmpty()) {
+				this.exhausted = true;
+				return false;
+			}
+			milestones.forEach(this::add);
+			return true;
+		}
+
+	}
+
+	private static final class LazyIterator implements Iterator<GHMilestone> {
+
+		private final Entry entry;
+
+		private int position;
+
+		private LazyIterator(Entry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public boolean hasNext() {
+			synchronized (this.entry) {
+				while (this.position >= this.entry.fetched.size()) {
+					if (!this.entry.fetchNextPage()) {
+						return false;
+					}
+				}
+				return true;
+			}
+		}
+
+		@Override
+		public GHMilestone next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			synchronized (this.entry) {
+				return this.entry.fetched.get(this.position++);
+			}
+		}
+
+	}
+
+}
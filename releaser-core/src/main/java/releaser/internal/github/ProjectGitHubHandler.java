@@ -17,6 +17,9 @@
 package releaser.internal.github;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,10 +43,24 @@ public class ProjectGitHubHandler {
 
 	private final ReleaserProperties properties;
 
+	private final Executor executor;
+
 	public ProjectGitHubHandler(ReleaserProperties properties, List<CustomGithubIssues> customGithubIssues) {
+		this(properties, customGithubIssues, Runnable::run);
+	}
+
+	/**
+	 * @param properties releaser properties
+	 * @param customGithubIssues project specific issues to file
+	 * @param executor executor on which the independent GitHub operations run next to
+	 * each other
+	 */
+	public ProjectGitHubHandler(ReleaserProperties properties, List<CustomGithubIssues> customGithubIssues,
+			Executor executor) {
 		this.properties = properties;
 		this.githubMilestones = new GithubMilestones(properties);
 		this.githubIssues = new GithubIssues(customGithubIssues);
+		this.executor = executor;
 		registerShutdownHook();
 	}
 
@@ -69,6 +86,30 @@ public class ProjectGitHubHandler {
 		this.githubMilestones.createReleaseNotesForMilestone(releaseVersion);
 	}
 
+	/**
+	 * Closes the milestone and creates its release notes at the same time, since the
+	 * release notes are generated from the milestone regardless of its state.
+	 * @param releaseVersion version of the milestone
+	 */
+	public void closeMilestoneAndCreateReleaseNotes(ProjectVersion releaseVersion) {
+		CompletableFuture<Void> closing = CompletableFuture.runAsync(() -> closeMilestone(releaseVersion),
+				this.executor);
+		try {
+			createReleaseNotesForMilestone(releaseVersion);
+		}
+		finally {
+			try {
+				closing.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+				throw new IllegalStateException(ex.getCause());
+			}
+		}
+	}
+
 	public void createIssueInSpringGuides(Projects projects, ProjectVersion version) {
 		if (!this.properties.getGit().isUpdateSpringGuides()) {
 			log.info("Will not update the release train documentation, since the switch to do so "
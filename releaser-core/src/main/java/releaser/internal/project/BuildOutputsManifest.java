@@ -0,0 +1,240 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Manifest of the artifacts built by the build command of a Maven project. It's written
+ * after a successful build and lists the version of the project, a fingerprint of its
+ * sources (path, size and modification time of every file outside of the build
+ * directories) and the checksums of the artifacts of every {@code target} directory, i.e.
+ * the main artifacts and the attached ones like poms, sources, javadoc and test jars or
+ * distribution archives. A {@code target} or {@code build} directory is a build directory
+ * only if it sits next to a {@code pom.xml}. Anywhere else it's part of the sources.
+ *
+ * The deploy command may reuse the built artifacts only if the manifest still matches the
+ * project, i.e. the version, the sources and the artifacts haven't changed since the
+ * build.
+ *
+ * @author Marcin Grzejszczak
+ */
+class BuildOutputsManifest {
+
+	private static final Logger log = LoggerFactory.getLogger(BuildOutputsManifest.class);
+
+	static final String LOCATION = "target/releaser/build-manifest.properties";
+
+	private static final String VERSION = "version";
+
+	private static final String SOURCES = "sources";
+
+	private static final String ARTIFACT_PREFIX = "artifact.";
+
+	private static final List<String> ARTIFACT_EXTENSIONS = Arrays.asList(".jar", ".war", ".ear", ".pom", ".zip",
+			".tar.gz", ".tgz", ".module", ".asc");
+
+	private static final Set<String> EXCLUDED_DIRECTORIES = new HashSet<>(
+			Arrays.asList(".git", ".gradle", "node_modules"));
+
+	private static final Set<String> BUILD_DIRECTORIES = new HashSet<>(Arrays.asList("target", "build"));
+
+	private final Path projectRoot;
+
+	BuildOutputsManifest(File projectRoot) {
+		this.projectRoot = projectRoot.toPath().toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Writes the manifest of the current state of the project.
+	 * @param version version the project was built with
+	 */
+	void write(ProjectVersion version) {
+		Properties manifest = new Properties();
+		manifest.setProperty(VERSION, version.version);
+		Snapshot snapshot = snapshot();
+		manifest.setProperty(SOURCES, snapshot.sources);
+		snapshot.artifacts.forEach((path, checksum) -> manifest.setProperty(ARTIFACT_PREFIX + path, checksum));
+		File file = this.projectRoot.resolve(LOCATION).toFile();
+		file.getParentFile().mkdirs();
+		try (OutputStream stream = Files.newOutputStream(file.toPath())) {
+			manifest.store(stream, "Artifacts built by the releaser");
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+		log.info("Stored the manifest of [{}] built artifacts in [{}]", snapshot.artifacts.size(), file);
+	}
+
+	/**
+	 * @param version version the project is about to be deployed with
+	 * @return {@code true} if the project and its artifacts haven't changed since the
+	 * manifest was written for the given version
+	 */
+	boolean matches(ProjectVersion version) {
+		File file = this.projectRoot.resolve(LOCATION).toFile();
+		if (!file.exists()) {
+			log.info("There's no manifest of the built artifacts in [{}]", file);
+			return false;
+		}
+		Properties manifest = new Properties();
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+			manifest.load(stream);
+		}
+		catch (IOException ex) {
+			log.warn("Failed to read the manifest of the built artifacts from [{}]", file, ex);
+			return false;
+		}
+		if (!version.version.equals(manifest.getProperty(VERSION))) {
+			log.info("The project was built with version [{}] and is deployed with version [{}]",
+					manifest.getProperty(VERSION), version.version);
+			return false;
+		}
+		Snapshot snapshot = snapshot();
+		if (!snapshot.sources.equals(manifest.getProperty(SOURCES))) {
+			log.info("The sources of the project have changed since it was built");
+			return false;
+		}
+		Map<String, String> artifacts = new TreeMap<>();
+		manifest.stringPropertyNames().stream().filter(name -> name.startsWith(ARTIFACT_PREFIX))
+				.forEach(name -> artifacts.put(name.substring(ARTIFACT_PREFIX.length()), manifest.getProperty(name)));
+		if (artifacts.isEmpty() || !artifacts.equals(snapshot.artifacts)) {
+			log.info("The built artifacts have changed since the project was built");
+			return false;
+		}
+		return true;
+	}
+
+	private Snapshot snapshot() {
+		MessageDigest sources = sha256();
+		Map<String, String> artifacts = new TreeMap<>();
+		try {
+			Files.walkFileTree(this.projectRoot, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					if (dir.equals(projectRoot)) {
+						return FileVisitResult.CONTINUE;
+					}
+					String name = dir.getFileName().toString();
+					if (EXCLUDED_DIRECTORIES.contains(name)) {
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+					if (!BUILD_DIRECTORIES.contains(name) || !Files.isRegularFile(dir.resolveSibling("pom.xml"))) {
+						return FileVisitResult.CONTINUE;
+					}
+					if ("target".equals(name)) {
+						artifacts(dir, artifacts);
+					}
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					String entry = relative(file) + ":" + attrs.size() + ":" + attrs.lastModifiedTime().toMillis()
+							+ "\n";
+					sources.update(entry.getBytes(StandardCharsets.UTF_8));
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+		return new Snapshot(hex(sources.digest()), artifacts);
+	}
+
+	private void artifacts(Path target, Map<String, String> artifacts) throws IOException {
+		File[] files = target.toFile().listFiles((dir, name) -> ARTIFACT_EXTENSIONS.stream().anyMatch(name::endsWith));
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (file.isFile()) {
+				artifacts.put(relative(file.toPath()), checksum(file.toPath()));
+			}
+		}
+	}
+
+	private String relative(Path path) {
+		return this.projectRoot.relativize(path.toAbsolutePath().normalize()).toString().replace(File.separatorChar,
+				'/');
+	}
+
+	private static String checksum(Path file) throws IOException {
+		MessageDigest digest = sha256();
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream stream = Files.newInputStream(file)) {
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return hex(digest.digest());
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static String hex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder();
+		for (byte b : bytes) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
+	private static final class Snapshot {
+
+		private final String sources;
+
+		private final Map<String, String> artifacts;
+
+		private Snapshot(String sources, Map<String, String> artifacts) {
+			this.sources = sources;
+			this.artifacts = artifacts;
+		}
+
+	}
+
+}
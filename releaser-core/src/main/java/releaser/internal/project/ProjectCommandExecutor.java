@@ -18,11 +18,10 @@ package releaser.internal.project;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +34,7 @@ import org.apache.commons.logging.LogFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.BuildMemoryMonitor;
 import releaser.internal.tech.ReleaserProcessExecutor;
 
 import org.springframework.core.io.ClassPathResource;
@@ -60,6 +60,8 @@ public class ProjectCommandExecutor {
 	private static final String RUNNER_DESTINATION = RSYNC_ACTIONS_PROJECT_DIR + File.separator
 			+ SPRING_DOCS_ACTION_RUNNER;
 
+	private static final Object RUNNER_LOCK = new Object();
+
 	public void build(ReleaserProperties properties, ProjectVersion originalVersion,
 			ProjectVersion versionFromReleaseTrain) {
 		build(properties, originalVersion, versionFromReleaseTrain, properties.getWorkingDir());
@@ -94,9 +96,12 @@ public class ProjectCommandExecutor {
 		try {
 			String command = new CommandPicker(properties, projectRoot).buildCommand(versionFromReleaseTrain);
 			String[] commands = replaceAllPlaceHolders(originalVersion, versionFromReleaseTrain, command).split(" ");
-			runCommand(properties, projectRoot, commands);
+			runBuildCommand(properties, projectRoot, commands);
 			assertNoHtmlFilesInDocsContainUnresolvedTags(projectRoot);
 			log.info("No HTML files from docs contain unresolved tags");
+			if (reusesBuildOutputs(properties, projectRoot)) {
+				new BuildOutputsManifest(new File(projectRoot)).write(versionFromReleaseTrain);
+			}
 		}
 		catch (Exception e) {
 			String message = properties + "\n" + originalVersion + "\n" + versionFromReleaseTrain + "\n" + projectRoot;
@@ -126,7 +131,7 @@ public class ProjectCommandExecutor {
 			String updatedCommand = new CommandPicker(properties, projectRoot)
 					.generateReleaseTrainDocsCommand(new ProjectVersion(new File(projectRoot)))
 					.replace(VERSION_MUSTACHE, version);
-			runCommand(properties, projectRoot, updatedCommand.split(" "));
+			runBuildCommand(properties, projectRoot, updatedCommand.split(" "));
 			assertNoHtmlFilesInDocsContainUnresolvedTags(properties.getWorkingDir());
 			log.info("No HTML files from docs contain unresolved tags");
 		}
@@ -136,21 +141,26 @@ public class ProjectCommandExecutor {
 	}
 
 	private void assertNoHtmlFilesInDocsContainUnresolvedTags(String workingDir) {
-		try {
-			File docs = new File(workingDir, "docs");
-			if (!docs.exists()) {
-				return;
-			}
-			Files.walkFileTree(docs.toPath(), new HtmlFileWalker());
-		}
-		catch (IOException e) {
-			throw new IllegalStateException(e);
+		File docs = new File(workingDir, "docs");
+		if (!docs.exists()) {
+			return;
 		}
+		new UnresolvedTagScanner().assertNoUnresolvedTags(docs.toPath());
 	}
 
 	public void deploy(ReleaserProperties properties, ProjectVersion originalVersion, ProjectVersion version) {
-		doDeploy(properties, originalVersion, version,
-				new CommandPicker(properties, properties.getWorkingDir()).deployCommand(version));
+		CommandPicker commandPicker = new CommandPicker(properties, properties.getWorkingDir());
+		if (reusesBuildOutputs(properties, properties.getWorkingDir())
+				&& new BuildOutputsManifest(new File(properties.getWorkingDir())).matches(version)) {
+			log.info("The project hasn't changed since it was built, will deploy the built artifacts");
+			doDeploy(properties, originalVersion, version, commandPicker.deployFromBuildOutputsCommand(version));
+			return;
+		}
+		doDeploy(properties, originalVersion, version, commandPicker.deployCommand(version));
+	}
+
+	private boolean reusesBuildOutputs(ReleaserProperties properties, String projectRoot) {
+		return properties.getMaven().isReuseBuildOutputs() && new File(projectRoot, "pom.xml").exists();
 	}
 
 	public void deployGuides(ReleaserProperties properties, ProjectVersion originalVersion, ProjectVersion version) {
@@ -163,7 +173,7 @@ public class ProjectCommandExecutor {
 		try {
 			String replacedCommand = replaceAllPlaceHolders(originalVersion, changedVersion, command);
 			String[] commands = replacedCommand.split(" ");
-			runCommand(properties, commands);
+			runBuildCommand(properties, properties.getWorkingDir(), commands);
 			log.info("The project has successfully been deployed");
 		}
 		catch (Exception e) {
@@ -178,19 +188,38 @@ public class ProjectCommandExecutor {
 	private void runCommand(ReleaserProperties properties, String projectRoot, String[] commands) {
 		String[] substitutedCommands = substituteSystemProps(properties, commands);
 		long waitTimeInMinutes = new CommandPicker(properties, projectRoot).waitTimeInMinutes();
-		executor(projectRoot).runCommand(substitutedCommands, waitTimeInMinutes);
+		executor(projectRoot).withCommandOutput(properties.getCommandOutput()).runCommand(substitutedCommands,
+				waitTimeInMinutes);
+	}
+
+	/**
+	 * Runs a command that builds the project and monitors its memory.
+	 */
+	private void runBuildCommand(ReleaserProperties properties, String projectRoot, String[] commands) {
+		String[] substitutedCommands = substituteSystemProps(properties, commands);
+		long waitTimeInMinutes = new CommandPicker(properties, projectRoot).waitTimeInMinutes();
+		try (BuildMemoryMonitor.MonitoredBuild build = buildMemoryMonitor().monitor(properties,
+				new File(projectRoot).getName())) {
+			executor(projectRoot).withCommandOutput(properties.getCommandOutput()).runCommand(substitutedCommands,
+					waitTimeInMinutes, build.environment(), build.listener());
+		}
 	}
 
 	private String captureCommandOutput(ReleaserProperties properties, String projectRoot, String[] commands) {
 		String[] substitutedCommands = substituteSystemProps(properties, commands);
 		long waitTimeInMinutes = new CommandPicker(properties, projectRoot).waitTimeInMinutes();
-		return executor(projectRoot).runCommandWithOutput(substitutedCommands, waitTimeInMinutes);
+		return executor(projectRoot).withCommandOutput(properties.getCommandOutput())
+				.runCommandWithOutput(substitutedCommands, waitTimeInMinutes);
 	}
 
 	ReleaserProcessExecutor executor(String workDir) {
 		return new ReleaserProcessExecutor(workDir);
 	}
 
+	BuildMemoryMonitor buildMemoryMonitor() {
+		return BuildMemoryMonitor.shared();
+	}
+
 	public void publishAntoraDocs(File antoraDocsProject, File project, ReleaserProperties properties) {
 		try {
 			copyRunnerToActions(antoraDocsProject);
@@ -210,12 +239,30 @@ public class ProjectCommandExecutor {
 		}
 	}
 
+	/**
+	 * Copies the runner script to the Spring Docs Actions checkout, which is shared by
+	 * the publish workers and the runs. The script is written to a temporary file and
+	 * moved in place, so that a publish never runs a partly copied script.
+	 * @param antoraDocsProject - checked out Spring Docs Actions project
+	 * @throws IOException when the script can't be copied
+	 */
 	public void copyRunnerToActions(File antoraDocsProject) throws IOException {
-		File destination = new File(antoraDocsProject.getAbsolutePath() + RUNNER_DESTINATION);
-		if (!destination.exists()) {
-			ClassPathResource runner = new ClassPathResource(SPRING_DOCS_ACTION_RUNNER);
-			Files.copy(runner.getInputStream(), destination.toPath());
-			destination.setExecutable(true);
+		Path destination = new File(antoraDocsProject.getAbsolutePath() + RUNNER_DESTINATION).toPath();
+		synchronized (RUNNER_LOCK) {
+			if (Files.exists(destination)) {
+				return;
+			}
+			Path tmp = Files.createTempFile(destination.getParent(), SPRING_DOCS_ACTION_RUNNER, ".tmp");
+			try {
+				try (InputStream runner = new ClassPathResource(SPRING_DOCS_ACTION_RUNNER).getInputStream()) {
+					Files.copy(runner, tmp, StandardCopyOption.REPLACE_EXISTING);
+				}
+				tmp.toFile().setExecutable(true);
+				Files.move(tmp, destination, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(tmp);
+			}
 		}
 	}
 
@@ -423,6 +470,10 @@ class CommandPicker {
 		return bashCommandWithSystemProps(releaserProperties.getBash().getDeployCommand());
 	}
 
+	String deployFromBuildOutputsCommand(ProjectVersion version) {
+		return mavenCommandWithSystemProps(releaserProperties.getMaven().getDeployFromBuildOutputsCommand(), version);
+	}
+
 	String deployGuidesCommand(ProjectVersion version) {
 		if (projectType == ProjectType.GRADLE) {
 			return gradleCommandWithSystemProps(releaserProperties.getGradle().getDeployGuidesCommand());
@@ -535,27 +586,3 @@ class CommandPicker {
 	}
 
 }
-
-class HtmlFileWalker extends SimpleFileVisitor<Path> {
-
-	private static final String HTML_EXTENSION = ".html";
-
-	@Override
-	public FileVisitResult visitFile(Path path, BasicFileAttributes attr) {
-		File file = path.toFile();
-		if (file.getName().endsWith(HTML_EXTENSION) && asString(file).contains("Unresolved")) {
-			throw new IllegalStateException("File [" + file + "] contains a tag that wasn't resolved properly");
-		}
-		return FileVisitResult.CONTINUE;
-	}
-
-	private String asString(File file) {
-		try {
-			return new String(Files.readAllBytes(file.toPath()));
-		}
-		catch (IOException e) {
-			throw new IllegalStateException(e);
-		}
-	}
-
-}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.project;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Looks for tags that Asciidoctor couldn't resolve in the generated HTML pages. The pages
+ * are scanned in parallel. Each page is read in chunks that are searched for the literal
+ * {@code Unresolved} marker, so that a page isn't read past the first unresolved tag. The
+ * chunks are turned into ISO-8859-1 strings, one char per byte, so the page's own
+ * encoding doesn't matter and the tag is found at its byte offset.
+ *
+ * @author Marcin Grzejszczak
+ */
+class UnresolvedTagScanner {
+
+	private static final String HTML_EXTENSION = ".html";
+
+	private static final String TAG = "Unresolved";
+
+	private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[64 * 1024]);
+
+	/**
+	 * @param directory directory with the HTML pages
+	 * @return pages with unresolved tags, sorted by path
+	 */
+	List<UnresolvedTag> scan(Path directory) {
+		List<Path> pages = htmlPages(directory);
+		try {
+			return pages.parallelStream().map(this::firstUnresolvedTag).filter(Objects::nonNull)
+					.sorted(Comparator.comparing(tag -> tag.file)).collect(Collectors.toList());
+		}
+		catch (UncheckedIOException ex) {
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	/**
+	 * @param directory directory with the HTML pages
+	 * @throws IllegalStateException when any of the pages contains an unresolved tag
+	 */
+	void assertNoUnresolvedTags(Path directory) {
+		List<UnresolvedTag> tags = scan(directory);
+		if (!tags.isEmpty()) {
+			throw new IllegalStateException(
+					tags.stream().map(UnresolvedTag::toString).collect(Collectors.joining("\n")));
+		}
+	}
+
+	private List<Path> htmlPages(Path directory) {
+		try (Stream<Path> files = Files.walk(directory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(HTML_EXTENSION))
+					.filter(Files::isRegularFile).collect(Collectors.toList());
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private UnresolvedTag firstUnresolvedTag(Path file) {
+		try {
+			int line = firstLineWithTag(file);
+			return line > 0 ? new UnresolvedTag(file, line) : null;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * @return number of the first line with the tag or {@code -1} when there's none
+	 */
+	static int firstLineWithTag(Path file) throws IOException {
+		long offset;
+		try (InputStream stream = Files.newInputStream(file)) {
+			offset = offsetOfTag(stream);
+		}
+		if (offset < 0) {
+			return -1;
+		}
+		// pages with unresolved tags are rare, so the lines are counted only for them
+		try (InputStream stream = Files.newInputStream(file)) {
+			return lineAt(stream, offset);
+		}
+	}
+
+	static long offsetOfTag(InputStream stream) throws IOException {
+		byte[] buffer = BUFFERS.get();
+		// the end of a chunk that could be the start of the tag is carried over to the
+		// next chunk
+		int carried = 0;
+		long position = 0;
+		int read;
+		while ((read = stream.read(buffer, carried, buffer.length - carried)) != -1) {
+			int length = carried + read;
+			// ISO-8859-1 maps each byte to a single char, so the index is the offset in
+			// the chunk whatever the encoding of the page is
+			int index = new String(buffer, 0, length, StandardCharsets.ISO_8859_1).indexOf(TAG);
+			if (index >= 0) {
+				return position + index;
+			}
+			carried = Math.min(length, TAG.length() - 1);
+			System.arraycopy(buffer, length - carried, buffer, 0, carried);
+			position += length - carried;
+		}
+		return -1;
+	}
+
+	static int lineAt(InputStream stream, long offset) throws IOException {
+		byte[] buffer = BUFFERS.get();
+		int line = 1;
+		long position = 0;
+		int read;
+		while (position < offset
+				&& (read = stream.read(buffer, 0, (int) Math.min(buffer.length, offset - position))) != -1) {
+			for (int i = 0; i < read; i++) {
+				if (buffer[i] == '\n') {
+					line++;
+				}
+			}
+			position += read;
+		}
+		return line;
+	}
+
+	static class UnresolvedTag {
+
+		final Path file;
+
+		final int line;
+
+		UnresolvedTag(Path file, int line) {
+			this.file = file;
+			this.line = line;
+		}
+
+		@Override
+		public String toString() {
+			return "File [" + this.file + "] contains a tag that wasn't resolved properly in line [" + this.line + "]";
+		}
+
+	}
+
+}
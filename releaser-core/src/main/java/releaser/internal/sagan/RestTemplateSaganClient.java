@@ -19,10 +19,12 @@ package releaser.internal.sagan;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.ReleaserExecutor;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -43,23 +45,36 @@ class RestTemplateSaganClient implements SaganClient {
 
 	private final String baseUrl;
 
-	RestTemplateSaganClient(RestTemplate restTemplate, ReleaserProperties properties) {
+	private final SaganTasks tasks;
+
+	RestTemplateSaganClient(RestTemplate restTemplate, ReleaserProperties properties, ReleaserExecutor executor) {
 		this.restTemplate = restTemplate;
 		this.baseUrl = properties.getSagan().getBaseUrl();
+		this.tasks = new SaganTasks(properties, executor);
 	}
 
 	@Override
 	public Project getProject(String projectName) {
 		HttpHeaders headers = new HttpHeaders();
 		headers.put("Accept", Collections.singletonList("application/hal+json"));
-		Project project = this.restTemplate.exchange(this.baseUrl + "/projects/{projectName}", HttpMethod.GET,
-				new HttpEntity<>(headers), Project.class, projectName).getBody();
+		// both resources are fetched at the same time, over pooled connections
+		CompletableFuture<EmbeddedProjectReleases> releases = this.tasks.submit(
+				() -> this.restTemplate.exchange(this.baseUrl + "/projects/{projectName}/releases", HttpMethod.GET,
+						new HttpEntity<>(headers), EmbeddedProjectReleases.class, projectName).getBody());
+		Project project;
+		try {
+			project = this.restTemplate.exchange(this.baseUrl + "/projects/{projectName}", HttpMethod.GET,
+					new HttpEntity<>(headers), Project.class, projectName).getBody();
+		}
+		catch (RuntimeException ex) {
+			releases.cancel(true);
+			throw ex;
+		}
 		if (project == null) {
+			releases.cancel(true);
 			return null;
 		}
-
-		EmbeddedProjectReleases body = this.restTemplate.exchange(this.baseUrl + "/projects/{projectName}/releases",
-				HttpMethod.GET, new HttpEntity<>(headers), EmbeddedProjectReleases.class, projectName).getBody();
+		EmbeddedProjectReleases body = SaganTasks.await(releases);
 		project.setReleases(body._embedded.releases);
 		return project;
 	}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.sagan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import releaser.internal.project.ProjectVersion;
+
+import org.springframework.core.style.ToStringCreator;
+
+/**
+ * Minimal set of changes that brings the releases of a Sagan project to the state
+ * expected after releasing a version. Computed from the project fetched once, before any
+ * change is made.
+ *
+ * @author Marcin Grzejszczak
+ */
+final class SaganReleasePlan {
+
+	private final ProjectVersion version;
+
+	private final String slug;
+
+	private final List<String> deletes;
+
+	private final ReleaseInput release;
+
+	private final List<ReleaseInput> adds;
+
+	private final Optional<ProjectVersion> latestVersion;
+
+	private SaganReleasePlan(ProjectVersion version, String slug, List<String> deletes, ReleaseInput release,
+			List<ReleaseInput> adds, Optional<ProjectVersion> latestVersion) {
+		this.version = version;
+		this.slug = slug;
+		this.deletes = deletes;
+		this.release = release;
+		this.adds = adds;
+		this.latestVersion = latestVersion;
+	}
+
+	/**
+	 * @param project project as currently stored in Sagan, {@code null} if it couldn't be
+	 * fetched
+	 * @param version released version
+	 * @param release release entry for the released version
+	 * @param bumpedSnapshot release entry for the next snapshot version, {@code null} if
+	 * there's none
+	 * @return plan of changes
+	 */
+	static SaganReleasePlan plan(Project project, ProjectVersion version, ReleaseInput release,
+			ReleaseInput bumpedSnapshot) {
+		Map<String, Release> existing = new LinkedHashMap<>();
+		if (project != null && project.getReleases() != null) {
+			project.getReleases().forEach(r -> existing.put(r.getVersion(), r));
+		}
+		List<ReleaseInput> expected = new ArrayList<>();
+		expected.add(release);
+		if (bumpedSnapshot != null) {
+			expected.add(bumpedSnapshot);
+		}
+		Set<String> deletes = new LinkedHashSet<>();
+		if (!version.isSnapshot()) {
+			existing.keySet().stream().filter(version::isSameMinor).forEach(deletes::add);
+			// removed even if it's not listed; it costs no extra round trip and the
+			// listing might be stale
+			deletes.add(version.toSnapshotVersion());
+		}
+		List<ReleaseInput> adds = new ArrayList<>();
+		for (ReleaseInput input : expected) {
+			Release stored = existing.get(input.getVersion());
+			if (stored != null && sameRelease(stored, input)) {
+				deletes.remove(input.getVersion());
+			}
+			else {
+				adds.add(input);
+			}
+		}
+		return new SaganReleasePlan(version, project != null ? project.getSlug() : version.projectName,
+				new ArrayList<>(deletes), adds.contains(release) ? release : null, adds,
+				latestVersion(version, existing, deletes, expected));
+	}
+
+	private static boolean sameRelease(Release stored, ReleaseInput input) {
+		return Objects.equals(stored.getReferenceDocUrl(), input.getReferenceDocUrl())
+				&& Objects.equals(stored.getApiDocUrl(), input.getApiDocUrl());
+	}
+
+	/**
+	 * Latest current version after the plan gets applied. Releases that are kept or
+	 * re-added keep their current flag. The released version is current if it's a GA one.
+	 */
+	private static Optional<ProjectVersion> latestVersion(ProjectVersion version, Map<String, Release> existing,
+			Set<String> deletes, List<ReleaseInput> expected) {
+		Set<String> current = new LinkedHashSet<>();
+		existing.values().stream().filter(Release::isCurrent).map(Release::getVersion)
+				.filter(v -> !deletes.contains(v) || expected.stream().anyMatch(e -> e.getVersion().equals(v)))
+				.forEach(current::add);
+		if (version.isRelease() || version.isServiceRelease()) {
+			current.add(version.version);
+		}
+		return current.stream().map(v -> new ProjectVersion(version.projectName, v))
+				.max(Comparator.comparing(o -> o.version));
+	}
+
+	String projectName() {
+		return this.version.projectName;
+	}
+
+	/**
+	 * @return slug of the project, as fetched from Sagan
+	 */
+	String slug() {
+		return this.slug;
+	}
+
+	List<String> deletes() {
+		return Collections.unmodifiableList(this.deletes);
+	}
+
+	/**
+	 * @return release entry for the released version or {@code null} if Sagan already has
+	 * it
+	 */
+	ReleaseInput release() {
+		return this.release;
+	}
+
+	List<ReleaseInput> adds() {
+		return Collections.unmodifiableList(this.adds);
+	}
+
+	Optional<ProjectVersion> latestVersion() {
+		return this.latestVersion;
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringCreator(this).append("project", projectName()).append("deletes", this.deletes)
+				.append("adds", this.adds).append("latestVersion", this.latestVersion).toString();
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.sagan;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.ReleaserExecutor;
+
+/**
+ * Runs independent calls to the Sagan API concurrently on the shared
+ * {@link ReleaserExecutor}, at most {@code releaser.sagan.concurrency} at a time.
+ *
+ * @author Marcin Grzejszczak
+ */
+final class SaganTasks {
+
+	private final Executor executor;
+
+	SaganTasks(ReleaserProperties properties, ReleaserExecutor executor) {
+		this.executor = executor.limitedTo(properties.getSagan().getConcurrency());
+	}
+
+	/**
+	 * @param task task to run
+	 * @param <T> type of the result
+	 * @return future with the result of the task, cancelling it interrupts the task
+	 */
+	<T> CompletableFuture<T> submit(Supplier<T> task) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		FutureTask<Void> running = new FutureTask<>(() -> {
+			try {
+				result.complete(task.get());
+			}
+			catch (Throwable ex) {
+				result.completeExceptionally(ex);
+			}
+		}, null);
+		this.executor.execute(running);
+		result.whenComplete((value, throwable) -> {
+			if (result.isCancelled()) {
+				running.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Runs all tasks concurrently and waits for all of them to finish.
+	 * @param tasks tasks to run
+	 * @param <T> type of the result
+	 * @return results in the order of the tasks
+	 */
+	<T> List<T> all(List<Supplier<T>> tasks) {
+		List<CompletableFuture<T>> futures = tasks.stream().map(this::submit).collect(Collectors.toList());
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(throwable -> null).join();
+		return futures.stream().map(SaganTasks::await).collect(Collectors.toList());
+	}
+
+	static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+}
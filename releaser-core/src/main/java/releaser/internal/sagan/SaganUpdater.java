@@ -19,8 +19,9 @@ package releaser.internal.sagan;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -29,6 +30,7 @@ import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
 import releaser.internal.tech.ExecutionResult;
+import releaser.internal.tech.ReleaserExecutor;
 
 import org.springframework.util.StringUtils;
 
@@ -44,9 +46,12 @@ public class SaganUpdater {
 
 	private final ReleaserProperties releaserProperties;
 
-	public SaganUpdater(SaganClient saganClient, ReleaserProperties releaserProperties) {
+	private final SaganTasks tasks;
+
+	public SaganUpdater(SaganClient saganClient, ReleaserProperties releaserProperties, ReleaserExecutor executor) {
 		this.saganClient = saganClient;
 		this.releaserProperties = releaserProperties;
+		this.tasks = new SaganTasks(releaserProperties, executor);
 	}
 
 	public ExecutionResult updateSagan(File projectFile, String branch, ProjectVersion originalVersion,
@@ -56,41 +61,81 @@ public class SaganUpdater {
 					+ "is off. Set [releaser.sagan.update-sagan] to [true] to change that");
 			return ExecutionResult.skipped();
 		}
-		ReleaseInput update = releaseUpdate(currentVersion);
-		Exception updateReleaseException = updateSaganForNonSnapshot(currentVersion);
-		if (updateReleaseException == null) {
-			log.info("Updating Sagan releases with \n\n{}", update);
-			try {
-				boolean added = this.saganClient.addRelease(currentVersion.projectName, update);
-				if (!added) {
-					return ExecutionResult.unstable(
-							new Exception("Unable to add release for project " + currentVersion.toPrettyString()));
-				}
-				Project project = saganClient.getProject(currentVersion.projectName);
-				Optional<ProjectVersion> projectVersion = latestVersion(currentVersion, project);
-				log.info("Found the following latest project version [{}]", projectVersion);
-				boolean present = projectVersion.isPresent();
-				if (present && currentVersionNewerOrEqual(currentVersion, projectVersion)) {
-					updateDocumentationIfNecessary(projectFile, project);
-				}
-				else {
-					log.info(present
-							? "Latest version [" + projectVersion.get() + "] present and " + "the current version ["
-									+ currentVersion + "] is older than that one. " + "Will do nothing."
-							: "No latest version found. Will do nothing.");
-					return ExecutionResult.skipped();
-				}
+		SaganReleasePlan plan;
+		try {
+			plan = plan(currentVersion);
+		}
+		catch (Exception ex) {
+			log.warn("Exception occurred while trying to fetch the sagan project", ex);
+			return ExecutionResult.unstable(new IllegalStateException(ex.toString()));
+		}
+		log.info("Will update Sagan with the following plan \n\n{}", plan);
+		removeVersionsFromSagan(plan);
+		Exception updateReleaseException = null;
+		try {
+			boolean added = addReleasesToSagan(plan);
+			if (!added) {
+				return ExecutionResult.unstable(
+						new Exception("Unable to add release for project " + currentVersion.toPrettyString()));
 			}
-			catch (Exception ex) {
-				log.warn("Exception occurred while trying to update sagan release", ex);
-				updateReleaseException = new IllegalStateException(ex.toString());
+			Optional<ProjectVersion> projectVersion = plan.latestVersion();
+			log.info("Found the following latest project version [{}]", projectVersion);
+			boolean present = projectVersion.isPresent();
+			if (present && currentVersionNewerOrEqual(currentVersion, projectVersion)) {
+				updateDocumentationIfNecessary(projectFile, plan.slug());
 			}
+			else {
+				log.info(present
+						? "Latest version [" + projectVersion.get() + "] present and " + "the current version ["
+								+ currentVersion + "] is older than that one. " + "Will do nothing."
+						: "No latest version found. Will do nothing.");
+				return ExecutionResult.skipped();
+			}
+		}
+		catch (Exception ex) {
+			log.warn("Exception occurred while trying to update sagan release", ex);
+			updateReleaseException = new IllegalStateException(ex.toString());
 		}
 		return updateReleaseException == null ? ExecutionResult.success()
 				: ExecutionResult.unstable(new IllegalStateException(updateReleaseException.getMessage()));
 	}
 
-	private void updateDocumentationIfNecessary(File projectFile, Project project) {
+	/**
+	 * Fetches the project once and computes what needs to be removed from and added to
+	 * Sagan.
+	 */
+	private SaganReleasePlan plan(ProjectVersion version) {
+		Project project = this.saganClient.getProject(version.projectName);
+		ReleaseInput bumpedSnapshot = null;
+		if (version.isRelease() || version.isServiceRelease()) {
+			bumpedSnapshot = releaseUpdate(new ProjectVersion(version.projectName, bumpedSnapshot(version)));
+		}
+		return SaganReleasePlan.plan(project, version, releaseUpdate(version), bumpedSnapshot);
+	}
+
+	private void removeVersionsFromSagan(SaganReleasePlan plan) {
+		this.tasks.all(plan.deletes().stream().map(version -> (Supplier<Boolean>) () -> {
+			removeVersionFromSagan(plan.projectName(), version);
+			return true;
+		}).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Adds all releases concurrently. Failure to add the bumped snapshot makes the update
+	 * unstable.
+	 * @return {@code false} if Sagan didn't accept the released version
+	 */
+	private boolean addReleasesToSagan(SaganReleasePlan plan) {
+		List<Supplier<Boolean>> adds = plan.adds().stream().map(update -> (Supplier<Boolean>) () -> {
+			log.info("Updating Sagan releases with \n\n{}", update);
+			return this.saganClient.addRelease(plan.projectName(), update);
+		}).collect(Collectors.toList());
+		List<Boolean> added = this.tasks.all(adds);
+		int releaseIndex = plan.adds().indexOf(plan.release());
+		return releaseIndex < 0 || added.get(releaseIndex);
+	}
+
+	private void updateDocumentationIfNecessary(File projectFile, String slug) {
 		boolean shouldUpdate = false;
 		File docsModule = docsModule(projectFile);
 		File indexDoc = new File(docsModule, this.releaserProperties.getSagan().getIndexSectionFileName());
@@ -115,7 +160,7 @@ public class SaganUpdater {
 			}
 		}
 		if (shouldUpdate) {
-			this.saganClient.patchProjectDetails(project.getSlug(), projectDetails);
+			this.saganClient.patchProjectDetails(slug, projectDetails);
 			log.info("Updating Sagan project with adoc data.");
 		}
 		else {
@@ -136,61 +181,20 @@ public class SaganUpdater {
 		}
 	}
 
-	private Optional<ProjectVersion> latestVersion(ProjectVersion currentVersion, Project project) {
-		if (project == null) {
-			return Optional.empty();
-		}
-		return project.getReleases().stream().filter(Release::isCurrent)
-				.map(release -> new ProjectVersion(currentVersion.projectName, release.getVersion()))
-				.max(Comparator.comparing(o -> o.version));
-	}
-
 	private boolean currentVersionNewerOrEqual(ProjectVersion currentVersion, Optional<ProjectVersion> projectVersion) {
 		return currentVersion.compareTo(projectVersion.get()) >= 0;
 	}
 
-	private Exception updateSaganForNonSnapshot(ProjectVersion version) {
-		Exception updateReleaseException = null;
-		if (!version.isSnapshot()) {
-			log.info("Version is non snapshot [{}]. Will remove all older versions and mark this as current", version);
-			Project project = this.saganClient.getProject(version.projectName);
-			if (project != null) {
-				removeAllSameMinorVersions(version, project);
-			}
-			String snapshot = version.toSnapshotVersion();
-			removeVersionFromSagan(version, snapshot);
-			if (version.isRelease() || version.isServiceRelease()) {
-				try {
-					String bumpedSnapshot = bumpedSnapshot(version);
-					ReleaseInput snapshotUpdate = releaseUpdate(
-							new ProjectVersion(version.projectName, bumpedSnapshot));
-					log.info("Updating Sagan with bumped snapshot \n\n[{}]", snapshotUpdate);
-					this.saganClient.addRelease(version.projectName, snapshotUpdate);
-				}
-				catch (Exception e) {
-					log.warn("Failed to update [" + version.projectName + "/" + snapshot + "] from Sagan", e);
-					updateReleaseException = new RuntimeException(e.toString());
-				}
-			}
-		}
-		return updateReleaseException;
-	}
-
-	private void removeAllSameMinorVersions(ProjectVersion version, Project project) {
-		project.getReleases().stream().filter(release -> version.isSameMinor(release.getVersion()))
-				.collect(Collectors.toList()).forEach(release -> removeVersionFromSagan(version, release.getVersion()));
-	}
-
-	private void removeVersionFromSagan(ProjectVersion version, String snapshot) {
-		log.info("Removing [{}/{}] from Sagan", version.projectName, snapshot);
+	private void removeVersionFromSagan(String projectName, String version) {
+		log.info("Removing [{}/{}] from Sagan", projectName, version);
 		try {
-			boolean deleted = this.saganClient.deleteRelease(version.projectName, snapshot);
+			boolean deleted = this.saganClient.deleteRelease(projectName, version);
 			if (!deleted) {
-				log.warn("Failed to remove [" + version.projectName + "/" + snapshot + "] from Sagan");
+				log.warn("Failed to remove [" + projectName + "/" + version + "] from Sagan");
 			}
 		}
 		catch (Exception e) {
-			log.warn("Failed to remove [" + version.projectName + "/" + snapshot + "] from Sagan", e);
+			log.warn("Failed to remove [" + projectName + "/" + version + "] from Sagan", e);
 		}
 	}
 
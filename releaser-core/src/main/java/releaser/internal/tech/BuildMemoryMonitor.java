@@ -0,0 +1,233 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.zeroturnaround.exec.ProcessExecutor;
+import org.zeroturnaround.exec.listener.ProcessListener;
+import releaser.internal.ReleaserProperties;
+
+/**
+ * Watches the memory of the builds. A build gets its max heap set via {@code MAVEN_OPTS}
+ * and {@code GRADLE_OPTS} only if {@code buildHeapInMb} is set, so the heap a project
+ * configures for itself (e.g. in {@code .mvn/jvm.config}) is kept otherwise. The peak
+ * resident memory of each build (the build process and all of its descendants) is sampled
+ * from {@code /proc} and logged, so that {@code memoryPerBuildInMb}, which the builds are
+ * admitted with, can be tuned.
+ *
+ * @author Marcin Grzejszczak
+ */
+public class BuildMemoryMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(BuildMemoryMonitor.class);
+
+	private static final BuildMemoryMonitor SHARED = new BuildMemoryMonitor(Paths.get("/proc"));
+
+	private static final List<String> OPTS = List.of("MAVEN_OPTS", "GRADLE_OPTS");
+
+	private final Path proc;
+
+	private final ScheduledExecutorService sampler = Executors
+			.newSingleThreadScheduledExecutor(ReleaserExecutor.daemonThreads("build-rss-sampler-"));
+
+	private final Map<String, Long> peakRssInMb = new ConcurrentHashMap<>();
+
+	BuildMemoryMonitor(Path proc) {
+		this.proc = proc;
+	}
+
+	/**
+	 * @return monitor shared by all the builds run by this JVM
+	 */
+	public static BuildMemoryMonitor shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Starts monitoring a build. The returned build has to be closed when it's done.
+	 * @param properties releaser properties
+	 * @param name name of the build
+	 * @return monitored build
+	 */
+	public MonitoredBuild monitor(ReleaserProperties properties, String name) {
+		ReleaserProperties.Flow flow = properties.getFlow();
+		return new MonitoredBuild(this, name, Math.max(0, flow.getMemoryPerBuildInMb()),
+				Math.max(0, flow.getBuildHeapInMb()), flow.getRssSamplingIntervalInMillis());
+	}
+
+	/**
+	 * @return peak resident memory in megabytes of the finished builds, by build name
+	 */
+	public Map<String, Long> peakRssInMb() {
+		return Collections.unmodifiableMap(this.peakRssInMb);
+	}
+
+	long rssInKb(ProcessHandle process) {
+		long rss = rssInKb(process.pid());
+		for (ProcessHandle descendant : process.descendants().toArray(ProcessHandle[]::new)) {
+			rss += rssInKb(descendant.pid());
+		}
+		return rss;
+	}
+
+	private long rssInKb(long pid) {
+		try {
+			return rssInKb(Files.readAllLines(this.proc.resolve(String.valueOf(pid)).resolve("status")));
+		}
+		catch (IOException | RuntimeException ex) {
+			// the process has finished in the meantime
+			return 0;
+		}
+	}
+
+	static long rssInKb(List<String> status) {
+		return status.stream().filter(line -> line.startsWith("VmRSS:"))
+				.map(line -> line.substring("VmRSS:".length()).trim().split("\\s+")[0]).mapToLong(Long::parseLong)
+				.findFirst().orElse(0);
+	}
+
+	static String withHeap(String opts, long heapInMb) {
+		if (opts != null && opts.contains("-Xmx")) {
+			return opts;
+		}
+		String heap = "-Xmx" + heapInMb + "m";
+		return opts == null || opts.isBlank() ? heap : opts + " " + heap;
+	}
+
+	/**
+	 * A single build whose memory is monitored.
+	 */
+	public static final class MonitoredBuild implements AutoCloseable {
+
+		private final BuildMemoryMonitor monitor;
+
+		private final String name;
+
+		private final long reservedInMb;
+
+		private final long heapInMb;
+
+		private final long samplingIntervalInMillis;
+
+		private final AtomicLong peakRssInKb = new AtomicLong();
+
+		private volatile ScheduledFuture<?> sampling;
+
+		private MonitoredBuild(BuildMemoryMonitor monitor, String name, long reservedInMb, long heapInMb,
+				long samplingIntervalInMillis) {
+			this.monitor = monitor;
+			this.name = name;
+			this.reservedInMb = reservedInMb;
+			this.heapInMb = heapInMb;
+			this.samplingIntervalInMillis = samplingIntervalInMillis;
+		}
+
+		/**
+		 * @return environment variables setting the max heap of the build, empty if
+		 * {@code buildHeapInMb} isn't set
+		 */
+		public Map<String, String> environment() {
+			Map<String, String> environment = new LinkedHashMap<>();
+			if (this.heapInMb > 0) {
+				OPTS.forEach(opts -> environment.put(opts, withHeap(System.getenv(opts), this.heapInMb)));
+			}
+			return environment;
+		}
+
+		/**
+		 * @return listener sampling the resident memory of the build process
+		 */
+		public ProcessListener listener() {
+			return new ProcessListener() {
+				@Override
+				public void afterStart(Process process, ProcessExecutor executor) {
+					startSampling(process.toHandle());
+				}
+
+				@Override
+				public void afterStop(Process process) {
+					stopSampling();
+				}
+			};
+		}
+
+		private void startSampling(ProcessHandle process) {
+			if (this.samplingIntervalInMillis <= 0 || !Files.isDirectory(this.monitor.proc)) {
+				return;
+			}
+			this.sampling = this.monitor.sampler.scheduleAtFixedRate(
+					() -> this.peakRssInKb.accumulateAndGet(this.monitor.rssInKb(process), Math::max), 0,
+					this.samplingIntervalInMillis, TimeUnit.MILLISECONDS);
+		}
+
+		private void stopSampling() {
+			ScheduledFuture<?> sampling = this.sampling;
+			if (sampling != null) {
+				sampling.cancel(false);
+			}
+		}
+
+		long heapInMb() {
+			return this.heapInMb;
+		}
+
+		/**
+		 * @return peak resident memory of the build in megabytes sampled so far
+		 */
+		public long peakRssInMb() {
+			return this.peakRssInKb.get() / 1024;
+		}
+
+		@Override
+		public void close() {
+			stopSampling();
+			if (this.sampling == null) {
+				return;
+			}
+			long peak = peakRssInMb();
+			this.monitor.peakRssInMb.put(this.name, peak);
+			if (this.reservedInMb > 0 && peak > this.reservedInMb) {
+				log.warn(
+						"Build [{}] took [{}] MB of resident memory at peak, more than the [{}] MB reserved for it. "
+								+ "Consider increasing [releaser.flow.memory-per-build-in-mb]",
+						this.name, peak, this.reservedInMb);
+			}
+			else {
+				log.info("Build [{}] took [{}] MB of resident memory at peak, [{}] MB was reserved for it", this.name,
+						peak, this.reservedInMb);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.zeroturnaround.exec.stream.LogOutputStream;
+import releaser.internal.ReleaserProperties;
+
+/**
+ * Logs the output of a command without slowing the command down. Every line is written to
+ * a per project file first, so the file always contains the whole output. The lines are
+ * then handed over to a background thread that logs them in batches via the
+ * {@code releaser.commands} logger. If that thread can't keep up (e.g. with a slow
+ * console) the lines that don't fit the queue are only in the file.
+ *
+ * The file is started anew in every run, the commands of a project run in the same run
+ * are appended to it. The file of the previous run is kept with a {@code .1} suffix.
+ *
+ * @author Marcin Grzejszczak
+ */
+class CommandOutputLogger implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(CommandOutputLogger.class);
+
+	private static final Logger commands = LoggerFactory.getLogger("releaser.commands");
+
+	private static final List<Pattern> PROGRESS_MARKERS = Arrays.asList(
+			// Maven
+			Pattern.compile("^\\[INFO\\] Building .*"), Pattern.compile("^\\[INFO\\] Reactor Summary.*"),
+			Pattern.compile("^\\[ERROR\\].*"),
+			// Maven and Gradle build results
+			Pattern.compile(".*BUILD (SUCCESS|SUCCESSFUL|FAILURE|FAILED)\\b.*"));
+
+	private static final Line END = new Line("", false);
+
+	// not a ReleaserCache on purpose - it holds one path per project of this run, and
+	// forgetting one would rotate the file in the middle of the run
+	private static final Set<Path> FILES_OF_THIS_RUN = ConcurrentHashMap.newKeySet();
+
+	private final ReleaserProperties.CommandOutput settings;
+
+	private final Path file;
+
+	private final BufferedWriter writer;
+
+	private final BlockingQueue<Line> queue;
+
+	private final Thread consoleWriter;
+
+	private final AtomicLong lines = new AtomicLong();
+
+	private final AtomicLong skippedLines = new AtomicLong();
+
+	CommandOutputLogger(ReleaserProperties.CommandOutput settings, String name, String command) throws IOException {
+		this.settings = settings;
+		Path directory = settings.getDirectory() != null ? Paths.get(settings.getDirectory())
+				: Paths.get(System.getProperty("java.io.tmpdir"), "releaser-logs");
+		Files.createDirectories(directory);
+		this.file = directory.resolve(name + ".log");
+		this.writer = open(this.file);
+		this.writer.write("===== " + command + " =====");
+		this.writer.newLine();
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+		this.consoleWriter = new Thread(this::logLines, "releaser-commands-" + name);
+		this.consoleWriter.setDaemon(true);
+		this.consoleWriter.start();
+		log.info("The whole output of the command will be written to [{}]", this.file);
+	}
+
+	private static synchronized BufferedWriter open(Path file) throws IOException {
+		if (FILES_OF_THIS_RUN.add(file.toAbsolutePath()) && Files.exists(file)) {
+			Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+		}
+		return Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * @return stream for the standard output of the command
+	 */
+	OutputStream output() {
+		return new LineStream(false);
+	}
+
+	/**
+	 * @return stream for the error output of the command
+	 */
+	OutputStream error() {
+		return new LineStream(true);
+	}
+
+	Path file() {
+		return this.file;
+	}
+
+	long lines() {
+		return this.lines.get();
+	}
+
+	long skippedLines() {
+		return this.skippedLines.get();
+	}
+
+	void line(String text, boolean error) {
+		synchronized (this.writer) {
+			try {
+				this.writer.write(text);
+				this.writer.newLine();
+			}
+			catch (IOException ex) {
+				// the console still gets the line
+				log.debug("Failed to write a line to [{}]", this.file, ex);
+			}
+		}
+		this.lines.incrementAndGet();
+		if (!isLogged(text, error)) {
+			return;
+		}
+		if (!this.queue.offer(new Line(text, error))) {
+			this.skippedLines.incrementAndGet();
+		}
+	}
+
+	private boolean isLogged(String text, boolean error) {
+		if (this.settings.getConsole() == ReleaserProperties.CommandOutput.Console.FULL || error) {
+			return true;
+		}
+		return PROGRESS_MARKERS.stream().anyMatch(pattern -> pattern.matcher(text).matches());
+	}
+
+	private void logLines() {
+		List<Line> batch = new ArrayList<>(Math.max(1, this.settings.getBatchSize()));
+		try {
+			while (true) {
+				batch.add(this.queue.take());
+				this.queue.drainTo(batch, Math.max(0, this.settings.getBatchSize() - 1));
+				for (Line line : batch) {
+					if (line == END) {
+						return;
+					}
+					if (line.error) {
+						commands.warn(line.text);
+					}
+					else {
+						commands.info(line.text);
+					}
+				}
+				batch.clear();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes the rest of the output to the file and waits for the logged lines to be
+	 * logged.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this.writer) {
+			this.writer.close();
+		}
+		try {
+			this.queue.put(END);
+			this.consoleWriter.join(TimeUnit.SECONDS.toMillis(30));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		if (this.skippedLines.get() > 0) {
+			log.warn("[{}] out of [{}] lines of the output weren't logged to keep up with the command, "
+					+ "the whole output is in [{}]", this.skippedLines.get(), this.lines.get(), this.file);
+		}
+	}
+
+	static String name(String workingDir) {
+		return new File(workingDir).getAbsoluteFile().getName();
+	}
+
+	private static final class Line {
+
+		private final String text;
+
+		private final boolean error;
+
+		private Line(String text, boolean error) {
+			this.text = text;
+			this.error = error;
+		}
+
+	}
+
+	private final class LineStream extends LogOutputStream {
+
+		private final boolean error;
+
+		private LineStream(boolean error) {
+			this.error = error;
+		}
+
+		@Override
+		protected void processLine(String line) {
+			CommandOutputLogger.this.line(line, this.error);
+		}
+
+	}
+
+}
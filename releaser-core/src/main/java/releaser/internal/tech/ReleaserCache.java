@@ -0,0 +1,413 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory cache with a maximum size, an expiry, hit / miss / eviction counters and an
+ * on demand estimate of the memory it retains. All the caches are registered, so that
+ * {@link #report()} can print the statistics of every cache of the process.
+ *
+ * Cache names are hierarchical, e.g. {@code git.cloned-projects}. The report groups the
+ * caches by the first segment of their name.
+ *
+ * When the maximum size is exceeded, the least recently used entry is evicted. An entry
+ * is evicted lazily when it's read after it has expired. A value is computed outside of
+ * the map, by the first thread that misses it. The other threads that miss the same key
+ * wait for that computation, the ones reading other keys aren't blocked, and computing a
+ * value may read other keys of the same cache. Reading the key that is being computed
+ * from within its own computation is rejected.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ * @author Marcin Grzejszczak
+ */
+public final class ReleaserCache<K, V> {
+
+	private static final Set<ReleaserCache<?, ?>> CACHES = Collections
+			.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private final String name;
+
+	private final int maximumSize;
+
+	private final long expireAfterWriteNanos;
+
+	private final LongSupplier clock;
+
+	private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	private final Map<K, Computation<V>> computations = new ConcurrentHashMap<>();
+
+	private final AtomicLong accesses = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param name hierarchical name of the cache
+	 * @param maximumSize maximum number of entries
+	 * @param expireAfterWrite time after which an entry expires
+	 */
+	public ReleaserCache(String name, int maximumSize, Duration expireAfterWrite) {
+		this(name, maximumSize, expireAfterWrite, System::nanoTime);
+	}
+
+	/**
+	 * @param name hierarchical name of the cache
+	 * @param maximumSize maximum number of entries
+	 * @param expireAfterWrite time after which an entry expires
+	 * @param clock clock the expiry is measured with
+	 */
+	public ReleaserCache(String name, int maximumSize, Duration expireAfterWrite, Clock clock) {
+		this(name, maximumSize, expireAfterWrite, () -> TimeUnit.MILLISECONDS.toNanos(clock.millis()));
+	}
+
+	ReleaserCache(String name, int maximumSize, Duration expireAfterWrite, LongSupplier clock) {
+		this.name = name;
+		this.maximumSize = maximumSize;
+		this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+		this.clock = clock;
+		CACHES.add(this);
+	}
+
+	/**
+	 * @param key key
+	 * @param mappingFunction computes the value if it's not cached
+	 * @return cached or computed value, {@code null} if the computed value is
+	 * {@code null}, in which case nothing is cached
+	 * @throws IllegalStateException when the value is read from within its own
+	 * computation
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		long now = this.clock.getAsLong();
+		Entry<V> entry = this.entries.get(key);
+		if (entry != null && !expired(entry, now)) {
+			return hit(entry);
+		}
+		Computation<V> computation = new Computation<>();
+		Computation<V> running = this.computations.putIfAbsent(key, computation);
+		if (running != null) {
+			return awaitComputation(key, running);
+		}
+		try {
+			V value = compute(key, mappingFunction, now);
+			computation.future.complete(value);
+			return value;
+		}
+		catch (RuntimeException | Error ex) {
+			computation.future.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.computations.remove(key, computation);
+		}
+	}
+
+	private V compute(K key, Function<? super K, ? extends V> mappingFunction, long now) {
+		Entry<V> existing = this.entries.get(key);
+		if (existing != null && !expired(existing, now)) {
+			// computed by another thread in the meantime
+			return hit(existing);
+		}
+		if (existing != null && this.entries.remove(key, existing)) {
+			this.evictions.increment();
+		}
+		this.misses.increment();
+		V value = mappingFunction.apply(key);
+		if (value != null) {
+			this.entries.put(key, new Entry<>(value, now, this.accesses.incrementAndGet()));
+			evictIfNeeded();
+		}
+		return value;
+	}
+
+	private V awaitComputation(K key, Computation<V> running) {
+		if (running.thread == Thread.currentThread()) {
+			throw new IllegalStateException(
+					"Value of key [" + key + "] of cache [" + this.name + "] is read while it's being computed");
+		}
+		try {
+			V value = running.future.join();
+			this.hits.increment();
+			return value;
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * @param key key
+	 * @return cached value or {@code null} if there's none
+	 */
+	public V get(K key) {
+		long now = this.clock.getAsLong();
+		Entry<V> entry = this.entries.get(key);
+		if (entry == null) {
+			this.misses.increment();
+			return null;
+		}
+		if (expired(entry, now)) {
+			if (this.entries.remove(key, entry)) {
+				this.evictions.increment();
+			}
+			this.misses.increment();
+			return null;
+		}
+		return hit(entry);
+	}
+
+	/**
+	 * Checks for a cached value without counting it as a hit or a miss.
+	 * @param key key
+	 * @return {@code true} if there's a value that hasn't expired
+	 */
+	public boolean containsKey(K key) {
+		Entry<V> entry = this.entries.get(key);
+		return entry != null && !expired(entry, this.clock.getAsLong());
+	}
+
+	/**
+	 * @param key key
+	 * @param value value to cache
+	 */
+	public void put(K key, V value) {
+		this.entries.put(key, new Entry<>(value, this.clock.getAsLong(), this.accesses.incrementAndGet()));
+		evictIfNeeded();
+	}
+
+	/**
+	 * @param key key to remove
+	 */
+	public void remove(K key) {
+		this.entries.remove(key);
+	}
+
+	/**
+	 * Removes all the entries. The statistics are kept.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	public int size() {
+		return this.entries.size();
+	}
+
+	public String name() {
+		return this.name;
+	}
+
+	/**
+	 * @return statistics of the cache, with an estimate of the retained memory
+	 */
+	public Stats stats() {
+		List<Object> contents = new ArrayList<>();
+		this.entries.forEach((key, entry) -> {
+			contents.add(key);
+			contents.add(entry.value);
+		});
+		return new Stats(this.name, this.entries.size(), this.hits.sum(), this.misses.sum(), this.evictions.sum(),
+				new RetainedSizeEstimator().estimate(contents));
+	}
+
+	private V hit(Entry<V> entry) {
+		this.hits.increment();
+		entry.lastAccess = this.accesses.incrementAndGet();
+		return entry.value;
+	}
+
+	private boolean expired(Entry<V> entry, long now) {
+		return now - entry.written >= this.expireAfterWriteNanos;
+	}
+
+	private void evictIfNeeded() {
+		while (this.entries.size() > this.maximumSize) {
+			Map.Entry<K, Entry<V>> eldest = this.entries.entrySet().stream()
+					.min(Comparator.comparingLong(e -> e.getValue().lastAccess)).orElse(null);
+			if (eldest == null) {
+				return;
+			}
+			if (this.entries.remove(eldest.getKey(), eldest.getValue())) {
+				this.evictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * @return statistics of all the caches
+	 */
+	public static List<Stats> allStats() {
+		List<ReleaserCache<?, ?>> caches;
+		synchronized (CACHES) {
+			caches = new ArrayList<>(CACHES);
+		}
+		return caches.stream().map(ReleaserCache::stats).sorted(Comparator.comparing(stats -> stats.name))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return table with the statistics of all the caches, grouped by the first segment
+	 * of their names
+	 */
+	public static String report() {
+		return report(allStats());
+	}
+
+	static String report(List<Stats> stats) {
+		String format = "%-40s %8s %10s %10s %10s %9s %12s%n";
+		StringBuilder table = new StringBuilder("Caches\n\n");
+		table.append(String.format(format, "Cache", "Size", "Hits", "Misses", "Evictions", "Hit ratio", "Retained"));
+		Map<String, List<Stats>> groups = stats.stream()
+				.collect(Collectors.groupingBy(Stats::group, TreeMap::new, Collectors.toList()));
+		long total = 0;
+		for (Map.Entry<String, List<Stats>> group : groups.entrySet()) {
+			long retained = group.getValue().stream().mapToLong(s -> s.retainedBytes).sum();
+			total += retained;
+			table.append(String.format(format, group.getKey(), "", "", "", "", "", bytes(retained)));
+			for (Stats cache : group.getValue()) {
+				table.append(String.format(format, "  " + cache.name, cache.size, cache.hits, cache.misses,
+						cache.evictions, String.format("%.1f %%", cache.hitRatio() * 100), bytes(cache.retainedBytes)));
+			}
+		}
+		table.append(String.format(format, "Total", "", "", "", "", "", bytes(total)));
+		return table.toString();
+	}
+
+	private static String bytes(long bytes) {
+		if (bytes < 1024) {
+			return bytes + " B";
+		}
+		if (bytes < 1024 * 1024) {
+			return String.format("%.1f KB", bytes / 1024.0);
+		}
+		return String.format("%.1f MB", bytes / (1024.0 * 1024));
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		private final long written;
+
+		/**
+		 * Order of the last access among the accesses to the cache.
+		 */
+		private volatile long lastAccess;
+
+		private Entry(V value, long written, long lastAccess) {
+			this.value = value;
+			this.written = written;
+			this.lastAccess = lastAccess;
+		}
+
+	}
+
+	private static final class Computation<V> {
+
+		private final Thread thread = Thread.currentThread();
+
+		private final CompletableFuture<V> future = new CompletableFuture<>();
+
+	}
+
+	/**
+	 * Statistics of a cache.
+	 */
+	public static final class Stats {
+
+		/**
+		 * Name of the cache.
+		 */
+		public final String name;
+
+		/**
+		 * Number of cached entries.
+		 */
+		public final int size;
+
+		/**
+		 * Number of reads that found a value.
+		 */
+		public final long hits;
+
+		/**
+		 * Number of reads that didn't find a value.
+		 */
+		public final long misses;
+
+		/**
+		 * Number of entries evicted because of the maximum size or the expiry.
+		 */
+		public final long evictions;
+
+		/**
+		 * Estimated number of bytes retained by the keys and the values.
+		 */
+		public final long retainedBytes;
+
+		Stats(String name, int size, long hits, long misses, long evictions, long retainedBytes) {
+			this.name = name;
+			this.size = size;
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.retainedBytes = retainedBytes;
+		}
+
+		public double hitRatio() {
+			long requests = this.hits + this.misses;
+			return requests == 0 ? 0 : (double) this.hits / requests;
+		}
+
+		String group() {
+			int dot = this.name.indexOf('.');
+			return dot > 0 ? this.name.substring(0, dot) : this.name;
+		}
+
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestFactory} that sends the requests of a {@code RestTemplate}
+ * through the {@link ReleaserHttpClient}.
+ *
+ * @author Marcin Grzejszczak
+ */
+class ReleaserClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+	// set by the JDK client itself
+	private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+	static {
+		RESTRICTED_HEADERS.addAll(Set.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+	}
+
+	private final ReleaserHttpClient client;
+
+	ReleaserClientHttpRequestFactory(ReleaserHttpClient client) {
+		this.client = client;
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+		return new Request(uri, httpMethod);
+	}
+
+	private final class Request extends AbstractClientHttpRequest {
+
+		private final URI uri;
+
+		private final HttpMethod method;
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+		private Request(URI uri, HttpMethod method) {
+			this.uri = uri;
+			this.method = method;
+		}
+
+		@Override
+		public HttpMethod getMethod() {
+			return this.method;
+		}
+
+		@Override
+		public URI getURI() {
+			return this.uri;
+		}
+
+		@Override
+		protected OutputStream getBodyInternal(HttpHeaders headers) {
+			return this.body;
+		}
+
+		@Override
+		protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+			byte[] bytes = this.body.toByteArray();
+			HttpRequest.Builder builder = HttpRequest.newBuilder(this.uri).method(this.method.name(), bytes.length == 0
+					? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(bytes));
+			headers.forEach((name, values) -> {
+				if (!RESTRICTED_HEADERS.contains(name)) {
+					values.forEach(value -> builder.header(name, value));
+				}
+			});
+			return new Response(client.send(builder.build()));
+		}
+
+	}
+
+	private static final class Response implements ClientHttpResponse {
+
+		private final ReleaserHttpClient.Response response;
+
+		private final HttpHeaders headers = new HttpHeaders();
+
+		private Response(ReleaserHttpClient.Response response) {
+			this.response = response;
+			response.headers().map().forEach((name, values) -> {
+				// HTTP/2 pseudo headers
+				if (!name.startsWith(":")) {
+					this.headers.addAll(name, values);
+				}
+			});
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() {
+			return HttpStatusCode.valueOf(this.response.status());
+		}
+
+		@Override
+		@Deprecated
+		public int getRawStatusCode() {
+			return this.response.status();
+		}
+
+		@Override
+		public String getStatusText() {
+			return "";
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public InputStream getBody() {
+			return new ByteArrayInputStream(this.response.body());
+		}
+
+		@Override
+		public void close() {
+
+		}
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of daemon threads shared by the components that call remote services concurrently
+ * (e.g. Sagan). One instance is meant to be owned by the application context. Closing it
+ * interrupts the running tasks and rejects the new ones.
+ *
+ * Components that have to cap the number of their concurrent calls take a
+ * {@link #limitedTo(int) limited view} of the pool instead of creating their own.
+ *
+ * @author Marcin Grzejszczak
+ */
+public class ReleaserExecutor implements Executor, Closeable {
+
+	private final ExecutorService executor;
+
+	public ReleaserExecutor() {
+		this.executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 30L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+				daemonThreads("releaser-"));
+	}
+
+	/**
+	 * @param prefix prefix of the thread names, followed by the number of the thread
+	 * @return factory of daemon threads, so that a pool that wasn't shut down doesn't
+	 * keep the JVM alive
+	 */
+	public static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger counter = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * @param concurrency max number of tasks running at the same time
+	 * @return executor that runs its tasks on this pool, queueing the ones above the
+	 * given concurrency
+	 */
+	public Executor limitedTo(int concurrency) {
+		return new LimitedExecutor(this.executor, Math.max(1, concurrency));
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		this.executor.execute(task);
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	private static final class LimitedExecutor implements Executor {
+
+		private final Executor delegate;
+
+		private final int concurrency;
+
+		private final Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger running = new AtomicInteger();
+
+		private LimitedExecutor(Executor delegate, int concurrency) {
+			this.delegate = delegate;
+			this.concurrency = concurrency;
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			this.queued.add(task);
+			drain();
+		}
+
+		private void drain() {
+			while (!this.queued.isEmpty()) {
+				int current = this.running.get();
+				if (current >= this.concurrency) {
+					return;
+				}
+				if (!this.running.compareAndSet(current, current + 1)) {
+					continue;
+				}
+				Runnable next = this.queued.poll();
+				if (next == null) {
+					this.running.decrementAndGet();
+					continue;
+				}
+				try {
+					this.delegate.execute(() -> {
+						try {
+							next.run();
+						}
+						finally {
+							this.running.decrementAndGet();
+							drain();
+						}
+					});
+				}
+				catch (RejectedExecutionException ex) {
+					this.running.decrementAndGet();
+					throw ex;
+				}
+			}
+		}
+
+	}
+
+}
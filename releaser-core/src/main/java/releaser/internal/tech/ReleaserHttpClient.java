@@ -0,0 +1,292 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * HTTP client shared by all the REST clients of the releaser (Sagan, Artifactory, raw
+ * GitHub files). Wraps a single JDK {@link HttpClient}, so connections are pooled and
+ * kept alive between calls, and HTTP/2 is negotiated for HTTPS hosts that support it. On
+ * top of that it asks for gzipped responses, limits the number of concurrent requests per
+ * host and gathers per host metrics.
+ *
+ * One instance is meant to be owned by the application context. Closing it stops the
+ * threads of the underlying client, so no request can be sent afterwards.
+ *
+ * @author Marcin Grzejszczak
+ */
+public class ReleaserHttpClient implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(ReleaserHttpClient.class);
+
+	private final ExecutorService executor;
+
+	private final HttpClient client;
+
+	private final Duration requestTimeout;
+
+	private final int maxConcurrentRequestsPerHost;
+
+	private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+	private final Map<String, Metrics> metrics = new ConcurrentHashMap<>();
+
+	public ReleaserHttpClient(ReleaserProperties properties) {
+		this(Duration.ofSeconds(properties.getHttp().getConnectTimeoutInSeconds()),
+				Duration.ofSeconds(properties.getHttp().getRequestTimeoutInSeconds()),
+				properties.getHttp().getMaxConcurrentRequestsPerHost(), properties.getHttp().isHttp2());
+	}
+
+	ReleaserHttpClient(Duration connectTimeout, Duration requestTimeout, int maxConcurrentRequestsPerHost,
+			boolean http2) {
+		this.executor = Executors.newCachedThreadPool(ReleaserExecutor.daemonThreads("releaser-http-"));
+		this.client = HttpClient.newBuilder().executor(this.executor).connectTimeout(connectTimeout)
+				.version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+				.followRedirects(HttpClient.Redirect.NORMAL).build();
+		this.requestTimeout = requestTimeout;
+		this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+	}
+
+	/**
+	 * @return request factory for a {@code RestTemplate} that sends its requests through
+	 * this client
+	 */
+	public ClientHttpRequestFactory requestFactory() {
+		return new ReleaserClientHttpRequestFactory(this);
+	}
+
+	/**
+	 * @param url url to fetch
+	 * @return body of the response
+	 * @throws IOException when the request failed or the response wasn't successful
+	 */
+	public String get(String url) throws IOException {
+		Response response = send(HttpRequest.newBuilder(URI.create(url)).GET().build());
+		if (!response.isSuccessful()) {
+			throw new IOException("Request to [" + url + "] failed with status [" + response.status() + "]");
+		}
+		return response.bodyAsString();
+	}
+
+	/**
+	 * Sends the request and waits for the whole response. Gzipped responses get
+	 * decompressed.
+	 * @param request request to send
+	 * @return response
+	 * @throws IOException when the request failed
+	 */
+	public Response send(HttpRequest request) throws IOException {
+		if (this.executor.isShutdown()) {
+			throw new IOException("HTTP client has already been closed, can't call [" + request.uri() + "]");
+		}
+		HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true)
+				.timeout(request.timeout().orElse(this.requestTimeout));
+		if (request.headers().firstValue("Accept-Encoding").isEmpty()) {
+			builder.header("Accept-Encoding", "gzip");
+		}
+		if ("http".equalsIgnoreCase(request.uri().getScheme())) {
+			// h2c upgrades are hardly ever supported and cost a round trip
+			builder.version(HttpClient.Version.HTTP_1_1);
+		}
+		String host = host(request.uri());
+		Metrics hostMetrics = this.metrics.computeIfAbsent(host, h -> new Metrics());
+		Semaphore semaphore = this.permits.computeIfAbsent(host,
+				h -> new Semaphore(this.maxConcurrentRequestsPerHost, true));
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			semaphore.acquire();
+			try {
+				HttpResponse<InputStream> response = this.client.send(builder.build(),
+						HttpResponse.BodyHandlers.ofInputStream());
+				Response result = response(response);
+				failed = !result.isSuccessful();
+				hostMetrics.bytes.addAndGet(result.body().length);
+				return result;
+			}
+			finally {
+				semaphore.release();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while calling [" + request.uri() + "]");
+		}
+		finally {
+			hostMetrics.record(System.nanoTime() - start, failed);
+			if (log.isDebugEnabled()) {
+				log.debug("[{}] [{}] took [{}] ms, metrics for the host {}", request.method(), request.uri(),
+						Duration.ofNanos(System.nanoTime() - start).toMillis(), hostMetrics);
+			}
+		}
+	}
+
+	private Response response(HttpResponse<InputStream> response) throws IOException {
+		boolean gzipped = response.headers().firstValue("Content-Encoding").filter("gzip"::equalsIgnoreCase)
+				.isPresent();
+		try (InputStream stream = gzipped ? new GZIPInputStream(response.body()) : response.body()) {
+			byte[] body = stream.readAllBytes();
+			HttpHeaders headers = gzipped ? HttpHeaders.of(response.headers().map(), (name,
+					value) -> !"Content-Encoding".equalsIgnoreCase(name) && !"Content-Length".equalsIgnoreCase(name))
+					: response.headers();
+			return new Response(response.statusCode(), headers, body);
+		}
+	}
+
+	private static String host(URI uri) {
+		return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+	}
+
+	/**
+	 * @return metrics per host, sorted by host
+	 */
+	public Map<String, Metrics> metrics() {
+		return Collections.unmodifiableMap(new TreeMap<>(this.metrics));
+	}
+
+	/**
+	 * @return human readable table with the metrics of every called host
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder("HTTP requests per host:\n");
+		report.append(String.format("%-40s %10s %10s %12s %14s%n", "HOST", "REQUESTS", "FAILURES", "TIME [ms]",
+				"RECEIVED [KB]"));
+		metrics().forEach((host,
+				hostMetrics) -> report.append(String.format("%-40s %10d %10d %12d %14d%n", host,
+						hostMetrics.getRequests(), hostMetrics.getFailures(), hostMetrics.getTotalTime().toMillis(),
+						hostMetrics.getBytes() / 1024)));
+		return report.toString();
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+		this.permits.clear();
+		log.debug("Closed the HTTP client, {}", this.metrics);
+	}
+
+	/**
+	 * Fully read response.
+	 */
+	public static final class Response {
+
+		private final int status;
+
+		private final HttpHeaders headers;
+
+		private final byte[] body;
+
+		Response(int status, HttpHeaders headers, byte[] body) {
+			this.status = status;
+			this.headers = headers;
+			this.body = body;
+		}
+
+		public int status() {
+			return this.status;
+		}
+
+		public HttpHeaders headers() {
+			return this.headers;
+		}
+
+		public byte[] body() {
+			return this.body;
+		}
+
+		public String bodyAsString() {
+			return new String(this.body, StandardCharsets.UTF_8);
+		}
+
+		public boolean isSuccessful() {
+			return this.status >= 200 && this.status < 300;
+		}
+
+	}
+
+	/**
+	 * Request metrics of a single host.
+	 */
+	public static final class Metrics {
+
+		private final AtomicLong requests = new AtomicLong();
+
+		private final AtomicLong failures = new AtomicLong();
+
+		private final AtomicLong totalTimeNanos = new AtomicLong();
+
+		private final AtomicLong bytes = new AtomicLong();
+
+		private void record(long nanos, boolean failed) {
+			this.requests.incrementAndGet();
+			this.totalTimeNanos.addAndGet(nanos);
+			if (failed) {
+				this.failures.incrementAndGet();
+			}
+		}
+
+		public long getRequests() {
+			return this.requests.get();
+		}
+
+		public long getFailures() {
+			return this.failures.get();
+		}
+
+		public long getBytes() {
+			return this.bytes.get();
+		}
+
+		public Duration getTotalTime() {
+			return Duration.ofNanos(this.totalTimeNanos.get());
+		}
+
+		@Override
+		public String toString() {
+			return "Metrics{" + "requests=" + this.requests + ", failures=" + this.failures + ", totalTime="
+					+ getTotalTime() + ", bytes=" + this.bytes + '}';
+		}
+
+	}
+
+}
@@ -19,6 +19,8 @@ package releaser.internal.tech;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -26,7 +28,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.zeroturnaround.exec.ProcessExecutor;
 import org.zeroturnaround.exec.ProcessResult;
-import org.zeroturnaround.exec.stream.slf4j.Slf4jStream;
+import org.zeroturnaround.exec.listener.ProcessListener;
+import releaser.internal.ReleaserProperties;
 
 public class ReleaserProcessExecutor {
 
@@ -36,25 +39,60 @@ public class ReleaserProcessExecutor {
 
 	private String workingDir;
 
+	private ReleaserProperties.CommandOutput commandOutput = new ReleaserProperties.CommandOutput();
+
 	public ReleaserProcessExecutor(String workingDir) {
 		this.workingDir = workingDir;
 	}
 
+	/**
+	 * @param commandOutput how to log the output of the commands
+	 * @return this
+	 */
+	public ReleaserProcessExecutor withCommandOutput(ReleaserProperties.CommandOutput commandOutput) {
+		this.commandOutput = commandOutput;
+		return this;
+	}
+
 	public void runCommand(String[] commands, long waitTimeInMinutes) {
-		doRunCommand(commands, waitTimeInMinutes);
+		doRunCommand(commands, waitTimeInMinutes, Collections.emptyMap(), null);
+	}
+
+	/**
+	 * Runs the command with additional environment variables.
+	 * @param commands command to run
+	 * @param waitTimeInMinutes how long to wait for the command to finish
+	 * @param environment environment variables added to the inherited ones
+	 * @param listener listener notified when the process starts and stops, can be
+	 * {@code null}
+	 */
+	public void runCommand(String[] commands, long waitTimeInMinutes, Map<String, String> environment,
+			ProcessListener listener) {
+		doRunCommand(commands, waitTimeInMinutes, environment, listener);
 	}
 
 	public String runCommandWithOutput(String[] commands, long waitTimeInMinutes) {
-		return doRunCommand(commands, waitTimeInMinutes).outputUTF8();
+		return doRunCommand(commands, waitTimeInMinutes, Collections.emptyMap(), null).outputUTF8();
 	}
 
-	private ProcessResult doRunCommand(String[] commands, long waitTimeInMinutes) {
+	private ProcessResult doRunCommand(String[] commands, long waitTimeInMinutes, Map<String, String> environment,
+			ProcessListener listener) {
 		String workingDir = this.workingDir;
 		log.info("Will run the command from [{}] and wait for result for [{}] minutes", workingDir, waitTimeInMinutes);
 
-		try {
-			ProcessExecutor processExecutor = processExecutor(commands, workingDir).timeout(waitTimeInMinutes,
-					TimeUnit.MINUTES);
+		try (CommandOutputLogger output = new CommandOutputLogger(this.commandOutput,
+				CommandOutputLogger.name(workingDir), String.join(" ", commands))) {
+			// the output goes to a file and is logged via the releaser.commands logger
+			// from another thread, so that a slow console doesn't slow down the command
+			ProcessExecutor processExecutor = processExecutor(commands, workingDir)
+					.timeout(waitTimeInMinutes, TimeUnit.MINUTES).redirectOutputAlsoTo(output.output())
+					.redirectErrorAlsoTo(output.error());
+			if (!environment.isEmpty()) {
+				processExecutor.environment(environment);
+			}
+			if (listener != null) {
+				processExecutor.addListener(listener);
+			}
 			final ProcessResult processResult = doExecute(processExecutor);
 			int processExitValue = processResult.getExitValue();
 			if (processExitValue != 0) {
@@ -84,12 +122,7 @@ public class ReleaserProcessExecutor {
 		}
 		log.info("Will run the command [{}]", Arrays.toString(commandsToRun));
 		return new ProcessExecutor().command(commandsToRun).destroyOnExit().readOutput(true)
-				// releaser.commands logger should be configured to redirect
-				// only to a file (with additivity=false). ideally the root logger should
-				// append to same file on top of whatever root appender, so that file
-				// contains the most output
-				.redirectOutputAlsoTo(Slf4jStream.of("releaser.commands").asInfo())
-				.redirectErrorAlsoTo(Slf4jStream.of("releaser.commands").asWarn()).directory(new File(workingDir));
+				.directory(new File(workingDir));
 	}
 
 	String[] commandToExecute(String lastArg) {
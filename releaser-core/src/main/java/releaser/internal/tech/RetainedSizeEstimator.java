@@ -0,0 +1,211 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the memory retained by an object graph, assuming a 64 bit JVM with compressed
+ * references. Fields are read reflectively. The JDK classes can't be read that way, so
+ * strings, files, paths, arrays, collections and maps are estimated from their contents
+ * and the other JDK objects are counted without what they reference. Objects shared
+ * within the graph are counted once.
+ *
+ * @author Marcin Grzejszczak
+ */
+class RetainedSizeEstimator {
+
+	private static final int HEADER = 12;
+
+	private static final int ARRAY_HEADER = 16;
+
+	private static final int REFERENCE = 4;
+
+	private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, Long> SHALLOW_SIZES = new ConcurrentHashMap<>();
+
+	private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * @param roots roots of the graph
+	 * @return estimated number of retained bytes
+	 */
+	long estimate(Collection<?> roots) {
+		Deque<Object> toVisit = new ArrayDeque<>();
+		roots.stream().filter(root -> root != null).forEach(toVisit::push);
+		long bytes = 0;
+		while (!toVisit.isEmpty()) {
+			Object object = toVisit.pop();
+			if (!this.visited.add(object)) {
+				continue;
+			}
+			bytes += size(object, toVisit);
+		}
+		return bytes;
+	}
+
+	private long size(Object object, Deque<Object> toVisit) {
+		Class<?> type = object.getClass();
+		if (object instanceof String) {
+			return align(HEADER + 12) + align(ARRAY_HEADER + ((String) object).length());
+		}
+		if (object instanceof File || object instanceof Path) {
+			return align(HEADER + 12) + align(HEADER + 12) + align(ARRAY_HEADER + object.toString().length());
+		}
+		if (type.isArray()) {
+			return array(object, type.getComponentType(), toVisit);
+		}
+		if (object instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) object;
+			push(toVisit, map.keySet());
+			push(toVisit, map.values());
+			return align(HEADER + 36) + align(ARRAY_HEADER + (long) REFERENCE * tableSize(map.size()))
+					+ (long) map.size() * align(HEADER + 20);
+		}
+		if (object instanceof Collection) {
+			Collection<?> collection = (Collection<?>) object;
+			push(toVisit, collection);
+			return align(HEADER + 24) + align(ARRAY_HEADER + (long) REFERENCE * tableSize(collection.size()))
+					+ (long) collection.size() * align(HEADER + 20);
+		}
+		if (isJdk(type)) {
+			return shallowSize(type);
+		}
+		for (Field field : fields(type)) {
+			try {
+				Object value = field.get(object);
+				if (value != null && !(value instanceof Class) && !(value instanceof ClassLoader)
+						&& !(value instanceof Thread)) {
+					toVisit.push(value);
+				}
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				// not accessible, counted as a reference only
+			}
+		}
+		return shallowSize(type);
+	}
+
+	private long array(Object array, Class<?> componentType, Deque<Object> toVisit) {
+		int length = Array.getLength(array);
+		if (componentType.isPrimitive()) {
+			return align(ARRAY_HEADER + (long) length * primitiveSize(componentType));
+		}
+		for (int i = 0; i < length; i++) {
+			Object element = Array.get(array, i);
+			if (element != null) {
+				toVisit.push(element);
+			}
+		}
+		return align(ARRAY_HEADER + (long) length * REFERENCE);
+	}
+
+	private static void push(Deque<Object> toVisit, Collection<?> objects) {
+		try {
+			for (Object object : objects) {
+				if (object != null) {
+					toVisit.push(object);
+				}
+			}
+		}
+		catch (RuntimeException ex) {
+			// modified concurrently, the estimate doesn't have to be exact
+		}
+	}
+
+	private static long tableSize(int size) {
+		return Integer.highestOneBit(Math.max(1, size) * 2 - 1);
+	}
+
+	private static boolean isJdk(Class<?> type) {
+		String name = type.getName();
+		return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+				|| name.startsWith("sun.");
+	}
+
+	private static List<Field> fields(Class<?> type) {
+		return FIELDS.computeIfAbsent(type, RetainedSizeEstimator::accessibleFields);
+	}
+
+	private static List<Field> accessibleFields(Class<?> type) {
+		List<Field> fields = new ArrayList<>();
+		for (Class<?> current = type; current != null && !isJdk(current); current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+					continue;
+				}
+				try {
+					field.setAccessible(true);
+					fields.add(field);
+				}
+				catch (RuntimeException ex) {
+					// not accessible, counted as a reference only
+				}
+			}
+		}
+		return fields;
+	}
+
+	private static long shallowSize(Class<?> type) {
+		return SHALLOW_SIZES.computeIfAbsent(type, RetainedSizeEstimator::computeShallowSize);
+	}
+
+	private static long computeShallowSize(Class<?> type) {
+		long size = HEADER;
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					size += field.getType().isPrimitive() ? primitiveSize(field.getType()) : REFERENCE;
+				}
+			}
+		}
+		return align(size);
+	}
+
+	private static int primitiveSize(Class<?> type) {
+		if (type == long.class || type == double.class) {
+			return 8;
+		}
+		if (type == int.class || type == float.class) {
+			return 4;
+		}
+		if (type == short.class || type == char.class) {
+			return 2;
+		}
+		return 1;
+	}
+
+	private static long align(long size) {
+		return (size + 7) / 8 * 8;
+	}
+
+}
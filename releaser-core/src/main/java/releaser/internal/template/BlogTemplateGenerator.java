@@ -19,47 +19,25 @@ package releaser.internal.template;
 import java.io.File;
 import java.nio.file.Files;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.github.jknack.handlebars.Template;
 import com.google.common.collect.ImmutableMap;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import releaser.internal.ReleaserProperties;
-import releaser.internal.github.ProjectGitHubHandler;
-import releaser.internal.project.Projects;
 
 /**
  * @author Marcin Grzejszczak
  */
 class BlogTemplateGenerator {
 
-	private static final Logger log = LoggerFactory.getLogger(BlogTemplateGenerator.class);
-
-	private static final Pattern RC_PATTERN = Pattern.compile("(.*)(RC)([0-9]+)");
-
-	private static final Pattern MILESTONE_PATTERN = Pattern.compile("(.*)(M)([0-9]+)");
-
-	private static final Pattern SR_PATTERN = Pattern.compile("(.*)(SR)([0-9]+)");
-
 	private final Template template;
 
-	private final String releaseVersion;
+	private final TrainReleaseView view;
 
 	private final File blogOutput;
 
-	private final Projects projects;
-
-	private final NotesGenerator notesGenerator;
-
-	BlogTemplateGenerator(Template template, String releaseVersion, File blogOutput, Projects projects,
-			ProjectGitHubHandler handler, ReleaserProperties properties) {
+	BlogTemplateGenerator(Template template, TrainReleaseView view, File blogOutput) {
 		this.template = template;
-		this.releaseVersion = releaseVersion;
+		this.view = view;
 		this.blogOutput = blogOutput;
-		this.projects = projects;
-		this.notesGenerator = new NotesGenerator(handler, properties);
 	}
 
 	File blog() {
@@ -72,18 +50,16 @@ class BlogTemplateGenerator {
 			// springframework/cloud/spring-cloud-dependencies/Dalston.RELEASE/)
 			// - [Spring Milestone](https://repo.spring.io/milestone/) repository
 			// releaseVersion '- Dalston.RELEASE
-			boolean release = !SR_PATTERN.matcher(this.releaseVersion).matches()
-					&& !RC_PATTERN.matcher(this.releaseVersion).matches()
-					&& !MILESTONE_PATTERN.matcher(this.releaseVersion).matches();
-			boolean nonRelease = !(release || SR_PATTERN.matcher(this.releaseVersion).matches());
-			String availability = availability(release);
-			String releaseName = parsedReleaseName(this.releaseVersion, release);
+			String releaseVersion = this.view.releaseVersion();
+			boolean release = this.view.releaseType() == TrainReleaseView.ReleaseType.GA;
+			boolean nonRelease = this.view.isNonRelease();
+			String availability = availability();
+			String releaseName = parsedReleaseName(releaseVersion, release);
 			String releaseLink = link(nonRelease);
 			Map<String, Object> map = ImmutableMap.<String, Object>builder().put("availability", availability)
 					.put("releaseName", releaseName).put("releaseLink", releaseLink)
-					.put("releaseVersion", this.releaseVersion)
-					.put("projects", this.notesGenerator.fromProjects(this.projects)).put("nonRelease", nonRelease)
-					.build();
+					.put("releaseVersion", releaseVersion).put("projects", this.view.projects())
+					.put("nonRelease", nonRelease).build();
 			String blog = this.template.apply(map);
 			Files.write(this.blogOutput.toPath(), blog.getBytes());
 			return this.blogOutput;
@@ -106,35 +82,21 @@ class BlogTemplateGenerator {
 		return version.substring(0, version.indexOf("."));
 	}
 
-	private String availability(boolean release) {
-		Matcher sr = SR_PATTERN.matcher(this.releaseVersion);
-		Matcher rc = RC_PATTERN.matcher(this.releaseVersion);
-		Matcher milestone = MILESTONE_PATTERN.matcher(this.releaseVersion);
-		if (release) {
-			return "General Availability (RELEASE)";
+	private String availability() {
+		switch (this.view.releaseType()) {
+			case SERVICE_RELEASE:
+				return availabilityText("Service Release", "SR");
+			case RELEASE_CANDIDATE:
+				return availabilityText("Release Candidate", "RC");
+			case MILESTONE:
+				return availabilityText("Milestone", "M");
+			default:
+				return "General Availability (RELEASE)";
 		}
-		else if (sr.matches()) {
-			return availabilityText(sr, "Service Release", "SR");
-		}
-		else if (rc.matches()) {
-			return availabilityText(rc, "Release Candidate", "RC");
-		}
-		else if (milestone.matches()) {
-			return milestone(milestone);
-		}
-		if (log.isWarnEnabled()) {
-			log.warn("Unrecognized release [{}] . "
-					+ "Hopefully, you know what you're doing. Will treat it as milestone", this.releaseVersion);
-		}
-		return milestone(milestone);
-	}
-
-	private String milestone(Matcher milestone) {
-		return availabilityText(milestone, "Milestone", "M");
 	}
 
-	private String availabilityText(Matcher matcher, String text, String shortText) {
-		String number = matcher.group(3);
+	private String availabilityText(String text, String shortText) {
+		String number = this.view.releaseNumber();
 		return text + " " + number + " (" + shortText + number + ")";
 	}
 
@@ -143,7 +105,7 @@ class BlogTemplateGenerator {
 			return "[Spring Milestone](https://repo.spring.io/milestone/) repository";
 		}
 		return "[Maven Central](https://repo1.maven.org/maven2/"
-				+ "org/springframework/cloud/spring-cloud-dependencies/" + this.releaseVersion + "/)";
+				+ "org/springframework/cloud/spring-cloud-dependencies/" + this.view.releaseVersion() + "/)";
 	}
 
 }
@@ -19,15 +19,10 @@ package releaser.internal.template;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
 import com.github.jknack.handlebars.Template;
 import com.google.common.collect.ImmutableMap;
-import releaser.internal.ReleaserProperties;
-import releaser.internal.github.ProjectGitHubHandler;
-import releaser.internal.project.Projects;
 
 /**
  * @author Marcin Grzejszczak
@@ -36,29 +31,20 @@ class ReleaseNotesTemplateGenerator {
 
 	private final Template template;
 
-	private final String releaseVersion;
+	private final TrainReleaseView view;
 
 	private final File blogOutput;
 
-	private final Projects projects;
-
-	private final NotesGenerator notesGenerator;
-
-	ReleaseNotesTemplateGenerator(Template template, String releaseVersion, File blogOutput, Projects projects,
-			ProjectGitHubHandler handler, ReleaserProperties properties) {
+	ReleaseNotesTemplateGenerator(Template template, TrainReleaseView view, File blogOutput) {
 		this.template = template;
-		this.releaseVersion = releaseVersion;
+		this.view = view;
 		this.blogOutput = blogOutput;
-		this.projects = projects;
-		this.notesGenerator = new NotesGenerator(handler, properties);
 	}
 
 	File releaseNotes() {
 		try {
-			Map<String, Object> map = ImmutableMap.<String, Object>builder()
-					.put("date", LocalDate.now().format(DateTimeFormatter.ISO_DATE))
-					.put("releaseVersion", this.releaseVersion)
-					.put("projects", this.notesGenerator.fromProjects(this.projects)).build();
+			Map<String, Object> map = ImmutableMap.<String, Object>builder().put("date", this.view.date())
+					.put("releaseVersion", this.view.releaseVersion()).put("projects", this.view.projects()).build();
 			String blog = this.template.apply(map);
 			Files.write(this.blogOutput.toPath(), blog.getBytes());
 			return this.blogOutput;
@@ -50,6 +50,8 @@ public class TemplateGenerator {
 
 	private final ReleaserProperties props;
 
+	private TrainReleaseView view;
+
 	public TemplateGenerator(ReleaserProperties props, ProjectGitHubHandler handler) {
 		this.props = props;
 		this.handler = handler;
@@ -70,9 +72,9 @@ public class TemplateGenerator {
 
 	public File email(Projects projects) {
 		File emailOutput = file(this.emailOutput);
-		String releaseVersion = parsedVersion(projects);
+		TrainReleaseView view = view(projects);
 		Template template = template(EMAIL_TEMPLATE);
-		return new EmailTemplateGenerator(template, releaseVersion, emailOutput).email();
+		return new EmailTemplateGenerator(template, view.releaseVersion(), emailOutput).email();
 	}
 
 	private File file(File file) {
@@ -94,25 +96,35 @@ public class TemplateGenerator {
 
 	public File blog(Projects projects) {
 		File blogOutput = file(this.blogOutput);
-		String releaseVersion = parsedVersion(projects);
+		TrainReleaseView view = view(projects);
 		Template template = template(BLOG_TEMPLATE);
-		return new BlogTemplateGenerator(template, releaseVersion, blogOutput, projects, this.handler, this.props)
-				.blog();
+		return new BlogTemplateGenerator(template, view, blogOutput).blog();
 	}
 
 	public File tweet(Projects projects) {
 		File output = file(this.tweetOutput);
-		String releaseVersion = parsedVersion(projects);
+		TrainReleaseView view = view(projects);
 		Template template = template(TWITTER_TEMPLATE);
-		return new TwitterTemplateGenerator(template, releaseVersion, output).tweet();
+		return new TwitterTemplateGenerator(template, view.releaseVersion(), output).tweet();
 	}
 
 	public File releaseNotes(Projects projects) {
 		File output = file(this.releaseNotesOutput);
-		String releaseVersion = parsedVersion(projects);
+		TrainReleaseView view = view(projects);
 		Template template = template(RELEASE_NOTES_TEMPLATE);
-		return new ReleaseNotesTemplateGenerator(template, releaseVersion, output, projects, this.handler, this.props)
-				.releaseNotes();
+		return new ReleaseNotesTemplateGenerator(template, view, output).releaseNotes();
+	}
+
+	/**
+	 * The view is built once and reused by all the templates for as long as the release
+	 * version and the versions of the projects stay the same.
+	 */
+	synchronized TrainReleaseView view(Projects projects) {
+		String releaseVersion = parsedVersion(projects);
+		if (this.view == null || !this.view.isFor(releaseVersion, projects)) {
+			this.view = new TrainReleaseView(releaseVersion, projects, new NotesGenerator(this.handler, this.props));
+		}
+		return this.view;
 	}
 
 	private String parsedVersion(Projects projects) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.template;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.project.Projects;
+
+/**
+ * Everything the templates need to know about a release, computed once. The email, blog,
+ * tweet and release notes templates are all rendered from the same view.
+ *
+ * @author Marcin Grzejszczak
+ */
+final class TrainReleaseView {
+
+	private static final Pattern RC_PATTERN = Pattern.compile("(.*)(RC)([0-9]+)");
+
+	private static final Pattern MILESTONE_PATTERN = Pattern.compile("(.*)(M)([0-9]+)");
+
+	private static final Pattern SR_PATTERN = Pattern.compile("(.*)(SR)([0-9]+)");
+
+	private final String releaseVersion;
+
+	private final ReleaseType releaseType;
+
+	private final String releaseNumber;
+
+	private final Set<Notes> projects;
+
+	private final String date;
+
+	private final Map<String, String> versions;
+
+	TrainReleaseView(String releaseVersion, Projects projects, NotesGenerator notesGenerator) {
+		this.releaseVersion = releaseVersion;
+		Matcher matcher = matching(releaseVersion, SR_PATTERN, RC_PATTERN, MILESTONE_PATTERN);
+		this.releaseType = matcher == null ? ReleaseType.GA
+				: matcher.pattern() == SR_PATTERN ? ReleaseType.SERVICE_RELEASE
+						: matcher.pattern() == RC_PATTERN ? ReleaseType.RELEASE_CANDIDATE : ReleaseType.MILESTONE;
+		this.releaseNumber = matcher != null ? matcher.group(3) : null;
+		this.projects = Collections.unmodifiableSet(notesGenerator.fromProjects(projects));
+		this.date = LocalDate.now().format(DateTimeFormatter.ISO_DATE);
+		this.versions = versions(projects);
+	}
+
+	private static Matcher matching(String version, Pattern... patterns) {
+		for (Pattern pattern : patterns) {
+			Matcher matcher = pattern.matcher(version);
+			if (matcher.matches()) {
+				return matcher;
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, String> versions(Projects projects) {
+		return Collections.unmodifiableMap(projects.stream().collect(Collectors
+				.toMap(projectVersion -> projectVersion.projectName, TrainReleaseView::version, (a, b) -> b)));
+	}
+
+	private static String version(ProjectVersion projectVersion) {
+		return projectVersion.version != null ? projectVersion.version : "";
+	}
+
+	/**
+	 * @return {@code true} when the view was built for the given release version and the
+	 * same versions of the projects
+	 */
+	boolean isFor(String releaseVersion, Projects projects) {
+		return this.releaseVersion.equals(releaseVersion) && this.versions.equals(versions(projects));
+	}
+
+	String releaseVersion() {
+		return this.releaseVersion;
+	}
+
+	ReleaseType releaseType() {
+		return this.releaseType;
+	}
+
+	/**
+	 * @return number of the service release, release candidate or milestone
+	 */
+	String releaseNumber() {
+		return this.releaseNumber;
+	}
+
+	/**
+	 * @return {@code true} for releases that are published to the milestone repository
+	 */
+	boolean isNonRelease() {
+		return this.releaseType != ReleaseType.GA && this.releaseType != ReleaseType.SERVICE_RELEASE;
+	}
+
+	/**
+	 * @return notes of the released projects, without Boot
+	 */
+	Set<Notes> projects() {
+		return this.projects;
+	}
+
+	String date() {
+		return this.date;
+	}
+
+	enum ReleaseType {
+
+		GA, SERVICE_RELEASE, RELEASE_CANDIDATE, MILESTONE
+
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.versions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.tech.ReleaserCache;
+import releaser.internal.tech.ReleaserHttpClient;
+
+/**
+ * Disk cache of raw files fetched over HTTP. A file younger than the TTL is served from
+ * disk without any request. An older one is revalidated with a conditional request
+ * ({@code If-None-Match} / {@code If-Modified-Since}), so the file gets downloaded again
+ * only if it has changed. Each file is stored next to a properties file with its url,
+ * validators and the time it was last fetched or revalidated.
+ *
+ * Files read in this run are also kept in memory, in a {@link ReleaserCache} with the
+ * same TTL, so they're part of its report.
+ *
+ * @author Marcin Grzejszczak
+ */
+class RawFileCache {
+
+	private static final Logger log = LoggerFactory.getLogger(RawFileCache.class);
+
+	private final ReleaserHttpClient httpClient;
+
+	private final Path directory;
+
+	private static final int MAX_FILES_IN_MEMORY = 256;
+
+	private final Duration ttl;
+
+	private final ReleaserCache<String, String> files;
+
+	RawFileCache(ReleaserHttpClient httpClient, Path directory, Duration ttl) {
+		this.httpClient = httpClient;
+		this.directory = directory;
+		this.ttl = ttl;
+		this.files = new ReleaserCache<>("http.raw-files", MAX_FILES_IN_MEMORY, ttl);
+	}
+
+	/**
+	 * @param url url of the file
+	 * @return contents of the file
+	 * @throws IOException when the file couldn't be fetched and there's no cached copy
+	 */
+	String get(String url) throws IOException {
+		try {
+			return this.files.computeIfAbsent(url, key -> {
+				try {
+					return read(key);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private String read(String url) throws IOException {
+		String key = sha256(url);
+		Path body = this.directory.resolve(key + ".body");
+		Path metadataFile = this.directory.resolve(key + ".properties");
+		Properties metadata = metadata(metadataFile, body);
+		if (metadata == null) {
+			log.info("Raw file cache miss for [{}]", url);
+			return fetch(url, null, body, metadataFile);
+		}
+		long fetchedAt = Long.parseLong(metadata.getProperty("fetchedAt", "0"));
+		Duration age = Duration.ofMillis(System.currentTimeMillis() - fetchedAt);
+		if (age.compareTo(this.ttl) < 0) {
+			log.info("Raw file cache hit for [{}], cached [{}] ago", url, age);
+			return Files.readString(body);
+		}
+		try {
+			return fetch(url, metadata, body, metadataFile);
+		}
+		catch (IOException ex) {
+			log.warn("Failed to revalidate [{}], will use the cached copy from [{}] ago", url, age, ex);
+			return Files.readString(body);
+		}
+	}
+
+	private String fetch(String url, Properties cached, Path body, Path metadataFile) throws IOException {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).GET();
+		if (cached != null) {
+			if (cached.containsKey("etag")) {
+				request.header("If-None-Match", cached.getProperty("etag"));
+			}
+			if (cached.containsKey("lastModified")) {
+				request.header("If-Modified-Since", cached.getProperty("lastModified"));
+			}
+		}
+		ReleaserHttpClient.Response response = this.httpClient.send(request.build());
+		if (cached != null && response.status() == 304) {
+			log.info("Raw file cache hit for [{}], revalidated with the server", url);
+			cached.setProperty("fetchedAt", String.valueOf(System.currentTimeMillis()));
+			store(metadataFile, cached);
+			return Files.readString(body);
+		}
+		if (!response.isSuccessful()) {
+			throw new IOException("Request to [" + url + "] failed with status [" + response.status() + "]");
+		}
+		if (cached != null) {
+			log.info("Raw file cache miss for [{}], the file has changed", url);
+		}
+		Properties metadata = new Properties();
+		metadata.setProperty("url", url);
+		metadata.setProperty("fetchedAt", String.valueOf(System.currentTimeMillis()));
+		response.headers().firstValue("ETag").ifPresent(etag -> metadata.setProperty("etag", etag));
+		response.headers().firstValue("Last-Modified")
+				.ifPresent(lastModified -> metadata.setProperty("lastModified", lastModified));
+		String contents = response.bodyAsString();
+		try {
+			Files.createDirectories(this.directory);
+			Path tmp = Files.createTempFile(this.directory, "raw", ".tmp");
+			Files.writeString(tmp, contents);
+			Files.move(tmp, body, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			store(metadataFile, metadata);
+		}
+		catch (IOException ex) {
+			log.warn("Failed to cache the contents of [{}]", url, ex);
+		}
+		return contents;
+	}
+
+	private Properties metadata(Path metadataFile, Path body) {
+		if (!Files.isRegularFile(metadataFile) || !Files.isRegularFile(body)) {
+			return null;
+		}
+		Properties metadata = new Properties();
+		try (InputStream stream = Files.newInputStream(metadataFile)) {
+			metadata.load(stream);
+			return metadata;
+		}
+		catch (IOException ex) {
+			log.warn("Failed to read the cache metadata [{}], will fetch the file again", metadataFile, ex);
+			return null;
+		}
+	}
+
+	private void store(Path metadataFile, Properties metadata) throws IOException {
+		Files.createDirectories(this.directory);
+		Path tmp = Files.createTempFile(this.directory, "raw", ".tmp");
+		try (OutputStream stream = Files.newOutputStream(tmp)) {
+			metadata.store(stream, null);
+		}
+		Files.move(tmp, metadataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String sha256(String url) {
+		try {
+			return HexFormat.of()
+					.formatHex(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -16,17 +16,15 @@
 
 package releaser.internal.versions;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.URL;
-import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import io.spring.initializr.metadata.BillOfMaterials;
@@ -37,6 +35,8 @@ import releaser.internal.ReleaserProperties;
 import releaser.internal.buildsystem.ProjectPomUpdater;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
+import releaser.internal.tech.ReleaserCache;
+import releaser.internal.tech.ReleaserHttpClient;
 
 import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
 import org.springframework.boot.context.properties.bind.Binder;
@@ -60,10 +60,13 @@ public class VersionsFetcher implements Closeable {
 
 	private final ReleaserProperties properties;
 
-	public VersionsFetcher(ReleaserProperties properties, ProjectPomUpdater projectPomUpdater) {
+	public VersionsFetcher(ReleaserProperties properties, ProjectPomUpdater projectPomUpdater,
+			ReleaserHttpClient httpClient) {
 		this.properties = properties;
 		this.projectPomUpdater = projectPomUpdater;
-		this.toPropertiesConverter = new ToPropertiesConverter(new RawGithubRetriever());
+		this.toPropertiesConverter = new ToPropertiesConverter(new RawGithubRetriever(
+				new RawFileCache(httpClient, Paths.get(properties.getGit().getCacheDirectory(), "raw-files"),
+						Duration.ofMinutes(properties.getVersions().getAllVersionsFileCacheTtlInMinutes()))));
 	}
 
 	/**
@@ -93,10 +96,14 @@ public class VersionsFetcher implements Closeable {
 			log.info("No BOM mapping with name [{}] found", this.properties.getVersions().getBomName());
 			return false;
 		}
+		String bomTag = "v" + bomVersion.toString();
+		if (!releaseTrainBomHasTag(bomTag)) {
+			log.info("The release train BOM has no tag [{}]. Will return that the project is not GA", bomTag);
+			return false;
+		}
 		Projects projectVersions = null;
 		try {
-			projectVersions = this.projectPomUpdater.retrieveVersionsFromReleaseTrainBom("v" + bomVersion.toString(),
-					false);
+			projectVersions = this.projectPomUpdater.retrieveVersionsFromReleaseTrainBom(bomTag, false);
 		}
 		catch (Exception ex) {
 			log.error("Failed to check the project versions. Will return that the project is not GA", ex);
@@ -111,6 +118,16 @@ public class VersionsFetcher implements Closeable {
 		return false;
 	}
 
+	private boolean releaseTrainBomHasTag(String bomTag) {
+		try {
+			return this.projectPomUpdater.releaseTrainBomHasTag(bomTag);
+		}
+		catch (Exception ex) {
+			log.warn("Failed to list the tags of the release train BOM, will check the tag after cloning it", ex);
+			return true;
+		}
+	}
+
 	private ProjectVersion latestBomVersion() {
 		String latestVersionsUrl = this.properties.getVersions().getAllVersionsFileUrl();
 		InitializrProperties initializrProperties = this.toPropertiesConverter.toProperties(latestVersionsUrl);
@@ -137,13 +154,20 @@ class RawGithubRetriever {
 
 	private static final Logger LOG = LoggerFactory.getLogger(RawGithubRetriever.class);
 
+	private final RawFileCache cache;
+
+	RawGithubRetriever(RawFileCache cache) {
+		this.cache = cache;
+	}
+
 	String raw(String stringUrl) {
 		try {
-			URL url = new URL(stringUrl);
-			URLConnection con = url.openConnection();
-			try (BufferedReader reader = new BufferedReader(
-					new InputStreamReader(con.getInputStream(), StandardCharsets.UTF_8))) {
-				return reader.lines().collect(Collectors.joining("\n"));
+			if (stringUrl.startsWith("http")) {
+				return this.cache.get(stringUrl);
+			}
+			// e.g. a local file
+			try (InputStream stream = new URL(stringUrl).openStream()) {
+				return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
 			}
 		}
 		catch (IOException e) {
@@ -156,7 +180,8 @@ class RawGithubRetriever {
 
 class ToPropertiesConverter implements Closeable {
 
-	private static final Map<String, InitializrProperties> CACHE = new ConcurrentHashMap<>();
+	private static final ReleaserCache<String, InitializrProperties> CACHE = new ReleaserCache<>(
+			"versions.initializr-properties", 64, Duration.ofHours(1));
 
 	private final RawGithubRetriever rawGithubRetriever;
 
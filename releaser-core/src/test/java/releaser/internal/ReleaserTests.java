@@ -41,6 +41,8 @@ import releaser.internal.project.ProjectCommandExecutor;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
 import releaser.internal.sagan.SaganUpdater;
+import releaser.internal.tech.ExecutionResult;
+import releaser.internal.tech.ReleaserHttpClient;
 import releaser.internal.template.TemplateGenerator;
 
 import org.springframework.boot.test.system.CapturedOutput;
@@ -83,6 +85,9 @@ public class ReleaserTests {
 	@Mock
 	PostReleaseActions postReleaseActions;
 
+	@Mock
+	ReleaserHttpClient releaserHttpClient;
+
 	File pom;
 
 	@BeforeEach
@@ -95,7 +100,7 @@ public class ReleaserTests {
 		return new Releaser(SpringCloudReleaserProperties.get(), this.projectPomUpdater, this.projectCommandExecutor,
 				this.projectGitHandler, this.projectGitHubHandler, this.templateGenerator, this.gradleUpdater,
 				this.saganUpdater, this.documentationUpdater, this.postReleaseActions,
-				new ReleaseBundleCreator(SpringCloudReleaserProperties.get()) {
+				new ReleaseBundleCreator(SpringCloudReleaserProperties.get(), this.releaserHttpClient) {
 					@Override
 					public boolean createReleaseBundle(String json) throws IOException {
 						return true;
@@ -113,7 +118,7 @@ public class ReleaserTests {
 		return new Releaser(new ReleaserProperties(), this.projectPomUpdater, this.projectCommandExecutor,
 				this.projectGitHandler, this.projectGitHubHandler, this.templateGenerator, this.gradleUpdater,
 				this.saganUpdater, this.documentationUpdater, this.postReleaseActions,
-				new ReleaseBundleCreator(SpringCloudReleaserProperties.get()) {
+				new ReleaseBundleCreator(SpringCloudReleaserProperties.get(), this.releaserHttpClient) {
 					@Override
 					public boolean createReleaseBundle(String json) throws IOException {
 						return true;
@@ -176,6 +181,23 @@ public class ReleaserTests {
 		then(this.templateGenerator).should().email(any(Projects.class));
 	}
 
+	@Test
+	public void should_create_all_the_templates_and_merge_the_results() {
+		BDDMockito.given(this.templateGenerator.email(projects())).willReturn(new File("."));
+		BDDMockito.given(this.templateGenerator.blog(projects())).willThrow(new IllegalStateException("boom"));
+		BDDMockito.given(this.templateGenerator.tweet(projects())).willReturn(new File("."));
+		BDDMockito.given(this.templateGenerator.releaseNotes(projects())).willReturn(new File("."));
+
+		ExecutionResult result = releaser().createTemplates(new ProjectVersion("original", "1.0.0.RELEASE"),
+				projects());
+
+		BDDAssertions.then(result.isUnstable()).isTrue();
+		BDDAssertions.then(result.getExceptions()).hasSize(1);
+		then(this.templateGenerator).should().email(any(Projects.class));
+		then(this.templateGenerator).should().tweet(any(Projects.class));
+		then(this.templateGenerator).should().releaseNotes(any(Projects.class));
+	}
+
 	@Test
 	public void should_not_close_milestone_for_snapshots() {
 		releaser().closeMilestone(new ProjectVersion("original", "1.0.0.BUILD-SNAPSHOT"));
@@ -16,16 +16,29 @@
 
 package releaser.internal.commercial;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
+import releaser.internal.tech.ReleaserHttpClient;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,6 +53,10 @@ class ReleaseBundleCreatorTests {
 
 	private static ReleaserProperties properties = new ReleaserProperties();
 
+	FakeClock clock = new FakeClock();
+
+	ReleaserHttpClient httpClient = new ReleaserHttpClient(properties);
+
 	@BeforeAll
 	static void beforeAll() {
 
@@ -53,22 +70,33 @@ class ReleaseBundleCreatorTests {
 								"org/springframework/cloud/spring-cloud-dependencies-parent*")));
 	}
 
+	@BeforeEach
+	void setup() {
+		wiremockArtifactory.stubFor(post(urlPathEqualTo("/lifecycle/api/v2/release_bundle")).atPriority(1)
+				.withRequestBody(containing("TNZ-async-")).willReturn(aResponse().withStatus(202)));
+	}
+
+	@AfterEach
+	void close() {
+		this.httpClient.close();
+	}
+
 	@Test
 	void testDistributeProjectReleaseBundle() throws Exception {
-		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties);
+		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties, this.httpClient);
 		assertThat(releaseBundleCreator.distributeProjectReleaseBundle("TNZ-spring-cloud-contract-commercial", "4.0.7"))
 				.isTrue();
 	}
 
 	@Test
 	void testDistributeReleaseTrainBundle() throws Exception {
-		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties);
+		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties, this.httpClient);
 		assertThat(releaseBundleCreator.distributeReleaseTrainSourceBundle("2022.0.7")).isTrue();
 	}
 
 	@Test
 	void testCreateReleaseTrainBundle() throws Exception {
-		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties);
+		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties, this.httpClient);
 
 		List<ProjectVersion> repos = List.of(new ProjectVersion("spring-cloud-build", "4.0.8"),
 				new ProjectVersion("spring-cloud-starter", "2022.0.7"),
@@ -78,10 +106,176 @@ class ReleaseBundleCreatorTests {
 
 	@Test
 	void testCreateProjectReleaseBundle() throws Exception {
-		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties);
+		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(properties, this.httpClient);
 		assertThat(
 				releaseBundleCreator.createReleaseBundle(properties.getBundles().getRepos().get("spring-cloud-build"),
 						"4.0.7", "TNZ-spring-cloud-build-commercial")).isTrue();
 	}
 
+	@Test
+	void should_wait_for_all_source_bundles_at_once_before_creating_the_release_train_bundle() throws Exception {
+		List<ProjectVersion> projects = List.of(new ProjectVersion("async-a", "1.0.0"),
+				new ProjectVersion("async-b", "1.0.0"), new ProjectVersion("async-c", "1.0.0"));
+		projects.forEach(project -> slowlyAssembled(ReleaseBundleCreator.createReleaseBundleName(project.projectName),
+				"1.0.0", 3));
+		ReleaseBundleCreator releaseBundleCreator = releaseBundleCreator(10);
+
+		boolean created = releaseBundleCreator.createReleaseTrainSourceBundle(projects, "2030.0.0");
+
+		assertThat(created).isTrue();
+		projects.forEach(project -> wiremockArtifactory.verify(4, getRequestedFor(urlPathEqualTo(
+				"/lifecycle/api/v2/release_bundle/statuses/TNZ-" + project.projectName + "-commercial/1.0.0"))));
+		wiremockArtifactory.verify(1, postRequestedFor(urlPathEqualTo("/lifecycle/api/v2/release_bundle"))
+				.withRequestBody(containing("TNZ-async-a-commercial")));
+		// each bundle gets assembled after 3 checks (after 0, 100, 300 and 500 ms);
+		// waiting for one bundle after another would take 1500 ms
+		assertThat(this.clock.slept).isEqualTo(Duration.ofMillis(500));
+	}
+
+	@Test
+	void should_wait_for_a_project_release_bundle_to_get_assembled() throws Exception {
+		slowlyAssembled("TNZ-async-project-commercial", "1.0.0", 2);
+		ReleaseBundleCreator releaseBundleCreator = releaseBundleCreator(10);
+
+		assertThat(
+				releaseBundleCreator.createReleaseBundle(List.of("org/foo"), "1.0.0", "TNZ-async-project-commercial"))
+						.isTrue();
+		wiremockArtifactory.verify(3, getRequestedFor(
+				urlPathEqualTo("/lifecycle/api/v2/release_bundle/statuses/TNZ-async-project-commercial/1.0.0")));
+		assertThat(this.clock.slept).isEqualTo(Duration.ofMillis(300));
+	}
+
+	@Test
+	void should_only_submit_project_release_bundles_in_a_meta_release() throws Exception {
+		ReleaserProperties metaReleaseProperties = pollingProperties(10);
+		metaReleaseProperties.getMetaRelease().setEnabled(true);
+		metaReleaseProperties.getBundles().setCreateReleaseTrainReleaseBundle(true);
+		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(metaReleaseProperties, this.httpClient);
+
+		assertThat(releaseBundleCreator.createReleaseBundle(List.of("org/foo"), "1.0.0", "TNZ-async-meta-commercial"))
+				.isTrue();
+		wiremockArtifactory.verify(0, getRequestedFor(
+				urlPathEqualTo("/lifecycle/api/v2/release_bundle/statuses/TNZ-async-meta-commercial/1.0.0")));
+	}
+
+	@Test
+	void should_fail_when_the_release_bundle_fails_to_get_assembled() throws Exception {
+		wiremockArtifactory.stubFor(
+				get(urlPathEqualTo("/lifecycle/api/v2/release_bundle/statuses/TNZ-async-failed-commercial/1.0.0"))
+						.atPriority(1).willReturn(okJson("{\"status\":\"FAILED\"}")));
+		ReleaseBundleCreator releaseBundleCreator = new ReleaseBundleCreator(pollingProperties(10), this.httpClient);
+
+		assertThat(releaseBundleCreator.createReleaseBundle(List.of("org/foo"), "1.0.0", "TNZ-async-failed-commercial"))
+				.isFalse();
+	}
+
+	@Test
+	void should_stop_waiting_for_the_release_bundle_after_the_deadline() throws Exception {
+		stuck("TNZ-async-stuck-commercial", "1.0.0");
+		ReleaseBundleCreator releaseBundleCreator = releaseBundleCreator(1);
+
+		boolean created = releaseBundleCreator.createReleaseBundle(List.of("org/foo"), "1.0.0",
+				"TNZ-async-stuck-commercial");
+
+		assertThat(created).isFalse();
+		// 100, 200, 200, 200, 200 ms and then what's left of the second
+		assertThat(this.clock.slept).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void should_wait_for_the_source_bundles_and_the_release_train_bundle_within_one_deadline() throws Exception {
+		List<ProjectVersion> projects = List.of(new ProjectVersion("async-d", "1.0.0"));
+		slowlyAssembled(ReleaseBundleCreator.createReleaseBundleName("async-d"), "1.0.0", 3);
+		stuck(ReleaseBundleCreator.RELEASE_TRAIN_BUNDLE_NAME, "2030.0.1");
+		ReleaseBundleCreator releaseBundleCreator = releaseBundleCreator(1);
+
+		boolean created = releaseBundleCreator.createReleaseTrainSourceBundle(projects, "2030.0.1");
+
+		assertThat(created).isFalse();
+		wiremockArtifactory.verify(1, postRequestedFor(urlPathEqualTo("/lifecycle/api/v2/release_bundle"))
+				.withRequestBody(containing("TNZ-async-d-commercial")));
+		// 500 ms for the source bundle, the release train bundle gets only the rest
+		assertThat(this.clock.slept).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void should_wait_for_the_distribution_to_complete() throws Exception {
+		wiremockArtifactory.stubFor(
+				post(urlPathEqualTo("/lifecycle/api/v2/distribution/distribute/TNZ-async-distributed-commercial/1.0.0"))
+						.willReturn(okJson("{\"id\":42}")));
+		String trackers = "/lifecycle/api/v2/distribution/trackers/TNZ-async-distributed-commercial/1.0.0";
+		wiremockArtifactory
+				.stubFor(get(urlPathEqualTo(trackers)).inScenario("distribution").whenScenarioStateIs(Scenario.STARTED)
+						.willReturn(okJson("[{\"distribution_tracking_id\":41,\"status\":\"COMPLETED\"},"
+								+ "{\"distribution_tracking_id\":42,\"status\":\"IN_PROGRESS\"}]"))
+						.willSetStateTo("distributed"));
+		wiremockArtifactory
+				.stubFor(get(urlPathEqualTo(trackers)).inScenario("distribution").whenScenarioStateIs("distributed")
+						.willReturn(okJson("[{\"distribution_tracking_id\":41,\"status\":\"COMPLETED\"},"
+								+ "{\"distribution_tracking_id\":42,\"status\":\"COMPLETED\"}]")));
+		ReleaseBundleCreator releaseBundleCreator = releaseBundleCreator(10);
+
+		assertThat(releaseBundleCreator.distributeProjectReleaseBundle("TNZ-async-distributed-commercial", "1.0.0"))
+				.isTrue();
+		wiremockArtifactory.verify(2, getRequestedFor(urlPathEqualTo(trackers)));
+	}
+
+	private static ReleaserProperties pollingProperties(long timeoutInSeconds) {
+		ReleaserProperties pollingProperties = new ReleaserProperties();
+		pollingProperties.getBundles().setRepoUrl(properties.getBundles().getRepoUrl());
+		pollingProperties.getBundles().setRepoAccessToken("password");
+		pollingProperties.getBundles().setStatusPollIntervalInMillis(100);
+		pollingProperties.getBundles().setMaxStatusPollIntervalInMillis(200);
+		pollingProperties.getBundles().setStatusTimeoutInSeconds(timeoutInSeconds);
+		return pollingProperties;
+	}
+
+	private ReleaseBundleCreator releaseBundleCreator(long timeoutInSeconds) {
+		ReleaserProperties pollingProperties = pollingProperties(timeoutInSeconds);
+		return new ReleaseBundleCreator(pollingProperties, this.httpClient,
+				new ReleaseBundleStatusPoller(Duration.ofMillis(100), Duration.ofMillis(200),
+						Duration.ofSeconds(timeoutInSeconds), this.clock::nanoTime, this.clock::sleep));
+	}
+
+	private static void stuck(String releaseBundleName, String version) {
+		wiremockArtifactory.stubFor(
+				get(urlPathEqualTo("/lifecycle/api/v2/release_bundle/statuses/" + releaseBundleName + "/" + version))
+						.atPriority(1).willReturn(okJson("{\"status\":\"PROCESSING\"}")));
+	}
+
+	/**
+	 * Fake of a bundle that Artifactory is still assembling for the given number of
+	 * status checks.
+	 */
+	private static void slowlyAssembled(String releaseBundleName, String version, int checksInProgress) {
+		String url = "/lifecycle/api/v2/release_bundle/statuses/" + releaseBundleName + "/" + version;
+		for (int i = 0; i < checksInProgress; i++) {
+			wiremockArtifactory.stubFor(get(urlPathEqualTo(url)).atPriority(1).inScenario(releaseBundleName)
+					.whenScenarioStateIs(i == 0 ? Scenario.STARTED : "check-" + i)
+					.willReturn(okJson("{\"status\":\"PROCESSING\"}")).willSetStateTo("check-" + (i + 1)));
+		}
+		wiremockArtifactory.stubFor(get(urlPathEqualTo(url)).atPriority(1).inScenario(releaseBundleName)
+				.whenScenarioStateIs("check-" + checksInProgress).willReturn(okJson("{\"status\":\"COMPLETED\"}")));
+	}
+
+	/**
+	 * Clock that moves only when the poller sleeps.
+	 */
+	static class FakeClock {
+
+		long nanos;
+
+		Duration slept = Duration.ZERO;
+
+		long nanoTime() {
+			return this.nanos;
+		}
+
+		void sleep(Duration duration) {
+			this.nanos += duration.toNanos();
+			this.slept = this.slept.plus(duration);
+		}
+
+	}
+
 }
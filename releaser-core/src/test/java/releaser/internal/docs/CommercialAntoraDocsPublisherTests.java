@@ -0,0 +1,228 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.docs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BucketInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.transfermanager.ParallelUploadConfig;
+import com.google.cloud.storage.transfermanager.TransferManager;
+import com.google.cloud.storage.transfermanager.TransferManagerConfig;
+import com.google.cloud.storage.transfermanager.TransferStatus;
+import com.google.cloud.storage.transfermanager.UploadJob;
+import com.google.cloud.storage.transfermanager.UploadResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import releaser.internal.ReleaserProperties;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class CommercialAntoraDocsPublisherTests {
+
+	@TempDir
+	Path project;
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	TransferManager transferManager = mock(TransferManager.class);
+
+	Storage storage = mock(Storage.class);
+
+	Path site;
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.properties.getAntora().setGcpBucketName("docs");
+		Files.writeString(this.project.resolve("pom.xml"),
+				"<project><modelVersion>4.0.0</modelVersion><groupId>org.springframework.cloud</groupId>"
+						+ "<artifactId>spring-cloud-foo</artifactId><version>1.0.0</version></project>");
+		this.site = this.project.resolve("target/antora/site");
+		write("index.html", "<p>index</p>");
+		write("reference/config.html", "<p>config</p>");
+		write("_/css/site.css", "body {}");
+		given(this.transferManager.uploadFiles(anyList(), any())).willAnswer(invocation -> uploaded(invocation));
+	}
+
+	@Test
+	void should_upload_only_the_files_that_changed_since_the_last_publish() throws IOException {
+		published(blob("spring-cloud-foo/reference/index.html", "index.html"),
+				blob("spring-cloud-foo/reference/reference/config.html", "reference/config.html"),
+				blob("spring-cloud-foo/reference/_/css/site.css", null));
+		write("reference/config.html", "<p>changed config</p>");
+
+		new CommercialAntoraDocsPublisher(this.transferManager, this.storage).publish(this.project.toFile(),
+				this.properties);
+
+		then(uploadedFiles()).containsExactlyInAnyOrder(this.site.resolve("reference/config.html"),
+				this.site.resolve("_/css/site.css"));
+	}
+
+	@Test
+	void should_upload_the_files_under_the_project_name_with_their_content_type() throws IOException {
+		published();
+
+		new CommercialAntoraDocsPublisher(this.transferManager, this.storage).publish(this.project.toFile(),
+				this.properties);
+
+		ArgumentCaptor<ParallelUploadConfig> config = ArgumentCaptor.forClass(ParallelUploadConfig.class);
+		verify(this.transferManager).uploadFiles(anyList(), config.capture());
+		BlobInfo blobInfo = config.getValue().getUploadBlobInfoFactory().apply("docs",
+				this.site.resolve("reference/config.html").toString());
+		then(blobInfo.getName()).isEqualTo("spring-cloud-foo/reference/reference/config.html");
+		then(blobInfo.getContentType()).isEqualTo("text/html");
+		then(uploadedFiles()).hasSize(3);
+	}
+
+	@Test
+	void should_not_upload_anything_when_nothing_changed() throws IOException {
+		published(blob("spring-cloud-foo/reference/index.html", "index.html"),
+				blob("spring-cloud-foo/reference/reference/config.html", "reference/config.html"),
+				blob("spring-cloud-foo/reference/_/css/site.css", "_/css/site.css"));
+
+		new CommercialAntoraDocsPublisher(this.transferManager, this.storage).publish(this.project.toFile(),
+				this.properties);
+
+		verify(this.transferManager, never()).uploadFiles(anyList(), any());
+	}
+
+	@Test
+	void should_upload_all_the_files_when_incremental_upload_is_off() throws IOException {
+		this.properties.getAntora().setGcpIncrementalUpload(false);
+
+		new CommercialAntoraDocsPublisher(this.transferManager, this.storage).publish(this.project.toFile(),
+				this.properties);
+
+		then(uploadedFiles()).hasSize(3);
+		verifyNoInteractions(this.storage);
+	}
+
+	@Test
+	void should_set_the_parallelism_and_chunking_of_the_uploads() {
+		this.properties.getAntora().setGcpUploadMaxWorkers(7);
+		this.properties.getAntora().setGcpUploadBufferSizeInKb(512);
+		this.properties.getAntora().setGcpParallelCompositeUpload(true);
+
+		TransferManagerConfig config = CommercialAntoraDocsPublisher.transferManagerConfig(this.properties.getAntora());
+
+		then(config.getMaxWorkers()).isEqualTo(7);
+		then(config.getPerWorkerBufferSize()).isEqualTo(512 * 1024);
+		then(config.isAllowParallelCompositeUpload()).isTrue();
+	}
+
+	@Test
+	void should_compute_the_checksum_the_way_gcs_does() throws IOException {
+		// CRC32C of "The quick brown fox jumps over the lazy dog" is 0x22620404
+		Path file = this.project.resolve("fox.txt");
+		Files.writeString(file, "The quick brown fox jumps over the lazy dog");
+
+		then(CommercialAntoraDocsPublisher.crc32c(file)).isEqualTo("ImIEBA==");
+	}
+
+	/**
+	 * Run a fake GCS emulator, e.g. {@code docker run -p 4443:4443
+	 * fsouza/fake-gcs-server -scheme http} and set {@code RELEASER_FAKE_GCS_HOST} to
+	 * {@code http://localhost:4443}.
+	 */
+	@Test
+	@EnabledIfEnvironmentVariable(named = "RELEASER_FAKE_GCS_HOST", matches = ".+")
+	void should_upload_only_changed_files_to_the_emulator() throws IOException {
+		this.properties.getAntora().setGcpStorageHost(System.getenv("RELEASER_FAKE_GCS_HOST"));
+		this.properties.getAntora().setGcpBucketName("docs-" + System.nanoTime());
+		TransferManagerConfig config = CommercialAntoraDocsPublisher.transferManagerConfig(this.properties.getAntora());
+		Storage storage = config.getStorageOptions().getService();
+		storage.create(BucketInfo.of(this.properties.getAntora().getGcpBucketName()));
+		CommercialAntoraDocsPublisher publisher = new CommercialAntoraDocsPublisher(config.getService(), storage);
+		publisher.publish(this.project.toFile(), this.properties);
+		BlobId index = BlobId.of(this.properties.getAntora().getGcpBucketName(),
+				"spring-cloud-foo/reference/index.html");
+		BlobId configPage = BlobId.of(this.properties.getAntora().getGcpBucketName(),
+				"spring-cloud-foo/reference/reference/config.html");
+		Long indexGeneration = storage.get(index).getGeneration();
+		Long configGeneration = storage.get(configPage).getGeneration();
+		write("reference/config.html", "<p>changed config</p>");
+
+		publisher.publish(this.project.toFile(), this.properties);
+
+		then(storage.get(index).getGeneration()).isEqualTo(indexGeneration);
+		then(storage.get(configPage).getGeneration()).isNotEqualTo(configGeneration);
+	}
+
+	private void write(String path, String content) throws IOException {
+		Path file = this.site.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private Blob blob(String name, String contentOf) throws IOException {
+		Blob blob = mock(Blob.class);
+		given(blob.getName()).willReturn(name);
+		given(blob.getCrc32c()).willReturn(
+				contentOf != null ? CommercialAntoraDocsPublisher.crc32c(this.site.resolve(contentOf)) : "AAAAAA==");
+		return blob;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void published(Blob... blobs) {
+		Page<Blob> page = mock(Page.class);
+		given(page.iterateAll()).willReturn(Arrays.asList(blobs));
+		given(this.storage.list(eq("docs"), any(), any())).willReturn(page);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Path> uploadedFiles() throws IOException {
+		ArgumentCaptor<List<Path>> files = ArgumentCaptor.forClass(List.class);
+		verify(this.transferManager).uploadFiles(files.capture(), any());
+		return files.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private UploadJob uploaded(org.mockito.invocation.InvocationOnMock invocation) {
+		List<Path> files = invocation.getArgument(0);
+		return UploadJob.newBuilder().setParallelUploadConfig(invocation.getArgument(1))
+				.setUploadResults(files.stream().map(file -> BlobInfo.newBuilder("docs", file.toString()).build())
+						.map(blob -> ApiFutures.immediateFuture(
+								UploadResult.newBuilder(blob, TransferStatus.SUCCESS).setUploadedBlob(blob).build()))
+						.collect(Collectors.toList()))
+				.build();
+	}
+
+}
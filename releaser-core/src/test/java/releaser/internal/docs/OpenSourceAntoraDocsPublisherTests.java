@@ -0,0 +1,107 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.docs;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.git.ProjectGitHandler;
+import releaser.internal.project.ProjectCommandExecutor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class OpenSourceAntoraDocsPublisherTests {
+
+	File springDocsActions = new File("spring-docs-actions");
+
+	ProjectGitHandler projectGitHandler = new ProjectGitHandler(new ReleaserProperties()) {
+		@Override
+		public File cloneAndCheckoutSpringDocsActions() {
+			return OpenSourceAntoraDocsPublisherTests.this.springDocsActions;
+		}
+	};
+
+	@Test
+	void should_publish_at_most_as_many_projects_at_a_time_as_there_are_workers() throws Exception {
+		AtomicInteger publishing = new AtomicInteger();
+		AtomicInteger maxPublishing = new AtomicInteger();
+		List<File> published = new ArrayList<>();
+		ProjectCommandExecutor executor = new ProjectCommandExecutor() {
+			@Override
+			public void publishAntoraDocs(File antoraDocsProject, File project, ReleaserProperties properties) {
+				then(antoraDocsProject).isSameAs(OpenSourceAntoraDocsPublisherTests.this.springDocsActions);
+				maxPublishing.accumulateAndGet(publishing.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(50);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				publishing.decrementAndGet();
+				synchronized (published) {
+					published.add(project);
+				}
+			}
+		};
+		OpenSourceAntoraDocsPublisher publisher = new OpenSourceAntoraDocsPublisher(executor, this.projectGitHandler,
+				2);
+		ExecutorService projects = Executors.newFixedThreadPool(6);
+
+		List<Future<?>> publications = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			File project = new File("project-" + i);
+			publications.add(projects.submit(() -> {
+				publisher.publish(project, new ReleaserProperties());
+				return null;
+			}));
+		}
+		for (Future<?> publication : publications) {
+			publication.get(10, TimeUnit.SECONDS);
+		}
+		projects.shutdown();
+
+		then(published).hasSize(6);
+		then(maxPublishing.get()).isEqualTo(2);
+	}
+
+	@Test
+	void should_rethrow_the_exception_of_a_failed_publication() {
+		ProjectCommandExecutor executor = new ProjectCommandExecutor() {
+			@Override
+			public void publishAntoraDocs(File antoraDocsProject, File project, ReleaserProperties properties) {
+				throw new IllegalStateException("rsync failed");
+			}
+		};
+		OpenSourceAntoraDocsPublisher publisher = new OpenSourceAntoraDocsPublisher(executor, this.projectGitHandler);
+
+		thenThrownBy(() -> publisher.publish(new File("project"), new ReleaserProperties()))
+				.isInstanceOf(IllegalStateException.class).hasMessage("rsync failed");
+	}
+
+}
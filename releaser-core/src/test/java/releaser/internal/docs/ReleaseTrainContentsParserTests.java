@@ -17,10 +17,14 @@
 package releaser.internal.docs;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.assertj.core.api.BDDAssertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * @author Marcin Grzejszczak
@@ -40,4 +44,50 @@ public class ReleaseTrainContentsParserTests {
 		BDDAssertions.then(releaseTrain).isEqualTo("Finchley.SR4");
 	}
 
+	@Test
+	public void should_return_the_offset_of_the_line_with_the_latest_release() throws IOException {
+		String page = new String(Files.readAllBytes(this.finchley.toPath()));
+
+		long offset = new ReleaseTrainContentsParser().offsetOfFirstLineContaining(this.finchley, "Finchley.SR4");
+
+		BDDAssertions.then(offset).isEqualTo(page.indexOf("# Finchley.SR4"));
+		BDDAssertions.then(new ReleaseTrainContentsParser().offsetOfFirstLineContaining(this.finchley, "Hoxton.SR1"))
+				.isEqualTo(page.length());
+		BDDAssertions.then(new ReleaseTrainContentsParser().offsetOfFirstLineContaining(this.finchley, ""))
+				.isEqualTo(0);
+	}
+
+	@Test
+	public void should_add_a_release_to_a_page_with_ten_years_of_history(@TempDir Path tempDir) throws IOException {
+		String releaseNotes = releaseNotes("2035.0.0");
+		StringBuilder history = new StringBuilder("Spring Cloud builds on Spring Boot.\n\n");
+		for (int year = 2034; year >= 2025; year--) {
+			for (int release = 12; release >= 0; release--) {
+				history.append(releaseNotes(year + ".0." + release)).append("\n\n");
+			}
+		}
+		Path page = tempDir.resolve("page.md");
+		Files.writeString(page, history);
+		ReleaseTrainContentsParser parser = new ReleaseTrainContentsParser();
+
+		String latest = parser.latestReleaseTrainFromWiki(page.toFile());
+		ReleaseTrainContentsUpdater.insert(page, parser.offsetOfFirstLineContaining(page.toFile(), latest),
+				releaseNotes.getBytes());
+
+		BDDAssertions.then(latest).isEqualTo("2034.0.12");
+		BDDAssertions.then(parser.latestReleaseTrainFromWiki(page.toFile())).isEqualTo("2035.0.0");
+		BDDAssertions.then(Files.readString(page)).isEqualTo("Spring Cloud builds on Spring Boot.\n\n" + releaseNotes
+				+ history.substring("Spring Cloud builds on Spring Boot.\n\n".length()));
+	}
+
+	private String releaseNotes(String version) {
+		StringBuilder notes = new StringBuilder("# ").append(version).append("\n\n2025-01-01\n\n");
+		for (int i = 0; i < 25; i++) {
+			notes.append(" - Spring Cloud Project").append(i).append(" `4.").append(i).append(".0` ([issues](")
+					.append("https://github.com/spring-cloud/spring-cloud-project").append(i)
+					.append("/releases/tag/v4.").append(i).append(".0))\n");
+		}
+		return notes.toString();
+	}
+
 }
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
 import org.assertj.core.api.BDDAssertions;
@@ -177,6 +178,17 @@ public class ReleaseTrainContentsUpdaterTests {
 				.contains("Updating project page to release train [2020.0.5]");
 	}
 
+	@Test
+	public void should_insert_the_content_in_the_middle_of_the_page(@TempDir Path tempDir) throws IOException {
+		Path page = tempDir.resolve("page.md");
+		Files.writeString(page, "header\n# 2020.0.1\nnotes\n");
+
+		ReleaseTrainContentsUpdater.insert(page, "header\n".length(), "# 2020.0.2\n".getBytes());
+
+		BDDAssertions.then(Files.readString(page)).isEqualTo("header\n# 2020.0.2\n# 2020.0.1\nnotes\n");
+		BDDAssertions.then(tempDir.toFile().list()).containsExactly("page.md");
+	}
+
 	private String edgwareWikiEntryContent(File file) throws IOException {
 		return string(file, "Spring-Cloud-Edgware-Release-Notes.md");
 	}
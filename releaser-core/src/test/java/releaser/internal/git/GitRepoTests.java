@@ -23,17 +23,21 @@ import java.io.PrintStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RepositoryState;
+import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.URIish;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
 import releaser.internal.buildsystem.TestUtils;
 
 import static org.assertj.core.api.Assertions.fail;
@@ -86,6 +90,23 @@ public class GitRepoTests {
 						.hasCauseInstanceOf(CustomException.class);
 	}
 
+	@Test
+	public void should_check_remote_tags_without_cloning_the_project() throws IOException {
+		URIish uri = new URIish(this.springCloudReleaseProject.toURI().toURL());
+
+		then(this.gitRepo.hasRemoteTag(uri, "vCamden.SR3")).isTrue();
+		then(this.gitRepo.hasRemoteTag(uri, "vFoo.SR1")).isFalse();
+		then(this.tmpFolder.list()).isEmpty();
+	}
+
+	@Test
+	public void should_list_remote_branches_without_cloning_the_project() throws IOException {
+		URIish uri = new URIish(this.springCloudReleaseProject.toURI().toURL());
+
+		then(this.gitRepo.remoteBranches(uri)).contains("Camden.x").doesNotContain("vCamden.SR3");
+		then(this.tmpFolder.list()).isEmpty();
+	}
+
 	@Test
 	public void should_check_out_a_branch_on_cloned_repo() throws IOException {
 		URIish uri = new URIish(this.springCloudReleaseProject.toURI().toURL());
@@ -137,6 +158,17 @@ public class GitRepoTests {
 		}
 	}
 
+	@Test
+	public void should_not_delete_a_repo_with_unpushed_changes_when_checking_out_fails() throws IOException {
+		File project = new GitRepo(this.tmpFolder)
+				.cloneProject(new URIish(this.springCloudReleaseProject.toURI().toURL()));
+
+		thenThrownBy(() -> new GitRepo(project, new ReleaserProperties(), false).checkout("nonExistingBranch"))
+				.isInstanceOf(IllegalStateException.class);
+
+		then(new File(project, ".git")).isDirectory();
+	}
+
 	@Test
 	public void should_commit_changes() throws Exception {
 		URIish uri = new URIish(this.springCloudReleaseProject.toURI().toURL());
@@ -222,6 +254,43 @@ public class GitRepoTests {
 		}
 	}
 
+	@Test
+	public void should_rebase_and_push_again_when_the_remote_branch_has_moved(@TempDir Path tempDirOrigin,
+			@TempDir Path tempDirProject, @TempDir Path tempDirOtherProject) throws Exception {
+		File origin = GitTestUtils.clonedProject(tempDirOrigin.toFile(), this.springCloudReleaseProject);
+		File project = clonedProjectWithOrigin(tempDirProject, origin);
+		File otherProject = clonedProjectWithOrigin(tempDirOtherProject, origin);
+		commitFile(otherProject, "other", "other");
+		new GitRepo(otherProject).pushCurrentBranch();
+		commitFile(project, "project", "project");
+
+		new GitRepo(project).pushCurrentBranchRebasingIfRejected(1);
+
+		try (Git git = openGitProject(origin)) {
+			List<String> messages = new ArrayList<>();
+			git.log().setMaxCount(2).call().forEach(commit -> messages.add(commit.getShortMessage()));
+			then(messages).containsExactly("project", "other");
+		}
+	}
+
+	@Test
+	public void should_abort_the_rebase_when_the_changes_conflict_with_the_remote_branch(@TempDir Path tempDirOrigin,
+			@TempDir Path tempDirProject, @TempDir Path tempDirOtherProject) throws Exception {
+		File origin = GitTestUtils.clonedProject(tempDirOrigin.toFile(), this.springCloudReleaseProject);
+		File project = clonedProjectWithOrigin(tempDirProject, origin);
+		File otherProject = clonedProjectWithOrigin(tempDirOtherProject, origin);
+		commitFile(otherProject, "conflicting", "other");
+		new GitRepo(otherProject).pushCurrentBranch();
+		commitFile(project, "conflicting", "project");
+
+		thenThrownBy(() -> new GitRepo(project).pushCurrentBranchRebasingIfRejected(1))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("Failed to rebase");
+		try (Git git = openGitProject(project)) {
+			then(git.getRepository().getRepositoryState()).isEqualTo(RepositoryState.SAFE);
+			then(git.log().call().iterator().next().getShortMessage()).isEqualTo("project");
+		}
+	}
+
 	@Test
 	public void should_return_the_branch_name(@TempDir Path tempDirOrigin, @TempDir Path tempDirProject)
 			throws Exception {
@@ -261,6 +330,26 @@ public class GitRepoTests {
 		return new GitRepo.JGitFactory().open(project);
 	}
 
+	private File clonedProjectWithOrigin(Path tempDir, File origin) throws Exception {
+		File project = new GitRepo(tempDir.toFile())
+				.cloneProject(new URIish(this.springCloudReleaseProject.toURI().toURL()));
+		try (Git git = openGitProject(project)) {
+			StoredConfig config = git.getRepository().getConfig();
+			config.setString("remote", "origin", "url", origin.toURI().toURL().toString());
+			config.save();
+			git.fetch().call();
+		}
+		return project;
+	}
+
+	private void commitFile(File project, String fileName, String content) throws Exception {
+		Files.writeString(new File(project, fileName).toPath(), content);
+		try (Git git = openGitProject(project)) {
+			git.add().addFilepattern(fileName).call();
+		}
+		new GitRepo(project).commit(content);
+	}
+
 	private void createNewFile(File project) throws Exception {
 		File newFile = new File(project, "newFile");
 		newFile.createNewFile();
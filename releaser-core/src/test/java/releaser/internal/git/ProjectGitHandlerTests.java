@@ -17,21 +17,29 @@
 package releaser.internal.git;
 
 import java.io.File;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.BDDAssertions;
+import org.eclipse.jgit.transport.URIish;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import releaser.SpringCloudReleaserProperties;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * @author Marcin Grzejszczak
@@ -194,6 +202,44 @@ public class ProjectGitHandlerTests {
 		this.properties.getGit().setReleaseTrainBranch(null);
 	}
 
+	@Test
+	public void should_pick_the_branch_of_a_project_from_org_without_cloning_it() {
+		this.properties.getFixedVersions().put("spring-cloud-sleuth", "2.3.4.RELEASE");
+		given(this.gitRepo.remoteBranches(any())).willReturn(Set.of("main", "2.3.x"));
+
+		String branch = this.updater.branchOfProjectFromOrg("spring-cloud-sleuth");
+
+		BDDAssertions.then(branch).isEqualTo("2.3.x");
+		then(this.gitRepo).should(never()).checkout(anyString());
+	}
+
+	@Test
+	public void should_pick_the_default_branch_of_a_project_from_org_when_the_branch_does_not_exist() {
+		this.properties.getFixedVersions().put("spring-cloud-sleuth", "2.3.4.RELEASE");
+		given(this.gitRepo.remoteBranches(any())).willReturn(Set.of("main"));
+
+		BDDAssertions.then(this.updater.branchOfProjectFromOrg("spring-cloud-sleuth")).isNull();
+	}
+
+	@Test
+	public void should_pick_the_release_train_branch_of_a_project_from_org() {
+		this.properties.getGit().setReleaseTrainBranch("2020.0.x");
+		given(this.gitRepo.remoteBranches(any())).willReturn(Set.of("main", "2020.0.x"));
+
+		String branch = this.updater.branchOfProjectFromOrg("spring-cloud-release");
+
+		BDDAssertions.then(branch).isEqualTo("2020.0.x");
+		this.properties.getGit().setReleaseTrainBranch(null);
+	}
+
+	@Test
+	public void should_throw_exception_when_no_fixed_version_passed_for_the_project_when_picking_its_branch() {
+		given(this.gitRepo.remoteBranches(any())).willReturn(Set.of("main"));
+
+		BDDAssertions.thenThrownBy(() -> this.updater.branchOfProjectFromOrg("spring-cloud-sleuth"))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("You haven't provided a version");
+	}
+
 	@Test
 	public void should_not_check_out_a_branch_if_it_does_not_exist_when_cloning_and_guessing_branch() {
 		given(this.gitRepo.hasBranch(anyString())).willReturn(true);
@@ -235,6 +281,149 @@ public class ProjectGitHandlerTests {
 		then(this.gitRepo).should().checkout("Finchley");
 	}
 
+	@Test
+	public void should_push_the_changes_of_a_shared_repo_once_at_the_end_of_the_run() {
+		this.properties.getGit().setBatchPushes(true);
+		File docs = new File("docs").getAbsoluteFile();
+
+		try {
+			this.updater.pushCurrentBranchOfSharedRepo(docs);
+			this.updater.pushCurrentBranchOfSharedRepo(docs);
+			then(this.gitRepo).should(never()).pushCurrentBranchRebasingIfRejected(anyInt());
+
+			BDDAssertions.then(this.updater.pushPendingChanges().isSuccess()).isTrue();
+			BDDAssertions.then(this.updater.pushPendingChanges().isSuccess()).isTrue();
+		}
+		finally {
+			this.updater.close();
+		}
+
+		then(this.gitRepo).should(times(1)).pushCurrentBranchRebasingIfRejected(3);
+	}
+
+	@Test
+	public void should_push_the_changes_of_a_shared_repo_right_away_when_pushes_are_not_batched() {
+		this.properties.getGit().setBatchPushes(false);
+
+		this.updater.pushCurrentBranchOfSharedRepo(new File("docs"));
+
+		then(this.gitRepo).should().pushCurrentBranchRebasingIfRejected(3);
+	}
+
+	@Test
+	public void should_return_a_failure_when_a_pending_push_fails() {
+		this.properties.getGit().setBatchPushes(true);
+		willThrow(new IllegalStateException("rejected")).given(this.gitRepo).pushCurrentBranchRebasingIfRejected(3);
+
+		try {
+			this.updater.pushCurrentBranchOfSharedRepo(new File("docs"));
+
+			BDDAssertions.then(this.updater.pushPendingChanges().isFailure()).isTrue();
+			BDDAssertions.then(this.updater.pushPendingChanges().isFailure()).isTrue();
+		}
+		finally {
+			this.updater.close();
+		}
+	}
+
+	@Test
+	public void should_not_push_the_changes_of_a_shared_repo_at_the_end_of_the_run_by_default() {
+		this.updater.pushCurrentBranchOfSharedRepo(new File("docs"));
+
+		then(this.gitRepo).should().pushCurrentBranchRebasingIfRejected(3);
+	}
+
+	@Test
+	public void should_fail_when_a_shared_repo_with_pending_pushes_cannot_be_reset(@TempDir File docs) {
+		this.properties.getGit().setBatchPushes(true);
+		given(this.gitRepo.cloneProject(any())).willReturn(docs);
+		willThrow(new IllegalStateException("corrupted")).given(this.gitRepo).reset();
+		ProjectGitHandler handler = new ProjectGitHandler(this.properties) {
+			@Override
+			GitRepo gitRepo(File workingDir) {
+				return ProjectGitHandlerTests.this.gitRepo;
+			}
+		};
+		String url = "https://github.com/spring-cloud/pending-pushes.wiki";
+
+		try {
+			BDDAssertions.then(handler.cloneProject(url)).isEqualTo(docs);
+			handler.pushCurrentBranchOfSharedRepo(docs);
+
+			BDDAssertions.thenThrownBy(() -> handler.cloneProject(url)).isInstanceOf(IllegalStateException.class)
+					.hasMessageContaining("changes that haven't been pushed yet");
+		}
+		finally {
+			handler.close();
+		}
+	}
+
+	@Test
+	public void should_clone_spring_docs_actions_once_per_run() {
+		this.properties.getAntora().setSpringDocsActionsUrl("https://github.com/spring-io/spring-docs-actions.git");
+		this.properties.getAntora().setSpringDocsActionsTag("v0.0.15");
+		AtomicInteger clones = new AtomicInteger();
+		ProjectGitHandler handler = new ProjectGitHandler(this.properties) {
+			@Override
+			GitRepo gitRepo(File workingDir) {
+				return ProjectGitHandlerTests.this.gitRepo;
+			}
+
+			@Override
+			File cloneProject(String url) {
+				clones.incrementAndGet();
+				return new File(".");
+			}
+		};
+
+		try {
+			handler.cloneAndCheckoutSpringDocsActions();
+			handler.cloneAndCheckoutSpringDocsActions();
+		}
+		finally {
+			handler.close();
+		}
+
+		BDDAssertions.then(clones).hasValue(1);
+		then(this.gitRepo).should().checkoutTag("v0.0.15");
+	}
+
+	@Test
+	public void should_reuse_spring_docs_actions_checked_out_at_a_tag_by_a_previous_run(@TempDir File cache)
+			throws Exception {
+		this.properties.getAntora().setSpringDocsActionsUrl("https://github.com/spring-io/spring-docs-actions.git");
+		this.properties.getAntora().setSpringDocsActionsTag("v0.0.15");
+		this.properties.getAntora().setSpringDocsActionsCacheDirectory(cache.getAbsolutePath());
+		given(this.gitRepo.cloneProject(any(URIish.class))).willAnswer(invocation -> {
+			File project = new File(cache.listFiles()[0], "spring-docs-actions");
+			project.mkdirs();
+			return project;
+		});
+
+		File firstRun = cloneAndCheckoutSpringDocsActionsInNewRun();
+		File secondRun = cloneAndCheckoutSpringDocsActionsInNewRun();
+
+		BDDAssertions.then(secondRun).isEqualTo(firstRun);
+		BDDAssertions.then(firstRun.getParentFile().getParentFile()).isEqualTo(cache);
+		then(this.gitRepo).should().cloneProject(any(URIish.class));
+		then(this.gitRepo).should().checkoutTag("v0.0.15");
+	}
+
+	private File cloneAndCheckoutSpringDocsActionsInNewRun() {
+		ProjectGitHandler handler = new ProjectGitHandler(this.properties) {
+			@Override
+			GitRepo gitRepo(File workingDir) {
+				return ProjectGitHandlerTests.this.gitRepo;
+			}
+		};
+		try {
+			return handler.cloneAndCheckoutSpringDocsActions();
+		}
+		finally {
+			handler.close();
+		}
+	}
+
 	private ProjectVersion projectVersion(String version) {
 		return new ProjectVersion("foo", version);
 	}
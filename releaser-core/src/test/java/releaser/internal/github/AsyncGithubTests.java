@@ -0,0 +1,110 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.HttpException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+@WireMockTest(httpPort = 12347)
+class AsyncGithubTests {
+
+	GitHub github;
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.github = GitHub.connectToEnterpriseWithOAuth("http://localhost:12347", "user", "TOKEN");
+	}
+
+	@Test
+	void should_share_a_single_request_between_concurrent_calls_for_the_same_repository() {
+		stubFor(get(urlEqualTo("/repos/foo/bar"))
+				.willReturn(aResponse().withFixedDelay(500).withHeader("Content-Type", "application/json").withBody(
+						"{\"name\":\"bar\",\"full_name\":\"foo/bar\",\"url\":\"http://localhost:12347/repos/foo/bar\"}")));
+		AsyncGithub asyncGithub = new AsyncGithub(this.github, 4, 1, 0L, 0);
+
+		CompletableFuture<GHRepository> first = asyncGithub.repository("foo/bar");
+		CompletableFuture<GHRepository> second = asyncGithub.repository("foo/bar");
+
+		then(AsyncGithub.await(first)).isSameAs(AsyncGithub.await(second));
+		then(AsyncGithub.await(first).getFullName()).isEqualTo("foo/bar");
+		verify(1, getRequestedFor(urlEqualTo("/repos/foo/bar")));
+	}
+
+	@Test
+	void should_retry_calls_that_failed_with_a_server_error() {
+		AsyncGithub asyncGithub = new AsyncGithub(this.github, 1, 3, 1L, 0);
+		AtomicInteger counter = new AtomicInteger();
+
+		String result = AsyncGithub.await(asyncGithub.call("retried", () -> {
+			if (counter.incrementAndGet() < 3) {
+				throw new HttpException("Service unavailable", 503, "Service unavailable", "http://localhost");
+			}
+			return "done";
+		}));
+
+		then(result).isEqualTo("done");
+		then(counter.get()).isEqualTo(3);
+	}
+
+	@Test
+	void should_not_retry_calls_for_resources_that_do_not_exist() {
+		AsyncGithub asyncGithub = new AsyncGithub(this.github, 1, 3, 1L, 0);
+		AtomicInteger counter = new AtomicInteger();
+
+		thenThrownBy(() -> AsyncGithub.await(asyncGithub.call("missing", () -> {
+			counter.incrementAndGet();
+			throw new FileNotFoundException("Not found");
+		}))).isInstanceOf(UncheckedIOException.class).hasCauseInstanceOf(FileNotFoundException.class);
+		then(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void should_wait_for_rate_limit_reset_only_when_remaining_requests_drop_to_the_threshold() {
+		AsyncGithub asyncGithub = new AsyncGithub(this.github, 1, 1, 0L, 10);
+		long now = 1_000_000L;
+		long resetInSeconds = now / 1000L + 30L;
+
+		then(asyncGithub.rateLimitDelayMillis(new GHRateLimit.Record(5000, 11, resetInSeconds), now)).isZero();
+		then(asyncGithub.rateLimitDelayMillis(new GHRateLimit.Record(5000, 10, resetInSeconds), now))
+				.isEqualTo(30_000L);
+		then(asyncGithub.rateLimitDelayMillis(new GHRateLimit.Record(5000, 0, now / 1000L - 1), now)).isZero();
+	}
+
+}
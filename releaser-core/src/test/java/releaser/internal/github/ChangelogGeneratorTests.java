@@ -0,0 +1,264 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.project.ProjectVersion;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.loader.tools.Library;
+import org.springframework.boot.loader.tools.LibraryScope;
+import org.springframework.boot.loader.tools.Repackager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+@WireMockTest(httpPort = 12349)
+class ChangelogGeneratorTests {
+
+	private static final String FAKE_GENERATOR = "public class FakeGenerator {\n"
+			+ "  public static void main(String[] args) throws Exception {\n" + "    for (String arg : args) {\n"
+			+ "      if (arg.startsWith(\"--\") && arg.contains(\"failing\")) {\n"
+			+ "        throw new IllegalStateException(\"Boom!\");\n" + "      }\n" + "    }\n"
+			+ "    java.nio.file.Files.writeString(java.nio.file.Path.of(args[args.length - 1]),\n"
+			+ "        String.join(\" \", args) + \" repository=\" + System.getProperty(\"changelog.repository\"));\n"
+			+ "  }\n" + "}\n";
+
+	private static final String BOOT_GENERATOR = "import java.nio.file.*;\n"
+			+ "import org.springframework.beans.factory.DisposableBean;\n" + "import org.springframework.boot.*;\n"
+			+ "import org.springframework.core.env.Environment;\n" + "@SpringBootConfiguration\n"
+			+ "public class BootGenerator implements CommandLineRunner, DisposableBean {\n"
+			+ "  private final Environment environment;\n" + "  private Path output;\n"
+			+ "  public BootGenerator(Environment environment) { this.environment = environment; }\n"
+			+ "  public static void main(String[] args) { SpringApplication.run(BootGenerator.class, args); }\n"
+			+ "  public void run(String... args) throws Exception {\n"
+			+ "    java.util.List<String> values = new DefaultApplicationArguments(args).getNonOptionArgs();\n"
+			+ "    this.output = Path.of(values.get(1));\n"
+			+ "    Files.writeString(this.output, values.get(0) + \" repository=\"\n"
+			+ "        + this.environment.getProperty(\"changelog.repository\") + \" pid=\" + ProcessHandle.current().pid());\n"
+			+ "  }\n" + "  public void destroy() throws Exception {\n"
+			+ "    Files.writeString(this.output.resolveSibling(this.output.getFileName() + \".closed\"), \"closed\");\n"
+			+ "  }\n" + "}\n";
+
+	@TempDir
+	Path tmp;
+
+	byte[] generator;
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.generator = fakeGeneratorJar();
+	}
+
+	@Test
+	void should_download_the_generator_once_and_run_it_in_process() throws IOException {
+		stubFor(get(urlEqualTo("/in-process.jar")).willReturn(aResponse().withBody(this.generator)));
+		ChangelogGenerator changelogGenerator = new ChangelogGenerator(properties("/in-process.jar"));
+
+		String first = changelogGenerator.generate(new ProjectVersion("spring-cloud-build", "3.1.8"));
+		String second = changelogGenerator.generate(new ProjectVersion("spring-cloud-commons", "3.1.7"));
+
+		then(first).startsWith("--changelog.repository=spring-cloud/spring-cloud-build").contains("3.1.8");
+		then(second).startsWith("--changelog.repository=spring-cloud/spring-cloud-commons").contains("3.1.7");
+		verify(1, getRequestedFor(urlEqualTo("/in-process.jar")));
+	}
+
+	@Test
+	void should_load_the_generator_once_for_all_the_runs() throws Exception {
+		stubFor(get(urlEqualTo("/loaded-once.jar")).willReturn(aResponse().withBody(this.generator)));
+		ChangelogGenerator changelogGenerator = new ChangelogGenerator(properties("/loaded-once.jar"));
+		changelogGenerator.generate(new ProjectVersion("spring-cloud-build", "3.1.8"));
+		Path jar = changelogGenerator.download();
+		ClassLoader classLoader = changelogGenerator.generator(jar).classLoader;
+
+		changelogGenerator.generate(new ProjectVersion("spring-cloud-commons", "3.1.7"));
+
+		then(changelogGenerator.generator(jar).classLoader).isSameAs(classLoader);
+	}
+
+	@Test
+	void should_fall_back_to_a_separate_process_when_the_in_process_run_fails() throws IOException {
+		stubFor(get(urlEqualTo("/fallback.jar")).willReturn(aResponse().withBody(this.generator)));
+		ChangelogGenerator changelogGenerator = new ChangelogGenerator(properties("/fallback.jar"));
+
+		String changelog = changelogGenerator.generate(new ProjectVersion("failing", "1.0.0"));
+
+		then(changelog).startsWith("1.0.0").endsWith("repository=spring-cloud/failing");
+	}
+
+	@Test
+	void should_run_the_generator_in_a_separate_process_when_in_process_mode_is_off() throws IOException {
+		stubFor(get(urlEqualTo("/process.jar")).willReturn(aResponse().withBody(this.generator)));
+		ReleaserProperties properties = properties("/process.jar");
+		properties.getGit().setGithubChangelogGeneratorInProcess(false);
+
+		String changelog = new ChangelogGenerator(properties)
+				.generate(new ProjectVersion("spring-cloud-build", "3.1.8"));
+
+		then(changelog).startsWith("3.1.8").endsWith("repository=spring-cloud/spring-cloud-build");
+	}
+
+	@Test
+	void should_fail_when_the_checksum_of_the_downloaded_generator_does_not_match() {
+		stubFor(get(urlEqualTo("/tampered.jar")).willReturn(aResponse().withBody(this.generator)));
+		ReleaserProperties properties = properties("/tampered.jar");
+		properties.getGit().setGithubChangelogGeneratorSha256("abc");
+
+		thenThrownBy(() -> new ChangelogGenerator(properties).download()).isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("doesn't match the expected one [abc]");
+	}
+
+	@Test
+	void should_verify_the_checksum_of_the_downloaded_generator() throws IOException {
+		stubFor(get(urlEqualTo("/verified.jar")).willReturn(aResponse().withBody(this.generator)));
+		Path jar = Files.createTempFile(this.tmp, "generator", ".jar");
+		Files.write(jar, this.generator);
+		ReleaserProperties properties = properties("/verified.jar");
+		properties.getGit().setGithubChangelogGeneratorSha256(ChangelogGenerator.sha256(jar));
+
+		Path downloaded = new ChangelogGenerator(properties).download();
+
+		then(downloaded).hasSameBinaryContentAs(jar);
+		then(downloaded.resolveSibling(downloaded.getFileName() + ".sha256")).exists();
+	}
+
+	@Test
+	void should_run_a_spring_boot_generator_in_process_and_close_its_context() throws Exception {
+		stubFor(get(urlEqualTo("/boot-in-process.jar")).willReturn(aResponse().withBody(bootGeneratorJar())));
+		ChangelogGenerator changelogGenerator = new ChangelogGenerator(properties("/boot-in-process.jar"));
+
+		String first = changelogGenerator.generate(new ProjectVersion("spring-cloud-build", "3.1.8"));
+		String second = changelogGenerator.generate(new ProjectVersion("spring-cloud-commons", "3.1.7"));
+
+		long pid = ProcessHandle.current().pid();
+		then(first).isEqualTo("3.1.8 repository=spring-cloud/spring-cloud-build pid=" + pid);
+		then(second).isEqualTo("3.1.7 repository=spring-cloud/spring-cloud-commons pid=" + pid);
+		Path directory = changelogGenerator.download().getParent();
+		then(directory.resolve("spring-cloud-build.md.closed")).exists();
+		then(directory.resolve("spring-cloud-commons.md.closed")).exists();
+	}
+
+	@Test
+	void should_run_a_spring_boot_generator_in_a_separate_process() throws Exception {
+		stubFor(get(urlEqualTo("/boot-process.jar")).willReturn(aResponse().withBody(bootGeneratorJar())));
+		ReleaserProperties properties = properties("/boot-process.jar");
+		properties.getGit().setGithubChangelogGeneratorInProcess(false);
+
+		String changelog = new ChangelogGenerator(properties)
+				.generate(new ProjectVersion("spring-cloud-build", "3.1.8"));
+
+		then(changelog).startsWith("3.1.8 repository=spring-cloud/spring-cloud-build pid=")
+				.doesNotEndWith("pid=" + ProcessHandle.current().pid());
+	}
+
+	private ReleaserProperties properties(String path) {
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getGit().setCacheDirectory(this.tmp.toString());
+		properties.getGit().setGithubChangelogGeneratorUrl("http://localhost:12349" + path);
+		properties.getGit().setOrgName("spring-cloud");
+		properties.getGit().setUsername("user");
+		properties.getGit().setOauthToken("token");
+		return properties;
+	}
+
+	private byte[] fakeGeneratorJar() throws IOException {
+		return Files.readAllBytes(jar("FakeGenerator", FAKE_GENERATOR, Collections.emptyList()).toPath());
+	}
+
+	/**
+	 * A Spring Boot fat jar, repackaged the same way the Spring Boot Maven plugin does.
+	 */
+	private byte[] bootGeneratorJar() throws Exception {
+		List<File> libraries = new ArrayList<>();
+		for (Class<?> type : Arrays.asList(SpringApplication.class, ApplicationContext.class, Environment.class,
+				DisposableBean.class, AopUtils.class, SpelExpressionParser.class, LogFactory.class, Observation.class,
+				KeyValue.class)) {
+			libraries.add(new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()));
+		}
+		File jar = jar("BootGenerator", BOOT_GENERATOR, libraries);
+		File fatJar = this.tmp.resolve("boot-generator.jar").toFile();
+		Repackager repackager = new Repackager(jar);
+		repackager.setMainClass("BootGenerator");
+		repackager.repackage(fatJar, callback -> {
+			for (File library : libraries) {
+				callback.library(new Library(library, LibraryScope.COMPILE));
+			}
+		});
+		return Files.readAllBytes(fatJar.toPath());
+	}
+
+	private File jar(String mainClass, String code, List<File> classpath) throws IOException {
+		Path sources = Files.createDirectories(this.tmp.resolve("sources").resolve(mainClass));
+		Path source = sources.resolve(mainClass + ".java");
+		Files.writeString(source, code);
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		then(compiler.run(null, null, null, "-classpath",
+				classpath.stream().map(File::toString).collect(Collectors.joining(File.pathSeparator)), "-d",
+				sources.toString(), source.toString())).isZero();
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+		File jar = sources.resolve(mainClass + ".jar").toFile();
+		try (OutputStream stream = Files.newOutputStream(jar.toPath());
+				JarOutputStream jarStream = new JarOutputStream(stream, manifest)) {
+			jarStream.putNextEntry(new JarEntry(mainClass + ".class"));
+			jarStream.write(Files.readAllBytes(sources.resolve(mainClass + ".class")));
+			jarStream.closeEntry();
+		}
+		return jar;
+	}
+
+}
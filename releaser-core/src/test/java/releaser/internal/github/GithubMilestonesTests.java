@@ -22,12 +22,16 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHMilestone;
 import org.kohsuke.github.GitHub;
+import org.mockito.BDDMockito;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
 
@@ -104,21 +108,52 @@ class GithubMilestonesTests {
 	}
 
 	@Test
-	void should_fetch_url_of_a_closed_matching_milestone_from_cache() {
+	void should_fetch_url_of_a_closed_matching_milestone_from_cache() throws IOException {
 		GithubMilestones milestones = new GithubMilestones(this.github, withToken()) {
 			@Override
 			GHMilestone matchingMilestone(String tagVersion, Iterable<GHMilestone> milestones) {
 				throw new AssertionError("This should not be called");
 			}
+
+			@Override
+			URL foundMilestoneUrl(GHMilestone milestone) throws IOException {
+				return new URL("https://api.github.com/repos/marcingrzejszczak/test-repo/milestones/3");
+			}
 		};
-		GithubMilestones.MILESTONE_URL_CACHE.put(gaProject(),
-				"https://github.com/marcingrzejszczak/test-repo/milestone/3?closed=1");
+		GHMilestone milestone = BDDMockito.mock(GHMilestone.class);
+		BDDMockito.given(milestone.getTitle()).willReturn("0.0.1");
+		milestones.milestoneIndex.index("marcingrzejszczak/test-repo", GHIssueState.CLOSED, milestone);
 
 		String url = milestones.milestoneUrl(gaProject());
 
 		then(url).isEqualTo("https://github.com/marcingrzejszczak/test-repo/milestone/3?closed=1");
 	}
 
+	@Test
+	void should_not_fetch_milestones_again_when_looking_for_an_already_fetched_one() throws IOException {
+		GithubMilestones milestones = new GithubMilestones(this.github, withToken());
+		milestones.milestoneUrl(closedProject());
+		WireMock.resetAllRequests();
+
+		String url = milestones.milestoneUrl(closedProject());
+
+		then(url).isEqualTo("https://github.com/marcingrzejszczak/test-repo/milestone/3?closed=1");
+		WireMock.verify(0, WireMock.anyRequestedFor(WireMock.anyUrl()));
+	}
+
+	@Test
+	void should_find_a_milestone_closed_in_this_run_without_fetching_milestones_again() throws IOException {
+		GithubMilestones milestones = new GithubMilestones(this.github, withToken());
+		milestones.milestoneUrl(closedProject());
+		milestones.closeMilestone(gaProject());
+		WireMock.resetAllRequests();
+
+		String url = milestones.milestoneUrl(gaProject());
+
+		then(url).startsWith("https://github.com/marcingrzejszczak/test-repo/milestone/");
+		WireMock.verify(0, WireMock.anyRequestedFor(WireMock.anyUrl()));
+	}
+
 	@Test
 	void should_return_null_if_no_matching_milestone_was_found() {
 		GithubMilestones milestones = new GithubMilestones(this.github, withToken()) {
@@ -210,6 +245,24 @@ class GithubMilestonesTests {
 		then(capturedOutput.toString()).contains("Created a new release");
 	}
 
+	@Test
+	void should_not_create_a_release_again_when_the_failed_attempt_has_created_it(CapturedOutput capturedOutput) {
+		String releases = "/repos/" + ORG + "/spring-cloud-contract/releases";
+		WireMock.stubFor(WireMock.post(WireMock.urlEqualTo(releases)).atPriority(1).inScenario("timed out release")
+				.whenScenarioStateIs(Scenario.STARTED).willReturn(WireMock.aResponse().withStatus(502))
+				.willSetStateTo("created"));
+		WireMock.stubFor(WireMock.get(WireMock.urlEqualTo(releases + "/tags/v3.1.8")).inScenario("timed out release")
+				.whenScenarioStateIs("created")
+				.willReturn(WireMock.okJson("{\"id\":1,\"tag_name\":\"v3.1.8\",\"name\":\"3.1.8\"}")));
+		ReleaserProperties properties = withToken();
+		properties.getGit().setGithubBackoffMillis(1L);
+
+		new GithubMilestones(this.github, properties).createGithubMilestoneReleaseNotes(gaContractVersion(), "FOOOO");
+
+		WireMock.verify(1, WireMock.postRequestedFor(WireMock.urlEqualTo(releases)));
+		then(capturedOutput.toString()).contains("Release v3.1.8 already exists, will not create it again");
+	}
+
 	ProjectVersion nonGaSleuthProject() {
 		return new ProjectVersion("test-repo", "0.0.1-SNAPSHOT");
 	}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHMilestone;
+import org.kohsuke.github.GitHub;
+import org.mockito.BDDMockito;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+@WireMockTest(httpPort = 12348)
+class MilestoneIndexTests {
+
+	private static final String MILESTONES = "/repos/foo/bar/milestones";
+
+	AsyncGithub github;
+
+	MutableClock clock = new MutableClock();
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.github = new AsyncGithub(GitHub.connectToEnterpriseWithOAuth("http://localhost:12348", "user", "TOKEN"), 1,
+				1, 0L, 0);
+		stubFor(get(urlEqualTo("/repos/foo/bar")).willReturn(
+				json("{\"name\":\"bar\",\"full_name\":\"foo/bar\",\"url\":\"http://localhost:12348/repos/foo/bar\"}")));
+		stubFor(get(urlPathEqualTo(MILESTONES)).withQueryParam("page", absent())
+				.willReturn(json(milestones(1, 2)).withHeader("Link",
+						"<http://localhost:12348" + MILESTONES + "?state=closed&per_page=2&page=2>; rel=\"next\"")));
+		stubFor(get(urlPathEqualTo(MILESTONES)).withQueryParam("page", equalTo("2"))
+				.willReturn(json(milestones(3, 4))));
+	}
+
+	@Test
+	void should_stop_paging_at_the_first_matching_milestone() {
+		MilestoneIndex index = index(Duration.ofMinutes(30));
+
+		GHMilestone milestone = find(index, "1.0.2");
+
+		then(milestone.getNumber()).isEqualTo(2);
+		verify(1, getRequestedFor(urlPathEqualTo(MILESTONES)));
+	}
+
+	@Test
+	void should_continue_paging_from_where_the_previous_lookup_stopped() {
+		MilestoneIndex index = index(Duration.ofMinutes(30));
+		find(index, "1.0.1");
+
+		then(find(index, "1.0.2").getNumber()).isEqualTo(2);
+		then(find(index, "1.0.4").getNumber()).isEqualTo(4);
+		then(index.indexed("foo/bar", GHIssueState.CLOSED, "1.0.3").getNumber()).isEqualTo(3);
+
+		verify(1, getRequestedFor(urlPathEqualTo(MILESTONES)).withQueryParam("page", absent()));
+		verify(1, getRequestedFor(urlPathEqualTo(MILESTONES)).withQueryParam("page", equalTo("2")));
+	}
+
+	@Test
+	void should_fetch_milestones_again_when_the_entry_expired() {
+		MilestoneIndex index = index(Duration.ofMinutes(30));
+		find(index, "1.0.1");
+
+		this.clock.advance(Duration.ofMinutes(31));
+
+		then(index.indexed("foo/bar", GHIssueState.CLOSED, "1.0.1")).isNull();
+		then(find(index, "1.0.1").getNumber()).isEqualTo(1);
+		verify(2, getRequestedFor(urlPathEqualTo(MILESTONES)));
+	}
+
+	@Test
+	void should_evict_least_recently_used_repositories() {
+		MilestoneIndex index = new MilestoneIndex(this.github, 2, Duration.ofMinutes(30), 1, this.clock);
+		find(index, "1.0.1");
+
+		index.milestones("foo/baz", GHIssueState.CLOSED);
+
+		then(index.indexed("foo/bar", GHIssueState.CLOSED, "1.0.1")).isNull();
+	}
+
+	@Test
+	void should_find_a_milestone_closed_after_all_the_closed_ones_were_fetched() {
+		MilestoneIndex index = index(Duration.ofMinutes(30));
+		then(find(index, "2.0.0")).isNull();
+		GHMilestone milestone = BDDMockito.mock(GHMilestone.class);
+		BDDMockito.given(milestone.getTitle()).willReturn("2.0.0");
+
+		index.closed("foo/bar", milestone);
+
+		then(index.indexed("foo/bar", GHIssueState.CLOSED, "2.0.0")).isSameAs(milestone);
+		then(find(index, "2.0.0")).isSameAs(milestone);
+		verify(2, getRequestedFor(urlPathEqualTo(MILESTONES)));
+	}
+
+	@Test
+	void should_drop_the_open_milestones_of_the_repository_when_a_milestone_is_closed() {
+		MilestoneIndex index = index(Duration.ofMinutes(30));
+		index.milestones("foo/bar", GHIssueState.OPEN).iterator().next();
+		then(index.indexed("foo/bar", GHIssueState.OPEN, "1.0.1")).isNotNull();
+
+		index.closed("foo/bar", index.indexed("foo/bar", GHIssueState.OPEN, "1.0.1"));
+
+		then(index.indexed("foo/bar", GHIssueState.OPEN, "1.0.1")).isNull();
+	}
+
+	private MilestoneIndex index(Duration ttl) {
+		return new MilestoneIndex(this.github, 2, ttl, 10, this.clock);
+	}
+
+	private GHMilestone find(MilestoneIndex index, String title) {
+		for (GHMilestone milestone : index.milestones("foo/bar", GHIssueState.CLOSED)) {
+			if (title.equals(milestone.getTitle())) {
+				return milestone;
+			}
+		}
+		return null;
+	}
+
+	private static ResponseDefinitionBuilder json(String body) {
+		return aResponse().withHeader("Content-Type", "application/json").withBody(body);
+	}
+
+	private static String milestones(int from, int to) {
+		return IntStream.rangeClosed(from, to)
+				.mapToObj(number -> "{\"number\":" + number + ",\"title\":\"1.0." + number + "\",\"state\":\"closed\","
+						+ "\"url\":\"http://localhost:12348" + MILESTONES + "/" + number + "\"}")
+				.collect(Collectors.joining(",", "[", "]"));
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
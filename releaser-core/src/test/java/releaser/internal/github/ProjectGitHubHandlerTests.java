@@ -0,0 +1,111 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.tech.ReleaserExecutor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ProjectGitHubHandlerTests {
+
+	ReleaserExecutor executor = new ReleaserExecutor();
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	ProjectVersion version = new ProjectVersion("spring-cloud-contract", "3.1.8");
+
+	@AfterEach
+	void close() {
+		this.executor.close();
+	}
+
+	@Test
+	void should_close_the_milestone_while_creating_its_release_notes() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		ProjectGitHubHandler handler = new ProjectGitHubHandler(this.properties, Collections.emptyList(),
+				this.executor) {
+			@Override
+			public void closeMilestone(ProjectVersion releaseVersion) {
+				awaitTheOther(bothStarted);
+			}
+
+			@Override
+			public void createReleaseNotesForMilestone(ProjectVersion releaseVersion) {
+				awaitTheOther(bothStarted);
+			}
+		};
+
+		handler.closeMilestoneAndCreateReleaseNotes(this.version);
+
+		then(bothStarted.getCount()).isZero();
+	}
+
+	@Test
+	void should_fail_when_closing_the_milestone_fails() {
+		ProjectGitHubHandler handler = new ProjectGitHubHandler(this.properties, Collections.emptyList(),
+				this.executor) {
+			@Override
+			public void closeMilestone(ProjectVersion releaseVersion) {
+				throw new IllegalStateException("boom");
+			}
+
+			@Override
+			public void createReleaseNotesForMilestone(ProjectVersion releaseVersion) {
+
+			}
+		};
+
+		thenThrownBy(() -> handler.closeMilestoneAndCreateReleaseNotes(this.version))
+				.isInstanceOf(IllegalStateException.class).hasMessage("boom");
+	}
+
+	@Test
+	void should_share_the_github_client_only_for_the_same_settings() {
+		ReleaserProperties other = new ReleaserProperties();
+		other.getGit().setOauthToken("other");
+		this.properties.getGit().setOauthToken("token");
+
+		then(CachingGithub.getAsyncInstance(this.properties)).isSameAs(CachingGithub.getAsyncInstance(this.properties))
+				.isNotSameAs(CachingGithub.getAsyncInstance(other));
+	}
+
+	private static void awaitTheOther(CountDownLatch bothStarted) {
+		bothStarted.countDown();
+		try {
+			if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+				throw new AssertionError("The other GitHub operation hasn't started in the meantime");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -30,6 +30,7 @@ import org.assertj.core.api.BDDAssertions;
 import org.awaitility.Awaitility;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,7 @@ import releaser.internal.project.ProjectCommandExecutor;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
 import releaser.internal.tech.PomReader;
+import releaser.internal.tech.ReleaserHttpClient;
 import releaser.internal.versions.VersionsFetcher;
 
 import org.springframework.util.FileSystemUtils;
@@ -74,6 +76,8 @@ public class PostReleaseActionsTests {
 
 	ProjectPomUpdater updater = projectPomUpdater(this.properties);
 
+	ReleaserHttpClient httpClient = new ReleaserHttpClient(this.properties);
+
 	VersionsFetcher versionsFetcher = fetcher(this.properties);
 
 	ReleaserPropertiesUpdater releaserPropertiesUpdater = new ReleaserPropertiesUpdater();
@@ -108,7 +112,12 @@ public class PostReleaseActionsTests {
 	}
 
 	private VersionsFetcher fetcher(ReleaserProperties properties) {
-		return new VersionsFetcher(properties, updater);
+		return new VersionsFetcher(properties, updater, this.httpClient);
+	}
+
+	@AfterEach
+	public void close() {
+		this.httpClient.close();
 	}
 
 	@BeforeEach
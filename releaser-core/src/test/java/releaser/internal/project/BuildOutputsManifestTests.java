@@ -0,0 +1,125 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class BuildOutputsManifestTests {
+
+	@TempDir
+	File project;
+
+	ProjectVersion version = new ProjectVersion("foo", "1.0.0");
+
+	@BeforeEach
+	void setup() throws IOException {
+		write("pom.xml", "<project></project>");
+		write("foo-core/pom.xml", "<project></project>");
+		write("foo-core/src/main/java/Foo.java", "class Foo {}");
+		write("foo-core/target/foo-core-1.0.0.jar", "jar");
+		write("foo-core/target/foo-core-1.0.0-tests.jar", "test jar");
+		write("foo-core/target/foo-core-1.0.0.pom", "<project></project>");
+		write("foo-core/target/foo-core-1.0.0-docs.zip", "docs");
+		write("foo-core/target/classes/Foo.class", "class");
+	}
+
+	@Test
+	void should_match_the_project_that_has_not_changed_since_the_build() throws IOException {
+		new BuildOutputsManifest(this.project).write(this.version);
+		write("foo-core/target/classes/Bar.class", "generated after the build");
+
+		then(new BuildOutputsManifest(this.project).matches(this.version)).isTrue();
+	}
+
+	@Test
+	void should_not_match_a_project_without_a_manifest() {
+		then(new BuildOutputsManifest(this.project).matches(this.version)).isFalse();
+	}
+
+	@Test
+	void should_not_match_a_different_version() {
+		new BuildOutputsManifest(this.project).write(this.version);
+
+		then(new BuildOutputsManifest(this.project).matches(new ProjectVersion("foo", "1.0.1"))).isFalse();
+	}
+
+	@Test
+	void should_not_match_when_the_sources_have_changed() throws IOException {
+		new BuildOutputsManifest(this.project).write(this.version);
+
+		write("foo-core/src/main/java/Bar.java", "class Bar {}");
+
+		then(new BuildOutputsManifest(this.project).matches(this.version)).isFalse();
+	}
+
+	@Test
+	void should_not_match_when_the_sources_in_a_package_named_like_a_build_directory_have_changed() throws IOException {
+		write("foo-core/src/main/java/build/Build.java", "class Build {}");
+		write("foo-core/src/main/java/target/Target.java", "class Target {}");
+		new BuildOutputsManifest(this.project).write(this.version);
+
+		write("foo-core/src/main/java/build/Build.java", "class Build { }");
+		write("foo-core/src/main/java/target/Target.java", "class Target { }");
+
+		then(new BuildOutputsManifest(this.project).matches(this.version)).isFalse();
+	}
+
+	@Test
+	void should_not_match_when_an_artifact_has_changed() throws IOException {
+		new BuildOutputsManifest(this.project).write(this.version);
+
+		write("foo-core/target/foo-core-1.0.0.jar", "tampered");
+
+		then(new BuildOutputsManifest(this.project).matches(this.version)).isFalse();
+	}
+
+	@Test
+	void should_not_match_when_an_attached_artifact_has_changed() throws IOException {
+		new BuildOutputsManifest(this.project).write(this.version);
+
+		write("foo-core/target/foo-core-1.0.0-docs.zip", "rebuilt docs");
+
+		then(new BuildOutputsManifest(this.project).matches(this.version)).isFalse();
+	}
+
+	@Test
+	void should_not_match_when_an_attached_artifact_is_missing() throws IOException {
+		new BuildOutputsManifest(this.project).write(this.version);
+
+		Files.delete(new File(this.project, "foo-core/target/foo-core-1.0.0-tests.jar").toPath());
+
+		then(new BuildOutputsManifest(this.project).matches(this.version)).isFalse();
+	}
+
+	private void write(String path, String content) throws IOException {
+		File file = new File(this.project, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes());
+	}
+
+}
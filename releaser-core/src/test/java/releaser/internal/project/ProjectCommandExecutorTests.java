@@ -20,6 +20,13 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +42,7 @@ import releaser.internal.tech.ReleaserProcessExecutor;
 import releaser.internal.tech.TestReleaserProcessExecutor;
 
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.util.FileSystemUtils;
 
 import static org.assertj.core.api.BDDAssertions.then;
@@ -78,6 +86,19 @@ public class ProjectCommandExecutorTests {
 		then(asString(tmpFile("/builder/resolved/resolved.log"))).contains("resolved.log");
 	}
 
+	@Test
+	public void should_set_the_max_heap_of_the_build() throws Exception {
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getBash().setBuildCommand("printenv GRADLE_OPTS");
+		properties.getFlow().setBuildHeapInMb(1234L);
+		properties.setWorkingDir(tmpFile("/builder/resolved").getPath());
+		ProjectCommandExecutor builder = projectBuilder(properties);
+
+		builder.build(properties, original(), new ProjectVersion("foo", "1.0.0.BUILD-SNAPSHOT"));
+
+		then(asString(tmpFile("/builder/resolved/resolved.log"))).contains("-Xmx1234m");
+	}
+
 	@Test
 	public void should_successfully_execute_a_command_when_path_is_provided_explicitly() throws Exception {
 		ReleaserProperties properties = new ReleaserProperties();
@@ -242,6 +263,42 @@ public class ProjectCommandExecutorTests {
 		then(asString(tmpFile("/builder/resolved/resolved.log"))).contains("resolved.log");
 	}
 
+	@Test
+	public void should_deploy_the_built_artifacts_when_the_project_has_not_changed_since_the_build() throws Exception {
+		ReleaserProperties properties = reusingBuildOutputs();
+		ProjectCommandExecutor builder = projectBuilder(properties);
+		builder.build(properties, original(), new ProjectVersion("foo", "1.0.0.M1"));
+
+		builder.deploy(properties, original(), new ProjectVersion("foo", "1.0.0.M1"));
+
+		then(asString(tmpFile("/builder/resolved/resolved.log"))).contains("reuse -Pcentral").doesNotContain("deploy");
+	}
+
+	@Test
+	public void should_execute_the_deploy_command_when_the_sources_have_changed_since_the_build() throws Exception {
+		ReleaserProperties properties = reusingBuildOutputs();
+		ProjectCommandExecutor builder = projectBuilder(properties);
+		builder.build(properties, original(), new ProjectVersion("foo", "1.0.0.M1"));
+		Files.write(new File(properties.getWorkingDir(), "pom.xml").toPath(), "<project/>".getBytes());
+
+		builder.deploy(properties, original(), new ProjectVersion("foo", "1.0.0.M1"));
+
+		then(asString(tmpFile("/builder/resolved/resolved.log"))).contains("deploy -Pcentral").doesNotContain("reuse");
+	}
+
+	@Test
+	public void should_execute_the_deploy_command_when_reusing_build_outputs_is_disabled() throws Exception {
+		ReleaserProperties properties = reusingBuildOutputs();
+		properties.getMaven().setReuseBuildOutputs(false);
+		ProjectCommandExecutor builder = projectBuilder(properties);
+		builder.build(properties, original(), new ProjectVersion("foo", "1.0.0.M1"));
+
+		builder.deploy(properties, original(), new ProjectVersion("foo", "1.0.0.M1"));
+
+		then(asString(tmpFile("/builder/resolved/resolved.log"))).contains("deploy -Pcentral").doesNotContain("reuse");
+		then(new File(properties.getWorkingDir(), BuildOutputsManifest.LOCATION)).doesNotExist();
+	}
+
 	@Test
 	public void should_successfully_execute_a_deploy_command_for_milestone_version() throws Exception {
 		ReleaserProperties properties = new ReleaserProperties();
@@ -481,6 +538,55 @@ public class ProjectCommandExecutorTests {
 				.hasStackTraceContaining("The process has exited with exit code [1]");
 	}
 
+	@Test
+	public void should_copy_the_runner_to_the_shared_actions_checkout_once_when_publishing_concurrently()
+			throws Exception {
+		File actions = tmpFile("/spring-docs-actions");
+		File source = new File(actions, "rsync-antora-reference/src");
+		source.mkdirs();
+		byte[] runner = new ClassPathResource("spring-docs-action-runner.sh").getInputStream().readAllBytes();
+		ProjectCommandExecutor executor = new ProjectCommandExecutor();
+		ExecutorService workers = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<byte[]>> copies = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			copies.add(workers.submit(() -> {
+				start.await();
+				executor.copyRunnerToActions(actions);
+				return Files.readAllBytes(new File(source, "spring-docs-action-runner.sh").toPath());
+			}));
+		}
+
+		start.countDown();
+
+		try {
+			for (Future<byte[]> copy : copies) {
+				then(copy.get(10, TimeUnit.SECONDS)).isEqualTo(runner);
+			}
+		}
+		finally {
+			workers.shutdownNow();
+		}
+		then(new File(source, "spring-docs-action-runner.sh")).isFile().canRead();
+		then(new File(source, "spring-docs-action-runner.sh").canExecute()).isTrue();
+		then(source.list()).containsExactly("spring-docs-action-runner.sh");
+	}
+
+	private ReleaserProperties reusingBuildOutputs() throws IOException {
+		File project = tmpFile("/builder/reuse");
+		File target = new File(project, "target");
+		target.mkdirs();
+		Files.write(new File(project, "pom.xml").toPath(), "<project></project>".getBytes());
+		Files.write(new File(target, "foo-1.0.0.M1.jar").toPath(), "jar".getBytes());
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getMaven().setReuseBuildOutputs(true);
+		properties.getMaven().setBuildCommand("echo build");
+		properties.getMaven().setDeployCommand("echo deploy");
+		properties.getMaven().setDeployFromBuildOutputsCommand("echo reuse");
+		properties.setWorkingDir(project.getPath());
+		return properties;
+	}
+
 	private TestReleaserProcessExecutor testExecutor(String workingDir) {
 		return new TestReleaserProcessExecutor(workingDir, temporaryFolder);
 	}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class UnresolvedTagScannerTests {
+
+	@TempDir
+	Path docs;
+
+	@Test
+	void should_return_the_line_of_the_first_unresolved_tag() throws IOException {
+		then(firstLineWithTag("<html>\n<p>foo</p>\n<p>Unresolved directive in index.adoc</p>\n<p>Unresolved</p>"))
+				.isEqualTo(3);
+		then(firstLineWithTag("<html>\n<p>foo</p>\n</html>")).isEqualTo(-1);
+		then(firstLineWithTag("Unresol")).isEqualTo(-1);
+		then(firstLineWithTag("Unresolved")).isEqualTo(1);
+	}
+
+	@Test
+	void should_find_a_tag_that_spans_two_chunks() throws IOException {
+		StringBuilder page = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			page.append("x".repeat(1023)).append('\n');
+		}
+		// 64 KB chunks, the tag starts 5 bytes before the end of the first one
+		page.append("y".repeat(64 * 1024 - page.length() - 5)).append("Unresolved directive");
+
+		then(firstLineWithTag(page.toString())).isEqualTo(11);
+	}
+
+	@Test
+	void should_report_every_html_page_with_an_unresolved_tag() throws IOException {
+		write("index.html", "<p>ok</p>");
+		write("reference/config.html", "<p>ok</p>\n<p>Unresolved directive in config.adoc</p>");
+		write("reference/intro.html", "Unresolved directive in intro.adoc");
+		write("reference/notes.txt", "Unresolved directive in notes.adoc");
+
+		thenThrownBy(() -> new UnresolvedTagScanner().assertNoUnresolvedTags(this.docs))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("File [" + this.docs.resolve("reference/config.html")
+						+ "] contains a tag that wasn't resolved properly in line [2]")
+				.hasMessageContaining("File [" + this.docs.resolve("reference/intro.html")
+						+ "] contains a tag that wasn't resolved properly in line [1]")
+				.hasMessageNotContaining("notes.txt").hasMessageNotContaining("index.html");
+	}
+
+	@Test
+	void should_pass_when_no_page_has_an_unresolved_tag() throws IOException {
+		write("index.html", "<p>ok</p>");
+
+		new UnresolvedTagScanner().assertNoUnresolvedTags(this.docs);
+	}
+
+	@Test
+	void should_scan_a_site_of_many_pages() throws IOException {
+		String paragraph = "<p>Spring Cloud provides tools for developers to quickly build some of the common "
+				+ "patterns in distributed systems.</p>\n";
+		String page = "<html>\n<body>\n" + paragraph.repeat(100) + "</body>\n</html>\n";
+		for (int i = 0; i < 1000; i++) {
+			String content = i % 200 == 0 ? page.replace("</body>", "Unresolved directive in page.adoc\n</body>")
+					: page;
+			write("section-" + (i % 50) + "/page-" + i + ".html", content);
+		}
+
+		List<UnresolvedTagScanner.UnresolvedTag> tags = new UnresolvedTagScanner().scan(this.docs);
+
+		then(tags).hasSize(5).allSatisfy(tag -> then(tag.line).isEqualTo(103));
+	}
+
+	/**
+	 * Not a precise benchmark, compares the scanner with reading each page whole, one
+	 * page at a time. Runs only with the {@code benchmarks} profile.
+	 */
+	@Test
+	@Tag("benchmark")
+	void should_scan_a_site_of_5000_pages() throws IOException {
+		String paragraph = "<p>Spring Cloud provides tools for developers to quickly build some of the common "
+				+ "patterns in distributed systems.</p>\n";
+		String page = "<html>\n<body>\n" + paragraph.repeat(100) + "</body>\n</html>\n";
+		for (int i = 0; i < 5000; i++) {
+			String content = i % 1000 == 0 ? page.replace("</body>", "Unresolved directive in page.adoc\n</body>")
+					: page;
+			write("section-" + (i % 50) + "/page-" + i + ".html", content);
+		}
+
+		// warm up
+		readWholePages();
+		new UnresolvedTagScanner().scan(this.docs);
+
+		long start = System.nanoTime();
+		long wholePages = readWholePages();
+		long sequential = System.nanoTime() - start;
+		start = System.nanoTime();
+		List<UnresolvedTagScanner.UnresolvedTag> tags = new UnresolvedTagScanner().scan(this.docs);
+		long scanner = System.nanoTime() - start;
+
+		System.out.println(
+				String.format("Scanned [5000] pages in [%d] ms, reading each page whole one at a time took [%d] ms",
+						scanner / 1_000_000, sequential / 1_000_000));
+		then(tags).hasSize(5).allSatisfy(tag -> then(tag.line).isEqualTo(103));
+		then(wholePages).isEqualTo(5);
+	}
+
+	private long readWholePages() throws IOException {
+		try (Stream<Path> files = Files.walk(this.docs)) {
+			List<Path> pages = files.filter(file -> file.toString().endsWith(".html")).collect(Collectors.toList());
+			long found = 0;
+			for (Path file : pages) {
+				if (new String(Files.readAllBytes(file)).contains("Unresolved")) {
+					found++;
+				}
+			}
+			return found;
+		}
+	}
+
+	private void write(String path, String content) throws IOException {
+		Path file = this.docs.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private int firstLineWithTag(String content) throws IOException {
+		write("page.html", content);
+		return UnresolvedTagScanner.firstLineWithTag(this.docs.resolve("page.html"));
+	}
+
+}
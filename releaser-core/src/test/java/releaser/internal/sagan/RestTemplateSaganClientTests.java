@@ -20,9 +20,11 @@ import java.io.IOException;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import org.assertj.core.api.BDDAssertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.ReleaserExecutor;
 
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.web.client.RestTemplate;
@@ -35,6 +37,8 @@ import static org.assertj.core.api.BDDAssertions.then;
 @WireMockTest(httpPort = 23456)
 class RestTemplateSaganClientTests {
 
+	ReleaserExecutor executor = new ReleaserExecutor();
+
 	RestTemplateSaganClient client;
 
 	@BeforeEach
@@ -46,6 +50,11 @@ class RestTemplateSaganClientTests {
 		this.client = saganClient(properties);
 	}
 
+	@AfterEach
+	void close() {
+		this.executor.close();
+	}
+
 	@Test
 	void should_get_a_project() {
 		Project project = this.client.getProject("spring-boot");
@@ -105,7 +114,7 @@ class RestTemplateSaganClientTests {
 
 	private RestTemplateSaganClient saganClient(ReleaserProperties properties) {
 		RestTemplate restTemplate = restTemplate(properties);
-		return new RestTemplateSaganClient(restTemplate, properties);
+		return new RestTemplateSaganClient(restTemplate, properties, this.executor);
 	}
 
 	private RestTemplate restTemplate(ReleaserProperties properties) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.sagan;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.project.Projects;
+import releaser.internal.tech.ExecutionResult;
+import releaser.internal.tech.ReleaserExecutor;
+import releaser.internal.tech.ReleaserHttpClient;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * Runs the {@link SaganUpdater} against a fake Sagan that answers each call after a
+ * delay, and checks which calls were in flight at the same time.
+ *
+ * @author Marcin Grzejszczak
+ */
+@WireMockTest(httpPort = 23457)
+class SaganUpdaterFakeSaganTests {
+
+	private static final int LATENCY = 300;
+
+	ReleaserExecutor executor = new ReleaserExecutor();
+
+	ReleaserHttpClient httpClient;
+
+	RestTemplateSaganClient saganClient;
+
+	SaganUpdater saganUpdater;
+
+	Map<HttpMethod, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+	Map<HttpMethod, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+
+	CountDownLatch releasesFetched = new CountDownLatch(1);
+
+	@BeforeEach
+	void setup() {
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getSagan().setUpdateSagan(true);
+		properties.getSagan().setBaseUrl("http://localhost:23457");
+		properties.getSagan().setConcurrency(8);
+		this.httpClient = new ReleaserHttpClient(properties);
+		RestTemplate restTemplate = new RestTemplate(this.httpClient.requestFactory());
+		restTemplate.getInterceptors().add(overlapCounter());
+		this.saganClient = new RestTemplateSaganClient(restTemplate, properties, this.executor);
+		this.saganUpdater = new SaganUpdater(this.saganClient, properties, this.executor);
+		stubFor(get(urlEqualTo("/projects/foo")).willReturn(json("{\"name\":\"Foo\",\"slug\":\"foo\"}")));
+		stubFor(get(urlEqualTo("/projects/foo/releases"))
+				.willReturn(json(releases("2.2.0-M1", "2.2.0-M2", "2.2.0-M3", "2.2.0-RC1", "2.2.0-SNAPSHOT"))));
+		stubFor(delete(urlPathMatching("/projects/foo/releases/.*"))
+				.willReturn(aResponse().withStatus(204).withFixedDelay(LATENCY)));
+		stubFor(post(urlEqualTo("/projects/foo/releases")).willReturn(json("{}").withStatus(201)));
+	}
+
+	@AfterEach
+	void close() {
+		this.executor.close();
+		this.httpClient.close();
+	}
+
+	@Test
+	void should_update_sagan_in_three_round_trips() {
+		ProjectVersion version = new ProjectVersion("foo", "2.2.0");
+
+		ExecutionResult result = this.saganUpdater.updateSagan(new File("."), "main", version, version, new Projects());
+
+		then(result.isSuccess()).isTrue();
+		verify(1, getRequestedFor(urlEqualTo("/projects/foo")));
+		verify(1, getRequestedFor(urlEqualTo("/projects/foo/releases")));
+		verify(5, deleteRequestedFor(urlPathMatching("/projects/foo/releases/.*")));
+		verify(2, postRequestedFor(urlEqualTo("/projects/foo/releases")));
+		// the project and its releases are fetched, then deleted and added, concurrently
+		then(this.maxInFlight.get(HttpMethod.GET)).hasValue(2);
+		then(this.maxInFlight.get(HttpMethod.DELETE).get()).isGreaterThan(1);
+		then(this.maxInFlight.get(HttpMethod.POST)).hasValue(2);
+	}
+
+	@Test
+	void should_stop_fetching_the_releases_when_the_project_can_not_be_fetched() throws InterruptedException {
+		stubFor(get(urlEqualTo("/projects/bar")).willReturn(aResponse().withStatus(500)));
+		stubFor(get(urlEqualTo("/projects/bar/releases")).willReturn(json("{}").withFixedDelay(30_000)));
+
+		thenThrownBy(() -> this.saganClient.getProject("bar")).isInstanceOf(HttpServerErrorException.class);
+
+		// without the cancellation the releases call would wait for the whole delay
+		then(this.releasesFetched.await(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private ClientHttpRequestInterceptor overlapCounter() {
+		return (request, body, execution) -> {
+			HttpMethod method = request.getMethod();
+			int current = this.inFlight.computeIfAbsent(method, m -> new AtomicInteger()).incrementAndGet();
+			this.maxInFlight.computeIfAbsent(method, m -> new AtomicInteger()).accumulateAndGet(current, Math::max);
+			try {
+				return execution.execute(request, body);
+			}
+			finally {
+				this.inFlight.get(method).decrementAndGet();
+				if (request.getURI().getPath().endsWith("/releases") && method == HttpMethod.GET) {
+					this.releasesFetched.countDown();
+				}
+			}
+		};
+	}
+
+	private static ResponseDefinitionBuilder json(String body) {
+		return aResponse().withHeader("Content-Type", "application/hal+json").withBody(body).withFixedDelay(LATENCY);
+	}
+
+	private static String releases(String... versions) {
+		return Stream.of(versions).map(version -> "{\"version\":\"" + version + "\"}")
+				.collect(Collectors.joining(",", "{\"_embedded\":{\"releases\":[", "]}}"));
+	}
+
+}
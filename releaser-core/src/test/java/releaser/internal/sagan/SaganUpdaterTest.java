@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
@@ -30,6 +31,7 @@ import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
 import releaser.internal.tech.ExecutionResult;
+import releaser.internal.tech.ReleaserExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,6 +42,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * @author Marcin Grzejszczak
@@ -50,6 +53,8 @@ public class SaganUpdaterTest {
 
 	ReleaserProperties properties = new ReleaserProperties();
 
+	ReleaserExecutor executor = new ReleaserExecutor();
+
 	SaganUpdater saganUpdater;
 
 	Projects projects = new Projects();
@@ -61,7 +66,7 @@ public class SaganUpdaterTest {
 		project = new Project();
 		project.setReleases(Arrays.asList(release("2.2.0-RC1"), release("2.3.0-SNAPSHOT"), release("2.2.0-M4")));
 		this.properties.getSagan().setUpdateSagan(true);
-		this.saganUpdater = new SaganUpdater(this.saganClient, this.properties);
+		this.saganUpdater = new SaganUpdater(this.saganClient, this.properties, this.executor);
 	}
 
 	private Release release(String version) {
@@ -71,6 +76,11 @@ public class SaganUpdaterTest {
 		return release;
 	}
 
+	@AfterEach
+	void close() {
+		this.executor.close();
+	}
+
 	@Test
 	void should_not_update_sagan_when_switch_is_off() {
 		this.properties.getSagan().setUpdateSagan(false);
@@ -132,7 +142,7 @@ public class SaganUpdaterTest {
 		Path tmp = Files.createTempDirectory("releaser-test");
 		createFile(tmp, "sagan-index.adoc", "new overview");
 		createFile(tmp, "sagan-boot.adoc", "new boot");
-		SaganUpdater saganUpdater = new SaganUpdater(this.saganClient, this.properties) {
+		SaganUpdater saganUpdater = new SaganUpdater(this.saganClient, this.properties, this.executor) {
 			@Override
 			File docsModule(File projectFile) {
 				return tmp.toFile();
@@ -154,7 +164,7 @@ public class SaganUpdaterTest {
 
 		Path tmp = Files.createTempDirectory("releaser-test");
 		createFile(tmp, "sagan-index.adoc", "new text");
-		SaganUpdater saganUpdater = new SaganUpdater(this.saganClient, this.properties) {
+		SaganUpdater saganUpdater = new SaganUpdater(this.saganClient, this.properties, this.executor) {
 			@Override
 			File docsModule(File projectFile) {
 				return tmp.toFile();
@@ -177,7 +187,7 @@ public class SaganUpdaterTest {
 
 		Path tmp = Files.createTempDirectory("releaser-test");
 		createFile(tmp, "sagan-boot.adoc", "new text");
-		SaganUpdater saganUpdater = new SaganUpdater(this.saganClient, this.properties) {
+		SaganUpdater saganUpdater = new SaganUpdater(this.saganClient, this.properties, this.executor) {
 			@Override
 			File docsModule(File projectFile) {
 				return tmp.toFile();
@@ -237,15 +247,49 @@ public class SaganUpdaterTest {
 		assertThat(result.isSkipped()).isFalse();
 		assertThat(result.isSuccess()).isTrue();
 
+		then(this.saganClient).should().getProject("foo");
 		then(this.saganClient).should().deleteRelease("foo", "2.2.0-RC1");
+		then(this.saganClient).should().deleteRelease("foo", "2.2.0-M4");
 		then(this.saganClient).should().deleteRelease("foo", "2.2.0-SNAPSHOT");
 		then(this.saganClient).should().addRelease(eq("foo"),
 				argThat(withReleaseUpdate("2.2.0", "https://docs.spring.io/foo/reference/2.2/")));
-		then(this.saganClient).should().deleteRelease("foo", "2.2.0-SNAPSHOT");
 		then(this.saganClient).should().addRelease(eq("foo"),
 				argThat(withReleaseUpdate("2.2.1-SNAPSHOT", "https://docs.spring.io/foo/reference/2.2-SNAPSHOT/")));
 	}
 
+	@Test
+	void should_not_touch_releases_that_are_already_up_to_date_in_sagan() {
+		ProjectVersion projectVersion = version("2.2.0");
+		Project project = projectWithNewRelease("2.2.1-SNAPSHOT");
+		project.getReleases().add(release("2.2.0-SNAPSHOT"));
+		project.getReleases().get(project.getReleases().size() - 2)
+				.setReferenceDocUrl("https://docs.spring.io/foo/reference/2.2-SNAPSHOT/");
+		given(this.saganClient.getProject("foo")).willReturn(project);
+		given(this.saganClient.addRelease(eq("foo"), any())).willReturn(true);
+		given(this.saganClient.deleteRelease(eq("foo"), anyString())).willReturn(true);
+
+		ExecutionResult result = this.saganUpdater.updateSagan(new File("."), "main", projectVersion, projectVersion,
+				projects);
+		assertThat(result.isSuccess()).isTrue();
+
+		then(this.saganClient).should().deleteRelease("foo", "2.2.0-SNAPSHOT");
+		then(this.saganClient).should(never()).deleteRelease("foo", "2.2.1-SNAPSHOT");
+		then(this.saganClient).should(never()).addRelease(eq("foo"),
+				argThat(withReleaseUpdate("2.2.1-SNAPSHOT", "https://docs.spring.io/foo/reference/2.2-SNAPSHOT/")));
+		then(this.saganClient).should().addRelease(eq("foo"),
+				argThat(withReleaseUpdate("2.2.0", "https://docs.spring.io/foo/reference/2.2/")));
+	}
+
+	@Test
+	void should_fetch_the_project_once_per_update() {
+		given(this.saganClient.addRelease(eq("foo"), any())).willReturn(true);
+		given(this.saganClient.getProject("foo")).willReturn(projectWithNewRelease("2.2.0-M1"));
+
+		this.saganUpdater.updateSagan(new File("."), "main", version("2.2.0-M1"), version("2.2.0-M1"), projects);
+
+		then(this.saganClient).should(times(1)).getProject("foo");
+	}
+
 	@Test
 	void should_update_sagan_from_non_main() {
 		ProjectVersion projectVersion = version("2.3.0-SNAPSHOT");
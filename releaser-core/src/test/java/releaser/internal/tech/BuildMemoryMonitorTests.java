@@ -0,0 +1,85 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class BuildMemoryMonitorTests {
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	BuildMemoryMonitor monitor = new BuildMemoryMonitor(Paths.get("/proc"));
+
+	@Test
+	void should_keep_the_heap_the_project_configures_by_default() {
+		try (BuildMemoryMonitor.MonitoredBuild build = this.monitor.monitor(this.properties, "foo")) {
+			then(build.heapInMb()).isZero();
+			then(build.environment()).isEmpty();
+		}
+	}
+
+	@Test
+	void should_set_the_heap_of_a_build_when_it_is_configured() {
+		this.properties.getFlow().setBuildHeapInMb(1536L);
+
+		try (BuildMemoryMonitor.MonitoredBuild build = this.monitor.monitor(this.properties, "foo")) {
+			then(build.environment()).containsKeys("MAVEN_OPTS", "GRADLE_OPTS");
+			then(build.environment().get("GRADLE_OPTS")).contains("-Xmx1536m");
+		}
+	}
+
+	@Test
+	void should_keep_the_max_heap_that_is_already_set() {
+		then(BuildMemoryMonitor.withHeap(null, 512)).isEqualTo("-Xmx512m");
+		then(BuildMemoryMonitor.withHeap("-Dfoo=bar", 512)).isEqualTo("-Dfoo=bar -Xmx512m");
+		then(BuildMemoryMonitor.withHeap("-Xmx4g -Dfoo=bar", 512)).isEqualTo("-Xmx4g -Dfoo=bar");
+	}
+
+	@Test
+	void should_read_the_resident_memory_from_the_process_status() {
+		then(BuildMemoryMonitor.rssInKb(Arrays.asList("Name:\tjava", "VmHWM:\t  300000 kB", "VmRSS:\t  123456 kB")))
+				.isEqualTo(123456L);
+		then(BuildMemoryMonitor.rssInKb(Arrays.asList("Name:\tkthreadd"))).isZero();
+	}
+
+	@Test
+	void should_record_the_peak_resident_memory_of_a_build(@TempDir Path tmp) {
+		assumeThat(Files.isRegularFile(Paths.get("/proc/self/status"))).isTrue();
+		this.properties.getFlow().setRssSamplingIntervalInMillis(10L);
+
+		try (BuildMemoryMonitor.MonitoredBuild build = this.monitor.monitor(this.properties, "sleep")) {
+			new ReleaserProcessExecutor(tmp.toString()).runCommand(new String[] { "sleep", "0.3" }, 1,
+					build.environment(), build.listener());
+		}
+
+		then(this.monitor.peakRssInMb()).containsKey("sleep");
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class CommandOutputLoggerTests {
+
+	@TempDir
+	Path directory;
+
+	ReleaserProperties.CommandOutput settings = new ReleaserProperties.CommandOutput();
+
+	@BeforeEach
+	void setup() {
+		this.settings.setDirectory(this.directory.toString());
+	}
+
+	@Test
+	void should_write_the_whole_output_to_the_file_and_log_it(CapturedOutput capturedOutput) throws IOException {
+		try (CommandOutputLogger logger = new CommandOutputLogger(this.settings, "spring-cloud-foo", "./mvnw install");
+				OutputStream output = logger.output();
+				OutputStream error = logger.error()) {
+			output.write("[INFO] Scanning for projects...\n[INFO] Compiling 12 source files\n"
+					.getBytes(StandardCharsets.UTF_8));
+			error.write("Picked up JAVA_TOOL_OPTIONS\n".getBytes(StandardCharsets.UTF_8));
+		}
+
+		then(Files.readAllLines(this.directory.resolve("spring-cloud-foo.log"))).containsExactly(
+				"===== ./mvnw install =====", "[INFO] Scanning for projects...", "[INFO] Compiling 12 source files",
+				"Picked up JAVA_TOOL_OPTIONS");
+		then(capturedOutput.getOut()).contains("[INFO] Compiling 12 source files", "Picked up JAVA_TOOL_OPTIONS");
+	}
+
+	@Test
+	void should_log_only_the_progress_markers_in_summary_mode(CapturedOutput capturedOutput) throws IOException {
+		this.settings.setConsole(ReleaserProperties.CommandOutput.Console.SUMMARY);
+
+		try (CommandOutputLogger logger = new CommandOutputLogger(this.settings, "spring-cloud-foo", "./mvnw install");
+				OutputStream output = logger.output();
+				OutputStream error = logger.error()) {
+			output.write(("[INFO] Building spring-cloud-foo-core 1.0.0\n" + "[INFO] Compiling 12 source files\n"
+					+ "[INFO] BUILD SUCCESS\n").getBytes(StandardCharsets.UTF_8));
+			error.write("Picked up JAVA_TOOL_OPTIONS\n".getBytes(StandardCharsets.UTF_8));
+		}
+
+		then(capturedOutput.getOut()).contains("[INFO] Building spring-cloud-foo-core 1.0.0", "[INFO] BUILD SUCCESS",
+				"Picked up JAVA_TOOL_OPTIONS").doesNotContain("Compiling 12 source files");
+		then(Files.readString(this.directory.resolve("spring-cloud-foo.log"))).contains("Compiling 12 source files");
+	}
+
+	@Test
+	void should_append_the_output_of_the_commands_of_a_project_to_its_file() {
+		Path project = this.directory.resolve("spring-cloud-foo");
+		project.toFile().mkdirs();
+		ReleaserProcessExecutor executor = new ReleaserProcessExecutor(project.toString())
+				.withCommandOutput(this.settings);
+
+		executor.runCommand(new String[] { "echo", "first" }, 1);
+		executor.runCommand(new String[] { "echo", "second" }, 1);
+
+		then(this.directory.resolve("spring-cloud-foo.log")).content().contains("===== echo first =====", "first",
+				"===== echo second =====", "second");
+	}
+
+	@Test
+	void should_start_the_file_anew_in_every_run_and_keep_the_previous_one() throws IOException {
+		Files.writeString(this.directory.resolve("spring-cloud-foo.log"), "previous run\n");
+
+		try (CommandOutputLogger logger = new CommandOutputLogger(this.settings, "spring-cloud-foo", "first")) {
+			logger.output().close();
+		}
+		try (CommandOutputLogger logger = new CommandOutputLogger(this.settings, "spring-cloud-foo", "second")) {
+			logger.output().close();
+		}
+
+		then(Files.readAllLines(this.directory.resolve("spring-cloud-foo.log"))).containsExactly("===== first =====",
+				"===== second =====");
+		then(this.directory.resolve("spring-cloud-foo.log.1")).hasContent("previous run");
+	}
+
+	@Test
+	void should_write_a_long_build_output_without_losing_any_line() throws IOException {
+		this.settings.setConsole(ReleaserProperties.CommandOutput.Console.SUMMARY);
+		byte[] line = "[INFO] Download from central: https://repo.maven.apache.org/maven2/org/foo/bar/1.0/bar-1.0.pom\n"
+				.getBytes(StandardCharsets.UTF_8);
+		int lines = 100_000;
+
+		try (CommandOutputLogger logger = new CommandOutputLogger(this.settings, "long", "synthetic");
+				OutputStream output = logger.output()) {
+			for (int i = 0; i < lines; i++) {
+				output.write(line);
+			}
+		}
+
+		try (Stream<String> written = Files.lines(this.directory.resolve("long.log"))) {
+			then(written.count()).isEqualTo(lines + 1);
+		}
+	}
+
+	/**
+	 * Not a precise benchmark, just the order of magnitude of the number of lines of a
+	 * verbose build the logger can take. Runs only with the {@code benchmarks} profile.
+	 */
+	@Test
+	@Tag("benchmark")
+	void should_write_a_million_lines_of_build_output_without_losing_any() throws IOException {
+		this.settings.setConsole(ReleaserProperties.CommandOutput.Console.SUMMARY);
+		byte[] line = "[INFO] Download from central: https://repo.maven.apache.org/maven2/org/foo/bar/1.0/bar-1.0.pom\n"
+				.getBytes(StandardCharsets.UTF_8);
+		int lines = 1_000_000;
+
+		long start = System.nanoTime();
+		try (CommandOutputLogger logger = new CommandOutputLogger(this.settings, "benchmark", "synthetic");
+				OutputStream output = logger.output()) {
+			for (int i = 0; i < lines; i++) {
+				output.write(line);
+			}
+		}
+		long nanos = System.nanoTime() - start;
+
+		System.out.println(String.format("Logged [%d] lines in [%d] ms, [%d] lines per second", lines,
+				nanos / 1_000_000, lines * 1_000_000_000L / nanos));
+		try (Stream<String> written = Files.lines(this.directory.resolve("benchmark.log"))) {
+			then(written.count()).isEqualTo(lines + 1);
+		}
+	}
+
+	@Test
+	void should_keep_lines_that_did_not_fit_the_queue_in_the_file() throws IOException {
+		this.settings.setQueueCapacity(1);
+		CommandOutputLogger logger = new CommandOutputLogger(this.settings, "overflow", "synthetic");
+
+		try (OutputStream output = logger.output()) {
+			for (int i = 0; i < 10_000; i++) {
+				output.write(("line " + i + "\n").getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		logger.close();
+
+		List<String> written = Files.readAllLines(this.directory.resolve("overflow.log"));
+		then(written).hasSize(10_001).endsWith("line 9999");
+		then(logger.lines()).isEqualTo(10_000);
+	}
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ReleaserCacheTests {
+
+	AtomicLong clock = new AtomicLong();
+
+	@Test
+	void should_count_hits_and_misses_and_not_cache_null_values() {
+		ReleaserCache<String, String> cache = cache(10, Duration.ofHours(1));
+
+		then(cache.computeIfAbsent("foo", key -> "bar")).isEqualTo("bar");
+		then(cache.computeIfAbsent("foo", key -> "baz")).isEqualTo("bar");
+		then(cache.computeIfAbsent("missing", key -> null)).isNull();
+		then(cache.get("missing")).isNull();
+
+		ReleaserCache.Stats stats = cache.stats();
+		then(stats.size).isEqualTo(1);
+		then(stats.hits).isEqualTo(1);
+		then(stats.misses).isEqualTo(3);
+		then(stats.hitRatio()).isEqualTo(0.25);
+	}
+
+	@Test
+	void should_evict_the_least_recently_used_entry_when_the_cache_is_full() {
+		ReleaserCache<String, String> cache = cache(2, Duration.ofHours(1));
+		cache.computeIfAbsent("a", key -> "1");
+		this.clock.incrementAndGet();
+		cache.computeIfAbsent("b", key -> "2");
+		this.clock.incrementAndGet();
+		cache.get("a");
+		this.clock.incrementAndGet();
+
+		cache.computeIfAbsent("c", key -> "3");
+
+		then(cache.containsKey("a")).isTrue();
+		then(cache.containsKey("b")).isFalse();
+		then(cache.containsKey("c")).isTrue();
+		then(cache.stats().evictions).isEqualTo(1);
+	}
+
+	@Test
+	void should_compute_the_value_again_when_it_has_expired() {
+		ReleaserCache<String, String> cache = cache(10, Duration.ofNanos(100));
+		cache.computeIfAbsent("foo", key -> "bar");
+		this.clock.addAndGet(100);
+
+		then(cache.containsKey("foo")).isFalse();
+		then(cache.computeIfAbsent("foo", key -> "baz")).isEqualTo("baz");
+		then(cache.stats().evictions).isEqualTo(1);
+	}
+
+	@Test
+	void should_compute_other_keys_while_computing_a_value() {
+		ReleaserCache<String, String> cache = cache(10, Duration.ofHours(1));
+
+		String value = cache.computeIfAbsent("foo", key -> cache.computeIfAbsent("bar", other -> "baz") + "!");
+
+		then(value).isEqualTo("baz!");
+		then(cache.containsKey("bar")).isTrue();
+	}
+
+	@Test
+	void should_reject_reading_a_value_from_within_its_own_computation() {
+		ReleaserCache<String, String> cache = cache(10, Duration.ofHours(1));
+
+		thenThrownBy(() -> cache.computeIfAbsent("foo", key -> cache.computeIfAbsent("foo", same -> "bar")))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("[foo]");
+		then(cache.computeIfAbsent("foo", key -> "bar")).isEqualTo("bar");
+	}
+
+	@Test
+	void should_compute_a_value_once_for_concurrent_reads() throws Exception {
+		ReleaserCache<String, String> cache = cache(10, Duration.ofHours(1));
+		AtomicInteger computations = new AtomicInteger();
+		CountDownLatch computing = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<String> first = executor.submit(() -> cache.computeIfAbsent("foo", key -> {
+				computations.incrementAndGet();
+				computing.countDown();
+				await(finish);
+				return "bar";
+			}));
+			then(computing.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<String> second = executor.submit(() -> cache.computeIfAbsent("foo", key -> {
+				computations.incrementAndGet();
+				return "baz";
+			}));
+			then(cache.computeIfAbsent("other", key -> "value")).isEqualTo("value");
+			finish.countDown();
+
+			then(first.get(5, TimeUnit.SECONDS)).isEqualTo("bar");
+			then(second.get(5, TimeUnit.SECONDS)).isEqualTo("bar");
+			then(computations).hasValue(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void should_estimate_the_retained_size_of_the_entries() {
+		ReleaserCache<String, List<String>> cache = cache(10, Duration.ofHours(1));
+		cache.put("small", Arrays.asList("a"));
+		long small = cache.stats().retainedBytes;
+		List<String> big = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			big.add("value-" + i);
+		}
+
+		cache.put("big", big);
+
+		then(small).isPositive();
+		then(cache.stats().retainedBytes).isGreaterThan(small + 1000 * 24);
+	}
+
+	@Test
+	void should_report_the_caches_grouped_by_the_first_segment_of_their_names() {
+		String report = ReleaserCache.report(Arrays.asList(new ReleaserCache.Stats("git.clones", 2, 3, 1, 0, 2048),
+				new ReleaserCache.Stats("git.tags", 1, 0, 1, 0, 1024),
+				new ReleaserCache.Stats("projects.to-run", 5, 10, 5, 1, 100)));
+
+		then(report).contains("Caches").containsPattern("(?m)^git\\s+3\\.0 KB$")
+				.containsPattern("(?m)^  git\\.clones\\s+2\\s+3\\s+1\\s+0\\s+75\\.0 %\\s+2\\.0 KB$")
+				.containsPattern("(?m)^projects\\s+100 B$").containsPattern("(?m)^Total\\s+3\\.1 KB$");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private <K, V> ReleaserCache<K, V> cache(int maximumSize, Duration expireAfterWrite) {
+		return new ReleaserCache<>("test.cache", maximumSize, expireAfterWrite, this.clock::get);
+	}
+
+}
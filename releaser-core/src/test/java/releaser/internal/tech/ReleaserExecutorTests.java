@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ReleaserExecutorTests {
+
+	ReleaserExecutor executor = new ReleaserExecutor();
+
+	@AfterEach
+	void close() {
+		this.executor.close();
+	}
+
+	@Test
+	void should_run_at_most_the_given_number_of_tasks_at_a_time() throws InterruptedException {
+		Executor limited = this.executor.limitedTo(2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(10);
+
+		for (int i = 0; i < 10; i++) {
+			limited.execute(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				sleep();
+				running.decrementAndGet();
+				done.countDown();
+			});
+		}
+
+		then(done.await(5, TimeUnit.SECONDS)).isTrue();
+		then(maxRunning.get()).isEqualTo(2);
+	}
+
+	@Test
+	void should_run_tasks_on_daemon_threads() throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(1);
+		AtomicInteger daemon = new AtomicInteger();
+
+		this.executor.limitedTo(1).execute(() -> {
+			daemon.set(Thread.currentThread().isDaemon() ? 1 : 0);
+			done.countDown();
+		});
+
+		then(done.await(5, TimeUnit.SECONDS)).isTrue();
+		then(daemon.get()).isEqualTo(1);
+	}
+
+	@Test
+	void should_reject_tasks_once_closed() {
+		Executor limited = this.executor.limitedTo(1);
+
+		this.executor.close();
+
+		thenThrownBy(() -> limited.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(50);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
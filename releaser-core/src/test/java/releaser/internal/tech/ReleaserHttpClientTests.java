@@ -0,0 +1,304 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ReleaserHttpClientTests {
+
+	ConnectionCountingServer server;
+
+	List<ReleaserHttpClient> clients = new ArrayList<>();
+
+	@BeforeEach
+	void setup() throws IOException {
+		this.server = new ConnectionCountingServer();
+	}
+
+	@AfterEach
+	void cleanup() throws IOException {
+		this.server.close();
+		this.clients.forEach(ReleaserHttpClient::close);
+	}
+
+	@Test
+	void should_reuse_a_single_connection_for_subsequent_requests() throws IOException {
+		ReleaserHttpClient client = client(4);
+
+		for (int i = 0; i < 20; i++) {
+			then(client.get(this.server.url("/foo"))).isEqualTo("GET /foo");
+		}
+
+		then(this.server.connections.get()).isEqualTo(1);
+		ReleaserHttpClient.Metrics metrics = client.metrics().get("localhost:" + this.server.port());
+		then(metrics.getRequests()).isEqualTo(20);
+		then(metrics.getFailures()).isZero();
+	}
+
+	@Test
+	void should_limit_the_number_of_concurrent_requests_and_connections_per_host() {
+		ReleaserHttpClient client = client(2);
+		this.server.delayMillis = 100;
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+		try {
+			List<CompletableFuture<String>> futures = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				futures.add(CompletableFuture.supplyAsync(() -> get(client, "/bar"), executor));
+			}
+
+			futures.forEach(future -> then(future.join()).isEqualTo("GET /bar"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		then(this.server.maxInFlight.get()).isLessThanOrEqualTo(2);
+		then(this.server.connections.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void should_ask_for_and_decompress_gzipped_responses() throws IOException {
+		ReleaserHttpClient client = client(4);
+
+		ReleaserHttpClient.Response response = client
+				.send(HttpRequest.newBuilder(URI.create(this.server.url("/gzipped"))).build());
+
+		then(response.bodyAsString()).isEqualTo("GET /gzipped");
+		then(response.headers().firstValue("Content-Encoding")).isEmpty();
+		then(this.server.gzipped.get()).isEqualTo(1);
+	}
+
+	@Test
+	void should_send_rest_template_requests_over_pooled_connections() {
+		ReleaserHttpClient client = client(4);
+		RestTemplate restTemplate = new RestTemplate(client.requestFactory());
+
+		ResponseEntity<String> post = restTemplate.postForEntity(this.server.url("/post"), "body", String.class);
+		ResponseEntity<String> patch = restTemplate.exchange(this.server.url("/patch"), HttpMethod.PATCH, null,
+				String.class);
+
+		then(post.getBody()).isEqualTo("POST /post body");
+		then(patch.getBody()).isEqualTo("PATCH /patch");
+		then(this.server.connections.get()).isEqualTo(1);
+	}
+
+	@Test
+	void should_count_unsuccessful_responses_as_failures() {
+		ReleaserHttpClient client = client(4);
+
+		String body = get(client, "/missing");
+
+		then(body).isNull();
+		then(client.metrics().get("localhost:" + this.server.port()).getFailures()).isEqualTo(1);
+	}
+
+	@Test
+	void should_report_the_metrics_of_every_host() throws IOException {
+		ReleaserHttpClient client = client(4);
+		client.get(this.server.url("/foo"));
+		get(client, "/missing");
+
+		String report = client.report();
+
+		then(report).contains("HOST").contains("REQUESTS").contains("FAILURES");
+		then(report.lines().filter(line -> line.startsWith("localhost:" + this.server.port()))
+				.map(line -> line.trim().split("\\s+"))).singleElement().satisfies(columns -> {
+					then(columns[1]).isEqualTo("2");
+					then(columns[2]).isEqualTo("1");
+				});
+	}
+
+	@Test
+	void should_not_send_requests_once_closed() throws IOException {
+		ReleaserHttpClient client = client(4);
+		client.get(this.server.url("/foo"));
+
+		client.close();
+
+		thenThrownBy(() -> client.get(this.server.url("/foo"))).isInstanceOf(IOException.class)
+				.hasMessageContaining("already been closed");
+		then(this.server.requests.get()).isEqualTo(1);
+	}
+
+	private ReleaserHttpClient client(int maxConcurrentRequestsPerHost) {
+		ReleaserHttpClient client = new ReleaserHttpClient(Duration.ofSeconds(5), Duration.ofSeconds(10),
+				maxConcurrentRequestsPerHost, true);
+		this.clients.add(client);
+		return client;
+	}
+
+	private String get(ReleaserHttpClient client, String path) {
+		try {
+			return client.get(this.server.url(path));
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Minimal HTTP/1.1 server with keep-alive that counts accepted TCP connections.
+	 * Responds with the request method, path and body.
+	 */
+	static class ConnectionCountingServer implements AutoCloseable {
+
+		final AtomicInteger connections = new AtomicInteger();
+
+		final AtomicInteger inFlight = new AtomicInteger();
+
+		final AtomicInteger maxInFlight = new AtomicInteger();
+
+		final AtomicInteger gzipped = new AtomicInteger();
+
+		final AtomicInteger requests = new AtomicInteger();
+
+		volatile long delayMillis;
+
+		private final ServerSocket serverSocket;
+
+		private final ExecutorService executor = Executors.newCachedThreadPool();
+
+		ConnectionCountingServer() throws IOException {
+			this.serverSocket = new ServerSocket(0);
+			this.executor.submit(this::accept);
+		}
+
+		int port() {
+			return this.serverSocket.getLocalPort();
+		}
+
+		String url(String path) {
+			return "http://localhost:" + port() + path;
+		}
+
+		private void accept() {
+			while (!this.serverSocket.isClosed()) {
+				try {
+					Socket socket = this.serverSocket.accept();
+					this.connections.incrementAndGet();
+					this.executor.submit(() -> handle(socket));
+				}
+				catch (IOException ex) {
+					return;
+				}
+			}
+		}
+
+		private void handle(Socket socket) {
+			try (socket;
+					BufferedReader reader = new BufferedReader(
+							new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+					OutputStream output = socket.getOutputStream()) {
+				String requestLine;
+				while ((requestLine = reader.readLine()) != null) {
+					int contentLength = 0;
+					boolean acceptsGzip = false;
+					String header;
+					while ((header = reader.readLine()) != null && !header.isEmpty()) {
+						String lowerCase = header.toLowerCase();
+						if (lowerCase.startsWith("content-length:")) {
+							contentLength = Integer.parseInt(header.substring(15).trim());
+						}
+						else if (lowerCase.startsWith("accept-encoding:") && lowerCase.contains("gzip")) {
+							acceptsGzip = true;
+						}
+					}
+					char[] body = new char[contentLength];
+					int read = 0;
+					while (read < contentLength) {
+						read += reader.read(body, read, contentLength - read);
+					}
+					respond(output, requestLine, new String(body), acceptsGzip);
+				}
+			}
+			catch (IOException | InterruptedException ex) {
+				// connection closed
+			}
+		}
+
+		private void respond(OutputStream output, String requestLine, String body, boolean acceptsGzip)
+				throws IOException, InterruptedException {
+			this.requests.incrementAndGet();
+			int current = this.inFlight.incrementAndGet();
+			this.maxInFlight.accumulateAndGet(current, Math::max);
+			try {
+				Thread.sleep(this.delayMillis);
+				String[] request = requestLine.split(" ");
+				String path = request[1];
+				int status = path.equals("/missing") ? 404 : 200;
+				String text = request[0] + " " + path + (body.isEmpty() ? "" : " " + body);
+				byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+				boolean gzip = acceptsGzip && path.equals("/gzipped");
+				if (gzip) {
+					ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+					try (GZIPOutputStream stream = new GZIPOutputStream(compressed)) {
+						stream.write(bytes);
+					}
+					bytes = compressed.toByteArray();
+					this.gzipped.incrementAndGet();
+				}
+				String headers = "HTTP/1.1 " + status + " OK\r\nContent-Type: text/plain\r\nContent-Length: "
+						+ bytes.length + "\r\n" + (gzip ? "Content-Encoding: gzip\r\n" : "") + "\r\n";
+				output.write(headers.getBytes(StandardCharsets.ISO_8859_1));
+				output.write(bytes);
+				output.flush();
+			}
+			finally {
+				this.inFlight.decrementAndGet();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.serverSocket.close();
+			this.executor.shutdownNow();
+		}
+
+	}
+
+}
@@ -350,6 +350,39 @@ public class TemplateGeneratorTests {
 				.doesNotContain("Boot");
 	}
 
+	@Test
+	public void should_build_the_release_view_once_for_all_the_templates() {
+		this.props.getPom().setBranch("vDalston.SR1");
+		TemplateGenerator generator = new TemplateGenerator(this.props, this.handler);
+		Projects projects = new Projects(new ProjectVersion("spring-cloud-sleuth", "1.0.1.RELEASE"),
+				new ProjectVersion("spring-boot", "1.5.1.RELEASE"));
+
+		TrainReleaseView view = generator.view(projects);
+
+		then(generator.view(new Projects(new ProjectVersion("spring-cloud-sleuth", "1.0.1.RELEASE"),
+				new ProjectVersion("spring-boot", "1.5.1.RELEASE")))).isSameAs(view);
+		then(generator.view(new Projects(new ProjectVersion("spring-cloud-sleuth", "1.0.2.RELEASE"),
+				new ProjectVersion("spring-boot", "1.5.1.RELEASE")))).isNotSameAs(view);
+		then(view.releaseType()).isEqualTo(TrainReleaseView.ReleaseType.SERVICE_RELEASE);
+		then(view.releaseNumber()).isEqualTo("1");
+		then(view.isNonRelease()).isFalse();
+		then(view.projects()).extracting(Notes::getName).containsExactly("Spring Cloud Sleuth");
+	}
+
+	@Test
+	public void should_categorise_the_release_versions() {
+		then(view("Dalston.RELEASE").releaseType()).isEqualTo(TrainReleaseView.ReleaseType.GA);
+		then(view("2020.0.5").releaseType()).isEqualTo(TrainReleaseView.ReleaseType.GA);
+		then(view("Dalston.RC2").releaseType()).isEqualTo(TrainReleaseView.ReleaseType.RELEASE_CANDIDATE);
+		then(view("2020.0.0-M3").releaseType()).isEqualTo(TrainReleaseView.ReleaseType.MILESTONE);
+		then(view("2020.0.0-M3").releaseNumber()).isEqualTo("3");
+		then(view("2020.0.0-M3").isNonRelease()).isTrue();
+	}
+
+	private TrainReleaseView view(String releaseVersion) {
+		return new TrainReleaseView(releaseVersion, new Projects(), new NotesGenerator(this.handler, this.props));
+	}
+
 	private String content(File file) throws IOException {
 		return new String(Files.readAllBytes(file.toPath()));
 	}
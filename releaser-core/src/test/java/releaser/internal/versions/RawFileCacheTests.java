@@ -0,0 +1,137 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.versions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.ReleaserCache;
+import releaser.internal.tech.ReleaserHttpClient;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+@WireMockTest(httpPort = 12350)
+class RawFileCacheTests {
+
+	private static final String URL = "http://localhost:12350/application.yml";
+
+	@TempDir
+	Path cacheDirectory;
+
+	ReleaserHttpClient httpClient = new ReleaserHttpClient(new ReleaserProperties());
+
+	@AfterEach
+	void close() {
+		this.httpClient.close();
+	}
+
+	@BeforeEach
+	void setup() {
+		stubFor(get(urlEqualTo("/application.yml")).withHeader("If-None-Match", absent())
+				.willReturn(aResponse().withHeader("ETag", "\"v1\"")
+						.withHeader("Last-Modified", "Mon, 19 Oct 2026 10:00:00 GMT").withBody("initializr: v1")));
+		stubFor(get(urlEqualTo("/application.yml")).withHeader("If-None-Match", equalTo("\"v1\""))
+				.willReturn(aResponse().withStatus(304)));
+	}
+
+	@Test
+	void should_serve_a_fresh_file_from_disk_without_asking_the_server() throws IOException {
+		RawFileCache cache = cache(Duration.ofMinutes(5));
+
+		then(cache.get(URL)).isEqualTo("initializr: v1");
+		then(cache.get(URL)).isEqualTo("initializr: v1");
+
+		verify(1, getRequestedFor(urlEqualTo("/application.yml")));
+	}
+
+	@Test
+	void should_count_the_reads_in_the_cache_report() throws IOException {
+		RawFileCache cache = cache(Duration.ofMinutes(5));
+
+		cache.get(URL);
+		cache.get(URL);
+
+		then(ReleaserCache.allStats()).anySatisfy(stats -> {
+			then(stats.name).isEqualTo("http.raw-files");
+			then(stats.hits).isEqualTo(1);
+			then(stats.misses).isEqualTo(1);
+		});
+	}
+
+	@Test
+	void should_reuse_the_file_fetched_in_a_previous_run() throws IOException {
+		cache(Duration.ofMinutes(5)).get(URL);
+
+		then(cache(Duration.ofMinutes(5)).get(URL)).isEqualTo("initializr: v1");
+
+		verify(1, getRequestedFor(urlEqualTo("/application.yml")));
+	}
+
+	@Test
+	void should_revalidate_an_expired_file_with_its_etag_and_last_modified_date() throws IOException {
+		RawFileCache cache = cache(Duration.ZERO);
+		cache.get(URL);
+
+		then(cache.get(URL)).isEqualTo("initializr: v1");
+
+		verify(getRequestedFor(urlEqualTo("/application.yml")).withHeader("If-None-Match", equalTo("\"v1\""))
+				.withHeader("If-Modified-Since", equalTo("Mon, 19 Oct 2026 10:00:00 GMT")));
+	}
+
+	@Test
+	void should_download_a_changed_file_again() throws IOException {
+		RawFileCache cache = cache(Duration.ZERO);
+		cache.get(URL);
+		stubFor(get(urlEqualTo("/application.yml")).withHeader("If-None-Match", equalTo("\"v1\""))
+				.willReturn(aResponse().withHeader("ETag", "\"v2\"").withBody("initializr: v2")));
+
+		then(cache.get(URL)).isEqualTo("initializr: v2");
+	}
+
+	@Test
+	void should_fall_back_to_the_cached_file_when_the_server_fails() throws IOException {
+		RawFileCache cache = cache(Duration.ZERO);
+		cache.get(URL);
+		stubFor(get(urlEqualTo("/application.yml")).withHeader("If-None-Match", equalTo("\"v1\""))
+				.willReturn(aResponse().withStatus(503)));
+
+		then(cache.get(URL)).isEqualTo("initializr: v1");
+	}
+
+	private RawFileCache cache(Duration ttl) {
+		return new RawFileCache(this.httpClient, this.cacheDirectory, ttl);
+	}
+
+}
@@ -24,6 +24,7 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 
 import org.assertj.core.api.BDDAssertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import releaser.internal.ReleaserProperties;
@@ -31,6 +32,7 @@ import releaser.internal.buildsystem.ProjectPomUpdater;
 import releaser.internal.buildsystem.TestUtils;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
+import releaser.internal.tech.ReleaserHttpClient;
 
 import org.springframework.util.FileSystemUtils;
 
@@ -38,6 +40,13 @@ class VersionsFromBomFetcherTests {
 
 	File temporaryFolder;
 
+	ReleaserHttpClient httpClient = new ReleaserHttpClient(new ReleaserProperties());
+
+	@AfterEach
+	void close() {
+		this.httpClient.close();
+	}
+
 	@BeforeEach
 	void setup() throws IOException, URISyntaxException {
 		this.temporaryFolder = Files.createTempDirectory("versions-fetcher").toFile();
@@ -57,7 +66,7 @@ class VersionsFromBomFetcherTests {
 		properties.getVersions().setAllVersionsFileUrl(initilizrUri.toString());
 		properties.getGit().setReleaseTrainBomUrl(file("/projects/spring-cloud-release/").toURI().toString());
 		ProjectPomUpdater updater = new ProjectPomUpdater(properties, new ArrayList<>());
-		VersionsFetcher versionsFetcher = new VersionsFetcher(properties, updater);
+		VersionsFetcher versionsFetcher = new VersionsFetcher(properties, updater, this.httpClient);
 
 		boolean latestGa = versionsFetcher.isLatestGa(projectVersion);
 
@@ -70,7 +79,7 @@ class VersionsFromBomFetcherTests {
 		ReleaserProperties properties = new ReleaserProperties();
 		properties.getGit().setUpdateSpringGuides(true);
 		ProjectPomUpdater updater = new ProjectPomUpdater(properties, new ArrayList<>());
-		VersionsFetcher versionsFetcher = new VersionsFetcher(properties, updater);
+		VersionsFetcher versionsFetcher = new VersionsFetcher(properties, updater, this.httpClient);
 
 		boolean latestGa = versionsFetcher.isLatestGa(projectVersion);
 
@@ -88,7 +97,34 @@ class VersionsFromBomFetcherTests {
 					public Projects retrieveVersionsFromReleaseTrainBom(String branch, boolean updateFixedVersions) {
 						throw new IllegalStateException("BOOM!");
 					}
-				});
+				}, this.httpClient);
+
+		boolean latestGa = versionsFetcher.isLatestGa(projectVersion);
+
+		BDDAssertions.then(latestGa).isFalse();
+	}
+
+	@Test
+	void should_return_false_without_fetching_the_bom_when_the_release_train_tag_does_not_exist()
+			throws URISyntaxException {
+		ProjectVersion projectVersion = new ProjectVersion("spring-cloud-contract", "1.0.0.RELEASE");
+		URI initilizrUri = VersionsFromBomFetcherTests.class.getResource("/raw/initializr.yml").toURI();
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getGit().setUpdateSpringGuides(true);
+		properties.getVersions().setAllVersionsFileUrl(initilizrUri.toString());
+		properties.getVersions().setBomName("spring-cloud");
+		VersionsFetcher versionsFetcher = new VersionsFetcher(properties,
+				new ProjectPomUpdater(properties, new ArrayList<>()) {
+					@Override
+					public boolean releaseTrainBomHasTag(String tag) {
+						return false;
+					}
+
+					@Override
+					public Projects retrieveVersionsFromReleaseTrainBom(String branch, boolean updateFixedVersions) {
+						throw new AssertionError("The BOM should not be fetched");
+					}
+				}, this.httpClient);
 
 		boolean latestGa = versionsFetcher.isLatestGa(projectVersion);
 
@@ -17,6 +17,8 @@
 package releaser.internal.sagan;
 
 import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.ReleaserExecutor;
+import releaser.internal.tech.ReleaserHttpClient;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -35,9 +37,10 @@ class SaganConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnProperty(value = "releaser.sagan.update-sagan", havingValue = "true")
-	SaganClient saganClient(ReleaserProperties properties) {
-		RestTemplate restTemplate = restTemplate(properties);
-		return new RestTemplateSaganClient(restTemplate, properties);
+	SaganClient saganClient(ReleaserProperties properties, ReleaserHttpClient releaserHttpClient,
+			ReleaserExecutor releaserExecutor) {
+		RestTemplate restTemplate = restTemplate(properties, releaserHttpClient);
+		return new RestTemplateSaganClient(restTemplate, properties, releaserExecutor);
 	}
 
 	@Bean
@@ -72,12 +75,12 @@ class SaganConfiguration {
 		};
 	}
 
-	private RestTemplate restTemplate(ReleaserProperties properties) {
+	private RestTemplate restTemplate(ReleaserProperties properties, ReleaserHttpClient releaserHttpClient) {
 		Assert.hasText(properties.getGit().getOauthToken(),
 				"In order to connect to Sagan you need to pass the Github OAuth token. "
 						+ "You can do it via the [--releaser.git.oauth-token=...] "
 						+ "command line argument or an env variable [export RELEASER_GIT_OAUTH_TOKEN=...].");
-		return new RestTemplateBuilder()
+		return new RestTemplateBuilder().requestFactory(releaserHttpClient::requestFactory)
 				.basicAuthentication(properties.getGit().getUsername(), properties.getGit().getOauthToken()).build();
 	}
 
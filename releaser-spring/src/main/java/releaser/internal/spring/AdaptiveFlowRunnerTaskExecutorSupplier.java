@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Creates separate executors for the CPU bound and the I/O bound tasks. The CPU bound
+ * executors are sized from the number of cores and the physical memory, the I/O bound
+ * ones can have more threads than there are cores. Sizes can be set explicitly via
+ * {@link ReleaserProperties.Flow}.
+ *
+ * Keeps the number of flows run per workload together with the peak number of the running
+ * and the queued ones, so that they can be reported at the end of the release. Executors
+ * are shut down as soon as the flow they were created for has ended.
+ *
+ * @author Marcin Grzejszczak
+ */
+class AdaptiveFlowRunnerTaskExecutorSupplier implements FlowRunnerTaskExecutorSupplier {
+
+	private static final Logger log = LoggerFactory.getLogger(AdaptiveFlowRunnerTaskExecutorSupplier.class);
+
+	private final Map<Workload, Integer> threads = new EnumMap<>(Workload.class);
+
+	private final Map<Workload, List<ThreadPoolTaskExecutor>> executors = new EnumMap<>(Workload.class);
+
+	private final Map<Workload, WorkloadMetrics> metrics = new EnumMap<>(Workload.class);
+
+	AdaptiveFlowRunnerTaskExecutorSupplier(ReleaserProperties properties) {
+		this(properties, SystemResources.operatingSystem());
+	}
+
+	AdaptiveFlowRunnerTaskExecutorSupplier(ReleaserProperties properties, SystemResources resources) {
+		ReleaserProperties.Flow flow = properties.getFlow();
+		int cores = Math.max(1, resources.availableProcessors());
+		this.threads.put(Workload.CPU_BOUND,
+				flow.getCpuBoundThreads() > 0 ? flow.getCpuBoundThreads() : cpuBoundThreads(flow, resources, cores));
+		this.threads.put(Workload.IO_BOUND,
+				flow.getIoBoundThreads() > 0 ? flow.getIoBoundThreads() : Math.max(4, 2 * cores));
+		for (Workload workload : Workload.values()) {
+			this.executors.put(workload, new CopyOnWriteArrayList<>());
+			this.metrics.put(workload, new WorkloadMetrics());
+		}
+		log.info("Will run up to [{}] CPU bound and [{}] I/O bound flows in parallel",
+				this.threads.get(Workload.CPU_BOUND), this.threads.get(Workload.IO_BOUND));
+	}
+
+	private static int cpuBoundThreads(ReleaserProperties.Flow flow, SystemResources resources, int cores) {
+		long totalMemory = resources.totalMemoryInMb();
+		if (totalMemory <= 0 || flow.getMemoryPerBuildInMb() <= 0) {
+			return cores;
+		}
+		return (int) Math.max(1, Math.min(cores, totalMemory / flow.getMemoryPerBuildInMb()));
+	}
+
+	@Override
+	public TaskExecutor get() {
+		return get(Workload.CPU_BOUND);
+	}
+
+	@Override
+	public TaskExecutor get(Workload workload) {
+		int size = this.threads.get(workload);
+		WorkloadMetrics workloadMetrics = this.metrics.get(workload);
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+			@Override
+			public void execute(Runnable task) {
+				super.execute(task);
+				workloadMetrics.peakQueued.accumulateAndGet(queueDepth(workload), Math::max);
+			}
+		};
+		executor.setCorePoolSize(size);
+		executor.setMaxPoolSize(size);
+		executor.setThreadNamePrefix(workload.name().toLowerCase().replace('_', '-') + "-");
+		executor.setTaskDecorator(runnable -> () -> {
+			int active = activeCount(workload);
+			int queued = queueDepth(workload);
+			workloadMetrics.peakActive.accumulateAndGet(active, Math::max);
+			log.debug("Starting a [{}] flow, active [{}], queued [{}]", workload, active, queued);
+			try {
+				runnable.run();
+			}
+			finally {
+				workloadMetrics.flows.incrementAndGet();
+			}
+		});
+		executor.initialize();
+		this.executors.get(workload).add(executor);
+		workloadMetrics.executors.incrementAndGet();
+		return executor;
+	}
+
+	@Override
+	public void release(TaskExecutor executor) throws Exception {
+		for (List<ThreadPoolTaskExecutor> executors : this.executors.values()) {
+			if (executors.remove(executor)) {
+				((ThreadPoolTaskExecutor) executor).shutdown();
+				return;
+			}
+		}
+		FlowRunnerTaskExecutorSupplier.super.release(executor);
+	}
+
+	/**
+	 * @return table of the executors created, the flows run and the peak number of the
+	 * running and the queued flows per workload
+	 */
+	String report() {
+		StringBuilder report = new StringBuilder("Flows per workload:\n");
+		report.append(String.format("%-12s %8s %10s %8s %12s %12s%n", "WORKLOAD", "THREADS", "EXECUTORS", "FLOWS",
+				"PEAK ACTIVE", "PEAK QUEUED"));
+		this.metrics.forEach((workload,
+				workloadMetrics) -> report.append(String.format("%-12s %8d %10d %8d %12d %12d%n", workload,
+						threads(workload), workloadMetrics.executors.get(), workloadMetrics.flows.get(),
+						workloadMetrics.peakActive.get(), workloadMetrics.peakQueued.get())));
+		return report.toString();
+	}
+
+	int threads(Workload workload) {
+		return this.threads.get(workload);
+	}
+
+	/**
+	 * @param workload kind of tasks
+	 * @return number of flows of the given kind that are running
+	 */
+	int activeCount(Workload workload) {
+		return this.executors.get(workload).stream().mapToInt(ThreadPoolTaskExecutor::getActiveCount).sum();
+	}
+
+	/**
+	 * @param workload kind of tasks
+	 * @return number of flows of the given kind waiting for a thread
+	 */
+	int queueDepth(Workload workload) {
+		return this.executors.get(workload).stream().mapToInt(ThreadPoolTaskExecutor::getQueueSize).sum();
+	}
+
+	/**
+	 * @param workload kind of tasks
+	 * @return number of executors of the given kind that weren't released yet
+	 */
+	int executors(Workload workload) {
+		return this.executors.get(workload).size();
+	}
+
+	private static final class WorkloadMetrics {
+
+		private final AtomicInteger executors = new AtomicInteger();
+
+		private final AtomicLong flows = new AtomicLong();
+
+		private final AtomicInteger peakActive = new AtomicInteger();
+
+		private final AtomicInteger peakQueued = new AtomicInteger();
+
+	}
+
+}
@@ -46,8 +46,9 @@ class BatchConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean(BuildReportHandler.class)
-	SpringBatchBuildReportHandler springBatchBuildReportHandler(JobExplorer jobExplorer) {
-		return new SpringBatchBuildReportHandler(jobExplorer);
+	SpringBatchBuildReportHandler springBatchBuildReportHandler(JobExplorer jobExplorer,
+			ReleaserProperties releaserProperties) {
+		return new SpringBatchBuildReportHandler(jobExplorer, releaserProperties);
 	}
 
 	@Bean
@@ -59,9 +60,8 @@ class BatchConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	FlowRunnerTaskExecutorSupplier defaultFlowRunnerTaskExecutorSupplier() {
-		return new FlowRunnerTaskExecutorSupplier() {
-		};
+	FlowRunnerTaskExecutorSupplier defaultFlowRunnerTaskExecutorSupplier(ReleaserProperties releaserProperties) {
+		return new AdaptiveFlowRunnerTaskExecutorSupplier(releaserProperties);
 	}
 
 	@Bean
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+
+/**
+ * Holds back CPU bound tasks (builds) while the machine is busy. A build is started only
+ * if the system load average per core and the free physical memory are within the limits
+ * set in {@link ReleaserProperties.Flow}, and if its {@code memoryPerBuildInMb} still
+ * fits in the memory budget of the builds running at the same time. A build is always
+ * started if no other build is running, so that the release can't get stuck on a machine
+ * that's busy for other reasons.
+ *
+ * @author Marcin Grzejszczak
+ */
+class BuildAdmissionController {
+
+	private static final Logger log = LoggerFactory.getLogger(BuildAdmissionController.class);
+
+	private final ReleaserProperties.Flow flow;
+
+	private final SystemResources resources;
+
+	private int running;
+
+	private int waiting;
+
+	private long reservedInMb;
+
+	BuildAdmissionController(ReleaserProperties properties) {
+		this(properties, SystemResources.operatingSystem());
+	}
+
+	BuildAdmissionController(ReleaserProperties properties, SystemResources resources) {
+		this.flow = properties.getFlow();
+		this.resources = resources;
+	}
+
+	/**
+	 * Blocks until the build can be started.
+	 * @param name name of the build
+	 * @throws InterruptedException when interrupted while waiting
+	 */
+	synchronized void admit(String name) throws InterruptedException {
+		this.waiting++;
+		try {
+			String reason = reasonToHoldBack();
+			while (reason != null) {
+				log.info("Build [{}] is held back because {}. Builds running [{}], waiting [{}]", name, reason,
+						this.running, this.waiting);
+				wait(this.flow.getBuildAdmissionCheckIntervalInMillis());
+				reason = reasonToHoldBack();
+			}
+		}
+		finally {
+			this.waiting--;
+		}
+		this.running++;
+		this.reservedInMb += reservationInMb();
+		log.info("Starting build [{}]. Builds running [{}], waiting [{}], [{}] MB out of [{}] MB is reserved", name,
+				this.running, this.waiting, this.reservedInMb, budgetInMb());
+	}
+
+	/**
+	 * Marks a build as finished.
+	 */
+	synchronized void release() {
+		this.running--;
+		this.reservedInMb -= reservationInMb();
+		notifyAll();
+	}
+
+	synchronized long reservedInMb() {
+		return this.reservedInMb;
+	}
+
+	synchronized int running() {
+		return this.running;
+	}
+
+	synchronized int waiting() {
+		return this.waiting;
+	}
+
+	private String reasonToHoldBack() {
+		if (this.running == 0) {
+			return null;
+		}
+		double maxLoad = this.flow.getMaxSystemLoadPerCore() * Math.max(1, this.resources.availableProcessors());
+		double load = this.resources.systemLoadAverage();
+		if (this.flow.getMaxSystemLoadPerCore() > 0 && load >= 0 && load > maxLoad) {
+			return "the system load [" + load + "] is above [" + maxLoad + "]";
+		}
+		long freeMemory = this.resources.freeMemoryInMb();
+		if (this.flow.getMinFreeMemoryInMb() > 0 && freeMemory >= 0 && freeMemory < this.flow.getMinFreeMemoryInMb()) {
+			return "there's only [" + freeMemory + "] MB of free memory";
+		}
+		long budget = budgetInMb();
+		if (this.reservedInMb + reservationInMb() > budget) {
+			return "[" + this.reservedInMb + "] MB out of [" + budget + "] MB is reserved by other builds";
+		}
+		return null;
+	}
+
+	private long reservationInMb() {
+		return Math.max(0, this.flow.getMemoryPerBuildInMb());
+	}
+
+	private long budgetInMb() {
+		if (this.flow.getBuildMemoryBudgetInMb() > 0) {
+			return this.flow.getBuildMemoryBudgetInMb();
+		}
+		long total = this.resources.totalMemoryInMb();
+		return total > 0 ? total * 3 / 4 : Long.MAX_VALUE;
+	}
+
+}
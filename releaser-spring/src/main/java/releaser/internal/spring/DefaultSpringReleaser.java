@@ -17,6 +17,7 @@
 package releaser.internal.spring;
 
 import releaser.internal.ReleaserProperties;
+import releaser.internal.git.ProjectGitHandler;
 import releaser.internal.options.Options;
 import releaser.internal.options.OptionsBuilder;
 import releaser.internal.tech.ExecutionResult;
@@ -38,13 +39,20 @@ class DefaultSpringReleaser implements SpringReleaser {
 
 	private final FlowRunner flowRunner;
 
+	private final ProjectGitHandler projectGitHandler;
+
+	private final ReleasePreflight preflight;
+
 	DefaultSpringReleaser(ReleaserProperties properties, OptionsAndPropertiesFactory optionsAndPropertiesFactory,
-			ProjectsToRunFactory projectsToRunFactory, TasksToRunFactory tasksToRunFactory, FlowRunner flowRunner) {
+			ProjectsToRunFactory projectsToRunFactory, TasksToRunFactory tasksToRunFactory, FlowRunner flowRunner,
+			ProjectGitHandler projectGitHandler, FlowRunnerTaskExecutorSupplier executorSupplier) {
 		this.properties = properties;
 		this.optionsAndPropertiesFactory = optionsAndPropertiesFactory;
 		this.projectsToRunFactory = projectsToRunFactory;
 		this.tasksToRunFactory = tasksToRunFactory;
 		this.flowRunner = flowRunner;
+		this.projectGitHandler = projectGitHandler;
+		this.preflight = new ReleasePreflight(properties, projectGitHandler, executorSupplier);
 	}
 
 	/**
@@ -61,15 +69,25 @@ class DefaultSpringReleaser implements SpringReleaser {
 		// order matters! Tasks will mutate options and properties
 		TasksToRun releaseTasksToRun = releaseTasksFromOptions(optionsAndProperties);
 		ProjectsToRun projectsToRun = releaseProjects(optionsAndProperties);
+		ExecutionResult preflightResult = this.preflight.verify(optionsAndProperties, projectsToRun);
+		if (preflightResult.isFailure()) {
+			return preflightResult;
+		}
 		ExecutionResult releaseTasksExecutionResult = runReleaseTasks(optionsAndProperties, projectsToRun,
 				releaseTasksToRun);
+		this.projectsToRunFactory.storeResolvedProjects(optionsAndProperties);
 		if (releaseTasksExecutionResult.isFailure()) {
-			return releaseTasksExecutionResult;
+			// the changes done before the failure used to be pushed right away
+			return releaseTasksExecutionResult.merge(pushPendingChanges());
 		}
 		TasksToRun postReleaseTrainTasksToRun = postReleaseTrainTasksFromOptions(optionsAndProperties);
 		ExecutionResult postReleaseTrainTasksExecutionResult = runPostReleaseTasks(optionsAndProperties,
 				postReleaseTrainTasksToRun);
-		return releaseTasksExecutionResult.merge(postReleaseTrainTasksExecutionResult);
+		return releaseTasksExecutionResult.merge(postReleaseTrainTasksExecutionResult).merge(pushPendingChanges());
+	}
+
+	private ExecutionResult pushPendingChanges() {
+		return this.projectGitHandler.pushPendingChanges();
 	}
 
 	private OptionsAndProperties prepareOptionsAndProperties(Options options, ReleaserProperties properties) {
@@ -18,6 +18,7 @@ package releaser.internal.spring;
 
 import java.util.function.Supplier;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -34,4 +35,40 @@ public interface FlowRunnerTaskExecutorSupplier extends Supplier<TaskExecutor> {
 		return executor;
 	}
 
+	/**
+	 * @param workload kind of tasks the executor will run
+	 * @return executor for the given kind of tasks
+	 */
+	default TaskExecutor get(Workload workload) {
+		return get();
+	}
+
+	/**
+	 * Called once the flow the executor was created for has ended.
+	 * @param executor executor returned by {@link #get(Workload)}
+	 * @throws Exception when the executor fails to get destroyed
+	 */
+	default void release(TaskExecutor executor) throws Exception {
+		if (executor instanceof DisposableBean) {
+			((DisposableBean) executor).destroy();
+		}
+	}
+
+	/**
+	 * Kind of tasks run in parallel.
+	 */
+	enum Workload {
+
+		/**
+		 * Release tasks of projects, that build them.
+		 */
+		CPU_BOUND,
+
+		/**
+		 * Post release tasks that mostly wait for remote services.
+		 */
+		IO_BOUND
+
+	}
+
 }
@@ -19,14 +19,14 @@ package releaser.internal.spring;
 import java.io.Closeable;
 import java.io.File;
 import java.io.Serializable;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import releaser.internal.ReleaserProperties;
 import releaser.internal.options.Options;
 import releaser.internal.project.ProjectVersion;
+import releaser.internal.tech.ReleaserCache;
 
 /**
  * A single project to be released. Contains all the information necessary to release a
@@ -101,7 +101,8 @@ public class ProjectToRun implements Serializable {
 	 */
 	public static class ProjectToRunSupplier implements Supplier<ProjectToRun>, Closeable {
 
-		private static final Map<String, ProjectToRun> CACHE = new ConcurrentHashMap<>();
+		private static final ReleaserCache<String, ProjectToRun> CACHE = new ReleaserCache<>("projects.to-run", 1024,
+				Duration.ofDays(7));
 
 		private final String projectName;
 
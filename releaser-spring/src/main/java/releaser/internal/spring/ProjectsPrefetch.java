@@ -0,0 +1,79 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Prepares the projects of a meta-release in the background. Each project is cloned, its
+ * branch checked out and its versions taken from the BOM in the order of the release, a
+ * few projects at a time on the I/O bound executor of the flow. The first task of a
+ * project takes the prepared project, or waits for the one that's being prepared, instead
+ * of cloning it on the critical path.
+ *
+ * A project that fails to be prepared is prepared again by its first task, which reports
+ * the failure.
+ *
+ * @author Marcin Grzejszczak
+ */
+class ProjectsPrefetch {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectsPrefetch.class);
+
+	private final ReleaserProperties properties;
+
+	ProjectsPrefetch(ReleaserProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Starts preparing the projects. Doesn't wait for them to be prepared.
+	 * @param projectsToRun projects in the order of the release
+	 * @param workers supplies the I/O bound executor of the flow, on which the projects
+	 * get prepared
+	 * @return {@code true} if the projects are being prepared
+	 */
+	boolean prefetch(ProjectsToRun projectsToRun, Supplier<TaskExecutor> workers) {
+		if (!this.properties.getFlow().isPrefetchProjects() || projectsToRun.size() < 2) {
+			return false;
+		}
+		log.info("Preparing [{}] projects in the background", projectsToRun.size());
+		TaskExecutor executor = workers.get();
+		projectsToRun.forEach(supplier -> executor.execute(() -> prepare(supplier)));
+		return true;
+	}
+
+	private void prepare(ProjectToRun.ProjectToRunSupplier supplier) {
+		long start = System.nanoTime();
+		try {
+			supplier.get();
+			log.info("Prepared project [{}] in the background in [{}] ms", supplier.projectName(),
+					(System.nanoTime() - start) / 1_000_000);
+		}
+		catch (Exception ex) {
+			log.warn("Failed to prepare project [{}] in the background, its first task will try again",
+					supplier.projectName(), ex);
+		}
+	}
+
+}
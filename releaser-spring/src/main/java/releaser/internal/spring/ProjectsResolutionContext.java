@@ -0,0 +1,423 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.git.ProjectGitHandler;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.project.Projects;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Projects of a meta-release resolved in this run. A project is resolved by cloning it,
+ * checking out its branch and taking its versions from the BOM. Each resolution is keyed
+ * by the project, the checked out branch and commit, and a hash of the properties the
+ * resolution depends on.
+ *
+ * After a dry run the resolutions are stored in a properties file, together with the
+ * location of each clone. If the next run resolves a project with the same properties and
+ * the stored clone is still at the stored branch and commit, the clone is reused instead
+ * of cloning the project again. Its changes are reset and the latest changes are fetched.
+ * Otherwise the project is cloned again. If the clone is at the stored branch and commit,
+ * and so is its remote branch, the versions from the BOM are taken from the file.
+ * Otherwise the project is resolved again.
+ *
+ * @author Marcin Grzejszczak
+ */
+class ProjectsResolutionContext implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectsResolutionContext.class);
+
+	private static final String BRANCH = ".branch";
+
+	private static final String COMMIT = ".commit";
+
+	private static final String INPUTS = ".inputs";
+
+	private static final String FOLDER = ".folder";
+
+	private static final String CURRENT_FROM_BOM = ".bom.current";
+
+	private static final String ALL_FROM_BOM = ".bom.all";
+
+	private final ProjectGitHandler projectGitHandler;
+
+	private final Map<String, StoredResolution> resolved = new LinkedHashMap<>();
+
+	private Properties stored;
+
+	ProjectsResolutionContext(ProjectGitHandler projectGitHandler) {
+		this.projectGitHandler = projectGitHandler;
+	}
+
+	/**
+	 * @param projectName name of the project
+	 * @param properties properties the project is resolved with
+	 * @param clone clones the project and checks out its branch, unless the stored clone
+	 * can be reused
+	 * @param projectsFromBom takes the versions from the BOM if no stored resolution can
+	 * be reused
+	 * @return resolution of the project
+	 */
+	Resolution resolve(String projectName, ReleaserProperties properties, Supplier<File> clone,
+			Function<File, ProjectsFromBom> projectsFromBom) {
+		String inputs = inputs(projectName, properties);
+		StoredResolution storedResolution = StoredResolution.from(projectName, stored(properties));
+		File projectFolder = storedClone(storedResolution, inputs);
+		if (projectFolder == null) {
+			projectFolder = clone.get();
+		}
+		ResolutionKey key = key(projectName, projectFolder, inputs);
+		ProjectsFromBom fromBom = reusable(key, projectFolder, storedResolution);
+		if (fromBom != null) {
+			log.info("Reusing the versions from the BOM of project [{}] at commit [{}] of branch [{}]", projectName,
+					key.commit, key.branch);
+		}
+		else {
+			fromBom = projectsFromBom.apply(projectFolder);
+		}
+		if (key != null) {
+			resolved(projectName, new StoredResolution(key, projectFolder.getAbsoluteFile(), fromBom));
+		}
+		return new Resolution(projectFolder, new ProjectVersion(projectFolder), fromBom);
+	}
+
+	private synchronized void resolved(String projectName, StoredResolution resolution) {
+		this.resolved.put(projectName, resolution);
+	}
+
+	private File storedClone(StoredResolution storedResolution, String inputs) {
+		if (storedResolution == null || storedResolution.projectFolder == null
+				|| !storedResolution.key.inputs.equals(inputs)) {
+			return null;
+		}
+		ResolutionKey storedKey = storedResolution.key;
+		File projectFolder = storedResolution.projectFolder;
+		if (!storedKey.equals(key(storedKey.projectName, projectFolder, inputs))) {
+			log.info(
+					"Stored clone [{}] of project [{}] is no longer at commit [{}] of branch [{}], will clone it again",
+					projectFolder, storedKey.projectName, storedKey.commit, storedKey.branch);
+			return null;
+		}
+		try {
+			if (this.projectGitHandler.reuseClonedProjectFromOrg(storedKey.projectName, projectFolder,
+					storedKey.commit)) {
+				log.info("Reusing clone [{}] of project [{}] at commit [{}] of branch [{}]", projectFolder,
+						storedKey.projectName, storedKey.commit, storedKey.branch);
+				return projectFolder;
+			}
+			log.info("Branch [{}] of project [{}] has moved from [{}], will clone it again", storedKey.branch,
+					storedKey.projectName, storedKey.commit);
+		}
+		catch (Exception ex) {
+			log.warn("Failed to reuse clone [{}] of project [{}], will clone it again", projectFolder,
+					storedKey.projectName, ex);
+		}
+		return null;
+	}
+
+	private ProjectsFromBom reusable(ResolutionKey key, File projectFolder, StoredResolution storedResolution) {
+		if (key == null || storedResolution == null) {
+			return null;
+		}
+		String projectName = key.projectName;
+		ResolutionKey storedKey = storedResolution.key;
+		if (!storedKey.inputs.equals(key.inputs)) {
+			log.info("Project [{}] is resolved with different properties than the stored resolution", projectName);
+			return null;
+		}
+		if (!storedKey.equals(key)) {
+			log.info("Clone [{}] of project [{}] is at commit [{}] of branch [{}], not at commit [{}] of branch [{}]",
+					projectFolder, projectName, key.commit, key.branch, storedKey.commit, storedKey.branch);
+			return null;
+		}
+		String remoteCommit;
+		try {
+			remoteCommit = this.projectGitHandler.remoteBranchCommit(projectFolder);
+		}
+		catch (Exception ex) {
+			log.warn("Failed to resolve the remote branch of project [{}], will resolve it again", projectName, ex);
+			return null;
+		}
+		if (!storedKey.commit.equals(remoteCommit)) {
+			log.info("Branch [{}] of project [{}] has moved from [{}] to [{}]", storedKey.branch, projectName,
+					storedKey.commit, remoteCommit);
+			return null;
+		}
+		return storedResolution.projectsFromBom;
+	}
+
+	/**
+	 * Stores the resolutions of this run.
+	 * @param properties properties with the file to store the resolutions in
+	 */
+	synchronized void store(ReleaserProperties properties) {
+		Path file = file(properties);
+		if (file == null || this.resolved.isEmpty()) {
+			return;
+		}
+		Properties resolutions = new Properties();
+		this.resolved.forEach((projectName, resolution) -> resolution.store(projectName, resolutions));
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+			try (OutputStream stream = Files.newOutputStream(tmp)) {
+				resolutions.store(stream, "Projects resolved by a dry run");
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			log.info("Stored the resolution of [{}] projects in [{}]", this.resolved.size(), file);
+		}
+		catch (IOException ex) {
+			log.warn("Failed to store the resolved projects in [{}]", file, ex);
+		}
+	}
+
+	private synchronized Properties stored(ReleaserProperties properties) {
+		if (this.stored == null) {
+			this.stored = load(file(properties));
+		}
+		return this.stored;
+	}
+
+	private static Properties load(Path file) {
+		Properties stored = new Properties();
+		if (file == null || !Files.isRegularFile(file)) {
+			return stored;
+		}
+		try (InputStream stream = Files.newInputStream(file)) {
+			stored.load(stream);
+			log.info("Loaded the resolved projects from [{}]", file);
+		}
+		catch (IOException ex) {
+			log.warn("Failed to read the resolved projects from [{}], will resolve all the projects", file, ex);
+		}
+		return stored;
+	}
+
+	private static Path file(ReleaserProperties properties) {
+		String file = properties.getMetaRelease().getResolutionContextFile();
+		return StringUtils.hasText(file) ? Paths.get(file) : null;
+	}
+
+	private static ResolutionKey key(String projectName, File projectFolder, String inputs) {
+		if (projectFolder == null || !projectFolder.isDirectory()) {
+			return null;
+		}
+		try (Git git = Git.open(projectFolder)) {
+			ObjectId head = git.getRepository().resolve(Constants.HEAD);
+			return head != null
+					? new ResolutionKey(projectName, git.getRepository().getBranch(), head.getName(), inputs) : null;
+		}
+		catch (IOException ex) {
+			log.debug("Failed to resolve the commit of [{}], will not store its resolution", projectFolder, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Hash of the properties that decide which repository is cloned, which branch is
+	 * checked out and which versions are taken from the BOM.
+	 */
+	private static String inputs(String projectName, ReleaserProperties properties) {
+		ReleaserProperties.Git git = properties.getGit();
+		String inputs = String.join("\n", projectName, String.valueOf(properties.isCommercial()),
+				String.valueOf(properties.getMetaRelease().getGitOrgUrl()), String.valueOf(git.getReleaseTrainBranch()),
+				String.valueOf(git.getReleaseTrainBomUrl()), String.valueOf(git.isFetchVersionsFromGit()),
+				String.valueOf(properties.getMetaRelease().isEnabled()),
+				String.valueOf(new TreeMap<>(properties.getFixedVersions())));
+		try {
+			return HexFormat.of()
+					.formatHex(MessageDigest.getInstance("SHA-256").digest(inputs.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		this.resolved.clear();
+		this.stored = null;
+	}
+
+	/**
+	 * A resolved project.
+	 */
+	static class Resolution {
+
+		/**
+		 * Cloned location of the project.
+		 */
+		final File projectFolder;
+
+		/**
+		 * Version of the project on the checked out branch.
+		 */
+		final ProjectVersion originalVersion;
+
+		/**
+		 * All projects taken from the BOM.
+		 */
+		final ProjectsFromBom projectsFromBom;
+
+		Resolution(File projectFolder, ProjectVersion originalVersion, ProjectsFromBom projectsFromBom) {
+			this.projectFolder = projectFolder;
+			this.originalVersion = originalVersion;
+			this.projectsFromBom = projectsFromBom;
+		}
+
+	}
+
+	/**
+	 * Key of a resolved project.
+	 */
+	static class ResolutionKey {
+
+		final String projectName;
+
+		final String branch;
+
+		final String commit;
+
+		final String inputs;
+
+		ResolutionKey(String projectName, String branch, String commit, String inputs) {
+			this.projectName = projectName;
+			this.branch = branch;
+			this.commit = commit;
+			this.inputs = inputs;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ResolutionKey that = (ResolutionKey) o;
+			return Objects.equals(this.projectName, that.projectName) && Objects.equals(this.branch, that.branch)
+					&& Objects.equals(this.commit, that.commit) && Objects.equals(this.inputs, that.inputs);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.projectName, this.branch, this.commit, this.inputs);
+		}
+
+	}
+
+	/**
+	 * Key, clone and versions from the BOM of a project, as stored in the file. Versions
+	 * are stored as comma separated {@code name:version} pairs.
+	 */
+	private static final class StoredResolution {
+
+		private final ResolutionKey key;
+
+		private final File projectFolder;
+
+		private final ProjectsFromBom projectsFromBom;
+
+		private StoredResolution(ResolutionKey key, File projectFolder, ProjectsFromBom projectsFromBom) {
+			this.key = key;
+			this.projectFolder = projectFolder;
+			this.projectsFromBom = projectsFromBom;
+		}
+
+		private void store(String projectName, Properties properties) {
+			properties.setProperty(projectName + BRANCH, this.key.branch);
+			properties.setProperty(projectName + COMMIT, this.key.commit);
+			properties.setProperty(projectName + INPUTS, this.key.inputs);
+			properties.setProperty(projectName + FOLDER, this.projectFolder.getPath());
+			properties.setProperty(projectName + ALL_FROM_BOM, this.projectsFromBom.allProjectVersionsFromBom.stream()
+					.map(StoredResolution::toString).sorted().collect(Collectors.joining(",")));
+			if (this.projectsFromBom.currentProjectFromBom != null) {
+				properties.setProperty(projectName + CURRENT_FROM_BOM,
+						toString(this.projectsFromBom.currentProjectFromBom));
+			}
+		}
+
+		private static StoredResolution from(String projectName, Properties properties) {
+			String branch = properties.getProperty(projectName + BRANCH);
+			String commit = properties.getProperty(projectName + COMMIT);
+			String inputs = properties.getProperty(projectName + INPUTS);
+			String all = properties.getProperty(projectName + ALL_FROM_BOM);
+			if (branch == null || commit == null || inputs == null || all == null) {
+				return null;
+			}
+			try {
+				Projects projects = new Projects(Arrays.stream(StringUtils.commaDelimitedListToStringArray(all))
+						.map(StoredResolution::projectVersion).collect(Collectors.toList()));
+				String current = properties.getProperty(projectName + CURRENT_FROM_BOM);
+				String folder = properties.getProperty(projectName + FOLDER);
+				return new StoredResolution(new ResolutionKey(projectName, branch, commit, inputs),
+						folder != null ? new File(folder) : null,
+						new ProjectsFromBom(projects, current != null ? projectVersion(current) : null));
+			}
+			catch (IllegalArgumentException ex) {
+				log.warn("Stored resolution of project [{}] is malformed, will resolve it again", projectName, ex);
+				return null;
+			}
+		}
+
+		private static String toString(ProjectVersion version) {
+			return version.projectName + ":" + version.version;
+		}
+
+		private static ProjectVersion projectVersion(String nameAndVersion) {
+			int separator = nameAndVersion.indexOf(':');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("Expected [name:version] but got [" + nameAndVersion + "]");
+			}
+			return new ProjectVersion(nameAndVersion.substring(0, separator), nameAndVersion.substring(separator + 1));
+		}
+
+	}
+
+}
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import releaser.internal.Releaser;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.ReleaserPropertiesUpdater;
+import releaser.internal.git.ProjectGitHandler;
 import releaser.internal.options.Options;
 import releaser.internal.project.ProjectVersion;
 
@@ -45,11 +46,14 @@ class ProjectsToRunFactory implements Closeable {
 
 	private final ReleaserPropertiesUpdater updater;
 
+	private final ProjectsResolutionContext resolutionContext;
+
 	ProjectsToRunFactory(VersionsToBumpFactory versionsToBumpFactory, Releaser releaser,
-			ReleaserPropertiesUpdater updater) {
+			ReleaserPropertiesUpdater updater, ProjectGitHandler projectGitHandler) {
 		this.versionsToBumpFactory = versionsToBumpFactory;
 		this.releaser = releaser;
 		this.updater = updater;
+		this.resolutionContext = new ProjectsResolutionContext(projectGitHandler);
 	}
 
 	ProjectsToRun release(OptionsAndProperties optionsAndProperties) {
@@ -114,16 +118,33 @@ class ProjectsToRunFactory implements Closeable {
 	private ProjectToRun.ProjectToRunSupplier projectSupplier(Options options, ReleaserProperties originalProps,
 			String project) {
 		return new ProjectToRun.ProjectToRunSupplier(project, () -> {
-			File clonedProjectFromOrg = this.releaser.clonedProjectFromOrg(project);
+			ProjectsResolutionContext.Resolution resolution = this.resolutionContext.resolve(project, originalProps,
+					() -> cloneProject(project), this.versionsToBumpFactory::withProject);
 			ReleaserProperties properties = updatePropertiesIfCustomConfigPresent(originalProps.copy(),
-					clonedProjectFromOrg);
-			log.info("Successfully cloned the project [{}] to [{}]", project, clonedProjectFromOrg);
-			ProjectVersion originalVersion = new ProjectVersion(clonedProjectFromOrg);
-			ProjectsFromBom projectsFromBom = this.versionsToBumpFactory.withProject(clonedProjectFromOrg);
-			return new ProjectToRun(clonedProjectFromOrg, projectsFromBom, originalVersion, properties, options);
+					resolution.projectFolder);
+			return new ProjectToRun(resolution.projectFolder, resolution.projectsFromBom, resolution.originalVersion,
+					properties, options);
 		});
 	}
 
+	private File cloneProject(String project) {
+		File clonedProjectFromOrg = this.releaser.clonedProjectFromOrg(project);
+		log.info("Successfully cloned the project [{}] to [{}]", project, clonedProjectFromOrg);
+		return clonedProjectFromOrg;
+	}
+
+	/**
+	 * After a dry run of a meta-release stores the resolved projects, so that the next
+	 * run can reuse them.
+	 * @param optionsAndProperties options and properties of the run
+	 */
+	void storeResolvedProjects(OptionsAndProperties optionsAndProperties) {
+		Options options = optionsAndProperties.options;
+		if (options.metaRelease && Boolean.TRUE.equals(options.dryRun)) {
+			this.resolutionContext.store(optionsAndProperties.properties);
+		}
+	}
+
 	private ReleaserProperties updatePropertiesIfCustomConfigPresent(ReleaserProperties copy,
 			File clonedProjectFromOrg) {
 		return this.updater.updateProperties(copy, clonedProjectFromOrg);
@@ -183,6 +204,7 @@ class ProjectsToRunFactory implements Closeable {
 	@Override
 	public void close() throws IOException {
 		this.storedProjects.forEach(ProjectToRun.ProjectToRunSupplier::close);
+		this.resolutionContext.close();
 	}
 
 }
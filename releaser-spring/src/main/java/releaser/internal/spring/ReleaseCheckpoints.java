@@ -0,0 +1,416 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tasks.ReleaserTask;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Durable record of the tasks that have completed for each project of a meta-release.
+ * Each project has its own properties file with the fingerprint of every completed task
+ * (task, project, version from the BOM and the dry run flag), in the order the tasks
+ * completed, and the state the project was in right after each of them. The state of a
+ * project is its commit, the size and modification time of its uncommitted changes and
+ * the checksums of the artifacts in its {@code target} directories. The checksum of an
+ * artifact is computed again only once its size or modification time has changed, and the
+ * state of a project is resolved once while its tasks are being skipped.
+ *
+ * A re-run skips the completed tasks up to the last one that left the project in its
+ * current state, as long as no other task of that project has been run in this run. So
+ * the tasks whose effects live only in the working tree, like updating the poms or
+ * building the project, run again when the project got cloned again. The tasks before a
+ * push are skipped in a fresh clone only once the remote has the pushed commit. A fresh
+ * clone has no build artifacts, which are ignored once the commit has been pushed, since
+ * the tasks that follow a push don't use them.
+ *
+ * @author Marcin Grzejszczak
+ */
+class ReleaseCheckpoints {
+
+	private static final Logger log = LoggerFactory.getLogger(ReleaseCheckpoints.class);
+
+	private static final String COMPLETED = "completed";
+
+	private static final String STATE_SUFFIX = ".state";
+
+	private static final String NO_ARTIFACTS = "-";
+
+	private static final String TARGET = "target";
+
+	private static final List<String> ARTIFACT_EXTENSIONS = List.of(".jar", ".war", ".pom", ".zip", ".module");
+
+	private final ReleaserProperties properties;
+
+	private final Set<String> projectsRunInThisRun = ConcurrentHashMap.newKeySet();
+
+	private final Map<String, State> skippedStates = new ConcurrentHashMap<>();
+
+	private final Map<String, String> artifactChecksums = new ConcurrentHashMap<>();
+
+	ReleaseCheckpoints(ReleaserProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * @param task task to run
+	 * @param args arguments of the task
+	 * @return {@code true} if the task has already completed for the same inputs and the
+	 * project is in the state the task left it in, or a later completed task did
+	 */
+	boolean isCompleted(ReleaserTask task, Arguments args) {
+		Path file = file(args);
+		if (file == null || this.projectsRunInThisRun.contains(args.project.getName())) {
+			return false;
+		}
+		synchronized (this) {
+			Properties checkpoints = load(file);
+			List<String> completed = completed(checkpoints);
+			int index = completed.indexOf(task.name());
+			if (index < 0 || !fingerprint(task, args).equals(checkpoints.getProperty(task.name()))) {
+				return false;
+			}
+			State state = this.skippedStates.computeIfAbsent(args.project.getName(),
+					name -> State.of(args.project, this::checksum));
+			if (state == null) {
+				return false;
+			}
+			for (int i = completed.size() - 1; i >= index; i--) {
+				if (state.matches(checkpoints.getProperty(completed.get(i) + STATE_SUFFIX))) {
+					log.info("Task [{}] has already completed for project [{}] in state [{}], will skip it",
+							task.name(), args.project.getName(), state);
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Marks that the task is about to run. Any later task of the same project will run
+	 * too.
+	 * @param args arguments of the task
+	 */
+	void running(Arguments args) {
+		this.projectsRunInThisRun.add(args.project.getName());
+		this.skippedStates.remove(args.project.getName());
+	}
+
+	/**
+	 * Records that the task has completed, together with the state it left the project
+	 * in. The tasks recorded after it in a previous run are forgotten.
+	 * @param task completed task
+	 * @param args arguments of the task
+	 */
+	void completed(ReleaserTask task, Arguments args) {
+		Path file = file(args);
+		if (file == null) {
+			return;
+		}
+		synchronized (this) {
+			State state = State.of(args.project, this::checksum);
+			if (state == null) {
+				return;
+			}
+			Properties checkpoints = load(file);
+			List<String> completed = completed(checkpoints);
+			int index = completed.indexOf(task.name());
+			if (index >= 0) {
+				for (String forgotten : completed.subList(index, completed.size())) {
+					checkpoints.remove(forgotten);
+					checkpoints.remove(forgotten + STATE_SUFFIX);
+				}
+				completed = new ArrayList<>(completed.subList(0, index));
+			}
+			completed.add(task.name());
+			checkpoints.setProperty(COMPLETED, String.join(",", completed));
+			checkpoints.setProperty(task.name(), fingerprint(task, args));
+			checkpoints.setProperty(task.name() + STATE_SUFFIX, state.toString());
+			try {
+				store(file, checkpoints);
+			}
+			catch (IOException ex) {
+				log.warn("Failed to store the checkpoint of task [{}] for project [{}]", task.name(),
+						args.project.getName(), ex);
+			}
+		}
+	}
+
+	private Path file(Arguments args) {
+		String directory = this.properties.getMetaRelease().getCheckpointsDirectory();
+		if (!StringUtils.hasText(directory) || !args.options.metaRelease) {
+			return null;
+		}
+		return Paths.get(directory, args.project.getName() + ".properties");
+	}
+
+	/**
+	 * @param file build artifact
+	 * @return checksum of the artifact, computed again only if its size or modification
+	 * time has changed since the last time
+	 */
+	private String checksum(Path file) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			String key = file.toAbsolutePath() + ":" + attributes.size() + ":"
+					+ attributes.lastModifiedTime().toMillis();
+			String checksum = this.artifactChecksums.get(key);
+			if (checksum == null) {
+				checksum = streamedSha256(file);
+				this.artifactChecksums.put(key, checksum);
+			}
+			return checksum;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static String streamedSha256(Path file) throws IOException {
+		MessageDigest digest = sha256();
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream stream = Files.newInputStream(file)) {
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static List<String> completed(Properties checkpoints) {
+		String completed = checkpoints.getProperty(COMPLETED);
+		return StringUtils.hasText(completed) ? new ArrayList<>(Arrays.asList(completed.split(",")))
+				: new ArrayList<>();
+	}
+
+	private static String fingerprint(ReleaserTask task, Arguments args) {
+		return sha256(String
+				.join("\n", task.getClass().getName(), task.name(), args.project.getName(),
+						String.valueOf(args.versionFromBom), String.valueOf(args.options.dryRun))
+				.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String sha256(byte[] bytes) {
+		return HexFormat.of().formatHex(sha256().digest(bytes));
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static Properties load(Path file) {
+		Properties checkpoints = new Properties();
+		if (!Files.isRegularFile(file)) {
+			return checkpoints;
+		}
+		try (InputStream stream = Files.newInputStream(file)) {
+			checkpoints.load(stream);
+		}
+		catch (IOException ex) {
+			log.warn("Failed to read the checkpoints from [{}], will run all the tasks", file, ex);
+		}
+		return checkpoints;
+	}
+
+	private static void store(Path file, Properties checkpoints) throws IOException {
+		Files.createDirectories(file.getParent());
+		Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		try (OutputStream stream = Files.newOutputStream(tmp)) {
+			checkpoints.store(stream, "Completed releaser tasks");
+		}
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * State of a project: its commit, the checksum of the size and modification time of
+	 * its uncommitted changes and the checksum of its build artifacts.
+	 */
+	private static final class State {
+
+		private final String commit;
+
+		private final String changes;
+
+		private final String artifacts;
+
+		private final boolean pushed;
+
+		private State(String commit, String changes, String artifacts, boolean pushed) {
+			this.commit = commit;
+			this.changes = changes;
+			this.artifacts = artifacts;
+			this.pushed = pushed;
+		}
+
+		private static State of(File project, Function<Path, String> checksums) {
+			try (Git git = Git.open(project)) {
+				Repository repository = git.getRepository();
+				ObjectId head = repository.resolve(Constants.HEAD);
+				if (head == null) {
+					return null;
+				}
+				return new State(head.getName(), changes(git), artifacts(project.toPath(), checksums),
+						pushed(repository, head));
+			}
+			catch (IOException | UncheckedIOException | GitAPIException ex) {
+				log.debug("Failed to resolve the state of [{}], will not use checkpoints for it", project, ex);
+				return null;
+			}
+		}
+
+		private static String changes(Git git) throws GitAPIException, IOException {
+			Status status = git.status().call();
+			Set<String> paths = new TreeSet<>();
+			paths.addAll(status.getUncommittedChanges());
+			paths.addAll(status.getUntracked());
+			// build artifacts are part of the state on their own
+			paths.removeIf(
+					path -> path.equals(TARGET) || path.startsWith(TARGET + "/") || path.contains("/" + TARGET + "/"));
+			if (paths.isEmpty()) {
+				return "";
+			}
+			StringBuilder changes = new StringBuilder();
+			Path workTree = git.getRepository().getWorkTree().toPath();
+			for (String path : paths) {
+				Path file = workTree.resolve(path);
+				changes.append(path).append('=');
+				if (Files.isRegularFile(file)) {
+					BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+					changes.append(attributes.size()).append(':').append(attributes.lastModifiedTime().toMillis());
+				}
+				else {
+					changes.append("deleted");
+				}
+				changes.append('\n');
+			}
+			return sha256(changes.toString().getBytes(StandardCharsets.UTF_8));
+		}
+
+		private static String artifacts(Path project, Function<Path, String> checksums) throws IOException {
+			Map<String, String> artifacts = new TreeMap<>();
+			Files.walkFileTree(project, new SimpleFileVisitor<>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					String name = dir.getFileName().toString();
+					if (name.equals(Constants.DOT_GIT) || name.equals("node_modules")) {
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+					if (!name.equals(TARGET)) {
+						return FileVisitResult.CONTINUE;
+					}
+					try (Stream<Path> files = Files.list(dir)) {
+						for (Path file : files.filter(State::isArtifact).collect(Collectors.toList())) {
+							artifacts.put(project.relativize(file).toString(), checksums.apply(file));
+						}
+					}
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+			});
+			if (artifacts.isEmpty()) {
+				return NO_ARTIFACTS;
+			}
+			return sha256(artifacts.toString().getBytes(StandardCharsets.UTF_8));
+		}
+
+		private static boolean isArtifact(Path file) {
+			String name = file.getFileName().toString();
+			return Files.isRegularFile(file) && ARTIFACT_EXTENSIONS.stream().anyMatch(name::endsWith);
+		}
+
+		private static boolean pushed(Repository repository, ObjectId head) throws IOException {
+			try (RevWalk walk = new RevWalk(repository)) {
+				RevCommit commit = walk.parseCommit(head);
+				for (Ref ref : repository.getRefDatabase().getRefsByPrefix(Constants.R_REMOTES)) {
+					if (ref.getObjectId() != null && walk.isMergedInto(commit, walk.parseCommit(ref.getObjectId()))) {
+						return true;
+					}
+				}
+				return false;
+			}
+		}
+
+		/**
+		 * @param recorded state recorded after a completed task
+		 * @return {@code true} if the project is in the recorded state. Missing artifacts
+		 * match once the commit has been pushed.
+		 */
+		private boolean matches(String recorded) {
+			if (recorded == null) {
+				return false;
+			}
+			String[] state = recorded.split(" ", -1);
+			if (state.length != 3 || !this.commit.equals(state[0]) || !this.changes.equals(state[1])) {
+				return false;
+			}
+			return this.artifacts.equals(state[2]) || (this.pushed && NO_ARTIFACTS.equals(this.artifacts));
+		}
+
+		@Override
+		public String toString() {
+			return this.commit + " " + this.changes + " " + this.artifacts;
+		}
+
+	}
+
+}
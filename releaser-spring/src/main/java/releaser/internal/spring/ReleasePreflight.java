@@ -0,0 +1,152 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.git.ProjectGitHandler;
+import releaser.internal.tech.ExecutionResult;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.StringUtils;
+
+/**
+ * Verifies all the projects of a release before any of them gets built. For a
+ * meta-release no project gets cloned. The branch of every project is picked with the
+ * same rules the release uses, from the clone made in this run or from the refs the
+ * remote repository advertises, so a project without a version or a repository that can't
+ * be reached is found in seconds. A single project release prepares the project from its
+ * local folder. The projects are verified concurrently, on the I/O bound executor of the
+ * flow, and all the problems are reported at once instead of failing on the first one
+ * hours into the release.
+ *
+ * @author Marcin Grzejszczak
+ */
+class ReleasePreflight {
+
+	private static final Logger log = LoggerFactory.getLogger(ReleasePreflight.class);
+
+	private final ReleaserProperties properties;
+
+	private final ProjectGitHandler projectGitHandler;
+
+	private final FlowRunnerTaskExecutorSupplier executorSupplier;
+
+	ReleasePreflight(ReleaserProperties properties, ProjectGitHandler projectGitHandler,
+			FlowRunnerTaskExecutorSupplier executorSupplier) {
+		this.properties = properties;
+		this.projectGitHandler = projectGitHandler;
+		this.executorSupplier = executorSupplier;
+	}
+
+	/**
+	 * @param optionsAndProperties options and properties of the run
+	 * @param projectsToRun projects to release
+	 * @return success if no problems were found, failure with all the problems otherwise
+	 */
+	ExecutionResult verify(OptionsAndProperties optionsAndProperties, ProjectsToRun projectsToRun) {
+		if (!this.properties.getFlow().isPreflightEnabled()) {
+			return ExecutionResult.skipped();
+		}
+		long start = System.nanoTime();
+		List<String> problems = new ArrayList<>(credentialProblems(optionsAndProperties));
+		problems.addAll(projectProblems(optionsAndProperties.options.metaRelease, projectsToRun));
+		long millis = (System.nanoTime() - start) / 1_000_000;
+		if (problems.isEmpty()) {
+			log.info("Preflight verification of [{}] projects passed in [{}] ms", projectsToRun.size(), millis);
+			return ExecutionResult.success();
+		}
+		String report = problems.stream().map(problem -> " - " + problem).collect(Collectors.joining("\n"));
+		log.error("Preflight verification of [{}] projects found [{}] problems in [{}] ms\n\n{}\n",
+				projectsToRun.size(), problems.size(), millis, report);
+		return ExecutionResult.failure(new IllegalStateException(
+				"Preflight verification found [" + problems.size() + "] problems\n" + report));
+	}
+
+	private List<String> projectProblems(boolean metaRelease, ProjectsToRun projectsToRun) {
+		if (projectsToRun.isEmpty()) {
+			return new ArrayList<>();
+		}
+		TaskExecutor workers = this.executorSupplier.get(FlowRunnerTaskExecutorSupplier.Workload.IO_BOUND);
+		try {
+			List<CompletableFuture<String>> verifications = projectsToRun.stream()
+					.map(supplier -> CompletableFuture.supplyAsync(
+							() -> metaRelease ? metaReleaseProblem(supplier.projectName()) : problem(supplier),
+							workers))
+					.collect(Collectors.toList());
+			return verifications.stream().map(CompletableFuture::join).filter(problem -> problem != null)
+					.collect(Collectors.toList());
+		}
+		finally {
+			destroy(workers);
+		}
+	}
+
+	private static void destroy(TaskExecutor workers) {
+		if (workers instanceof DisposableBean) {
+			try {
+				((DisposableBean) workers).destroy();
+			}
+			catch (Exception ex) {
+				log.debug("Exception occurred while trying to destroy the preflight executor", ex);
+			}
+		}
+	}
+
+	private String metaReleaseProblem(String projectName) {
+		try {
+			String branch = this.projectGitHandler.branchOfProjectFromOrg(projectName);
+			log.info("Project [{}] will be released from branch [{}]", projectName,
+					branch != null ? branch : "default");
+			return null;
+		}
+		catch (Exception ex) {
+			return "Project [" + projectName + "] has no branch to be released from: " + ex.getMessage();
+		}
+	}
+
+	private String problem(ProjectToRun.ProjectToRunSupplier supplier) {
+		try {
+			supplier.get();
+			return null;
+		}
+		catch (Exception ex) {
+			return "Project [" + supplier.projectName() + "] couldn't be prepared for the release: " + ex.getMessage();
+		}
+	}
+
+	private List<String> credentialProblems(OptionsAndProperties optionsAndProperties) {
+		List<String> problems = new ArrayList<>();
+		ReleaserProperties.Git git = optionsAndProperties.properties.getGit();
+		boolean usesGithub = git.isUpdateGithubMilestones() || git.isCreateReleaseNotesForMilestone()
+				|| git.isUpdateSpringGuides() || git.isUpdateStartSpringIo();
+		if (usesGithub && !Boolean.TRUE.equals(optionsAndProperties.options.dryRun)
+				&& !StringUtils.hasText(git.getOauthToken())) {
+			problems.add("The GitHub OAuth token is missing. Set [releaser.git.oauth-token] to update "
+					+ "GitHub milestones, Spring Guides and start.spring.io");
+		}
+		return problems;
+	}
+
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Timeline of the tasks executed in a release run. Shows where the run spends its time:
+ * the spans of every task per project, the idle gaps of each project, the critical path
+ * and how many of the available threads were busy on average.
+ *
+ * The critical path is computed backwards from the task that finished last. The task
+ * before it is the one that finished last before it started, and so on. Since the tasks
+ * of a project run one after the other and the release groups one after the other, that
+ * chain is what the run had to wait for; a shorter path is only possible by making one of
+ * its tasks faster.
+ *
+ * @author Marcin Grzejszczak
+ */
+final class ReleaseTimeline {
+
+	private static final int CHART_WIDTH = 1200;
+
+	private static final int LABEL_WIDTH = 260;
+
+	private static final int ROW_HEIGHT = 22;
+
+	private final List<Span> spans;
+
+	private final int threads;
+
+	private final List<Lane> lanes;
+
+	private final List<Span> criticalPath;
+
+	/**
+	 * @param spans executed tasks
+	 * @param threads number of threads the projects could be released with
+	 */
+	ReleaseTimeline(List<Span> spans, int threads) {
+		List<Span> sorted = new ArrayList<>(spans);
+		sorted.sort(Comparator.comparing((Span s) -> s.start).thenComparing(s -> s.end));
+		this.spans = Collections.unmodifiableList(sorted);
+		this.threads = threads;
+		this.lanes = lanes(this.spans);
+		this.criticalPath = criticalPath(this.spans);
+	}
+
+	private static List<Lane> lanes(List<Span> spans) {
+		Map<String, List<Lane>> lanesPerProject = new LinkedHashMap<>();
+		for (Span span : spans) {
+			List<Lane> projectLanes = lanesPerProject.computeIfAbsent(span.project, p -> new ArrayList<>());
+			// tasks of a single project (e.g. post release ones) can run in parallel
+			Lane lane = projectLanes.stream().filter(l -> !l.end().isAfter(span.start)).findFirst().orElse(null);
+			if (lane == null) {
+				lane = new Lane(
+						projectLanes.isEmpty() ? span.project : span.project + " #" + (projectLanes.size() + 1));
+				projectLanes.add(lane);
+			}
+			lane.spans.add(span);
+		}
+		List<Lane> lanes = new ArrayList<>();
+		lanesPerProject.values().forEach(lanes::addAll);
+		return lanes;
+	}
+
+	private static List<Span> criticalPath(List<Span> spans) {
+		LinkedList<Span> path = new LinkedList<>();
+		Span current = spans.stream().max(Comparator.comparing((Span s) -> s.end)).orElse(null);
+		while (current != null) {
+			path.addFirst(current);
+			Span last = current;
+			current = spans.stream().filter(s -> s != last && !s.end.isAfter(last.start))
+					.max(Comparator.comparing((Span s) -> s.end)
+							// on a tie prefer the task of the same project
+							.thenComparing(s -> s.project.equals(last.project)))
+					.orElse(null);
+		}
+		return path;
+	}
+
+	List<Span> spans() {
+		return this.spans;
+	}
+
+	List<Span> criticalPath() {
+		return Collections.unmodifiableList(this.criticalPath);
+	}
+
+	/**
+	 * @return time from the start of the first task till the end of the last one
+	 */
+	Duration wallTime() {
+		if (this.spans.isEmpty()) {
+			return Duration.ZERO;
+		}
+		return Duration.between(start(), this.spans.stream().map(s -> s.end).max(Comparator.naturalOrder()).get());
+	}
+
+	/**
+	 * @return sum of the durations of all the tasks
+	 */
+	Duration busyTime() {
+		return this.spans.stream().map(Span::duration).reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * @return sum of the durations of the tasks on the critical path
+	 */
+	Duration criticalPathTime() {
+		return this.criticalPath.stream().map(Span::duration).reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * @return average number of tasks running at the same time
+	 */
+	double averageParallelism() {
+		long wall = wallTime().toMillis();
+		return wall == 0 ? 0 : (double) busyTime().toMillis() / wall;
+	}
+
+	/**
+	 * @return max number of tasks running at the same time
+	 */
+	int peakParallelism() {
+		List<long[]> events = new ArrayList<>();
+		for (Span span : this.spans) {
+			events.add(new long[] { span.start.toEpochMilli(), 1 });
+			events.add(new long[] { span.end.toEpochMilli(), -1 });
+		}
+		// a task ending at the same time another one starts doesn't run in parallel
+		events.sort(Comparator.<long[]>comparingLong(e -> e[0]).thenComparingLong(e -> e[1]));
+		int running = 0;
+		int peak = 0;
+		for (long[] event : events) {
+			running += (int) event[1];
+			peak = Math.max(peak, running);
+		}
+		return peak;
+	}
+
+	/**
+	 * @return average share of the threads that were busy
+	 */
+	double utilisation() {
+		return this.threads <= 0 ? 0 : averageParallelism() / this.threads;
+	}
+
+	/**
+	 * @return per project, time between its first and its last task when none of its
+	 * tasks were running
+	 */
+	Map<String, Duration> idleTimes() {
+		Map<String, Duration> idle = new LinkedHashMap<>();
+		Map<String, Instant> lastEnds = new LinkedHashMap<>();
+		for (Span span : this.spans) {
+			Instant lastEnd = lastEnds.get(span.project);
+			Duration gap = lastEnd != null && span.start.isAfter(lastEnd) ? Duration.between(lastEnd, span.start)
+					: Duration.ZERO;
+			idle.merge(span.project, gap, Duration::plus);
+			lastEnds.merge(span.project, span.end, (a, b) -> a.isAfter(b) ? a : b);
+		}
+		return idle;
+	}
+
+	/**
+	 * Writes {@code timeline.html} and {@code timeline.json} to the given directory.
+	 * @param directory directory to write the timeline to
+	 * @throws IOException when the files couldn't be written
+	 */
+	void writeTo(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		Files.writeString(directory.resolve("timeline.html"), toHtml());
+		Files.writeString(directory.resolve("timeline.json"), toChromeTrace());
+	}
+
+	/**
+	 * @return trace that can be loaded in {@code chrome://tracing} or Perfetto. Each lane
+	 * of the Gantt chart is a thread, the critical path tasks are in the
+	 * {@code critical-path} category.
+	 */
+	String toChromeTrace() {
+		ObjectMapper mapper = new ObjectMapper();
+		ObjectNode root = mapper.createObjectNode();
+		ArrayNode events = root.putArray("traceEvents");
+		for (int i = 0; i < this.lanes.size(); i++) {
+			ObjectNode name = events.addObject().put("name", "thread_name").put("ph", "M").put("pid", 1).put("tid",
+					i + 1);
+			name.putObject("args").put("name", this.lanes.get(i).name);
+			for (Span span : this.lanes.get(i).spans) {
+				ObjectNode event = events.addObject().put("name", span.task)
+						.put("cat", this.criticalPath.contains(span) ? "critical-path" : "task").put("ph", "X")
+						.put("ts", micros(span.start)).put("dur", span.duration().toNanos() / 1000).put("pid", 1)
+						.put("tid", i + 1);
+				event.putObject("args").put("project", span.project).put("state", span.state);
+			}
+		}
+		root.put("displayTimeUnit", "ms");
+		ObjectNode summary = root.putObject("otherData");
+		summary(summary);
+		try {
+			return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+		}
+		catch (JsonProcessingException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private void summary(ObjectNode summary) {
+		summary.put("wallTimeMs", wallTime().toMillis()).put("busyTimeMs", busyTime().toMillis())
+				.put("criticalPathMs", criticalPathTime().toMillis())
+				.put("averageParallelism", round(averageParallelism())).put("peakParallelism", peakParallelism())
+				.put("threads", this.threads).put("utilisation", round(utilisation()));
+	}
+
+	/**
+	 * @return self-contained HTML page with the summary and an SVG Gantt chart
+	 */
+	String toHtml() {
+		StringBuilder html = new StringBuilder();
+		html.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>Release timeline</title>\n")
+				.append("<style>body{font-family:sans-serif;font-size:13px}td,th{padding:2px 10px;text-align:left}")
+				.append("svg text{font-size:11px}</style>\n</head>\n<body>\n<h1>Release timeline</h1>\n<table>\n");
+		row(html, "Wall time", format(wallTime()));
+		row(html, "Critical path", format(criticalPathTime()) + " (" + this.criticalPath.size() + " tasks)");
+		row(html, "Busy time", format(busyTime()));
+		row(html, "Average parallelism", String.valueOf(round(averageParallelism())));
+		row(html, "Peak parallelism", String.valueOf(peakParallelism()));
+		row(html, "Utilisation of " + this.threads + " threads", Math.round(utilisation() * 100) + "%");
+		html.append("</table>\n");
+		html.append(svg());
+		html.append("<h2>Idle time per project</h2>\n<table>\n");
+		idleTimes().forEach((project, idle) -> row(html, project, format(idle)));
+		html.append("</table>\n<h2>Critical path</h2>\n<ol>\n");
+		for (Span span : this.criticalPath) {
+			html.append("<li>").append(escape(span.project)).append(" / ").append(escape(span.task)).append(" - ")
+					.append(format(span.duration())).append("</li>\n");
+		}
+		return html.append("</ol>\n</body>\n</html>\n").toString();
+	}
+
+	private String svg() {
+		long wall = Math.max(1, wallTime().toMillis());
+		double scale = (double) CHART_WIDTH / wall;
+		int height = (this.lanes.size() + 1) * ROW_HEIGHT;
+		StringBuilder svg = new StringBuilder();
+		svg.append("<svg width=\"").append(LABEL_WIDTH + CHART_WIDTH + 10).append("\" height=\"").append(height)
+				.append("\">\n");
+		for (int i = 0; i < this.lanes.size(); i++) {
+			Lane lane = this.lanes.get(i);
+			int y = i * ROW_HEIGHT;
+			svg.append("<text x=\"0\" y=\"").append(y + 15).append("\">").append(escape(lane.name)).append("</text>\n");
+			Span previous = null;
+			for (Span span : lane.spans) {
+				double x = LABEL_WIDTH + millisSinceStart(span.start) * scale;
+				if (previous != null && span.start.isAfter(previous.end)) {
+					// idle gap between two tasks of the same project
+					svg.append("<line x1=\"").append(round(LABEL_WIDTH + millisSinceStart(previous.end) * scale))
+							.append("\" y1=\"").append(y + 11).append("\" x2=\"").append(round(x)).append("\" y2=\"")
+							.append(y + 11).append("\" stroke=\"#999\" stroke-dasharray=\"3,3\"/>\n");
+				}
+				svg.append("<rect x=\"").append(round(x)).append("\" y=\"").append(y + 3).append("\" width=\"")
+						.append(round(Math.max(1, span.duration().toMillis() * scale))).append("\" height=\"")
+						.append(ROW_HEIGHT - 6).append("\" fill=\"").append(color(span.state)).append('"');
+				if (this.criticalPath.contains(span)) {
+					svg.append(" stroke=\"#000\" stroke-width=\"2\"");
+				}
+				svg.append("><title>").append(escape(span.project + " / " + span.task + " [" + span.state + "] "
+						+ format(span.duration()) + (this.criticalPath.contains(span) ? " (critical path)" : "")))
+						.append("</title></rect>\n");
+				previous = span;
+			}
+		}
+		svg.append("<text x=\"").append(LABEL_WIDTH).append("\" y=\"").append(height - 6).append("\">0</text>\n");
+		svg.append("<text x=\"").append(LABEL_WIDTH + CHART_WIDTH).append("\" y=\"").append(height - 6)
+				.append("\" text-anchor=\"end\">").append(format(wallTime())).append("</text>\n");
+		return svg.append("</svg>\n").toString();
+	}
+
+	private long millisSinceStart(Instant instant) {
+		return Duration.between(start(), instant).toMillis();
+	}
+
+	private long micros(Instant instant) {
+		return Duration.between(start(), instant).toNanos() / 1000;
+	}
+
+	private Instant start() {
+		return this.spans.get(0).start;
+	}
+
+	private static void row(StringBuilder html, String name, String value) {
+		html.append("<tr><th>").append(escape(name)).append("</th><td>").append(escape(value)).append("</td></tr>\n");
+	}
+
+	private static String color(String state) {
+		switch (state) {
+			case "FAILURE":
+				return "#d9534f";
+			case "UNSTABLE":
+				return "#f0ad4e";
+			case "SKIPPED":
+				return "#bbbbbb";
+			default:
+				return "#5cb85c";
+		}
+	}
+
+	private static String escape(String text) {
+		return HtmlUtils.htmlEscape(text);
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 100) / 100.0;
+	}
+
+	private static String format(Duration duration) {
+		long minutes = duration.toMinutes();
+		long seconds = duration.toSecondsPart();
+		if (minutes == 0 && seconds == 0) {
+			return duration.toMillis() + " ms";
+		}
+		else if (minutes == 0) {
+			return seconds + " s";
+		}
+		return minutes + " min " + seconds + " s";
+	}
+
+	/**
+	 * Execution of a single task.
+	 */
+	static final class Span {
+
+		final String project;
+
+		final String task;
+
+		final String state;
+
+		final Instant start;
+
+		final Instant end;
+
+		Span(String project, String task, String state, Instant start, Instant end) {
+			this.project = project;
+			this.task = task;
+			this.state = state;
+			this.start = start;
+			this.end = end;
+		}
+
+		Duration duration() {
+			return Duration.between(this.start, this.end);
+		}
+
+		@Override
+		public String toString() {
+			return this.project + "/" + this.task;
+		}
+
+	}
+
+	private static final class Lane {
+
+		private final String name;
+
+		private final List<Span> spans = new ArrayList<>();
+
+		private Lane(String name) {
+			this.name = name;
+		}
+
+		private Instant end() {
+			return this.spans.get(this.spans.size() - 1).end;
+		}
+
+	}
+
+}
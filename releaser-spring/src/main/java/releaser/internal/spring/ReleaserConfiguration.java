@@ -19,7 +19,6 @@ package releaser.internal.spring;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.google.cloud.storage.transfermanager.TransferManagerConfig;
 import releaser.internal.Releaser;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.ReleaserPropertiesUpdater;
@@ -41,6 +40,8 @@ import releaser.internal.sagan.SaganClient;
 import releaser.internal.sagan.SaganUpdater;
 import releaser.internal.tasks.ReleaserTask;
 import releaser.internal.tasks.SingleProjectReleaserTask;
+import releaser.internal.tech.ReleaserExecutor;
+import releaser.internal.tech.ReleaserHttpClient;
 import releaser.internal.template.TemplateGenerator;
 import releaser.internal.versions.VersionsFetcher;
 
@@ -72,8 +73,8 @@ class ReleaserConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	ProjectsToRunFactory projectsToRunFactory(VersionsToBumpFactory versionsToBumpFactory, Releaser releaser,
-			ReleaserPropertiesUpdater updater) {
-		return new ProjectsToRunFactory(versionsToBumpFactory, releaser, updater);
+			ReleaserPropertiesUpdater updater, ProjectGitHandler projectGitHandler) {
+		return new ProjectsToRunFactory(versionsToBumpFactory, releaser, updater, projectGitHandler);
 	}
 
 	@Bean
@@ -86,9 +87,10 @@ class ReleaserConfiguration {
 	@ConditionalOnMissingBean
 	SpringReleaser springReleaser(OptionsAndPropertiesFactory optionsAndPropertiesFactory,
 			ProjectsToRunFactory projectsToRunFactory, TasksToRunFactory tasksToRunFactory, FlowRunner flowRunner,
-			ReleaserProperties properties) {
+			ReleaserProperties properties, ProjectGitHandler projectGitHandler,
+			FlowRunnerTaskExecutorSupplier flowRunnerTaskExecutorSupplier) {
 		return new DefaultSpringReleaser(properties, optionsAndPropertiesFactory, projectsToRunFactory,
-				tasksToRunFactory, flowRunner);
+				tasksToRunFactory, flowRunner, projectGitHandler, flowRunnerTaskExecutorSupplier);
 	}
 
 	@Bean
@@ -99,8 +101,9 @@ class ReleaserConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	VersionsFetcher versionsFetcher(ProjectPomUpdater updater, ReleaserProperties properties) {
-		return new VersionsFetcher(properties, updater);
+	VersionsFetcher versionsFetcher(ProjectPomUpdater updater, ReleaserProperties properties,
+			ReleaserHttpClient releaserHttpClient) {
+		return new VersionsFetcher(properties, updater, releaserHttpClient);
 	}
 
 	@Bean
@@ -112,9 +115,9 @@ class ReleaserConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	ProjectGitHubHandler projectGitHubHandler(@Autowired(required = false) List<CustomGithubIssues> customGithubIssues,
-			ReleaserProperties properties) {
-		return new ProjectGitHubHandler(properties,
-				customGithubIssues != null ? customGithubIssues : new ArrayList<>());
+			ReleaserProperties properties, ReleaserExecutor releaserExecutor) {
+		return new ProjectGitHubHandler(properties, customGithubIssues != null ? customGithubIssues : new ArrayList<>(),
+				releaserExecutor);
 	}
 
 	@Bean
@@ -131,8 +134,9 @@ class ReleaserConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	SaganUpdater saganUpdater(SaganClient saganClient, ReleaserProperties releaserProperties) {
-		return new SaganUpdater(saganClient, releaserProperties);
+	SaganUpdater saganUpdater(SaganClient saganClient, ReleaserProperties releaserProperties,
+			ReleaserExecutor releaserExecutor) {
+		return new SaganUpdater(saganClient, releaserProperties, releaserExecutor);
 	}
 
 	@Bean
@@ -170,15 +174,16 @@ class ReleaserConfiguration {
 	@Bean
 	@ConditionalOnProperty(value = "releaser.commercial", havingValue = "true")
 	@ConditionalOnMissingBean(AntoraDocsPublisher.class)
-	AntoraDocsPublisher commercialAntoraDocsPublisher() {
-		return new CommercialAntoraDocsPublisher(TransferManagerConfig.newBuilder().build().getService());
+	AntoraDocsPublisher commercialAntoraDocsPublisher(ReleaserProperties properties) {
+		return new CommercialAntoraDocsPublisher(properties);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean(AntoraDocsPublisher.class)
 	AntoraDocsPublisher openSourceAntoraDocsPublisher(ProjectCommandExecutor projectCommandExecutor,
-			ProjectGitHandler projectGitHandler) {
-		return new OpenSourceAntoraDocsPublisher(projectCommandExecutor, projectGitHandler);
+			ProjectGitHandler projectGitHandler, ReleaserProperties properties) {
+		return new OpenSourceAntoraDocsPublisher(projectCommandExecutor, projectGitHandler,
+				properties.getAntora().getPublishWorkers());
 	}
 
 	@Bean
@@ -196,8 +201,20 @@ class ReleaserConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	ReleaseBundleCreator releaseBundleCreator(ReleaserProperties properties) {
-		return new ReleaseBundleCreator(properties);
+	ReleaseBundleCreator releaseBundleCreator(ReleaserProperties properties, ReleaserHttpClient releaserHttpClient) {
+		return new ReleaseBundleCreator(properties, releaserHttpClient);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	ReleaserHttpClient releaserHttpClient(ReleaserProperties properties) {
+		return new ReleaserHttpClient(properties);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	ReleaserExecutor releaserExecutor() {
+		return new ReleaserExecutor();
 	}
 
 }
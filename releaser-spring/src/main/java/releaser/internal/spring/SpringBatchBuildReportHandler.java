@@ -16,6 +16,8 @@
 
 package releaser.internal.spring;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoUnit;
@@ -29,6 +31,7 @@ import java.util.stream.Collectors;
 import com.jakewharton.fliptables.FlipTableConverters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import releaser.internal.ReleaserProperties;
 import releaser.internal.tasks.TrainPostReleaseReleaserTask;
 
 import org.springframework.batch.core.JobExecution;
@@ -44,8 +47,11 @@ class SpringBatchBuildReportHandler implements BuildReportHandler {
 
 	private final JobExplorer jobExplorer;
 
-	SpringBatchBuildReportHandler(JobExplorer jobExplorer) {
+	private final ReleaserProperties properties;
+
+	SpringBatchBuildReportHandler(JobExplorer jobExplorer, ReleaserProperties properties) {
 		this.jobExplorer = jobExplorer;
+		this.properties = properties;
 	}
 
 	@Override
@@ -58,6 +64,43 @@ class SpringBatchBuildReportHandler implements BuildReportHandler {
 		List<StepExecution> stepContexts = sortedJobExecutions.stream().flatMap(j -> j.getStepExecutions().stream())
 				.collect(Collectors.toCollection(LinkedList::new));
 		printTable(buildTable(stepContexts));
+		writeTimeline(stepContexts);
+	}
+
+	private void writeTimeline(List<StepExecution> stepContexts) {
+		String directory = this.properties.getFlow().getTimelineDirectory();
+		if (!StringUtils.hasText(directory)) {
+			return;
+		}
+		List<ReleaseTimeline.Span> spans = stepContexts.stream().filter(step -> step.getEndTime() != null).map(step -> {
+			ExecutionResultReport entity = (ExecutionResultReport) step.getExecutionContext().get("entity");
+			if (entity == null) {
+				return null;
+			}
+			return new ReleaseTimeline.Span(projectName(entity), entity.getShortName(), entity.getState(),
+					step.getStartTime().toInstant(ZoneOffset.UTC), step.getEndTime().toInstant(ZoneOffset.UTC));
+		}).filter(Objects::nonNull).collect(Collectors.toCollection(LinkedList::new));
+		if (spans.isEmpty()) {
+			return;
+		}
+		ReleaseTimeline timeline = new ReleaseTimeline(spans,
+				this.properties.getMetaRelease().getReleaseGroupThreadCount());
+		try {
+			timeline.writeTo(Paths.get(directory));
+			log.info(
+					"Wrote the timeline of the run to [{}]. Wall time [{}] ms, critical path [{}] ms, "
+							+ "average parallelism [{}], peak parallelism [{}]",
+					directory, timeline.wallTime().toMillis(), timeline.criticalPathTime().toMillis(),
+					timeline.averageParallelism(), timeline.peakParallelism());
+		}
+		catch (IOException ex) {
+			log.warn("Failed to write the timeline of the run to [{}]", directory, ex);
+		}
+	}
+
+	private String projectName(ExecutionResultReport entity) {
+		return TrainPostReleaseReleaserTask.class.isAssignableFrom(entity.getReleaserTaskType()) ? "postRelease"
+				: entity.getProjectName();
 	}
 
 	private List<Table> buildTable(List<StepExecution> stepContexts) {
@@ -71,9 +114,7 @@ class SpringBatchBuildReportHandler implements BuildReportHandler {
 			if (entity == null) {
 				return null;
 			}
-			String projectName = TrainPostReleaseReleaserTask.class.isAssignableFrom(entity.getReleaserTaskType())
-					? "postRelease" : entity.getProjectName();
-			return new Table(date, time(millis), projectName, entity.getShortName(), entity.getDescription(),
+			return new Table(date, time(millis), projectName(entity), entity.getShortName(), entity.getDescription(),
 					entity.getState(), entity.getExceptions());
 		}).filter(Objects::nonNull).collect(Collectors.toCollection(LinkedList::new));
 	}
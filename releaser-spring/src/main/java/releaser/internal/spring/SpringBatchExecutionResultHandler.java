@@ -23,6 +23,8 @@ import java.nio.file.Files;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import releaser.internal.tech.ExecutionResult;
+import releaser.internal.tech.ReleaserCache;
+import releaser.internal.tech.ReleaserHttpClient;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -43,6 +45,14 @@ class SpringBatchExecutionResultHandler implements ExecutionResultHandler {
 	@Override
 	public void accept(ExecutionResult executionResult) {
 		this.buildReportHandler.reportBuildSummary();
+		log.info("\n\n{}", ReleaserCache.report());
+		this.context.getBeanProvider(ReleaserHttpClient.class)
+				.ifAvailable(client -> log.info("\n\n{}", client.report()));
+		this.context.getBeanProvider(FlowRunnerTaskExecutorSupplier.class).ifAvailable(supplier -> {
+			if (supplier instanceof AdaptiveFlowRunnerTaskExecutorSupplier) {
+				log.info("\n\n{}", ((AdaptiveFlowRunnerTaskExecutorSupplier) supplier).report());
+			}
+		});
 		if (executionResult.isFailure()) {
 			log.error("At least one failure occurred while running the release process",
 					executionResult.foundExceptions());
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -60,7 +61,6 @@ import org.springframework.batch.core.listener.StepExecutionListenerSupport;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
-import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.task.TaskExecutor;
@@ -84,12 +84,18 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 
 	private final FlowRunnerTaskExecutorSupplier flowRunnerTaskExecutorSupplier;
 
-	private static final List<TaskExecutor> EXECUTORS = new ArrayList<>();
+	private static final List<TaskExecutor> EXECUTORS = new CopyOnWriteArrayList<>();
 
 	private final ExecutorService executorService;
 
 	private final ReleaserProperties releaserProperties;
 
+	private final ReleaseCheckpoints checkpoints;
+
+	private final BuildAdmissionController buildAdmission;
+
+	private final ProjectsPrefetch prefetch;
+
 	SpringBatchFlowRunner(JobRepository jobRepository, PlatformTransactionManager manager,
 			ProjectsToRunFactory projectsToRunFactory, JobLauncher jobLauncher,
 			FlowRunnerTaskExecutorSupplier flowRunnerTaskExecutorSupplier, ConfigurableApplicationContext context,
@@ -101,6 +107,9 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 		this.flowRunnerTaskExecutorSupplier = flowRunnerTaskExecutorSupplier;
 		this.stepSkipper = new ConsoleInputStepSkipper(context, reportHandler);
 		this.releaserProperties = releaserProperties;
+		this.checkpoints = new ReleaseCheckpoints(releaserProperties);
+		this.buildAdmission = new BuildAdmissionController(releaserProperties);
+		this.prefetch = new ProjectsPrefetch(releaserProperties);
 		this.executorService = Executors
 				.newFixedThreadPool(this.releaserProperties.getMetaRelease().getReleaseGroupThreadCount());
 	}
@@ -115,8 +124,12 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 				.tasklet((contribution, chunkContext) -> {
 					Arguments args = argsSupplier.get();
 					FlowRunner.Decision decision = beforeTask(args.options, args.properties, releaserTask);
-					if (decision == FlowRunner.Decision.CONTINUE) {
-						ExecutionResult result = runTask(releaserTask, args);
+					if (decision == FlowRunner.Decision.CONTINUE && !this.checkpoints.isCompleted(releaserTask, args)) {
+						this.checkpoints.running(args);
+						ExecutionResult result = runAdmittedTask(releaserTask, args);
+						if (result.isSuccess() && !result.isSkipped()) {
+							this.checkpoints.completed(releaserTask, args);
+						}
 						contribution.getStepExecution().getExecutionContext().put("result", result);
 						List<Throwable> errors = (List<Throwable>) contribution.getStepExecution().getExecutionContext()
 								.get("errors");
@@ -161,6 +174,19 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 		return new ExecutionResultReport(projectName, shortName, description, releaseType, state, errors);
 	}
 
+	private ExecutionResult runAdmittedTask(ReleaserTask releaserTask, Arguments args) throws InterruptedException {
+		if (!releaserTask.isCpuBound()) {
+			return runTask(releaserTask, args);
+		}
+		this.buildAdmission.admit(args.project.getName() + "_" + releaserTask.name());
+		try {
+			return runTask(releaserTask, args);
+		}
+		finally {
+			this.buildAdmission.release();
+		}
+	}
+
 	private ExecutionResult runTask(ReleaserTask releaserTask, Arguments args) {
 		return executionResult(releaserTask, args);
 	}
@@ -215,12 +241,27 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 			log.info("Only post release tasks will be executed for the meta release");
 			return ExecutionResult.skipped();
 		}
+		List<TaskExecutor> executors = new ArrayList<>();
+		try {
+			return runReleaseTasks(options, properties, projectsToRun, tasksToRun, executors);
+		}
+		finally {
+			release(executors);
+		}
+	}
+
+	private ExecutionResult runReleaseTasks(Options options, ReleaserProperties properties, ProjectsToRun projectsToRun,
+			TasksToRun tasksToRun, List<TaskExecutor> executors) {
+		if (options.metaRelease) {
+			this.prefetch.prefetch(projectsToRun,
+					() -> taskExecutor(FlowRunnerTaskExecutorSupplier.Workload.IO_BOUND, executors));
+		}
 		ProjectsToReleaseGroups groups = new ProjectsToReleaseGroups(properties);
 		List<ReleaseGroup> releaseGroups = groups.toReleaseGroup(projectsToRun);
 		if (groups.hasGroups()) {
 			log.info("Found the following release groups {}", releaseGroups);
 		}
-		List<StuffToRun> flows = releaseGroups.stream().map(group -> buildFlowForGroup(tasksToRun, group))
+		List<StuffToRun> flows = releaseGroups.stream().map(group -> buildFlowForGroup(tasksToRun, group, executors))
 				.collect(Collectors.toCollection(LinkedList::new));
 		Iterator<StuffToRun> flowsIterator = flows.iterator();
 		if (!flowsIterator.hasNext()) {
@@ -318,7 +359,7 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 		return builder.build();
 	}
 
-	private StuffToRun buildFlowForGroup(TasksToRun tasksToRun, ReleaseGroup group) {
+	private StuffToRun buildFlowForGroup(TasksToRun tasksToRun, ReleaseGroup group, List<TaskExecutor> executors) {
 		FlowBuilder<Flow> flowBuilder = new FlowBuilder<>(
 				group.flowName() + (group.shouldRunInParallel() ? "_Parallel" : "") + "_" + System.currentTimeMillis());
 		Iterator<ProjectToRun.ProjectToRunSupplier> iterator = group.iterator();
@@ -337,7 +378,8 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 			return new StuffToRun(group, flowBuilder.build());
 		}
 		// more projects, run them in parallel
-		FlowBuilder.SplitBuilder<Flow> split = flowBuilder.split(taskExecutor());
+		FlowBuilder.SplitBuilder<Flow> split = flowBuilder
+				.split(taskExecutor(FlowRunnerTaskExecutorSupplier.Workload.CPU_BOUND, executors));
 		List<Flow> flows = new LinkedList<>();
 		while (iterator.hasNext()) {
 			final ProjectToRun.ProjectToRunSupplier nextProject = iterator.next();
@@ -357,14 +399,20 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 	public ExecutionResult runPostReleaseTrainTasks(Options options, ReleaserProperties properties, String taskName,
 			TasksToRun tasksToRun) {
 		ProjectsToRun projectsToRun = postReleaseTrainProjects(new OptionsAndProperties(properties, options));
-		Flow flow = postReleaseFlow(tasksToRun, properties, projectsToRun);
-		String name = taskName + "_" + System.currentTimeMillis();
-		if (flow == null) {
-			log.info("No release train post release tasks to run, will do nothing");
-			return ExecutionResult.success();
+		List<TaskExecutor> executors = new ArrayList<>();
+		try {
+			Flow flow = postReleaseFlow(tasksToRun, properties, projectsToRun, executors);
+			String name = taskName + "_" + System.currentTimeMillis();
+			if (flow == null) {
+				log.info("No release train post release tasks to run, will do nothing");
+				return ExecutionResult.success();
+			}
+			Job job = new JobBuilder(name, this.jobRepository).start(flow).build().build();
+			return runJob(job);
+		}
+		finally {
+			release(executors);
 		}
-		Job job = new JobBuilder(name, this.jobRepository).start(flow).build().build();
-		return runJob(job);
 	}
 
 	private ProjectsToRun postReleaseTrainProjects(OptionsAndProperties options) {
@@ -409,7 +457,8 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 				});
 	}
 
-	private Flow postReleaseFlow(TasksToRun tasksToRun, ReleaserProperties properties, ProjectsToRun projectsToRun) {
+	private Flow postReleaseFlow(TasksToRun tasksToRun, ReleaserProperties properties, ProjectsToRun projectsToRun,
+			List<TaskExecutor> executors) {
 		Iterator<? extends ReleaserTask> iterator = tasksToRun.iterator();
 		if (!iterator.hasNext()) {
 			return null;
@@ -421,7 +470,8 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 		if (!iterator.hasNext()) {
 			return flowBuilder.build();
 		}
-		FlowBuilder.SplitBuilder<Flow> builder = flowBuilder.split(taskExecutor());
+		FlowBuilder.SplitBuilder<Flow> builder = flowBuilder
+				.split(taskExecutor(FlowRunnerTaskExecutorSupplier.Workload.IO_BOUND, executors));
 		List<Flow> flows = new LinkedList<>();
 		while (iterator.hasNext()) {
 			flows.add(flow(properties, projectsToRun, iterator.next()));
@@ -430,12 +480,30 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 		return builder.add(objects).build();
 	}
 
-	private TaskExecutor taskExecutor() {
-		TaskExecutor taskExecutor = this.flowRunnerTaskExecutorSupplier.get();
+	private TaskExecutor taskExecutor(FlowRunnerTaskExecutorSupplier.Workload workload, List<TaskExecutor> executors) {
+		TaskExecutor taskExecutor = this.flowRunnerTaskExecutorSupplier.get(workload);
+		executors.add(taskExecutor);
 		EXECUTORS.add(taskExecutor);
 		return taskExecutor;
 	}
 
+	/**
+	 * Releases the executors of a run that has ended. Composite tasks run nested runs in
+	 * parallel, so only the executors created for the given run get released.
+	 * @param executors executors created for the run
+	 */
+	private void release(List<TaskExecutor> executors) {
+		executors.forEach(executor -> {
+			EXECUTORS.remove(executor);
+			try {
+				this.flowRunnerTaskExecutorSupplier.release(executor);
+			}
+			catch (Exception ex) {
+				log.debug("Exception occurred while trying to release the executor", ex);
+			}
+		});
+	}
+
 	private Flow flow(ReleaserProperties properties, ProjectsToRun projectsToRun, ReleaserTask task) {
 		return new FlowBuilder<Flow>(task.name() + "Flow").start(createStep(task,
 				new NamedArgumentsSupplier("postRelease", () -> Arguments.forPostRelease(properties, projectsToRun))))
@@ -460,14 +528,7 @@ class SpringBatchFlowRunner implements FlowRunner, Closeable {
 
 	@Override
 	public void close() {
-		EXECUTORS.stream().filter(t -> t instanceof DisposableBean).forEach(e -> {
-			try {
-				((DisposableBean) e).destroy();
-			}
-			catch (Exception ex) {
-				log.debug("Exception occurred while trying to destroy the bean", ex);
-			}
-		});
+		release(EXECUTORS);
 		this.executorService.shutdown();
 	}
 
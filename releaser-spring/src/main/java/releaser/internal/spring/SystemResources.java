@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Resources of the machine the releaser runs on.
+ *
+ * @author Marcin Grzejszczak
+ */
+interface SystemResources {
+
+	int availableProcessors();
+
+	/**
+	 * @return system load average for the last minute or a negative value if it's not
+	 * available
+	 */
+	double systemLoadAverage();
+
+	/**
+	 * @return total physical memory in megabytes or a negative value if it's not
+	 * available
+	 */
+	long totalMemoryInMb();
+
+	/**
+	 * @return free physical memory in megabytes or a negative value if it's not available
+	 */
+	long freeMemoryInMb();
+
+	static SystemResources operatingSystem() {
+		return new SystemResources() {
+
+			private final OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+
+			@Override
+			public int availableProcessors() {
+				return Runtime.getRuntime().availableProcessors();
+			}
+
+			@Override
+			public double systemLoadAverage() {
+				return this.bean.getSystemLoadAverage();
+			}
+
+			@Override
+			public long totalMemoryInMb() {
+				if (this.bean instanceof com.sun.management.OperatingSystemMXBean) {
+					return ((com.sun.management.OperatingSystemMXBean) this.bean).getTotalMemorySize() / 1024 / 1024;
+				}
+				return -1;
+			}
+
+			@Override
+			public long freeMemoryInMb() {
+				if (this.bean instanceof com.sun.management.OperatingSystemMXBean) {
+					return ((com.sun.management.OperatingSystemMXBean) this.bean).getFreeMemorySize() / 1024 / 1024;
+				}
+				return -1;
+			}
+		};
+	}
+
+}
@@ -19,8 +19,7 @@ package releaser.internal.spring;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -29,6 +28,7 @@ import releaser.internal.Releaser;
 import releaser.internal.ReleaserProperties;
 import releaser.internal.project.ProjectVersion;
 import releaser.internal.project.Projects;
+import releaser.internal.tech.ReleaserCache;
 
 import org.springframework.util.StringUtils;
 
@@ -36,7 +36,8 @@ class VersionsToBumpFactory implements Closeable {
 
 	private static final Logger log = LoggerFactory.getLogger(VersionsToBumpFactory.class);
 
-	private static final Map<File, ProjectsFromBom> CACHE = new ConcurrentHashMap<>();
+	private static final ReleaserCache<File, ProjectsFromBom> CACHE = new ReleaserCache<>("projects.versions-to-bump",
+			1024, Duration.ofDays(7));
 
 	private final Releaser releaser;
 
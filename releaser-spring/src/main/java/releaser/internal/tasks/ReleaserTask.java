@@ -65,6 +65,15 @@ public interface ReleaserTask extends Ordered, Function<Arguments, ExecutionResu
 
 	}
 
+	/**
+	 * @return {@code true} if the task runs a build (e.g. Maven or Gradle) that needs a
+	 * lot of CPU and memory. Such tasks are started only when the machine can take
+	 * another build.
+	 */
+	default boolean isCpuBound() {
+		return false;
+	}
+
 	/**
 	 * Executes the task but catches exceptions and converts them into result. Knows how
 	 * to differentiate between a failure and instability.
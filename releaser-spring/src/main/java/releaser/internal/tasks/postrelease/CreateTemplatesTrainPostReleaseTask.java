@@ -56,10 +56,7 @@ public class CreateTemplatesTrainPostReleaseTask implements TrainPostReleaseRele
 
 	@Override
 	public ExecutionResult runTask(Arguments args) {
-		return this.releaser.createEmail(args.versionFromBom, args.projects)
-				.merge(this.releaser.createBlog(args.versionFromBom, args.projects))
-				.merge(this.releaser.createTweet(args.versionFromBom, args.projects))
-				.merge(this.releaser.createReleaseNotes(args.versionFromBom, args.projects));
+		return this.releaser.createTemplates(args.versionFromBom, args.projects);
 	}
 
 	@Override
@@ -64,6 +64,11 @@ public class BuildProjectReleaseTask implements DryRunReleaseReleaserTask {
 		return this.releaser.buildProject(args.properties, args.originalVersion, args.versionFromBom);
 	}
 
+	@Override
+	public boolean isCpuBound() {
+		return true;
+	}
+
 	@Override
 	public int getOrder() {
 		return BuildProjectReleaseTask.ORDER;
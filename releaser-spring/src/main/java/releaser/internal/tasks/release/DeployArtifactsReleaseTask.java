@@ -59,6 +59,11 @@ public class DeployArtifactsReleaseTask implements ReleaseReleaserTask {
 		return this.releaser.deploy(args.properties, args.originalVersion, args.versionFromBom);
 	}
 
+	@Override
+	public boolean isCpuBound() {
+		return true;
+	}
+
 	@Override
 	public int getOrder() {
 		return DeployArtifactsReleaseTask.ORDER;
@@ -62,6 +62,11 @@ public class PublishDocsReleaseTask implements ReleaseReleaserTask {
 		return ExecutionResult.unstable(new RuntimeException("Failed to build Antora docs"));
 	}
 
+	@Override
+	public boolean isCpuBound() {
+		return true;
+	}
+
 	@Override
 	public int getOrder() {
 		return PublishDocsReleaseTask.ORDER;
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.spring.FlowRunnerTaskExecutorSupplier.Workload;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class AdaptiveFlowRunnerTaskExecutorSupplierTests {
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	@Test
+	void should_limit_cpu_bound_threads_by_cores_and_memory() {
+		then(supplier(new FakeSystemResources(8, 8 * 1024)).threads(Workload.CPU_BOUND)).isEqualTo(4);
+		then(supplier(new FakeSystemResources(2, 64 * 1024)).threads(Workload.CPU_BOUND)).isEqualTo(2);
+		then(supplier(new FakeSystemResources(8, 1024)).threads(Workload.CPU_BOUND)).isEqualTo(1);
+	}
+
+	@Test
+	void should_use_more_io_bound_threads_than_cores() {
+		then(supplier(new FakeSystemResources(8, 8 * 1024)).threads(Workload.IO_BOUND)).isEqualTo(16);
+		then(supplier(new FakeSystemResources(1, 8 * 1024)).threads(Workload.IO_BOUND)).isEqualTo(4);
+	}
+
+	@Test
+	void should_use_the_configured_number_of_threads() {
+		this.properties.getFlow().setCpuBoundThreads(3);
+		this.properties.getFlow().setIoBoundThreads(5);
+
+		AdaptiveFlowRunnerTaskExecutorSupplier supplier = supplier(new FakeSystemResources(8, 8 * 1024));
+
+		then(supplier.threads(Workload.CPU_BOUND)).isEqualTo(3);
+		then(supplier.threads(Workload.IO_BOUND)).isEqualTo(5);
+		then(((ThreadPoolTaskExecutor) supplier.get(Workload.IO_BOUND)).getCorePoolSize()).isEqualTo(5);
+	}
+
+	@Test
+	void should_expose_active_count_and_queue_depth() throws InterruptedException {
+		this.properties.getFlow().setCpuBoundThreads(1);
+		AdaptiveFlowRunnerTaskExecutorSupplier supplier = supplier(new FakeSystemResources(8, 8 * 1024));
+		TaskExecutor executor = supplier.get(Workload.CPU_BOUND);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			started.countDown();
+			await(finish);
+		});
+		executor.execute(() -> {
+		});
+		then(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		then(supplier.activeCount(Workload.CPU_BOUND)).isEqualTo(1);
+		then(supplier.queueDepth(Workload.CPU_BOUND)).isEqualTo(1);
+		then(supplier.activeCount(Workload.IO_BOUND)).isZero();
+		finish.countDown();
+		((ThreadPoolTaskExecutor) executor).shutdown();
+	}
+
+	@Test
+	void should_shut_down_released_executors() throws Exception {
+		AdaptiveFlowRunnerTaskExecutorSupplier supplier = supplier(new FakeSystemResources(8, 8 * 1024));
+		TaskExecutor executor = supplier.get(Workload.IO_BOUND);
+
+		supplier.release(executor);
+
+		then(supplier.executors(Workload.IO_BOUND)).isZero();
+		then(((ThreadPoolTaskExecutor) executor).getThreadPoolExecutor().isShutdown()).isTrue();
+	}
+
+	@Test
+	void should_report_the_flows_and_peaks_per_workload() throws Exception {
+		this.properties.getFlow().setCpuBoundThreads(1);
+		AdaptiveFlowRunnerTaskExecutorSupplier supplier = supplier(new FakeSystemResources(8, 8 * 1024));
+		TaskExecutor executor = supplier.get(Workload.CPU_BOUND);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(2);
+
+		executor.execute(() -> {
+			started.countDown();
+			await(finish);
+			done.countDown();
+		});
+		then(started.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.execute(done::countDown);
+		finish.countDown();
+		then(done.await(5, TimeUnit.SECONDS)).isTrue();
+		supplier.release(executor);
+		then(((ThreadPoolTaskExecutor) executor).getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS))
+				.isTrue();
+
+		then(supplier.report()).contains("PEAK ACTIVE").containsPattern("CPU_BOUND\\s+1\\s+1\\s+2\\s+1\\s+1")
+				.containsPattern("IO_BOUND\\s+\\d+\\s+0\\s+0\\s+0\\s+0");
+	}
+
+	private AdaptiveFlowRunnerTaskExecutorSupplier supplier(SystemResources resources) {
+		return new AdaptiveFlowRunnerTaskExecutorSupplier(this.properties, resources);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
+
+class FakeSystemResources implements SystemResources {
+
+	final int processors;
+
+	final long totalMemoryInMb;
+
+	double load = 0;
+
+	long freeMemoryInMb;
+
+	FakeSystemResources(int processors, long totalMemoryInMb) {
+		this.processors = processors;
+		this.totalMemoryInMb = totalMemoryInMb;
+		this.freeMemoryInMb = totalMemoryInMb;
+	}
+
+	@Override
+	public int availableProcessors() {
+		return this.processors;
+	}
+
+	@Override
+	public double systemLoadAverage() {
+		return this.load;
+	}
+
+	@Override
+	public long totalMemoryInMb() {
+		return this.totalMemoryInMb;
+	}
+
+	@Override
+	public long freeMemoryInMb() {
+		return this.freeMemoryInMb;
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class BuildAdmissionControllerTests {
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	FakeSystemResources resources = new FakeSystemResources(4, 16 * 1024);
+
+	BuildAdmissionController controller;
+
+	@BeforeEach
+	void setup() {
+		this.properties.getFlow().setBuildAdmissionCheckIntervalInMillis(10L);
+		this.controller = new BuildAdmissionController(this.properties, this.resources);
+	}
+
+	@Test
+	void should_start_builds_when_the_machine_is_not_busy() throws InterruptedException {
+		this.controller.admit("foo");
+		this.controller.admit("bar");
+
+		then(this.controller.running()).isEqualTo(2);
+	}
+
+	@Test
+	void should_always_start_a_build_when_no_other_build_is_running() throws InterruptedException {
+		this.resources.load = 100;
+		this.resources.freeMemoryInMb = 10;
+
+		this.controller.admit("foo");
+
+		then(this.controller.running()).isEqualTo(1);
+	}
+
+	@Test
+	void should_hold_back_a_build_while_the_system_load_is_too_high() throws Exception {
+		this.controller.admit("foo");
+		this.resources.load = 7;
+
+		CompletableFuture<Void> bar = admitAsync("bar");
+
+		awaitWaitingBuild();
+		then(bar).isNotDone();
+		this.resources.load = 5;
+		bar.get(5, TimeUnit.SECONDS);
+		then(this.controller.running()).isEqualTo(2);
+	}
+
+	@Test
+	void should_hold_back_a_build_until_another_one_finishes_when_there_is_not_enough_memory() throws Exception {
+		this.controller.admit("foo");
+		this.resources.freeMemoryInMb = 512;
+
+		CompletableFuture<Void> bar = admitAsync("bar");
+
+		awaitWaitingBuild();
+		then(bar).isNotDone();
+		this.controller.release();
+		bar.get(5, TimeUnit.SECONDS);
+		then(this.controller.running()).isEqualTo(1);
+	}
+
+	@Test
+	void should_hold_back_a_build_that_would_exceed_the_memory_budget() throws Exception {
+		// 75% of 16 GB is enough for 3 builds of 4 GB
+		this.properties.getFlow().setMemoryPerBuildInMb(4096L);
+		this.controller.admit("first");
+		this.controller.admit("second");
+		this.controller.admit("third");
+
+		CompletableFuture<Void> fourth = admitAsync("fourth");
+
+		awaitWaitingBuild();
+		then(fourth).isNotDone();
+		then(this.controller.reservedInMb()).isEqualTo(12 * 1024L);
+		this.controller.release();
+		fourth.get(5, TimeUnit.SECONDS);
+		then(this.controller.reservedInMb()).isEqualTo(12 * 1024L);
+	}
+
+	@Test
+	void should_start_a_build_above_the_memory_budget_when_no_other_build_is_running() throws InterruptedException {
+		this.properties.getFlow().setBuildMemoryBudgetInMb(1024L);
+
+		this.controller.admit("foo");
+
+		then(this.controller.reservedInMb()).isEqualTo(2048L);
+		this.controller.release();
+		then(this.controller.reservedInMb()).isZero();
+	}
+
+	@Test
+	void should_not_check_the_load_when_disabled() throws InterruptedException {
+		this.properties.getFlow().setMaxSystemLoadPerCore(0);
+		this.properties.getFlow().setMinFreeMemoryInMb(0);
+		this.resources.load = 100;
+		this.resources.freeMemoryInMb = 10;
+
+		this.controller.admit("foo");
+		this.controller.admit("bar");
+
+		then(this.controller.running()).isEqualTo(2);
+	}
+
+	private void awaitWaitingBuild() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (this.controller.waiting() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		then(this.controller.waiting()).isEqualTo(1);
+	}
+
+	private CompletableFuture<Void> admitAsync(String name) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				this.controller.admit(name);
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.options.OptionsBuilder;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.project.Projects;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ProjectsPrefetchTests {
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	Map<String, String> threads = new ConcurrentHashMap<>();
+
+	AtomicInteger preparations = new AtomicInteger();
+
+	CountDownLatch prepared = new CountDownLatch(3);
+
+	ThreadPoolTaskExecutor workers;
+
+	@AfterEach
+	void clean() {
+		new ProjectToRun.ProjectToRunSupplier("", () -> null).close();
+		if (this.workers != null) {
+			this.workers.shutdown();
+		}
+	}
+
+	@Test
+	void should_prepare_the_projects_in_the_background() throws InterruptedException {
+		ProjectsToRun projects = projects("spring-cloud-foo", "spring-cloud-bar", "spring-cloud-baz");
+
+		boolean prefetching = new ProjectsPrefetch(this.properties).prefetch(projects, this::workers);
+
+		then(prefetching).isTrue();
+		then(this.prepared.await(5, TimeUnit.SECONDS)).isTrue();
+		then(projects.get(0).get().name()).isEqualTo("spring-cloud-foo");
+		then(this.preparations).hasValue(3);
+		then(this.threads.values()).allMatch(name -> name.startsWith("io-bound-"));
+	}
+
+	@Test
+	void should_not_prepare_anything_when_prefetching_is_disabled() {
+		this.properties.getFlow().setPrefetchProjects(false);
+
+		then(new ProjectsPrefetch(this.properties).prefetch(projects("spring-cloud-foo", "spring-cloud-bar"),
+				this::workers)).isFalse();
+		then(this.preparations).hasValue(0);
+		then(this.workers).isNull();
+	}
+
+	@Test
+	void should_not_prepare_a_single_project_in_the_background() {
+		then(new ProjectsPrefetch(this.properties).prefetch(projects("spring-cloud-foo"), this::workers)).isFalse();
+		then(this.preparations).hasValue(0);
+		then(this.workers).isNull();
+	}
+
+	private TaskExecutor workers() {
+		this.workers = (ThreadPoolTaskExecutor) new AdaptiveFlowRunnerTaskExecutorSupplier(this.properties)
+				.get(FlowRunnerTaskExecutorSupplier.Workload.IO_BOUND);
+		return this.workers;
+	}
+
+	private ProjectsToRun projects(String... names) {
+		ProjectsToRun projectsToRun = new ProjectsToRun();
+		for (String name : names) {
+			projectsToRun.add(new ProjectToRun.ProjectToRunSupplier(name, () -> {
+				this.preparations.incrementAndGet();
+				this.threads.put(name, Thread.currentThread().getName());
+				ProjectVersion version = new ProjectVersion(name, "1.0.0");
+				ProjectToRun project = new ProjectToRun(new File(name),
+						new ProjectsFromBom(new Projects(version), version), version, this.properties,
+						new OptionsBuilder().metaRelease(true).options());
+				this.prepared.countDown();
+				return project;
+			}));
+		}
+		return projectsToRun;
+	}
+
+}
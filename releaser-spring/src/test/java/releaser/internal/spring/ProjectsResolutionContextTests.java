@@ -0,0 +1,221 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.git.ProjectGitHandler;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.project.Projects;
+
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ProjectsResolutionContextTests {
+
+	private static final String POM = "<project><modelVersion>4.0.0</modelVersion>"
+			+ "<groupId>org.springframework.cloud</groupId><artifactId>spring-cloud-foo</artifactId>"
+			+ "<version>1.0.0-SNAPSHOT</version></project>";
+
+	@TempDir
+	Path tmp;
+
+	File origin;
+
+	Path file;
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	ProjectGitHandler handler;
+
+	AtomicInteger clones = new AtomicInteger();
+
+	AtomicInteger resolutions = new AtomicInteger();
+
+	@BeforeEach
+	void setup() throws Exception {
+		this.origin = Files.createDirectories(this.tmp.resolve("origin/spring-cloud-foo")).toFile();
+		commit(this.origin, "pom.xml", POM);
+		this.file = this.tmp.resolve("resolution.properties");
+		this.properties.getMetaRelease().setGitOrgUrl(this.tmp.resolve("origin").toString());
+		this.properties.getMetaRelease().setResolutionContextFile(this.file.toString());
+		this.properties.getFixedVersions().put("spring-cloud-foo", "1.0.0");
+		this.handler = new ProjectGitHandler(this.properties);
+	}
+
+	@AfterEach
+	void cleanup() {
+		this.handler.close();
+	}
+
+	@Test
+	void should_reuse_the_clone_and_the_versions_resolved_by_a_dry_run_and_reset_the_clone() throws Exception {
+		ProjectsResolutionContext.Resolution dryRun = resolveInDryRun();
+		Files.writeString(dryRun.projectFolder.toPath().resolve("pom.xml"), "<project>1.0.0</project>");
+
+		ProjectsResolutionContext.Resolution resolution = resolve(new ProjectsResolutionContext(this.handler));
+
+		then(this.clones).hasValue(1);
+		then(this.resolutions).hasValue(1);
+		then(resolution.projectFolder).isEqualTo(dryRun.projectFolder);
+		then(resolution.originalVersion).isEqualTo(new ProjectVersion("spring-cloud-foo", "1.0.0-SNAPSHOT"));
+		then(resolution.projectsFromBom.currentProjectFromBom)
+				.isEqualTo(new ProjectVersion("spring-cloud-foo", "1.0.0"));
+		then(resolution.projectsFromBom.allProjectVersionsFromBom).containsExactlyInAnyOrder(
+				new ProjectVersion("spring-cloud-foo", "1.0.0"), new ProjectVersion("spring-cloud-bar", "2.0.0"));
+		then(resolution.projectFolder.toPath().resolve("pom.xml")).hasContent(POM);
+	}
+
+	@Test
+	void should_reuse_the_clone_of_a_dry_run_made_by_another_process() throws Exception {
+		ProjectsResolutionContext.Resolution dryRun = resolveInDryRun();
+		this.handler.close();
+		this.handler = new ProjectGitHandler(this.properties);
+
+		ProjectsResolutionContext.Resolution resolution = resolve(new ProjectsResolutionContext(this.handler));
+
+		then(this.clones).hasValue(1);
+		then(this.resolutions).hasValue(1);
+		then(resolution.projectFolder).isEqualTo(dryRun.projectFolder);
+		then(this.handler.cloneProjectFromOrg("spring-cloud-foo")).isEqualTo(dryRun.projectFolder);
+	}
+
+	@Test
+	void should_reuse_the_versions_resolved_by_a_dry_run_for_a_fresh_clone() throws Exception {
+		ProjectsResolutionContext.Resolution dryRun = resolveInDryRun();
+		this.handler.close();
+		this.handler = new ProjectGitHandler(this.properties);
+		FileSystemUtils.deleteRecursively(dryRun.projectFolder);
+
+		ProjectsResolutionContext.Resolution resolution = resolve(new ProjectsResolutionContext(this.handler));
+
+		then(this.clones).hasValue(2);
+		then(this.resolutions).hasValue(1);
+		then(resolution.projectFolder).isNotEqualTo(dryRun.projectFolder);
+		then(resolution.projectsFromBom.currentProjectFromBom)
+				.isEqualTo(new ProjectVersion("spring-cloud-foo", "1.0.0"));
+	}
+
+	@Test
+	void should_clone_the_project_again_when_the_dry_run_committed_to_its_clone() throws Exception {
+		ProjectsResolutionContext.Resolution dryRun = resolveInDryRun();
+		commit(dryRun.projectFolder, "pom.xml", "<project>1.0.0</project>");
+		this.handler.close();
+		this.handler = new ProjectGitHandler(this.properties);
+
+		ProjectsResolutionContext.Resolution resolution = resolve(new ProjectsResolutionContext(this.handler));
+
+		then(this.clones).hasValue(2);
+		then(this.resolutions).hasValue(1);
+		then(resolution.projectFolder).isNotEqualTo(dryRun.projectFolder);
+		then(resolution.projectFolder.toPath().resolve("pom.xml")).hasContent(POM);
+	}
+
+	@Test
+	void should_store_the_resolution_as_properties() throws Exception {
+		resolveInDryRun();
+
+		then(Files.readString(this.file)).contains("spring-cloud-foo.commit=").contains("spring-cloud-foo.folder=")
+				.contains("spring-cloud-foo.bom.current=spring-cloud-foo\\:1.0.0")
+				.contains("spring-cloud-foo.bom.all=spring-cloud-bar\\:2.0.0,spring-cloud-foo\\:1.0.0");
+	}
+
+	@Test
+	void should_resolve_the_project_again_when_its_remote_branch_has_moved() throws Exception {
+		resolveInDryRun();
+		commit(this.origin, "README.adoc", "foo");
+
+		resolve(new ProjectsResolutionContext(this.handler));
+
+		then(this.resolutions).hasValue(2);
+	}
+
+	@Test
+	void should_resolve_the_project_again_when_it_is_resolved_with_different_properties() throws Exception {
+		resolveInDryRun();
+		this.properties.getFixedVersions().put("spring-cloud-foo", "1.0.1");
+
+		resolve(new ProjectsResolutionContext(this.handler));
+
+		then(this.resolutions).hasValue(2);
+	}
+
+	@Test
+	void should_resolve_the_project_again_when_the_stored_resolution_is_malformed() throws Exception {
+		resolveInDryRun();
+		Files.writeString(this.file, Files.readString(this.file).replaceAll("bom\\.all=.*", "bom.all=foo"));
+
+		resolve(new ProjectsResolutionContext(this.handler));
+
+		then(this.resolutions).hasValue(2);
+	}
+
+	@Test
+	void should_not_store_anything_when_the_file_is_not_set() {
+		this.properties.getMetaRelease().setResolutionContextFile(null);
+		ProjectsResolutionContext context = new ProjectsResolutionContext(this.handler);
+		resolve(context);
+
+		context.store(this.properties);
+
+		then(this.file).doesNotExist();
+	}
+
+	private ProjectsResolutionContext.Resolution resolveInDryRun() {
+		ProjectsResolutionContext context = new ProjectsResolutionContext(this.handler);
+		ProjectsResolutionContext.Resolution resolution = resolve(context);
+		context.store(this.properties);
+		then(this.file).exists();
+		return resolution;
+	}
+
+	private ProjectsResolutionContext.Resolution resolve(ProjectsResolutionContext context) {
+		return context.resolve("spring-cloud-foo", this.properties, () -> {
+			this.clones.incrementAndGet();
+			return this.handler.cloneProjectFromOrg("spring-cloud-foo");
+		}, this::projectsFromBom);
+	}
+
+	private ProjectsFromBom projectsFromBom(File project) {
+		this.resolutions.incrementAndGet();
+		ProjectVersion fromBom = new ProjectVersion("spring-cloud-foo",
+				this.properties.getFixedVersions().get("spring-cloud-foo"));
+		return new ProjectsFromBom(new Projects(fromBom, new ProjectVersion("spring-cloud-bar", "2.0.0")), fromBom);
+	}
+
+	private void commit(File repo, String file, String content) throws Exception {
+		Files.writeString(repo.toPath().resolve(file), content);
+		try (Git git = Git.init().setDirectory(repo).call()) {
+			git.add().addFilepattern(".").call();
+			git.commit().setMessage("Add " + file).setSign(false).call();
+		}
+	}
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.options.OptionsBuilder;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.project.Projects;
+import releaser.internal.tasks.ReleaserTask;
+
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ReleaseCheckpointsTests {
+
+	@TempDir
+	Path tmp;
+
+	File project;
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	MyProjectPostReleaseTask firstTask = new MyProjectPostReleaseTask();
+
+	MyPostTrainReleaseTask secondTask = new MyPostTrainReleaseTask();
+
+	@BeforeEach
+	void setup() throws Exception {
+		this.project = Files.createDirectories(this.tmp.resolve("spring-cloud-foo")).toFile();
+		try (Git git = Git.init().setDirectory(this.project).call()) {
+			Files.writeString(this.project.toPath().resolve("pom.xml"), "<version>1.0.0-SNAPSHOT</version>");
+			git.add().addFilepattern("pom.xml").call();
+			git.commit().setMessage("initial").setSign(false).call();
+		}
+		this.properties.getMetaRelease().setCheckpointsDirectory(this.tmp.resolve("checkpoints").toString());
+	}
+
+	@Test
+	void should_skip_tasks_completed_in_a_previous_run() {
+		completeInPreviousRun(args("1.0.0"), this.firstTask, this.secondTask);
+
+		ReleaseCheckpoints checkpoints = new ReleaseCheckpoints(this.properties);
+
+		then(checkpoints.isCompleted(this.firstTask, args("1.0.0"))).isTrue();
+		then(checkpoints.isCompleted(this.secondTask, args("1.0.0"))).isTrue();
+	}
+
+	@Test
+	void should_resume_from_the_first_task_that_has_not_completed() {
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+
+		ReleaseCheckpoints checkpoints = new ReleaseCheckpoints(this.properties);
+
+		then(checkpoints.isCompleted(this.firstTask, args("1.0.0"))).isTrue();
+		then(checkpoints.isCompleted(this.secondTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_run_all_tasks_after_a_task_of_the_project_has_run() {
+		completeInPreviousRun(args("1.0.0"), this.secondTask);
+		ReleaseCheckpoints checkpoints = new ReleaseCheckpoints(this.properties);
+
+		checkpoints.running(args("1.0.0"));
+
+		then(checkpoints.isCompleted(this.secondTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_not_skip_tasks_for_a_different_version() {
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.1"))).isFalse();
+	}
+
+	@Test
+	void should_not_skip_tasks_when_the_project_is_at_a_different_commit() throws Exception {
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+		try (Git git = Git.open(this.project)) {
+			git.commit().setMessage("changed").setSign(false).call();
+		}
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_not_skip_tasks_whose_changes_are_not_in_the_working_tree() throws Exception {
+		updatePom("1.0.0");
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+		try (Git git = Git.open(this.project)) {
+			git.reset().setMode(ResetCommand.ResetType.HARD).call();
+		}
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_skip_tasks_whose_changes_are_still_in_the_working_tree() throws Exception {
+		updatePom("1.0.0");
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.0"))).isTrue();
+	}
+
+	@Test
+	void should_skip_only_the_tasks_up_to_the_last_one_that_left_the_project_in_its_state() throws Exception {
+		ReleaseCheckpoints previousRun = new ReleaseCheckpoints(this.properties);
+		previousRun.running(args("1.0.0"));
+		previousRun.completed(this.firstTask, args("1.0.0"));
+		updatePom("1.0.0");
+		previousRun.completed(this.secondTask, args("1.0.0"));
+		try (Git git = Git.open(this.project)) {
+			git.reset().setMode(ResetCommand.ResetType.HARD).call();
+		}
+
+		ReleaseCheckpoints checkpoints = new ReleaseCheckpoints(this.properties);
+
+		then(checkpoints.isCompleted(this.firstTask, args("1.0.0"))).isTrue();
+		then(checkpoints.isCompleted(this.secondTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_not_skip_tasks_when_the_build_artifacts_have_changed() throws Exception {
+		Path jar = artifact("spring-cloud-foo-1.0.0.jar", "built");
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+
+		Files.writeString(jar, "rebuilt");
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_not_skip_tasks_when_a_rebuilt_artifact_has_the_same_size() throws Exception {
+		Path jar = artifact("spring-cloud-foo-1.0.0.jar", "built");
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+
+		Files.writeString(jar, "bUilt");
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_resolve_the_state_of_a_project_once_while_its_tasks_are_skipped() throws Exception {
+		completeInPreviousRun(args("1.0.0"), this.firstTask, this.secondTask);
+		ReleaseCheckpoints checkpoints = new ReleaseCheckpoints(this.properties);
+		then(checkpoints.isCompleted(this.firstTask, args("1.0.0"))).isTrue();
+
+		updatePom("1.0.1");
+
+		then(checkpoints.isCompleted(this.secondTask, args("1.0.0"))).isTrue();
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.secondTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_not_skip_tasks_of_a_project_without_the_build_artifacts_of_a_local_commit() throws Exception {
+		artifact("spring-cloud-foo-1.0.0.jar", "built");
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+
+		FileSystemUtils.deleteRecursively(this.project.toPath().resolve("target"));
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.0"))).isFalse();
+	}
+
+	@Test
+	void should_skip_the_tasks_of_a_fresh_clone_of_a_pushed_commit() throws Exception {
+		try (Git git = Git.cloneRepository().setURI(this.project.toURI().toString())
+				.setDirectory(this.tmp.resolve("clone").resolve("spring-cloud-foo").toFile()).call()) {
+			this.project = git.getRepository().getWorkTree();
+		}
+		artifact("spring-cloud-foo-1.0.0.jar", "built");
+		completeInPreviousRun(args("1.0.0"), this.firstTask, this.secondTask);
+
+		FileSystemUtils.deleteRecursively(this.project.toPath().resolve("target"));
+
+		ReleaseCheckpoints checkpoints = new ReleaseCheckpoints(this.properties);
+		then(checkpoints.isCompleted(this.firstTask, args("1.0.0"))).isTrue();
+		then(checkpoints.isCompleted(this.secondTask, args("1.0.0"))).isTrue();
+	}
+
+	@Test
+	void should_not_use_checkpoints_when_the_directory_is_not_set() {
+		this.properties.getMetaRelease().setCheckpointsDirectory(null);
+		completeInPreviousRun(args("1.0.0"), this.firstTask);
+
+		then(new ReleaseCheckpoints(this.properties).isCompleted(this.firstTask, args("1.0.0"))).isFalse();
+		then(this.tmp.resolve("checkpoints")).doesNotExist();
+	}
+
+	private void completeInPreviousRun(Arguments args, ReleaserTask... tasks) {
+		ReleaseCheckpoints checkpoints = new ReleaseCheckpoints(this.properties);
+		for (ReleaserTask task : tasks) {
+			checkpoints.running(args);
+			checkpoints.completed(task, args);
+		}
+	}
+
+	private void updatePom(String version) throws Exception {
+		Files.writeString(this.project.toPath().resolve("pom.xml"), "<version>" + version + "</version>");
+	}
+
+	private Path artifact(String name, String content) throws Exception {
+		Path target = Files.createDirectories(this.project.toPath().resolve("target"));
+		return Files.writeString(target.resolve(name), content);
+	}
+
+	private Arguments args(String version) {
+		ProjectVersion projectVersion = new ProjectVersion("spring-cloud-foo", version);
+		return Arguments.forProject(new ProjectToRun(this.project, new ProjectsFromBom(new Projects(), projectVersion),
+				projectVersion, this.properties, new OptionsBuilder().metaRelease(true).options()));
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.git.ProjectGitHandler;
+import releaser.internal.options.Options;
+import releaser.internal.options.OptionsBuilder;
+import releaser.internal.tech.ExecutionResult;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ReleasePreflightTests {
+
+	ReleaserProperties properties = new ReleaserProperties();
+
+	Set<String> threads = ConcurrentHashMap.newKeySet();
+
+	Set<String> versionless = Set.of("spring-cloud-bar", "spring-cloud-baz");
+
+	ProjectGitHandler handler = new ProjectGitHandler(this.properties) {
+		@Override
+		public String branchOfProjectFromOrg(String projectName) {
+			ReleasePreflightTests.this.threads.add(Thread.currentThread().getName());
+			sleep();
+			if (ReleasePreflightTests.this.versionless.contains(projectName)) {
+				throw new IllegalStateException("You haven't provided a version for project [" + projectName + "]");
+			}
+			return "2.1.x";
+		}
+	};
+
+	@BeforeEach
+	void setup() {
+		this.properties.getFlow().setPreflightEnabled(true);
+	}
+
+	@AfterEach
+	void clean() {
+		new ProjectToRun.ProjectToRunSupplier("", () -> null).close();
+	}
+
+	@Test
+	void should_be_disabled_by_default() {
+		then(new ReleaserProperties().getFlow().isPreflightEnabled()).isFalse();
+	}
+
+	@Test
+	void should_skip_the_verification_when_it_is_disabled() {
+		this.properties.getFlow().setPreflightEnabled(false);
+
+		ExecutionResult result = preflight().verify(options(true), projects(failing("spring-cloud-bar")));
+
+		then(result.isSkipped()).isTrue();
+		then(this.threads).isEmpty();
+	}
+
+	@Test
+	void should_pass_without_cloning_when_all_the_projects_of_a_meta_release_have_a_branch() {
+		ExecutionResult result = preflight().verify(options(true),
+				projects(failing("spring-cloud-foo"), failing("spring-cloud-qux")));
+
+		then(result.isSuccess()).isTrue();
+		then(this.threads).hasSizeGreaterThan(1).allMatch(name -> name.startsWith("io-bound-"));
+	}
+
+	@Test
+	void should_report_the_problems_of_all_the_projects_of_a_meta_release_at_once() {
+		ExecutionResult result = preflight().verify(options(true),
+				projects(failing("spring-cloud-foo"), failing("spring-cloud-bar"), failing("spring-cloud-baz")));
+
+		then(result.isFailure()).isTrue();
+		then(result.getExceptions().get(0)).hasMessageContaining("found [2] problems")
+				.hasMessageContaining("Project [spring-cloud-bar] has no branch to be released from: "
+						+ "You haven't provided a version for project [spring-cloud-bar]")
+				.hasMessageContaining("Project [spring-cloud-baz] has no branch to be released from: "
+						+ "You haven't provided a version for project [spring-cloud-baz]")
+				.message().doesNotContain("spring-cloud-foo");
+		then(this.threads).hasSizeGreaterThan(1).allMatch(name -> name.startsWith("io-bound-"));
+	}
+
+	@Test
+	void should_prepare_the_project_of_a_single_project_release() {
+		ExecutionResult result = preflight().verify(options(false), projects(failing("spring-cloud-foo")));
+
+		then(result.isFailure()).isTrue();
+		then(result.getExceptions().get(0)).hasMessageContaining("found [1] problems")
+				.hasMessageContaining("Project [spring-cloud-foo] couldn't be prepared for the release: "
+						+ "Exception occurred while cloning repo");
+	}
+
+	@Test
+	void should_report_missing_credentials_when_github_is_to_be_updated() {
+		this.properties.getGit().setUpdateGithubMilestones(true);
+		this.properties.getGit().setOauthToken("");
+
+		ExecutionResult result = preflight().verify(options(true), projects());
+
+		then(result.getExceptions().get(0)).hasMessageContaining("The GitHub OAuth token is missing");
+	}
+
+	private ReleasePreflight preflight() {
+		return new ReleasePreflight(this.properties, this.handler,
+				new AdaptiveFlowRunnerTaskExecutorSupplier(this.properties));
+	}
+
+	private OptionsAndProperties options(boolean metaRelease) {
+		Options options = new OptionsBuilder().metaRelease(metaRelease).dryRun(false).options();
+		return new OptionsAndProperties(this.properties, options);
+	}
+
+	private ProjectsToRun projects(ProjectToRun.ProjectToRunSupplier... suppliers) {
+		ProjectsToRun projectsToRun = new ProjectsToRun();
+		for (ProjectToRun.ProjectToRunSupplier supplier : suppliers) {
+			projectsToRun.add(supplier);
+		}
+		return projectsToRun;
+	}
+
+	private ProjectToRun.ProjectToRunSupplier failing(String name) {
+		return new ProjectToRun.ProjectToRunSupplier(name, () -> {
+			throw new IllegalStateException("Exception occurred while cloning repo");
+		});
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(50);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
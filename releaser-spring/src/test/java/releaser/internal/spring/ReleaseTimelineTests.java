@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.spring;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ReleaseTimelineTests {
+
+	private static final Instant START = Instant.parse("2026-10-19T10:00:00Z");
+
+	// two projects released in parallel, then the release train project
+	ReleaseTimeline.Span fooBuild = span("spring-cloud-foo", "build", 0, 60);
+
+	ReleaseTimeline.Span fooDeploy = span("spring-cloud-foo", "deploy", 70, 100);
+
+	ReleaseTimeline.Span barBuild = span("spring-cloud-bar", "build", 0, 20);
+
+	ReleaseTimeline.Span barDeploy = span("spring-cloud-bar", "deploy", 20, 30);
+
+	ReleaseTimeline.Span trainBuild = span("spring-cloud-release", "build", 100, 120);
+
+	ReleaseTimeline timeline = new ReleaseTimeline(
+			Arrays.asList(this.trainBuild, this.barDeploy, this.fooDeploy, this.barBuild, this.fooBuild), 4);
+
+	@Test
+	void should_compute_the_critical_path_backwards_from_the_task_that_finished_last() {
+		then(this.timeline.criticalPath()).containsExactly(this.fooBuild, this.fooDeploy, this.trainBuild);
+		then(this.timeline.criticalPathTime()).isEqualTo(Duration.ofSeconds(110));
+		then(this.timeline.wallTime()).isEqualTo(Duration.ofSeconds(120));
+	}
+
+	@Test
+	void should_compute_the_parallelism() {
+		then(this.timeline.busyTime()).isEqualTo(Duration.ofSeconds(140));
+		then(this.timeline.averageParallelism()).isEqualTo(140.0 / 120);
+		then(this.timeline.peakParallelism()).isEqualTo(2);
+		then(this.timeline.utilisation()).isEqualTo(140.0 / 120 / 4);
+	}
+
+	@Test
+	void should_compute_idle_time_per_project() {
+		then(this.timeline.idleTimes()).containsEntry("spring-cloud-foo", Duration.ofSeconds(10))
+				.containsEntry("spring-cloud-bar", Duration.ZERO).containsEntry("spring-cloud-release", Duration.ZERO);
+	}
+
+	@Test
+	void should_write_a_chrome_trace_with_a_thread_per_lane() throws Exception {
+		JsonNode trace = new ObjectMapper().readTree(this.timeline.toChromeTrace());
+
+		JsonNode events = trace.get("traceEvents");
+		then(events).hasSize(8);
+		then(events.get(0).get("ph").asText()).isEqualTo("M");
+		then(events.get(0).get("args").get("name").asText()).isEqualTo("spring-cloud-bar");
+		JsonNode fooDeploy = events.get(5);
+		then(fooDeploy.get("name").asText()).isEqualTo("deploy");
+		then(fooDeploy.get("cat").asText()).isEqualTo("critical-path");
+		then(fooDeploy.get("ts").asLong()).isEqualTo(70_000_000L);
+		then(fooDeploy.get("dur").asLong()).isEqualTo(30_000_000L);
+		then(trace.get("otherData").get("peakParallelism").asInt()).isEqualTo(2);
+	}
+
+	@Test
+	void should_put_parallel_tasks_of_a_single_project_in_separate_lanes() throws Exception {
+		ReleaseTimeline timeline = new ReleaseTimeline(
+				Arrays.asList(span("postRelease", "sagan", 0, 10), span("postRelease", "blog", 0, 5)), 4);
+
+		JsonNode events = new ObjectMapper().readTree(timeline.toChromeTrace()).get("traceEvents");
+
+		then(events.get(0).get("args").get("name").asText()).isEqualTo("postRelease");
+		then(events.get(2).get("args").get("name").asText()).isEqualTo("postRelease #2");
+	}
+
+	@Test
+	void should_write_a_self_contained_html_gantt_chart(@TempDir Path directory) throws Exception {
+		this.timeline.writeTo(directory);
+
+		then(directory.resolve("timeline.json")).exists();
+		then(directory.resolve("timeline.html")).content()
+				.contains("<svg", "spring-cloud-foo / deploy", "(critical path)", "stroke-dasharray")
+				.doesNotContain("<script", "http://", "https://");
+	}
+
+	private static ReleaseTimeline.Span span(String project, String task, long startSecond, long endSecond) {
+		return new ReleaseTimeline.Span(project, task, "SUCCESS", START.plusSeconds(startSecond),
+				START.plusSeconds(endSecond));
+	}
+
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.ConfigInvalidException;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.util.FS;
+
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Cheap copies of the template git repositories of the acceptance tests.
+ *
+ * A template is cloned once per suite (JVM) and state of its refs. The first clone turns
+ * the template into a bare repository, with its objects hard linked to the objects of the
+ * template, and checks out a clone that shares the objects of the bare repository through
+ * git alternates. That clone is cached and every other clone of a template with the same
+ * refs is a copy of it, whatever directory the template is in. Since object ids are
+ * content hashes, equal refs mean equal history, so the copies of the templates the tests
+ * make share the cached clone of the original template.
+ *
+ * Copied repositories share the objects of their source through git alternates too. Git
+ * never modifies an object once it's written, so whatever a test commits or pushes ends
+ * up in the objects of its own repositories only.
+ *
+ * @author Marcin Grzejszczak
+ */
+public final class TemplateRepositories {
+
+	// not a ReleaserCache on purpose - the cached clones live as long as the JVM and
+	// their directories get deleted on shutdown, so they must never be evicted
+	private static final Map<String, File> CLONES = new ConcurrentHashMap<>();
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private static volatile File root;
+
+	private TemplateRepositories() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	/**
+	 * Clones the template like {@code git clone} would. The clone has a branch checked
+	 * out for the current branch of the template, remote branches for all the branches of
+	 * the template and all its tags.
+	 * @param baseDir directory to clone the template to
+	 * @param template template repository with a working tree
+	 * @return cloned project, a directory in the base directory named after the template
+	 * @throws IOException when the template can't be cloned
+	 */
+	public static File clone(File baseDir, File template) throws IOException {
+		File cached = cachedClone(template);
+		File destination = new File(baseDir, template.getName());
+		copy(cached.toPath(), destination.toPath(), false);
+		try {
+			FileBasedConfig config = new FileBasedConfig(new File(destination, Constants.DOT_GIT + "/config"),
+					FS.DETECTED);
+			config.load();
+			config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, Constants.DEFAULT_REMOTE_NAME,
+					ConfigConstants.CONFIG_KEY_URL, new File(template, Constants.DOT_GIT).toURI().toString());
+			config.save();
+		}
+		catch (ConfigInvalidException ex) {
+			throw new IOException("Failed to clone [" + template + "]", ex);
+		}
+		return destination;
+	}
+
+	/**
+	 * Copies a directory with template repositories. The working trees and the git
+	 * metadata are copied, the git objects are shared with the source through git
+	 * alternates, so the source must outlive the copy.
+	 * @param source directory to copy
+	 * @param destination directory to copy to
+	 * @throws IOException when the directory can't be copied
+	 */
+	public static void copy(File source, File destination) throws IOException {
+		copy(source.toPath(), destination.toPath(), true);
+	}
+
+	/**
+	 * @param template template repository with a working tree
+	 * @return clone of the template, made once per JVM and refs of the template
+	 * @throws IOException when the template can't be cloned
+	 */
+	static File cachedClone(File template) throws IOException {
+		File gitDir = new File(template, Constants.DOT_GIT).getCanonicalFile();
+		String refs = refs(gitDir);
+		try {
+			return CLONES.computeIfAbsent(refs, key -> {
+				try {
+					return checkout(bareRepository(gitDir, template.getName()), template.getName());
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(new IOException("Failed to clone [" + template + "]", ex));
+				}
+			});
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private static File bareRepository(File gitDir, String name) throws IOException {
+		File bare = new File(root(), name + "-" + COUNTER.incrementAndGet() + ".git");
+		// hard linked, not shared - the template may be a copy in a directory of a test
+		copy(gitDir.toPath(), bare.toPath(), false);
+		Files.deleteIfExists(new File(bare, "index").toPath());
+		try (Repository repository = new FileRepositoryBuilder().setGitDir(bare).setBare().build()) {
+			StoredConfig config = repository.getConfig();
+			config.setBoolean(ConfigConstants.CONFIG_CORE_SECTION, null, ConfigConstants.CONFIG_KEY_BARE, true);
+			config.save();
+		}
+		return bare;
+	}
+
+	private static File checkout(File bare, String name) throws IOException {
+		File destination = new File(root(), name + "-" + COUNTER.incrementAndGet());
+		try (Git git = Git.init().setDirectory(destination).call()) {
+			File alternates = new File(git.getRepository().getDirectory(), "objects/info/alternates");
+			alternates.getParentFile().mkdirs();
+			Files.write(alternates.toPath(),
+					(new File(bare, "objects").getAbsolutePath() + "\n").getBytes(StandardCharsets.UTF_8));
+		}
+		catch (GitAPIException ex) {
+			throw new IOException(ex);
+		}
+		try (Repository source = new FileRepositoryBuilder().setGitDir(bare).setBare().build();
+				Git git = Git.open(destination)) {
+			Repository repository = git.getRepository();
+			String head = source.getFullBranch();
+			Map<String, String> refs = new TreeMap<>();
+			for (Ref ref : source.getRefDatabase().getRefsByPrefix(Constants.R_HEADS)) {
+				refs.put(Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME + "/"
+						+ Repository.shortenRefName(ref.getName()), ref.getObjectId().name());
+			}
+			for (Ref ref : source.getRefDatabase().getRefsByPrefix(Constants.R_TAGS)) {
+				refs.put(ref.getName(), ref.getObjectId().name());
+			}
+			Ref headRef = source.exactRef(head);
+			if (headRef != null) {
+				refs.put(head, headRef.getObjectId().name());
+			}
+			writePackedRefs(repository, refs);
+			StoredConfig config = repository.getConfig();
+			config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, Constants.DEFAULT_REMOTE_NAME, "fetch",
+					"+refs/heads/*:refs/remotes/origin/*");
+			if (headRef != null) {
+				String branch = Repository.shortenRefName(head);
+				config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch, ConfigConstants.CONFIG_KEY_REMOTE,
+						Constants.DEFAULT_REMOTE_NAME);
+				config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch, ConfigConstants.CONFIG_KEY_MERGE, head);
+			}
+			config.save();
+			repository.getRefDatabase().refresh();
+			if (headRef != null) {
+				repository.updateRef(Constants.HEAD).link(head);
+			}
+			else if (ObjectId.isId(head)) {
+				// detached head
+				RefUpdate update = repository.updateRef(Constants.HEAD, true);
+				update.setNewObjectId(ObjectId.fromString(head));
+				update.forceUpdate();
+			}
+			if (repository.resolve(Constants.HEAD) != null) {
+				git.reset().setMode(ResetCommand.ResetType.HARD).call();
+			}
+			return repository.getWorkTree();
+		}
+		catch (GitAPIException ex) {
+			throw new IOException(ex);
+		}
+	}
+
+	private static void copy(Path source, Path destination, boolean shareObjects) throws IOException {
+		Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				Path target = destination.resolve(source.relativize(dir));
+				Files.createDirectories(target);
+				if (shareObjects && isObjectDirectory(dir)) {
+					Path alternates = target.resolve("info/alternates");
+					Files.createDirectories(alternates.getParent());
+					Files.createDirectories(target.resolve("pack"));
+					Files.write(alternates, (dir.toAbsolutePath().toString() + "\n").getBytes(StandardCharsets.UTF_8));
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Path target = destination.resolve(source.relativize(file));
+				if (isGitObject(file)) {
+					link(file, target);
+				}
+				else {
+					Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private static String refs(File gitDir) throws IOException {
+		try (Repository repository = new FileRepositoryBuilder().setGitDir(gitDir).build()) {
+			StringBuilder refs = new StringBuilder(String.valueOf(repository.getFullBranch()));
+			for (Ref ref : repository.getRefDatabase().getRefs()) {
+				refs.append('\n').append(ref.getName()).append(' ')
+						.append(ref.isSymbolic() ? ref.getTarget().getName() : String.valueOf(ref.getObjectId()));
+			}
+			return refs.toString();
+		}
+	}
+
+	private static void writePackedRefs(Repository repository, Map<String, String> refs) throws IOException {
+		StringBuilder packedRefs = new StringBuilder("# pack-refs with: sorted\n");
+		refs.forEach((name, id) -> packedRefs.append(id).append(' ').append(name).append('\n'));
+		Files.write(new File(repository.getDirectory(), Constants.PACKED_REFS).toPath(),
+				packedRefs.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static boolean isGitObject(Path file) {
+		for (Path parent = file.getParent(); parent != null; parent = parent.getParent()) {
+			if (isObjectDirectory(parent)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isObjectDirectory(Path dir) {
+		Path gitDir = dir.getParent();
+		return "objects".equals(String.valueOf(dir.getFileName())) && gitDir != null
+				&& String.valueOf(gitDir.getFileName()).endsWith(Constants.DOT_GIT);
+	}
+
+	private static void link(Path file, Path target) throws IOException {
+		Files.deleteIfExists(target);
+		try {
+			Files.createLink(target, file);
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES);
+		}
+	}
+
+	private static File root() {
+		if (root == null) {
+			synchronized (TemplateRepositories.class) {
+				if (root == null) {
+					try {
+						File directory = Files.createTempDirectory("releaser-template-repositories").toFile();
+						Runtime.getRuntime()
+								.addShutdownHook(new Thread(() -> FileSystemUtils.deleteRecursively(directory)));
+						root = directory;
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				}
+			}
+		}
+		return root;
+	}
+
+}
@@ -43,6 +43,7 @@ import releaser.internal.buildsystem.TestPomReader;
 import releaser.internal.buildsystem.TestUtils;
 import releaser.internal.git.GitTestUtils;
 import releaser.internal.git.ProjectGitHandler;
+import releaser.internal.git.TemplateRepositories;
 import releaser.internal.options.Options;
 import releaser.internal.postrelease.PostReleaseActions;
 import releaser.internal.project.Projects;
@@ -58,7 +59,6 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.util.FileSystemUtils;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
@@ -95,7 +95,7 @@ public abstract class AbstractSpringAcceptanceTests {
 	@BeforeEach
 	public void setup() throws Exception {
 		TestUtils.prepareLocalRepo();
-		FileSystemUtils.copyRecursively(file("/projects/"), this.temporaryFolder);
+		TemplateRepositories.copy(file("/projects/"), this.temporaryFolder);
 		clean();
 	}
 
@@ -203,7 +203,7 @@ public abstract class AbstractSpringAcceptanceTests {
 	}
 
 	public File cloneToTemporaryDirectory(File tempDir, File project) throws IOException {
-		return GitTestUtils.clonedProject(tempDir, project);
+		return TemplateRepositories.clone(tempDir, project);
 	}
 
 	public void checkoutReleaseTrainBranch(String fileToRepo, String branch)
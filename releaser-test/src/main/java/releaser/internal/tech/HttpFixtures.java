@@ -0,0 +1,293 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilterAction;
+import com.github.tomakehurst.wiremock.extension.requestfilter.StubRequestFilterV2;
+import com.github.tomakehurst.wiremock.global.GlobalSettings;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+import com.github.tomakehurst.wiremock.recording.RecordSpecBuilder;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+
+/**
+ * Local HTTP server that replays recorded HTTP exchanges of a remote integration (GitHub,
+ * Sagan, Artifactory, raw GitHub files). The exchanges are stored as WireMock mappings in
+ * the {@code mappings} directory of a fixture directory and are recorded by proxying the
+ * real service, e.g.
+ *
+ * <pre>
+ * try (HttpFixtures sagan = HttpFixtures.recordOrReplay("https://api.spring.io", fixtures)) {
+ *     properties.getSagan().setBaseUrl(sagan.baseUrl());
+ *     // call the client
+ *     then(sagan.requestCount()).isEqualTo(2);
+ * }
+ * </pre>
+ *
+ * The exchanges are recorded instead of replayed when the {@value #RECORD_PROPERTY}
+ * system property is set to {@code true}. They are stored when the fixtures get closed.
+ * The request headers aren't recorded, so the credentials passed to the real service
+ * don't end up in the mappings.
+ *
+ * Replayed responses can be delayed and the number of requests can be limited, to measure
+ * how the clients behave with a slow or a rate limiting service. Every request is
+ * counted, so a client that starts sending more requests fails the test.
+ *
+ * @author Marcin Grzejszczak
+ */
+public final class HttpFixtures implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(HttpFixtures.class);
+
+	/**
+	 * System property that switches the fixtures to recording.
+	 */
+	public static final String RECORD_PROPERTY = "releaser.http-fixtures.record";
+
+	private final WireMockServer server;
+
+	private final RequestCounter counter = new RequestCounter();
+
+	private final boolean recording;
+
+	private HttpFixtures(WireMockConfiguration configuration, String target) {
+		this.server = new WireMockServer(configuration.dynamicPort().extensions(this.counter));
+		this.server.start();
+		this.recording = target != null;
+		if (this.recording) {
+			log.info("Recording the exchanges with [{}]", target);
+			this.server.startRecording(new RecordSpecBuilder().forTarget(target).makeStubsPersistent(true));
+		}
+	}
+
+	/**
+	 * @param directory fixture directory with the recorded {@code mappings}
+	 * @return started server replaying the exchanges from the directory
+	 */
+	public static HttpFixtures replay(Path directory) {
+		return new HttpFixtures(WireMockConfiguration.options().usingFilesUnderDirectory(directory.toString()), null);
+	}
+
+	/**
+	 * @param classpathDirectory classpath location of a fixture directory with the
+	 * recorded {@code mappings}
+	 * @return started server replaying the exchanges from the directory
+	 */
+	public static HttpFixtures replay(String classpathDirectory) {
+		return new HttpFixtures(WireMockConfiguration.options().usingFilesUnderClasspath(classpathDirectory), null);
+	}
+
+	/**
+	 * @param target base url of the real service
+	 * @param directory fixture directory where the exchanges get stored
+	 * @return started server proxying to the real service and recording the exchanges
+	 */
+	public static HttpFixtures record(String target, Path directory) {
+		File mappings = directory.resolve("mappings").toFile();
+		mappings.mkdirs();
+		new File(directory.toFile(), "__files").mkdirs();
+		return new HttpFixtures(WireMockConfiguration.options().usingFilesUnderDirectory(directory.toString()), target);
+	}
+
+	/**
+	 * @param target base url of the real service
+	 * @param directory fixture directory
+	 * @return fixtures recording the exchanges with the real service if the
+	 * {@value #RECORD_PROPERTY} system property is {@code true}, replaying them otherwise
+	 */
+	public static HttpFixtures recordOrReplay(String target, Path directory) {
+		return Boolean.getBoolean(RECORD_PROPERTY) ? record(target, directory) : replay(directory);
+	}
+
+	/**
+	 * @param latency delay of every response
+	 * @return these fixtures
+	 */
+	public HttpFixtures withLatency(Duration latency) {
+		this.server.updateGlobalSettings(GlobalSettings.builder().fixedDelay((int) latency.toMillis()).build());
+		return this;
+	}
+
+	/**
+	 * @param min minimal delay of a response
+	 * @param max maximal delay of a response
+	 * @return these fixtures, delaying every response by a random value between the given
+	 * ones
+	 */
+	public HttpFixtures withLatency(Duration min, Duration max) {
+		this.server.updateGlobalSettings(GlobalSettings.builder()
+				.delayDistribution(new UniformDistribution((int) min.toMillis(), (int) max.toMillis())).build());
+		return this;
+	}
+
+	/**
+	 * Rejects the requests above the limit with {@code 429 Too Many Requests}, with the
+	 * same rate limit headers GitHub sends.
+	 * @param requests number of requests allowed in the window
+	 * @param window window in which the requests are counted
+	 * @return these fixtures
+	 */
+	public HttpFixtures withRateLimit(int requests, Duration window) {
+		this.counter.rateLimit(requests, window);
+		return this;
+	}
+
+	/**
+	 * @return base url to use instead of the url of the real service
+	 */
+	public String baseUrl() {
+		return "http://localhost:" + this.server.port();
+	}
+
+	/**
+	 * @return number of received requests, including the rejected ones
+	 */
+	public long requestCount() {
+		return this.counter.requests().values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	/**
+	 * @param pathRegex regular expression the path of the request has to match
+	 * @return number of received requests with a matching path, including the rejected
+	 * ones
+	 */
+	public long requestCount(String pathRegex) {
+		Pattern pattern = Pattern.compile(pathRegex);
+		return this.counter.requests().entrySet().stream()
+				.filter(entry -> pattern.matcher(entry.getKey().substring(entry.getKey().indexOf(' ') + 1)).matches())
+				.mapToLong(Map.Entry::getValue).sum();
+	}
+
+	/**
+	 * @return number of requests rejected because of the rate limit
+	 */
+	public long rateLimitedCount() {
+		return this.counter.rateLimited.sum();
+	}
+
+	/**
+	 * @return number of requests per method and path, e.g. {@code GET /projects}
+	 */
+	public Map<String, Long> requests() {
+		return this.counter.requests();
+	}
+
+	/**
+	 * Stops the server. Stores the recorded exchanges, if there are any.
+	 */
+	@Override
+	public void close() {
+		try {
+			if (this.recording) {
+				int recorded = this.server.stopRecording().getStubMappings().size();
+				log.info("Stored [{}] recorded exchanges", recorded);
+			}
+		}
+		finally {
+			this.server.stop();
+		}
+	}
+
+	private static final class RequestCounter implements StubRequestFilterV2 {
+
+		private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+		private final LongAdder rateLimited = new LongAdder();
+
+		private final Deque<Long> window = new ArrayDeque<>();
+
+		private volatile int limit = -1;
+
+		private volatile long windowNanos;
+
+		@Override
+		public RequestFilterAction filter(Request request, ServeEvent serveEvent) {
+			String url = request.getUrl();
+			int query = url.indexOf('?');
+			String path = query == -1 ? url : url.substring(0, query);
+			this.requests.computeIfAbsent(request.getMethod() + " " + path, key -> new LongAdder()).increment();
+			long retryAfterSeconds = acquire();
+			if (retryAfterSeconds < 0) {
+				return RequestFilterAction.continueWith(request);
+			}
+			this.rateLimited.increment();
+			return RequestFilterAction
+					.stopWith(aResponse().withStatus(429).withHeader("Retry-After", String.valueOf(retryAfterSeconds))
+							.withHeader("X-RateLimit-Limit", String.valueOf(this.limit))
+							.withHeader("X-RateLimit-Remaining", "0")
+							.withHeader("X-RateLimit-Reset",
+									String.valueOf(System.currentTimeMillis() / 1000 + retryAfterSeconds))
+							.withBody("{\"message\":\"API rate limit exceeded\"}").build());
+		}
+
+		/**
+		 * @return {@code -1} if the request is allowed, otherwise the number of seconds
+		 * after which the next request will be allowed
+		 */
+		private synchronized long acquire() {
+			if (this.limit < 0) {
+				return -1;
+			}
+			long now = System.nanoTime();
+			while (!this.window.isEmpty() && now - this.window.peekFirst() >= this.windowNanos) {
+				this.window.pollFirst();
+			}
+			if (this.window.size() < this.limit) {
+				this.window.addLast(now);
+				return -1;
+			}
+			long waitNanos = this.windowNanos - (now - this.window.peekFirst());
+			return Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+		}
+
+		private synchronized void rateLimit(int requests, Duration window) {
+			this.limit = requests;
+			this.windowNanos = window.toNanos();
+			this.window.clear();
+		}
+
+		private Map<String, Long> requests() {
+			Map<String, Long> requests = new TreeMap<>();
+			this.requests.forEach((request, count) -> requests.put(request, count.sum()));
+			return requests;
+		}
+
+		@Override
+		public String getName() {
+			return "releaser-request-counter";
+		}
+
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.commercial;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.HttpFixtures;
+import releaser.internal.tech.ReleaserHttpClient;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class ReleaseBundleCreatorFixturesTests {
+
+	HttpFixtures artifactory = HttpFixtures.replay("http-fixtures/artifactory").withLatency(Duration.ofMillis(50));
+
+	ReleaserHttpClient httpClient = new ReleaserHttpClient(new ReleaserProperties());
+
+	@AfterEach
+	void clean() {
+		this.artifactory.close();
+		this.httpClient.close();
+	}
+
+	@Test
+	void should_create_a_project_release_bundle_with_one_request_and_one_status_check() throws IOException {
+		ReleaserProperties properties = properties();
+		ReleaseBundleCreator creator = new ReleaseBundleCreator(properties, this.httpClient);
+
+		boolean created = creator.createReleaseBundle(properties.getBundles().getRepos().get("spring-cloud-build"),
+				"4.0.7", "TNZ-spring-cloud-build-commercial");
+
+		then(created).isTrue();
+		then(this.artifactory.requests()).containsOnlyKeys("POST /lifecycle/api/v2/release_bundle",
+				"GET /lifecycle/api/v2/release_bundle/statuses/TNZ-spring-cloud-build-commercial/4.0.7");
+		then(this.artifactory.requestCount()).isEqualTo(2);
+	}
+
+	private ReleaserProperties properties() {
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getBundles().setRepoUrl(this.artifactory.baseUrl());
+		properties.getBundles().setRepoUsername("admin");
+		properties.getBundles().setRepoAccessToken("password");
+		properties.getBundles()
+				.setRepos(Collections.singletonMap("spring-cloud-build",
+						List.of("org/springframework/cloud/spring-cloud-build*",
+								"org/springframework/cloud/spring-cloud-starter-build*",
+								"org/springframework/cloud/spring-cloud-dependencies-parent*")));
+		return properties;
+	}
+
+}
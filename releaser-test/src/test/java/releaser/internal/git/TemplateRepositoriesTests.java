@@ -0,0 +1,176 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ListBranchCommand;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.transport.RefSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class TemplateRepositoriesTests {
+
+	@TempDir
+	File projects;
+
+	@TempDir
+	File tests;
+
+	File template;
+
+	@BeforeEach
+	void setup() throws Exception {
+		this.template = new File(this.projects, "spring-cloud-foo");
+		try (Git git = Git.init().setDirectory(this.template).setInitialBranch("master").call()) {
+			commit(git, "pom.xml", "<version>1.0.0-SNAPSHOT</version>", "Initial commit");
+			git.tag().setName("v0.9.0").setAnnotated(true).setMessage("0.9.0").call();
+			git.branchCreate().setName("1.0.x").call();
+			git.checkout().setName("1.0.x").call();
+			commit(git, "pom.xml", "<version>1.0.1-SNAPSHOT</version>", "Bumped 1.0.x");
+			git.checkout().setName("master").call();
+			commit(git, "README.adoc", "Foo", "Added readme");
+		}
+	}
+
+	@Test
+	void should_clone_the_template_with_its_branches_and_tags() throws Exception {
+		File project = TemplateRepositories.clone(this.tests, this.template);
+
+		then(project).isEqualTo(new File(this.tests, "spring-cloud-foo"));
+		then(new File(project, "README.adoc")).hasContent("Foo");
+		try (Git git = GitTestUtils.openGitProject(project)) {
+			then(git.getRepository().getBranch()).isEqualTo("master");
+			then(messages(git.log().call())).containsExactly("Added readme", "Initial commit");
+			then(names(git.branchList().setListMode(ListBranchCommand.ListMode.ALL).call())).containsExactlyInAnyOrder(
+					"refs/heads/master", "refs/remotes/origin/master", "refs/remotes/origin/1.0.x");
+			then(names(git.tagList().call())).containsExactly("refs/tags/v0.9.0");
+			then(git.status().call().isClean()).isTrue();
+			git.checkout().setCreateBranch(true).setName("1.0.x").setStartPoint("origin/1.0.x").call();
+			then(new File(project, "pom.xml")).hasContent("<version>1.0.1-SNAPSHOT</version>");
+		}
+	}
+
+	@Test
+	void should_clone_the_template_once_until_the_template_changes() throws Exception {
+		File cached = TemplateRepositories.cachedClone(this.template);
+
+		then(TemplateRepositories.cachedClone(this.template)).isEqualTo(cached);
+
+		try (Git git = GitTestUtils.openGitProject(this.template)) {
+			commit(git, "README.adoc", "Bar", "Changed readme");
+		}
+		then(TemplateRepositories.cachedClone(this.template)).isNotEqualTo(cached);
+		try (Git git = GitTestUtils.openGitProject(TemplateRepositories.clone(this.tests, this.template))) {
+			then(messages(git.log().call())).first().isEqualTo("Changed readme");
+		}
+	}
+
+	@Test
+	void should_reuse_the_cached_clone_for_a_copy_of_the_template(@TempDir File copies) throws Exception {
+		File cached = TemplateRepositories.cachedClone(this.template);
+		TemplateRepositories.copy(this.projects, copies);
+		File copy = new File(copies, "spring-cloud-foo");
+
+		File project = TemplateRepositories.clone(this.tests, copy);
+
+		then(TemplateRepositories.cachedClone(copy)).isEqualTo(cached);
+		try (Git git = GitTestUtils.openGitProject(project)) {
+			then(git.getRepository().getConfig().getString("remote", "origin", "url"))
+					.isEqualTo(new File(copy, ".git").toURI().toString());
+			then(messages(git.log().call())).containsExactly("Added readme", "Initial commit");
+			then(git.status().call().isClean()).isTrue();
+		}
+	}
+
+	@Test
+	void should_keep_the_commits_of_a_clone_out_of_the_template_and_the_other_clones(@TempDir File other)
+			throws Exception {
+		File origin = TemplateRepositories.clone(this.tests, this.template);
+		File project = TemplateRepositories.clone(other, this.template);
+		GitTestUtils.setOriginOnProjectToTmp(origin, project);
+
+		try (Git git = GitTestUtils.openGitProject(project)) {
+			commit(git, "pom.xml", "<version>1.0.0</version>", "Update to 1.0.0");
+			git.push().setRefSpecs(new RefSpec("master:refs/heads/release")).call();
+		}
+
+		try (Git git = GitTestUtils.openGitProject(origin)) {
+			then(messages(git.log().add(git.getRepository().resolve("refs/heads/release")).call())).first()
+					.isEqualTo("Update to 1.0.0");
+		}
+		try (Git git = GitTestUtils.openGitProject(TemplateRepositories.clone(newDirectory(), this.template))) {
+			then(messages(git.log().call())).first().isEqualTo("Added readme");
+		}
+		try (Git git = GitTestUtils.openGitProject(this.template)) {
+			then(messages(git.log().call())).first().isEqualTo("Added readme");
+		}
+	}
+
+	@Test
+	void should_copy_the_working_trees_and_share_the_git_objects() throws Exception {
+		TemplateRepositories.copy(this.projects, this.tests);
+
+		File copy = new File(this.tests, "spring-cloud-foo");
+		then(new File(copy, "README.adoc")).hasContent("Foo");
+		then(Files.isSameFile(new File(copy, "README.adoc").toPath(), new File(this.template, "README.adoc").toPath()))
+				.isFalse();
+		then(new File(copy, ".git/objects/info/alternates"))
+				.hasContent(new File(this.template, ".git/objects").getAbsolutePath());
+		try (Git git = GitTestUtils.openGitProject(copy)) {
+			then(messages(git.log().call())).containsExactly("Added readme", "Initial commit");
+			commit(git, "pom.xml", "<version>1.0.0</version>", "Update to 1.0.0");
+		}
+		try (Git git = GitTestUtils.openGitProject(this.template)) {
+			then(messages(git.log().call())).first().isEqualTo("Added readme");
+		}
+	}
+
+	private File newDirectory() throws IOException {
+		return Files.createTempDirectory(this.tests.toPath(), "clone").toFile();
+	}
+
+	private static void commit(Git git, String file, String content, String message) throws Exception {
+		Files.write(new File(git.getRepository().getWorkTree(), file).toPath(), content.getBytes());
+		git.add().addFilepattern(".").call();
+		git.commit().setMessage(message).call();
+	}
+
+	private static List<String> messages(Iterable<RevCommit> commits) {
+		return StreamSupport.stream(commits.spliterator(), false).map(RevCommit::getShortMessage)
+				.collect(Collectors.toList());
+	}
+
+	private static List<String> names(List<Ref> refs) {
+		return refs.stream().map(Ref::getName).collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.github;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GitHub;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.project.ProjectVersion;
+import releaser.internal.tech.HttpFixtures;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class GithubMilestonesFixturesTests {
+
+	HttpFixtures github = HttpFixtures.replay("http-fixtures/github").withLatency(Duration.ofMillis(50));
+
+	@AfterEach
+	void clean() {
+		this.github.close();
+	}
+
+	@Test
+	void should_fetch_the_closed_milestones_once_for_subsequent_lookups() throws IOException {
+		GithubMilestones milestones = milestones();
+
+		String url = milestones.milestoneUrl(new ProjectVersion("test-repo", "0.1.0"));
+		milestones.milestoneUrl(new ProjectVersion("test-repo", "0.1.0"));
+
+		then(url).isEqualTo("https://github.com/marcingrzejszczak/test-repo/milestone/3?closed=1");
+		then(this.github.requestCount("/repos/marcingrzejszczak/test-repo")).isEqualTo(1);
+		then(this.github.requestCount("/repos/marcingrzejszczak/test-repo/milestones")).isEqualTo(1);
+	}
+
+	@Test
+	void should_fetch_the_open_milestones_only_to_close_one_of_them() throws IOException {
+		GithubMilestones milestones = milestones();
+
+		milestones.milestoneUrl(new ProjectVersion("test-repo", "0.1.0"));
+		milestones.closeMilestone(new ProjectVersion("test-repo", "0.0.1"));
+
+		then(this.github.requestCount("/repos/marcingrzejszczak/test-repo/milestones")).isEqualTo(2);
+		then(this.github.requests()).containsEntry("PATCH /repos/marcingrzejszczak/test-repo/milestones/1", 1L);
+	}
+
+	private GithubMilestones milestones() throws IOException {
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getGit().setOauthToken("TOKEN");
+		properties.getGit().setOrgName("marcingrzejszczak");
+		properties.getGit().setUsername("marcingrzejszczak");
+		return new GithubMilestones(
+				GitHub.connectToEnterpriseWithOAuth(this.github.baseUrl(), "marcingrzejszczak", "TOKEN"), properties);
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.sagan;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.HttpFixtures;
+import releaser.internal.tech.ReleaserExecutor;
+import releaser.internal.tech.ReleaserHttpClient;
+
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class RestTemplateSaganClientFixturesTests {
+
+	HttpFixtures sagan = HttpFixtures.replay("http-fixtures/sagan");
+
+	ReleaserExecutor executor = new ReleaserExecutor();
+
+	ReleaserHttpClient httpClient = new ReleaserHttpClient(new ReleaserProperties());
+
+	AtomicInteger inFlight = new AtomicInteger();
+
+	AtomicInteger maxInFlight = new AtomicInteger();
+
+	// every request waits (up to a timeout) for the second one to get sent, so both are
+	// in flight at once only if they are sent at the same time
+	CountDownLatch bothSent = new CountDownLatch(2);
+
+	@AfterEach
+	void clean() {
+		this.sagan.close();
+		this.executor.close();
+		this.httpClient.close();
+	}
+
+	@Test
+	void should_fetch_the_project_and_its_releases_at_the_same_time() {
+		Project project = client(inFlightCounter()).getProject("spring-boot");
+
+		then(project.getReleases()).isNotEmpty();
+		then(this.sagan.requestCount()).isEqualTo(2);
+		then(this.maxInFlight.get()).isEqualTo(2);
+	}
+
+	@Test
+	void should_fetch_a_release_with_a_single_request() {
+		Release release = client().getRelease("spring-boot", "2.5.14");
+
+		then(release.getVersion()).isEqualTo("2.5.14");
+		then(this.sagan.requestCount()).isEqualTo(1);
+	}
+
+	private RestTemplateSaganClient client(ClientHttpRequestInterceptor... interceptors) {
+		ReleaserProperties properties = new ReleaserProperties();
+		properties.getSagan().setBaseUrl(this.sagan.baseUrl());
+		RestTemplate restTemplate = new RestTemplate(this.httpClient.requestFactory());
+		restTemplate.getInterceptors().addAll(List.of(interceptors));
+		return new RestTemplateSaganClient(restTemplate, properties, this.executor);
+	}
+
+	private ClientHttpRequestInterceptor inFlightCounter() {
+		return (request, body, execution) -> {
+			this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+			try {
+				this.bothSent.countDown();
+				this.bothSent.await(5, TimeUnit.SECONDS);
+				return execution.execute(request, body);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				this.inFlight.decrementAndGet();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.tech;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class HttpFixturesTests {
+
+	@TempDir
+	Path fixtures;
+
+	ReleaserHttpClient client = new ReleaserHttpClient(new ReleaserProperties());
+
+	@AfterEach
+	void close() {
+		this.client.close();
+	}
+
+	@Test
+	void should_replay_the_recorded_exchanges_without_the_real_service() throws IOException {
+		WireMockServer realService = new WireMockServer(wireMockConfig().dynamicPort());
+		realService.start();
+		realService.stubFor(get("/projects/spring-cloud-contract").willReturn(okJson("{\"name\":\"contract\"}")));
+		try (HttpFixtures recording = HttpFixtures.record(realService.baseUrl(), this.fixtures)) {
+			then(this.client.get(recording.baseUrl() + "/projects/spring-cloud-contract"))
+					.isEqualTo("{\"name\":\"contract\"}");
+		}
+		finally {
+			realService.stop();
+		}
+
+		try (HttpFixtures replay = HttpFixtures.replay(this.fixtures)) {
+			then(this.client.get(replay.baseUrl() + "/projects/spring-cloud-contract"))
+					.isEqualTo("{\"name\":\"contract\"}");
+			then(replay.requestCount()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void should_count_the_requests_per_path() throws IOException {
+		try (HttpFixtures sagan = HttpFixtures.replay("http-fixtures/sagan")) {
+			this.client.get(sagan.baseUrl() + "/projects/spring-boot");
+			this.client.get(sagan.baseUrl() + "/projects/spring-boot");
+			this.client.get(sagan.baseUrl() + "/projects/spring-boot/releases/2.5.14");
+
+			then(sagan.requestCount()).isEqualTo(3);
+			then(sagan.requestCount("/projects/spring-boot")).isEqualTo(2);
+			then(sagan.requestCount("/projects/.*/releases/.*")).isEqualTo(1);
+			then(sagan.requests()).containsEntry("GET /projects/spring-boot", 2L);
+		}
+	}
+
+	@Test
+	void should_delay_the_responses() throws IOException {
+		try (HttpFixtures sagan = HttpFixtures.replay("http-fixtures/sagan").withLatency(Duration.ofMillis(300))) {
+			long start = System.nanoTime();
+
+			this.client.get(sagan.baseUrl() + "/projects/spring-boot");
+
+			then(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+		}
+	}
+
+	@Test
+	void should_reject_the_requests_above_the_rate_limit() throws IOException {
+		try (HttpFixtures sagan = HttpFixtures.replay("http-fixtures/sagan").withRateLimit(2, Duration.ofMinutes(1))) {
+			HttpRequest request = HttpRequest.newBuilder(URI.create(sagan.baseUrl() + "/projects/spring-boot")).build();
+
+			then(this.client.send(request).status()).isEqualTo(200);
+			then(this.client.send(request).status()).isEqualTo(200);
+			ReleaserHttpClient.Response rejected = this.client.send(request);
+
+			then(rejected.status()).isEqualTo(429);
+			then(rejected.headers().firstValue("X-RateLimit-Remaining")).hasValue("0");
+			then(rejected.headers().firstValue("Retry-After")).isPresent();
+			then(sagan.requestCount()).isEqualTo(3);
+			then(sagan.rateLimitedCount()).isEqualTo(1);
+		}
+	}
+
+}
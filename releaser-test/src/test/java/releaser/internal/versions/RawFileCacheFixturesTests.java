@@ -0,0 +1,94 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package releaser.internal.versions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import io.spring.initializr.metadata.InitializrProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import releaser.internal.ReleaserProperties;
+import releaser.internal.tech.HttpFixtures;
+import releaser.internal.tech.ReleaserHttpClient;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * @author Marcin Grzejszczak
+ */
+class RawFileCacheFixturesTests {
+
+	static final String PATH = "/spring-io/start.spring.io/master/start-site/src/main/resources/application.yml";
+
+	HttpFixtures raw = HttpFixtures.replay("http-fixtures/raw").withLatency(Duration.ofMillis(50));
+
+	@TempDir
+	Path cacheDirectory;
+
+	ReleaserHttpClient httpClient = new ReleaserHttpClient(new ReleaserProperties());
+
+	@AfterEach
+	void clean() {
+		this.raw.close();
+		this.httpClient.close();
+	}
+
+	@Test
+	void should_download_the_versions_file_once() throws IOException {
+		RawFileCache cache = cache(Duration.ofMinutes(5));
+
+		String contents = cache.get(this.raw.baseUrl() + PATH);
+		cache(Duration.ofMinutes(5)).get(this.raw.baseUrl() + PATH);
+
+		then(contents).contains("spring-cloud-dependencies");
+		then(this.raw.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void should_revalidate_the_expired_versions_file_without_downloading_it_again() throws IOException {
+		RawFileCache cache = cache(Duration.ZERO);
+		String downloaded = cache.get(this.raw.baseUrl() + PATH);
+
+		String revalidated = cache.get(this.raw.baseUrl() + PATH);
+
+		then(revalidated).isEqualTo(downloaded);
+		then(this.raw.requestCount()).isEqualTo(2);
+	}
+
+	@Test
+	void should_read_the_bom_versions_from_the_versions_file() {
+		ToPropertiesConverter converter = new ToPropertiesConverter(
+				new RawGithubRetriever(cache(Duration.ofMinutes(5))));
+		try {
+			InitializrProperties properties = converter.toProperties(this.raw.baseUrl() + PATH);
+
+			then(properties.getEnv().getBoms()).containsKey("spring-cloud");
+			then(this.raw.requestCount()).isEqualTo(1);
+		}
+		finally {
+			converter.close();
+		}
+	}
+
+	private RawFileCache cache(Duration ttl) {
+		return new RawFileCache(this.httpClient, this.cacheDirectory, ttl);
+	}
+
+}